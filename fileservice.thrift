@@ -11,6 +11,7 @@ struct Transaction {
   4:string file_name;
   5:RFile rFile;
   6:T_Status tran_status;
+  7:optional OpType op_type;
 }
 
 typedef string UserID
@@ -25,6 +26,14 @@ enum T_Status {
   ABORT=2;
 }
 
+enum OpType {
+  WRITE=1;
+  DELETE=2;
+  READ=3;
+  BATCH=4;
+  UPLOAD=5;
+}
+
 enum Status {
   FAILED = 0;
   SUCCESSFUL = 1;
@@ -38,6 +47,24 @@ struct RFile {
   1: optional string filename;
   2: optional string content;
   3: optional string clientID;
+  4: optional binary data;
+  5: optional i64 size;
+  6: optional i64 version;
+  7: optional string digest;
+}
+
+struct Operation {
+  1: string operation_name;
+  2: string file_name;
+  3: optional RFile rFile;
+  4: optional OpType op_type;
+}
+
+struct FileChunk {
+  1: binary data;
+  2: i64 file_size;
+  3: i64 modified;
+  4: optional i64 version;
 }
 
 service FileStore {
@@ -50,15 +77,42 @@ service FileStore {
 
   RFile readFile(1: string filename,2: string clientID)
     throws (1: SystemException systemException),
+
+  RFile readFileData(1: string filename,2: string clientID)
+    throws (1: SystemException systemException),
   
   void getTransactionStatus(1: i64 tran_id, 2: string participant_ip, 3: i32 participant_port)
     throws (1: SystemException systemException),
+
+  list<Transaction> getTransactionStatuses(1: list<i64> tran_ids)
+    throws (1: SystemException systemException),
+
+  StatusReport commitBatch(1: list<Operation> operations, 2: string clientID)
+    throws (1: SystemException systemException),
+
+  i64 openUpload(1: string filename, 2: string clientID, 3: i64 size, 4: string digest)
+    throws (1: SystemException systemException),
+
+  void uploadChunk(1: i64 upload_id, 2: i64 offset, 3: binary data)
+    throws (1: SystemException systemException),
+
+  StatusReport commitUpload(1: i64 upload_id)
+    throws (1: SystemException systemException),
+
+  void abortUpload(1: i64 upload_id)
+    throws (1: SystemException systemException),
+
+  FileChunk downloadChunk(1: string filename, 2: string clientID, 3: i64 offset, 4: i32 length)
+    throws (1: SystemException systemException),
 }
 
 service Participant_Interface {
 
   StatusReport canCommit(1: Transaction tran_info)
     throws (1: SystemException systemException),
+
+  StatusReport canCommitBatch(1: list<Transaction> tran_infos)
+    throws (1: SystemException systemException),
   
   void doCommit(1: i64 tran_id)
      throws (1: SystemException systemException),
@@ -68,6 +122,14 @@ service Participant_Interface {
 
   RFile readFile(1: Transaction tran_info)
     throws (1: SystemException systemException),
+
+  void writeChunk(1: i64 tran_id, 2: i64 offset, 3: binary data)
+    throws (1: SystemException systemException),
+
+  FileChunk readChunk(1: string filename, 2: i64 offset, 3: i32 length)
+    throws (1: SystemException systemException),
+
+  void ping(),
 }
 
 
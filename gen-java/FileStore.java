@@ -32,7 +32,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked"})
-@Generated(value = "Autogenerated by Thrift Compiler (0.9.3)", date = "2015-12-09")
+@Generated(value = "Autogenerated by Thrift Compiler (0.9.3)", date = "2026-10-18")
 public class FileStore {
 
   public interface Iface {
@@ -43,8 +43,24 @@ public class FileStore {
 
     public RFile readFile(String filename, String clientID) throws SystemException, org.apache.thrift.TException;
 
+    public RFile readFileData(String filename, String clientID) throws SystemException, org.apache.thrift.TException;
+
     public void getTransactionStatus(long tran_id, String participant_ip, int participant_port) throws SystemException, org.apache.thrift.TException;
 
+    public List<Transaction> getTransactionStatuses(List<Long> tran_ids) throws SystemException, org.apache.thrift.TException;
+
+    public StatusReport commitBatch(List<Operation> operations, String clientID) throws SystemException, org.apache.thrift.TException;
+
+    public long openUpload(String filename, String clientID, long size, String digest) throws SystemException, org.apache.thrift.TException;
+
+    public void uploadChunk(long upload_id, long offset, ByteBuffer data) throws SystemException, org.apache.thrift.TException;
+
+    public StatusReport commitUpload(long upload_id) throws SystemException, org.apache.thrift.TException;
+
+    public void abortUpload(long upload_id) throws SystemException, org.apache.thrift.TException;
+
+    public FileChunk downloadChunk(String filename, String clientID, long offset, int length) throws SystemException, org.apache.thrift.TException;
+
   }
 
   public interface AsyncIface {
@@ -55,8 +71,24 @@ public class FileStore {
 
     public void readFile(String filename, String clientID, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void readFileData(String filename, String clientID, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void getTransactionStatus(long tran_id, String participant_ip, int participant_port, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void getTransactionStatuses(List<Long> tran_ids, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void commitBatch(List<Operation> operations, String clientID, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void openUpload(String filename, String clientID, long size, String digest, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void uploadChunk(long upload_id, long offset, ByteBuffer data, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void commitUpload(long upload_id, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void abortUpload(long upload_id, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void downloadChunk(String filename, String clientID, long offset, int length, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
   }
 
   public static class Client extends org.apache.thrift.TServiceClient implements Iface {
@@ -159,6 +191,33 @@ public class FileStore {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "readFile failed: unknown result");
     }
 
+    public RFile readFileData(String filename, String clientID) throws SystemException, org.apache.thrift.TException
+    {
+      send_readFileData(filename, clientID);
+      return recv_readFileData();
+    }
+
+    public void send_readFileData(String filename, String clientID) throws org.apache.thrift.TException
+    {
+      readFileData_args args = new readFileData_args();
+      args.setFilename(filename);
+      args.setClientID(clientID);
+      sendBase("readFileData", args);
+    }
+
+    public RFile recv_readFileData() throws SystemException, org.apache.thrift.TException
+    {
+      readFileData_result result = new readFileData_result();
+      receiveBase(result, "readFileData");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.systemException != null) {
+        throw result.systemException;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "readFileData failed: unknown result");
+    }
+
     public void getTransactionStatus(long tran_id, String participant_ip, int participant_port) throws SystemException, org.apache.thrift.TException
     {
       send_getTransactionStatus(tran_id, participant_ip, participant_port);
@@ -184,6 +243,191 @@ public class FileStore {
       return;
     }
 
+    public List<Transaction> getTransactionStatuses(List<Long> tran_ids) throws SystemException, org.apache.thrift.TException
+    {
+      send_getTransactionStatuses(tran_ids);
+      return recv_getTransactionStatuses();
+    }
+
+    public void send_getTransactionStatuses(List<Long> tran_ids) throws org.apache.thrift.TException
+    {
+      getTransactionStatuses_args args = new getTransactionStatuses_args();
+      args.setTran_ids(tran_ids);
+      sendBase("getTransactionStatuses", args);
+    }
+
+    public List<Transaction> recv_getTransactionStatuses() throws SystemException, org.apache.thrift.TException
+    {
+      getTransactionStatuses_result result = new getTransactionStatuses_result();
+      receiveBase(result, "getTransactionStatuses");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.systemException != null) {
+        throw result.systemException;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "getTransactionStatuses failed: unknown result");
+    }
+
+    public StatusReport commitBatch(List<Operation> operations, String clientID) throws SystemException, org.apache.thrift.TException
+    {
+      send_commitBatch(operations, clientID);
+      return recv_commitBatch();
+    }
+
+    public void send_commitBatch(List<Operation> operations, String clientID) throws org.apache.thrift.TException
+    {
+      commitBatch_args args = new commitBatch_args();
+      args.setOperations(operations);
+      args.setClientID(clientID);
+      sendBase("commitBatch", args);
+    }
+
+    public StatusReport recv_commitBatch() throws SystemException, org.apache.thrift.TException
+    {
+      commitBatch_result result = new commitBatch_result();
+      receiveBase(result, "commitBatch");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.systemException != null) {
+        throw result.systemException;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "commitBatch failed: unknown result");
+    }
+
+    public long openUpload(String filename, String clientID, long size, String digest) throws SystemException, org.apache.thrift.TException
+    {
+      send_openUpload(filename, clientID, size, digest);
+      return recv_openUpload();
+    }
+
+    public void send_openUpload(String filename, String clientID, long size, String digest) throws org.apache.thrift.TException
+    {
+      openUpload_args args = new openUpload_args();
+      args.setFilename(filename);
+      args.setClientID(clientID);
+      args.setSize(size);
+      args.setDigest(digest);
+      sendBase("openUpload", args);
+    }
+
+    public long recv_openUpload() throws SystemException, org.apache.thrift.TException
+    {
+      openUpload_result result = new openUpload_result();
+      receiveBase(result, "openUpload");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.systemException != null) {
+        throw result.systemException;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "openUpload failed: unknown result");
+    }
+
+    public void uploadChunk(long upload_id, long offset, ByteBuffer data) throws SystemException, org.apache.thrift.TException
+    {
+      send_uploadChunk(upload_id, offset, data);
+      recv_uploadChunk();
+    }
+
+    public void send_uploadChunk(long upload_id, long offset, ByteBuffer data) throws org.apache.thrift.TException
+    {
+      uploadChunk_args args = new uploadChunk_args();
+      args.setUpload_id(upload_id);
+      args.setOffset(offset);
+      args.setData(data);
+      sendBase("uploadChunk", args);
+    }
+
+    public void recv_uploadChunk() throws SystemException, org.apache.thrift.TException
+    {
+      uploadChunk_result result = new uploadChunk_result();
+      receiveBase(result, "uploadChunk");
+      if (result.systemException != null) {
+        throw result.systemException;
+      }
+      return;
+    }
+
+    public StatusReport commitUpload(long upload_id) throws SystemException, org.apache.thrift.TException
+    {
+      send_commitUpload(upload_id);
+      return recv_commitUpload();
+    }
+
+    public void send_commitUpload(long upload_id) throws org.apache.thrift.TException
+    {
+      commitUpload_args args = new commitUpload_args();
+      args.setUpload_id(upload_id);
+      sendBase("commitUpload", args);
+    }
+
+    public StatusReport recv_commitUpload() throws SystemException, org.apache.thrift.TException
+    {
+      commitUpload_result result = new commitUpload_result();
+      receiveBase(result, "commitUpload");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.systemException != null) {
+        throw result.systemException;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "commitUpload failed: unknown result");
+    }
+
+    public void abortUpload(long upload_id) throws SystemException, org.apache.thrift.TException
+    {
+      send_abortUpload(upload_id);
+      recv_abortUpload();
+    }
+
+    public void send_abortUpload(long upload_id) throws org.apache.thrift.TException
+    {
+      abortUpload_args args = new abortUpload_args();
+      args.setUpload_id(upload_id);
+      sendBase("abortUpload", args);
+    }
+
+    public void recv_abortUpload() throws SystemException, org.apache.thrift.TException
+    {
+      abortUpload_result result = new abortUpload_result();
+      receiveBase(result, "abortUpload");
+      if (result.systemException != null) {
+        throw result.systemException;
+      }
+      return;
+    }
+
+    public FileChunk downloadChunk(String filename, String clientID, long offset, int length) throws SystemException, org.apache.thrift.TException
+    {
+      send_downloadChunk(filename, clientID, offset, length);
+      return recv_downloadChunk();
+    }
+
+    public void send_downloadChunk(String filename, String clientID, long offset, int length) throws org.apache.thrift.TException
+    {
+      downloadChunk_args args = new downloadChunk_args();
+      args.setFilename(filename);
+      args.setClientID(clientID);
+      args.setOffset(offset);
+      args.setLength(length);
+      sendBase("downloadChunk", args);
+    }
+
+    public FileChunk recv_downloadChunk() throws SystemException, org.apache.thrift.TException
+    {
+      downloadChunk_result result = new downloadChunk_result();
+      receiveBase(result, "downloadChunk");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.systemException != null) {
+        throw result.systemException;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "downloadChunk failed: unknown result");
+    }
+
   }
   public static class AsyncClient extends org.apache.thrift.async.TAsyncClient implements AsyncIface {
     public static class Factory implements org.apache.thrift.async.TAsyncClientFactory<AsyncClient> {
@@ -304,6 +548,41 @@ public class FileStore {
       }
     }
 
+    public void readFileData(String filename, String clientID, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      readFileData_call method_call = new readFileData_call(filename, clientID, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class readFileData_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String filename;
+      private String clientID;
+      public readFileData_call(String filename, String clientID, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.filename = filename;
+        this.clientID = clientID;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("readFileData", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        readFileData_args args = new readFileData_args();
+        args.setFilename(filename);
+        args.setClientID(clientID);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public RFile getResult() throws SystemException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_readFileData();
+      }
+    }
+
     public void getTransactionStatus(long tran_id, String participant_ip, int participant_port, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
       getTransactionStatus_call method_call = new getTransactionStatus_call(tran_id, participant_ip, participant_port, resultHandler, this, ___protocolFactory, ___transport);
@@ -342,143 +621,286 @@ public class FileStore {
       }
     }
 
-  }
-
-  public static class Processor<I extends Iface> extends org.apache.thrift.TBaseProcessor<I> implements org.apache.thrift.TProcessor {
-    private static final Logger LOGGER = LoggerFactory.getLogger(Processor.class.getName());
-    public Processor(I iface) {
-      super(iface, getProcessMap(new HashMap<String, org.apache.thrift.ProcessFunction<I, ? extends org.apache.thrift.TBase>>()));
-    }
-
-    protected Processor(I iface, Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> processMap) {
-      super(iface, getProcessMap(processMap));
-    }
-
-    private static <I extends Iface> Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> getProcessMap(Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> processMap) {
-      processMap.put("writeFile", new writeFile());
-      processMap.put("deleteFile", new deleteFile());
-      processMap.put("readFile", new readFile());
-      processMap.put("getTransactionStatus", new getTransactionStatus());
-      return processMap;
+    public void getTransactionStatuses(List<Long> tran_ids, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      getTransactionStatuses_call method_call = new getTransactionStatuses_call(tran_ids, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
     }
 
-    public static class writeFile<I extends Iface> extends org.apache.thrift.ProcessFunction<I, writeFile_args> {
-      public writeFile() {
-        super("writeFile");
-      }
-
-      public writeFile_args getEmptyArgsInstance() {
-        return new writeFile_args();
+    public static class getTransactionStatuses_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private List<Long> tran_ids;
+      public getTransactionStatuses_call(List<Long> tran_ids, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.tran_ids = tran_ids;
       }
 
-      protected boolean isOneway() {
-        return false;
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("getTransactionStatuses", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        getTransactionStatuses_args args = new getTransactionStatuses_args();
+        args.setTran_ids(tran_ids);
+        args.write(prot);
+        prot.writeMessageEnd();
       }
 
-      public writeFile_result getResult(I iface, writeFile_args args) throws org.apache.thrift.TException {
-        writeFile_result result = new writeFile_result();
-        try {
-          result.success = iface.writeFile(args.rFile);
-        } catch (SystemException systemException) {
-          result.systemException = systemException;
+      public List<Transaction> getResult() throws SystemException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
         }
-        return result;
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_getTransactionStatuses();
       }
     }
 
-    public static class deleteFile<I extends Iface> extends org.apache.thrift.ProcessFunction<I, deleteFile_args> {
-      public deleteFile() {
-        super("deleteFile");
-      }
+    public void commitBatch(List<Operation> operations, String clientID, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      commitBatch_call method_call = new commitBatch_call(operations, clientID, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
 
-      public deleteFile_args getEmptyArgsInstance() {
-        return new deleteFile_args();
+    public static class commitBatch_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private List<Operation> operations;
+      private String clientID;
+      public commitBatch_call(List<Operation> operations, String clientID, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.operations = operations;
+        this.clientID = clientID;
       }
 
-      protected boolean isOneway() {
-        return false;
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("commitBatch", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        commitBatch_args args = new commitBatch_args();
+        args.setOperations(operations);
+        args.setClientID(clientID);
+        args.write(prot);
+        prot.writeMessageEnd();
       }
 
-      public deleteFile_result getResult(I iface, deleteFile_args args) throws org.apache.thrift.TException {
-        deleteFile_result result = new deleteFile_result();
-        try {
-          result.success = iface.deleteFile(args.filename, args.clientID);
-        } catch (SystemException systemException) {
-          result.systemException = systemException;
+      public StatusReport getResult() throws SystemException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
         }
-        return result;
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_commitBatch();
       }
     }
 
-    public static class readFile<I extends Iface> extends org.apache.thrift.ProcessFunction<I, readFile_args> {
-      public readFile() {
-        super("readFile");
+    public void openUpload(String filename, String clientID, long size, String digest, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      openUpload_call method_call = new openUpload_call(filename, clientID, size, digest, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class openUpload_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String filename;
+      private String clientID;
+      private long size;
+      private String digest;
+      public openUpload_call(String filename, String clientID, long size, String digest, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.filename = filename;
+        this.clientID = clientID;
+        this.size = size;
+        this.digest = digest;
       }
 
-      public readFile_args getEmptyArgsInstance() {
-        return new readFile_args();
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("openUpload", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        openUpload_args args = new openUpload_args();
+        args.setFilename(filename);
+        args.setClientID(clientID);
+        args.setSize(size);
+        args.setDigest(digest);
+        args.write(prot);
+        prot.writeMessageEnd();
       }
 
-      protected boolean isOneway() {
-        return false;
+      public long getResult() throws SystemException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_openUpload();
       }
+    }
 
-      public readFile_result getResult(I iface, readFile_args args) throws org.apache.thrift.TException {
-        readFile_result result = new readFile_result();
-        try {
-          result.success = iface.readFile(args.filename, args.clientID);
-        } catch (SystemException systemException) {
-          result.systemException = systemException;
+    public void uploadChunk(long upload_id, long offset, ByteBuffer data, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      uploadChunk_call method_call = new uploadChunk_call(upload_id, offset, data, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class uploadChunk_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private long upload_id;
+      private long offset;
+      private ByteBuffer data;
+      public uploadChunk_call(long upload_id, long offset, ByteBuffer data, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.upload_id = upload_id;
+        this.offset = offset;
+        this.data = data;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("uploadChunk", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        uploadChunk_args args = new uploadChunk_args();
+        args.setUpload_id(upload_id);
+        args.setOffset(offset);
+        args.setData(data);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public void getResult() throws SystemException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
         }
-        return result;
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        (new Client(prot)).recv_uploadChunk();
       }
     }
 
-    public static class getTransactionStatus<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getTransactionStatus_args> {
-      public getTransactionStatus() {
-        super("getTransactionStatus");
+    public void commitUpload(long upload_id, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      commitUpload_call method_call = new commitUpload_call(upload_id, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class commitUpload_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private long upload_id;
+      public commitUpload_call(long upload_id, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.upload_id = upload_id;
       }
 
-      public getTransactionStatus_args getEmptyArgsInstance() {
-        return new getTransactionStatus_args();
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("commitUpload", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        commitUpload_args args = new commitUpload_args();
+        args.setUpload_id(upload_id);
+        args.write(prot);
+        prot.writeMessageEnd();
       }
 
-      protected boolean isOneway() {
-        return false;
+      public StatusReport getResult() throws SystemException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_commitUpload();
       }
+    }
 
-      public getTransactionStatus_result getResult(I iface, getTransactionStatus_args args) throws org.apache.thrift.TException {
-        getTransactionStatus_result result = new getTransactionStatus_result();
-        try {
-          iface.getTransactionStatus(args.tran_id, args.participant_ip, args.participant_port);
-        } catch (SystemException systemException) {
-          result.systemException = systemException;
+    public void abortUpload(long upload_id, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      abortUpload_call method_call = new abortUpload_call(upload_id, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class abortUpload_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private long upload_id;
+      public abortUpload_call(long upload_id, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.upload_id = upload_id;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("abortUpload", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        abortUpload_args args = new abortUpload_args();
+        args.setUpload_id(upload_id);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public void getResult() throws SystemException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
         }
-        return result;
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        (new Client(prot)).recv_abortUpload();
+      }
+    }
+
+    public void downloadChunk(String filename, String clientID, long offset, int length, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      downloadChunk_call method_call = new downloadChunk_call(filename, clientID, offset, length, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class downloadChunk_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String filename;
+      private String clientID;
+      private long offset;
+      private int length;
+      public downloadChunk_call(String filename, String clientID, long offset, int length, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.filename = filename;
+        this.clientID = clientID;
+        this.offset = offset;
+        this.length = length;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("downloadChunk", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        downloadChunk_args args = new downloadChunk_args();
+        args.setFilename(filename);
+        args.setClientID(clientID);
+        args.setOffset(offset);
+        args.setLength(length);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public FileChunk getResult() throws SystemException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_downloadChunk();
       }
     }
 
   }
 
-  public static class AsyncProcessor<I extends AsyncIface> extends org.apache.thrift.TBaseAsyncProcessor<I> {
-    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncProcessor.class.getName());
-    public AsyncProcessor(I iface) {
-      super(iface, getProcessMap(new HashMap<String, org.apache.thrift.AsyncProcessFunction<I, ? extends org.apache.thrift.TBase, ?>>()));
+  public static class Processor<I extends Iface> extends org.apache.thrift.TBaseProcessor<I> implements org.apache.thrift.TProcessor {
+    private static final Logger LOGGER = LoggerFactory.getLogger(Processor.class.getName());
+    public Processor(I iface) {
+      super(iface, getProcessMap(new HashMap<String, org.apache.thrift.ProcessFunction<I, ? extends org.apache.thrift.TBase>>()));
     }
 
-    protected AsyncProcessor(I iface, Map<String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase, ?>> processMap) {
+    protected Processor(I iface, Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> processMap) {
       super(iface, getProcessMap(processMap));
     }
 
-    private static <I extends AsyncIface> Map<String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase,?>> getProcessMap(Map<String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase, ?>> processMap) {
+    private static <I extends Iface> Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> getProcessMap(Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> processMap) {
       processMap.put("writeFile", new writeFile());
       processMap.put("deleteFile", new deleteFile());
       processMap.put("readFile", new readFile());
+      processMap.put("readFileData", new readFileData());
       processMap.put("getTransactionStatus", new getTransactionStatus());
+      processMap.put("getTransactionStatuses", new getTransactionStatuses());
+      processMap.put("commitBatch", new commitBatch());
+      processMap.put("openUpload", new openUpload());
+      processMap.put("uploadChunk", new uploadChunk());
+      processMap.put("commitUpload", new commitUpload());
+      processMap.put("abortUpload", new abortUpload());
+      processMap.put("downloadChunk", new downloadChunk());
       return processMap;
     }
 
-    public static class writeFile<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, writeFile_args, StatusReport> {
+    public static class writeFile<I extends Iface> extends org.apache.thrift.ProcessFunction<I, writeFile_args> {
       public writeFile() {
         super("writeFile");
       }
@@ -487,55 +909,22 @@ public class FileStore {
         return new writeFile_args();
       }
 
-      public AsyncMethodCallback<StatusReport> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
-        final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<StatusReport>() { 
-          public void onComplete(StatusReport o) {
-            writeFile_result result = new writeFile_result();
-            result.success = o;
-            try {
-              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
-              return;
-            } catch (Exception e) {
-              LOGGER.error("Exception writing to internal frame buffer", e);
-            }
-            fb.close();
-          }
-          public void onError(Exception e) {
-            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
-            org.apache.thrift.TBase msg;
-            writeFile_result result = new writeFile_result();
-            if (e instanceof SystemException) {
-                        result.systemException = (SystemException) e;
-                        result.setSystemExceptionIsSet(true);
-                        msg = result;
-            }
-             else 
-            {
-              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
-            }
-            try {
-              fcall.sendResponse(fb,msg,msgType,seqid);
-              return;
-            } catch (Exception ex) {
-              LOGGER.error("Exception writing to internal frame buffer", ex);
-            }
-            fb.close();
-          }
-        };
-      }
-
       protected boolean isOneway() {
         return false;
       }
 
-      public void start(I iface, writeFile_args args, org.apache.thrift.async.AsyncMethodCallback<StatusReport> resultHandler) throws TException {
-        iface.writeFile(args.rFile,resultHandler);
+      public writeFile_result getResult(I iface, writeFile_args args) throws org.apache.thrift.TException {
+        writeFile_result result = new writeFile_result();
+        try {
+          result.success = iface.writeFile(args.rFile);
+        } catch (SystemException systemException) {
+          result.systemException = systemException;
+        }
+        return result;
       }
     }
 
-    public static class deleteFile<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, deleteFile_args, StatusReport> {
+    public static class deleteFile<I extends Iface> extends org.apache.thrift.ProcessFunction<I, deleteFile_args> {
       public deleteFile() {
         super("deleteFile");
       }
@@ -544,55 +933,22 @@ public class FileStore {
         return new deleteFile_args();
       }
 
-      public AsyncMethodCallback<StatusReport> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
-        final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<StatusReport>() { 
-          public void onComplete(StatusReport o) {
-            deleteFile_result result = new deleteFile_result();
-            result.success = o;
-            try {
-              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
-              return;
-            } catch (Exception e) {
-              LOGGER.error("Exception writing to internal frame buffer", e);
-            }
-            fb.close();
-          }
-          public void onError(Exception e) {
-            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
-            org.apache.thrift.TBase msg;
-            deleteFile_result result = new deleteFile_result();
-            if (e instanceof SystemException) {
-                        result.systemException = (SystemException) e;
-                        result.setSystemExceptionIsSet(true);
-                        msg = result;
-            }
-             else 
-            {
-              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
-            }
-            try {
-              fcall.sendResponse(fb,msg,msgType,seqid);
-              return;
-            } catch (Exception ex) {
-              LOGGER.error("Exception writing to internal frame buffer", ex);
-            }
-            fb.close();
-          }
-        };
-      }
-
       protected boolean isOneway() {
         return false;
       }
 
-      public void start(I iface, deleteFile_args args, org.apache.thrift.async.AsyncMethodCallback<StatusReport> resultHandler) throws TException {
-        iface.deleteFile(args.filename, args.clientID,resultHandler);
+      public deleteFile_result getResult(I iface, deleteFile_args args) throws org.apache.thrift.TException {
+        deleteFile_result result = new deleteFile_result();
+        try {
+          result.success = iface.deleteFile(args.filename, args.clientID);
+        } catch (SystemException systemException) {
+          result.systemException = systemException;
+        }
+        return result;
       }
     }
 
-    public static class readFile<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, readFile_args, RFile> {
+    public static class readFile<I extends Iface> extends org.apache.thrift.ProcessFunction<I, readFile_args> {
       public readFile() {
         super("readFile");
       }
@@ -601,31 +957,300 @@ public class FileStore {
         return new readFile_args();
       }
 
-      public AsyncMethodCallback<RFile> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
-        final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<RFile>() { 
-          public void onComplete(RFile o) {
-            readFile_result result = new readFile_result();
-            result.success = o;
-            try {
-              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
-              return;
-            } catch (Exception e) {
-              LOGGER.error("Exception writing to internal frame buffer", e);
-            }
-            fb.close();
-          }
-          public void onError(Exception e) {
-            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
-            org.apache.thrift.TBase msg;
-            readFile_result result = new readFile_result();
-            if (e instanceof SystemException) {
-                        result.systemException = (SystemException) e;
-                        result.setSystemExceptionIsSet(true);
-                        msg = result;
-            }
-             else 
-            {
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public readFile_result getResult(I iface, readFile_args args) throws org.apache.thrift.TException {
+        readFile_result result = new readFile_result();
+        try {
+          result.success = iface.readFile(args.filename, args.clientID);
+        } catch (SystemException systemException) {
+          result.systemException = systemException;
+        }
+        return result;
+      }
+    }
+
+    public static class readFileData<I extends Iface> extends org.apache.thrift.ProcessFunction<I, readFileData_args> {
+      public readFileData() {
+        super("readFileData");
+      }
+
+      public readFileData_args getEmptyArgsInstance() {
+        return new readFileData_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public readFileData_result getResult(I iface, readFileData_args args) throws org.apache.thrift.TException {
+        readFileData_result result = new readFileData_result();
+        try {
+          result.success = iface.readFileData(args.filename, args.clientID);
+        } catch (SystemException systemException) {
+          result.systemException = systemException;
+        }
+        return result;
+      }
+    }
+
+    public static class getTransactionStatus<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getTransactionStatus_args> {
+      public getTransactionStatus() {
+        super("getTransactionStatus");
+      }
+
+      public getTransactionStatus_args getEmptyArgsInstance() {
+        return new getTransactionStatus_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public getTransactionStatus_result getResult(I iface, getTransactionStatus_args args) throws org.apache.thrift.TException {
+        getTransactionStatus_result result = new getTransactionStatus_result();
+        try {
+          iface.getTransactionStatus(args.tran_id, args.participant_ip, args.participant_port);
+        } catch (SystemException systemException) {
+          result.systemException = systemException;
+        }
+        return result;
+      }
+    }
+
+    public static class getTransactionStatuses<I extends Iface> extends org.apache.thrift.ProcessFunction<I, getTransactionStatuses_args> {
+      public getTransactionStatuses() {
+        super("getTransactionStatuses");
+      }
+
+      public getTransactionStatuses_args getEmptyArgsInstance() {
+        return new getTransactionStatuses_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public getTransactionStatuses_result getResult(I iface, getTransactionStatuses_args args) throws org.apache.thrift.TException {
+        getTransactionStatuses_result result = new getTransactionStatuses_result();
+        try {
+          result.success = iface.getTransactionStatuses(args.tran_ids);
+        } catch (SystemException systemException) {
+          result.systemException = systemException;
+        }
+        return result;
+      }
+    }
+
+    public static class commitBatch<I extends Iface> extends org.apache.thrift.ProcessFunction<I, commitBatch_args> {
+      public commitBatch() {
+        super("commitBatch");
+      }
+
+      public commitBatch_args getEmptyArgsInstance() {
+        return new commitBatch_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public commitBatch_result getResult(I iface, commitBatch_args args) throws org.apache.thrift.TException {
+        commitBatch_result result = new commitBatch_result();
+        try {
+          result.success = iface.commitBatch(args.operations, args.clientID);
+        } catch (SystemException systemException) {
+          result.systemException = systemException;
+        }
+        return result;
+      }
+    }
+
+    public static class openUpload<I extends Iface> extends org.apache.thrift.ProcessFunction<I, openUpload_args> {
+      public openUpload() {
+        super("openUpload");
+      }
+
+      public openUpload_args getEmptyArgsInstance() {
+        return new openUpload_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public openUpload_result getResult(I iface, openUpload_args args) throws org.apache.thrift.TException {
+        openUpload_result result = new openUpload_result();
+        try {
+          result.success = iface.openUpload(args.filename, args.clientID, args.size, args.digest);
+          result.setSuccessIsSet(true);
+        } catch (SystemException systemException) {
+          result.systemException = systemException;
+        }
+        return result;
+      }
+    }
+
+    public static class uploadChunk<I extends Iface> extends org.apache.thrift.ProcessFunction<I, uploadChunk_args> {
+      public uploadChunk() {
+        super("uploadChunk");
+      }
+
+      public uploadChunk_args getEmptyArgsInstance() {
+        return new uploadChunk_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public uploadChunk_result getResult(I iface, uploadChunk_args args) throws org.apache.thrift.TException {
+        uploadChunk_result result = new uploadChunk_result();
+        try {
+          iface.uploadChunk(args.upload_id, args.offset, args.data);
+        } catch (SystemException systemException) {
+          result.systemException = systemException;
+        }
+        return result;
+      }
+    }
+
+    public static class commitUpload<I extends Iface> extends org.apache.thrift.ProcessFunction<I, commitUpload_args> {
+      public commitUpload() {
+        super("commitUpload");
+      }
+
+      public commitUpload_args getEmptyArgsInstance() {
+        return new commitUpload_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public commitUpload_result getResult(I iface, commitUpload_args args) throws org.apache.thrift.TException {
+        commitUpload_result result = new commitUpload_result();
+        try {
+          result.success = iface.commitUpload(args.upload_id);
+        } catch (SystemException systemException) {
+          result.systemException = systemException;
+        }
+        return result;
+      }
+    }
+
+    public static class abortUpload<I extends Iface> extends org.apache.thrift.ProcessFunction<I, abortUpload_args> {
+      public abortUpload() {
+        super("abortUpload");
+      }
+
+      public abortUpload_args getEmptyArgsInstance() {
+        return new abortUpload_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public abortUpload_result getResult(I iface, abortUpload_args args) throws org.apache.thrift.TException {
+        abortUpload_result result = new abortUpload_result();
+        try {
+          iface.abortUpload(args.upload_id);
+        } catch (SystemException systemException) {
+          result.systemException = systemException;
+        }
+        return result;
+      }
+    }
+
+    public static class downloadChunk<I extends Iface> extends org.apache.thrift.ProcessFunction<I, downloadChunk_args> {
+      public downloadChunk() {
+        super("downloadChunk");
+      }
+
+      public downloadChunk_args getEmptyArgsInstance() {
+        return new downloadChunk_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public downloadChunk_result getResult(I iface, downloadChunk_args args) throws org.apache.thrift.TException {
+        downloadChunk_result result = new downloadChunk_result();
+        try {
+          result.success = iface.downloadChunk(args.filename, args.clientID, args.offset, args.length);
+        } catch (SystemException systemException) {
+          result.systemException = systemException;
+        }
+        return result;
+      }
+    }
+
+  }
+
+  public static class AsyncProcessor<I extends AsyncIface> extends org.apache.thrift.TBaseAsyncProcessor<I> {
+    private static final Logger LOGGER = LoggerFactory.getLogger(AsyncProcessor.class.getName());
+    public AsyncProcessor(I iface) {
+      super(iface, getProcessMap(new HashMap<String, org.apache.thrift.AsyncProcessFunction<I, ? extends org.apache.thrift.TBase, ?>>()));
+    }
+
+    protected AsyncProcessor(I iface, Map<String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase, ?>> processMap) {
+      super(iface, getProcessMap(processMap));
+    }
+
+    private static <I extends AsyncIface> Map<String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase,?>> getProcessMap(Map<String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase, ?>> processMap) {
+      processMap.put("writeFile", new writeFile());
+      processMap.put("deleteFile", new deleteFile());
+      processMap.put("readFile", new readFile());
+      processMap.put("readFileData", new readFileData());
+      processMap.put("getTransactionStatus", new getTransactionStatus());
+      processMap.put("getTransactionStatuses", new getTransactionStatuses());
+      processMap.put("commitBatch", new commitBatch());
+      processMap.put("openUpload", new openUpload());
+      processMap.put("uploadChunk", new uploadChunk());
+      processMap.put("commitUpload", new commitUpload());
+      processMap.put("abortUpload", new abortUpload());
+      processMap.put("downloadChunk", new downloadChunk());
+      return processMap;
+    }
+
+    public static class writeFile<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, writeFile_args, StatusReport> {
+      public writeFile() {
+        super("writeFile");
+      }
+
+      public writeFile_args getEmptyArgsInstance() {
+        return new writeFile_args();
+      }
+
+      public AsyncMethodCallback<StatusReport> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<StatusReport>() { 
+          public void onComplete(StatusReport o) {
+            writeFile_result result = new writeFile_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            writeFile_result result = new writeFile_result();
+            if (e instanceof SystemException) {
+                        result.systemException = (SystemException) e;
+                        result.setSystemExceptionIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
               msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
               msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
             }
@@ -637,92 +1262,8314 @@ public class FileStore {
             }
             fb.close();
           }
-        };
-      }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, writeFile_args args, org.apache.thrift.async.AsyncMethodCallback<StatusReport> resultHandler) throws TException {
+        iface.writeFile(args.rFile,resultHandler);
+      }
+    }
+
+    public static class deleteFile<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, deleteFile_args, StatusReport> {
+      public deleteFile() {
+        super("deleteFile");
+      }
+
+      public deleteFile_args getEmptyArgsInstance() {
+        return new deleteFile_args();
+      }
+
+      public AsyncMethodCallback<StatusReport> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<StatusReport>() { 
+          public void onComplete(StatusReport o) {
+            deleteFile_result result = new deleteFile_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            deleteFile_result result = new deleteFile_result();
+            if (e instanceof SystemException) {
+                        result.systemException = (SystemException) e;
+                        result.setSystemExceptionIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, deleteFile_args args, org.apache.thrift.async.AsyncMethodCallback<StatusReport> resultHandler) throws TException {
+        iface.deleteFile(args.filename, args.clientID,resultHandler);
+      }
+    }
+
+    public static class readFile<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, readFile_args, RFile> {
+      public readFile() {
+        super("readFile");
+      }
+
+      public readFile_args getEmptyArgsInstance() {
+        return new readFile_args();
+      }
+
+      public AsyncMethodCallback<RFile> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<RFile>() { 
+          public void onComplete(RFile o) {
+            readFile_result result = new readFile_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            readFile_result result = new readFile_result();
+            if (e instanceof SystemException) {
+                        result.systemException = (SystemException) e;
+                        result.setSystemExceptionIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, readFile_args args, org.apache.thrift.async.AsyncMethodCallback<RFile> resultHandler) throws TException {
+        iface.readFile(args.filename, args.clientID,resultHandler);
+      }
+    }
+
+    public static class readFileData<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, readFileData_args, RFile> {
+      public readFileData() {
+        super("readFileData");
+      }
+
+      public readFileData_args getEmptyArgsInstance() {
+        return new readFileData_args();
+      }
+
+      public AsyncMethodCallback<RFile> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<RFile>() { 
+          public void onComplete(RFile o) {
+            readFileData_result result = new readFileData_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            readFileData_result result = new readFileData_result();
+            if (e instanceof SystemException) {
+                        result.systemException = (SystemException) e;
+                        result.setSystemExceptionIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, readFileData_args args, org.apache.thrift.async.AsyncMethodCallback<RFile> resultHandler) throws TException {
+        iface.readFileData(args.filename, args.clientID,resultHandler);
+      }
+    }
+
+    public static class getTransactionStatus<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getTransactionStatus_args, Void> {
+      public getTransactionStatus() {
+        super("getTransactionStatus");
+      }
+
+      public getTransactionStatus_args getEmptyArgsInstance() {
+        return new getTransactionStatus_args();
+      }
+
+      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            getTransactionStatus_result result = new getTransactionStatus_result();
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            getTransactionStatus_result result = new getTransactionStatus_result();
+            if (e instanceof SystemException) {
+                        result.systemException = (SystemException) e;
+                        result.setSystemExceptionIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, getTransactionStatus_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.getTransactionStatus(args.tran_id, args.participant_ip, args.participant_port,resultHandler);
+      }
+    }
+
+    public static class getTransactionStatuses<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getTransactionStatuses_args, List<Transaction>> {
+      public getTransactionStatuses() {
+        super("getTransactionStatuses");
+      }
+
+      public getTransactionStatuses_args getEmptyArgsInstance() {
+        return new getTransactionStatuses_args();
+      }
+
+      public AsyncMethodCallback<List<Transaction>> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<List<Transaction>>() { 
+          public void onComplete(List<Transaction> o) {
+            getTransactionStatuses_result result = new getTransactionStatuses_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            getTransactionStatuses_result result = new getTransactionStatuses_result();
+            if (e instanceof SystemException) {
+                        result.systemException = (SystemException) e;
+                        result.setSystemExceptionIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, getTransactionStatuses_args args, org.apache.thrift.async.AsyncMethodCallback<List<Transaction>> resultHandler) throws TException {
+        iface.getTransactionStatuses(args.tran_ids,resultHandler);
+      }
+    }
+
+    public static class commitBatch<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, commitBatch_args, StatusReport> {
+      public commitBatch() {
+        super("commitBatch");
+      }
+
+      public commitBatch_args getEmptyArgsInstance() {
+        return new commitBatch_args();
+      }
+
+      public AsyncMethodCallback<StatusReport> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<StatusReport>() { 
+          public void onComplete(StatusReport o) {
+            commitBatch_result result = new commitBatch_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            commitBatch_result result = new commitBatch_result();
+            if (e instanceof SystemException) {
+                        result.systemException = (SystemException) e;
+                        result.setSystemExceptionIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, commitBatch_args args, org.apache.thrift.async.AsyncMethodCallback<StatusReport> resultHandler) throws TException {
+        iface.commitBatch(args.operations, args.clientID,resultHandler);
+      }
+    }
+
+    public static class openUpload<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, openUpload_args, Long> {
+      public openUpload() {
+        super("openUpload");
+      }
+
+      public openUpload_args getEmptyArgsInstance() {
+        return new openUpload_args();
+      }
+
+      public AsyncMethodCallback<Long> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<Long>() { 
+          public void onComplete(Long o) {
+            openUpload_result result = new openUpload_result();
+            result.success = o;
+            result.setSuccessIsSet(true);
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            openUpload_result result = new openUpload_result();
+            if (e instanceof SystemException) {
+                        result.systemException = (SystemException) e;
+                        result.setSystemExceptionIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, openUpload_args args, org.apache.thrift.async.AsyncMethodCallback<Long> resultHandler) throws TException {
+        iface.openUpload(args.filename, args.clientID, args.size, args.digest,resultHandler);
+      }
+    }
+
+    public static class uploadChunk<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, uploadChunk_args, Void> {
+      public uploadChunk() {
+        super("uploadChunk");
+      }
+
+      public uploadChunk_args getEmptyArgsInstance() {
+        return new uploadChunk_args();
+      }
+
+      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            uploadChunk_result result = new uploadChunk_result();
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            uploadChunk_result result = new uploadChunk_result();
+            if (e instanceof SystemException) {
+                        result.systemException = (SystemException) e;
+                        result.setSystemExceptionIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, uploadChunk_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.uploadChunk(args.upload_id, args.offset, args.data,resultHandler);
+      }
+    }
+
+    public static class commitUpload<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, commitUpload_args, StatusReport> {
+      public commitUpload() {
+        super("commitUpload");
+      }
+
+      public commitUpload_args getEmptyArgsInstance() {
+        return new commitUpload_args();
+      }
+
+      public AsyncMethodCallback<StatusReport> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<StatusReport>() { 
+          public void onComplete(StatusReport o) {
+            commitUpload_result result = new commitUpload_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            commitUpload_result result = new commitUpload_result();
+            if (e instanceof SystemException) {
+                        result.systemException = (SystemException) e;
+                        result.setSystemExceptionIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, commitUpload_args args, org.apache.thrift.async.AsyncMethodCallback<StatusReport> resultHandler) throws TException {
+        iface.commitUpload(args.upload_id,resultHandler);
+      }
+    }
+
+    public static class abortUpload<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, abortUpload_args, Void> {
+      public abortUpload() {
+        super("abortUpload");
+      }
+
+      public abortUpload_args getEmptyArgsInstance() {
+        return new abortUpload_args();
+      }
+
+      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            abortUpload_result result = new abortUpload_result();
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            abortUpload_result result = new abortUpload_result();
+            if (e instanceof SystemException) {
+                        result.systemException = (SystemException) e;
+                        result.setSystemExceptionIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, abortUpload_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.abortUpload(args.upload_id,resultHandler);
+      }
+    }
+
+    public static class downloadChunk<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, downloadChunk_args, FileChunk> {
+      public downloadChunk() {
+        super("downloadChunk");
+      }
+
+      public downloadChunk_args getEmptyArgsInstance() {
+        return new downloadChunk_args();
+      }
+
+      public AsyncMethodCallback<FileChunk> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<FileChunk>() { 
+          public void onComplete(FileChunk o) {
+            downloadChunk_result result = new downloadChunk_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            downloadChunk_result result = new downloadChunk_result();
+            if (e instanceof SystemException) {
+                        result.systemException = (SystemException) e;
+                        result.setSystemExceptionIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, downloadChunk_args args, org.apache.thrift.async.AsyncMethodCallback<FileChunk> resultHandler) throws TException {
+        iface.downloadChunk(args.filename, args.clientID, args.offset, args.length,resultHandler);
+      }
+    }
+
+  }
+
+  public static class writeFile_args implements org.apache.thrift.TBase<writeFile_args, writeFile_args._Fields>, java.io.Serializable, Cloneable, Comparable<writeFile_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("writeFile_args");
+
+    private static final org.apache.thrift.protocol.TField R_FILE_FIELD_DESC = new org.apache.thrift.protocol.TField("rFile", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new writeFile_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new writeFile_argsTupleSchemeFactory());
+    }
+
+    public RFile rFile; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      R_FILE((short)1, "rFile");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // R_FILE
+            return R_FILE;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.R_FILE, new org.apache.thrift.meta_data.FieldMetaData("rFile", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RFile.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(writeFile_args.class, metaDataMap);
+    }
+
+    public writeFile_args() {
+    }
+
+    public writeFile_args(
+      RFile rFile)
+    {
+      this();
+      this.rFile = rFile;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public writeFile_args(writeFile_args other) {
+      if (other.isSetRFile()) {
+        this.rFile = new RFile(other.rFile);
+      }
+    }
+
+    public writeFile_args deepCopy() {
+      return new writeFile_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.rFile = null;
+    }
+
+    public RFile getRFile() {
+      return this.rFile;
+    }
+
+    public writeFile_args setRFile(RFile rFile) {
+      this.rFile = rFile;
+      return this;
+    }
+
+    public void unsetRFile() {
+      this.rFile = null;
+    }
+
+    /** Returns true if field rFile is set (has been assigned a value) and false otherwise */
+    public boolean isSetRFile() {
+      return this.rFile != null;
+    }
+
+    public void setRFileIsSet(boolean value) {
+      if (!value) {
+        this.rFile = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case R_FILE:
+        if (value == null) {
+          unsetRFile();
+        } else {
+          setRFile((RFile)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case R_FILE:
+        return getRFile();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case R_FILE:
+        return isSetRFile();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof writeFile_args)
+        return this.equals((writeFile_args)that);
+      return false;
+    }
+
+    public boolean equals(writeFile_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_rFile = true && this.isSetRFile();
+      boolean that_present_rFile = true && that.isSetRFile();
+      if (this_present_rFile || that_present_rFile) {
+        if (!(this_present_rFile && that_present_rFile))
+          return false;
+        if (!this.rFile.equals(that.rFile))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_rFile = true && (isSetRFile());
+      list.add(present_rFile);
+      if (present_rFile)
+        list.add(rFile);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(writeFile_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetRFile()).compareTo(other.isSetRFile());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetRFile()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.rFile, other.rFile);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("writeFile_args(");
+      boolean first = true;
+
+      sb.append("rFile:");
+      if (this.rFile == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.rFile);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (rFile != null) {
+        rFile.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class writeFile_argsStandardSchemeFactory implements SchemeFactory {
+      public writeFile_argsStandardScheme getScheme() {
+        return new writeFile_argsStandardScheme();
+      }
+    }
+
+    private static class writeFile_argsStandardScheme extends StandardScheme<writeFile_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, writeFile_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // R_FILE
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.rFile = new RFile();
+                struct.rFile.read(iprot);
+                struct.setRFileIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, writeFile_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.rFile != null) {
+          oprot.writeFieldBegin(R_FILE_FIELD_DESC);
+          struct.rFile.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class writeFile_argsTupleSchemeFactory implements SchemeFactory {
+      public writeFile_argsTupleScheme getScheme() {
+        return new writeFile_argsTupleScheme();
+      }
+    }
+
+    private static class writeFile_argsTupleScheme extends TupleScheme<writeFile_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, writeFile_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetRFile()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetRFile()) {
+          struct.rFile.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, writeFile_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.rFile = new RFile();
+          struct.rFile.read(iprot);
+          struct.setRFileIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class writeFile_result implements org.apache.thrift.TBase<writeFile_result, writeFile_result._Fields>, java.io.Serializable, Cloneable, Comparable<writeFile_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("writeFile_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField SYSTEM_EXCEPTION_FIELD_DESC = new org.apache.thrift.protocol.TField("systemException", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new writeFile_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new writeFile_resultTupleSchemeFactory());
+    }
+
+    public StatusReport success; // required
+    public SystemException systemException; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      SYSTEM_EXCEPTION((short)1, "systemException");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // SYSTEM_EXCEPTION
+            return SYSTEM_EXCEPTION;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, StatusReport.class)));
+      tmpMap.put(_Fields.SYSTEM_EXCEPTION, new org.apache.thrift.meta_data.FieldMetaData("systemException", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(writeFile_result.class, metaDataMap);
+    }
+
+    public writeFile_result() {
+    }
+
+    public writeFile_result(
+      StatusReport success,
+      SystemException systemException)
+    {
+      this();
+      this.success = success;
+      this.systemException = systemException;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public writeFile_result(writeFile_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new StatusReport(other.success);
+      }
+      if (other.isSetSystemException()) {
+        this.systemException = new SystemException(other.systemException);
+      }
+    }
+
+    public writeFile_result deepCopy() {
+      return new writeFile_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.systemException = null;
+    }
+
+    public StatusReport getSuccess() {
+      return this.success;
+    }
+
+    public writeFile_result setSuccess(StatusReport success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public SystemException getSystemException() {
+      return this.systemException;
+    }
+
+    public writeFile_result setSystemException(SystemException systemException) {
+      this.systemException = systemException;
+      return this;
+    }
+
+    public void unsetSystemException() {
+      this.systemException = null;
+    }
+
+    /** Returns true if field systemException is set (has been assigned a value) and false otherwise */
+    public boolean isSetSystemException() {
+      return this.systemException != null;
+    }
+
+    public void setSystemExceptionIsSet(boolean value) {
+      if (!value) {
+        this.systemException = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((StatusReport)value);
+        }
+        break;
+
+      case SYSTEM_EXCEPTION:
+        if (value == null) {
+          unsetSystemException();
+        } else {
+          setSystemException((SystemException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case SYSTEM_EXCEPTION:
+        return getSystemException();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case SYSTEM_EXCEPTION:
+        return isSetSystemException();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof writeFile_result)
+        return this.equals((writeFile_result)that);
+      return false;
+    }
+
+    public boolean equals(writeFile_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_systemException = true && this.isSetSystemException();
+      boolean that_present_systemException = true && that.isSetSystemException();
+      if (this_present_systemException || that_present_systemException) {
+        if (!(this_present_systemException && that_present_systemException))
+          return false;
+        if (!this.systemException.equals(that.systemException))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      boolean present_systemException = true && (isSetSystemException());
+      list.add(present_systemException);
+      if (present_systemException)
+        list.add(systemException);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(writeFile_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetSystemException()).compareTo(other.isSetSystemException());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSystemException()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.systemException, other.systemException);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("writeFile_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("systemException:");
+      if (this.systemException == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.systemException);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class writeFile_resultStandardSchemeFactory implements SchemeFactory {
+      public writeFile_resultStandardScheme getScheme() {
+        return new writeFile_resultStandardScheme();
+      }
+    }
+
+    private static class writeFile_resultStandardScheme extends StandardScheme<writeFile_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, writeFile_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new StatusReport();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // SYSTEM_EXCEPTION
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.systemException = new SystemException();
+                struct.systemException.read(iprot);
+                struct.setSystemExceptionIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, writeFile_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.systemException != null) {
+          oprot.writeFieldBegin(SYSTEM_EXCEPTION_FIELD_DESC);
+          struct.systemException.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class writeFile_resultTupleSchemeFactory implements SchemeFactory {
+      public writeFile_resultTupleScheme getScheme() {
+        return new writeFile_resultTupleScheme();
+      }
+    }
+
+    private static class writeFile_resultTupleScheme extends TupleScheme<writeFile_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, writeFile_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetSystemException()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+        if (struct.isSetSystemException()) {
+          struct.systemException.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, writeFile_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = new StatusReport();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.systemException = new SystemException();
+          struct.systemException.read(iprot);
+          struct.setSystemExceptionIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class deleteFile_args implements org.apache.thrift.TBase<deleteFile_args, deleteFile_args._Fields>, java.io.Serializable, Cloneable, Comparable<deleteFile_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("deleteFile_args");
+
+    private static final org.apache.thrift.protocol.TField FILENAME_FIELD_DESC = new org.apache.thrift.protocol.TField("filename", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField CLIENT_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("clientID", org.apache.thrift.protocol.TType.STRING, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new deleteFile_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new deleteFile_argsTupleSchemeFactory());
+    }
+
+    public String filename; // required
+    public String clientID; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      FILENAME((short)1, "filename"),
+      CLIENT_ID((short)2, "clientID");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // FILENAME
+            return FILENAME;
+          case 2: // CLIENT_ID
+            return CLIENT_ID;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.FILENAME, new org.apache.thrift.meta_data.FieldMetaData("filename", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.CLIENT_ID, new org.apache.thrift.meta_data.FieldMetaData("clientID", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(deleteFile_args.class, metaDataMap);
+    }
+
+    public deleteFile_args() {
+    }
+
+    public deleteFile_args(
+      String filename,
+      String clientID)
+    {
+      this();
+      this.filename = filename;
+      this.clientID = clientID;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public deleteFile_args(deleteFile_args other) {
+      if (other.isSetFilename()) {
+        this.filename = other.filename;
+      }
+      if (other.isSetClientID()) {
+        this.clientID = other.clientID;
+      }
+    }
+
+    public deleteFile_args deepCopy() {
+      return new deleteFile_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.filename = null;
+      this.clientID = null;
+    }
+
+    public String getFilename() {
+      return this.filename;
+    }
+
+    public deleteFile_args setFilename(String filename) {
+      this.filename = filename;
+      return this;
+    }
+
+    public void unsetFilename() {
+      this.filename = null;
+    }
+
+    /** Returns true if field filename is set (has been assigned a value) and false otherwise */
+    public boolean isSetFilename() {
+      return this.filename != null;
+    }
+
+    public void setFilenameIsSet(boolean value) {
+      if (!value) {
+        this.filename = null;
+      }
+    }
+
+    public String getClientID() {
+      return this.clientID;
+    }
+
+    public deleteFile_args setClientID(String clientID) {
+      this.clientID = clientID;
+      return this;
+    }
+
+    public void unsetClientID() {
+      this.clientID = null;
+    }
+
+    /** Returns true if field clientID is set (has been assigned a value) and false otherwise */
+    public boolean isSetClientID() {
+      return this.clientID != null;
+    }
+
+    public void setClientIDIsSet(boolean value) {
+      if (!value) {
+        this.clientID = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case FILENAME:
+        if (value == null) {
+          unsetFilename();
+        } else {
+          setFilename((String)value);
+        }
+        break;
+
+      case CLIENT_ID:
+        if (value == null) {
+          unsetClientID();
+        } else {
+          setClientID((String)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case FILENAME:
+        return getFilename();
+
+      case CLIENT_ID:
+        return getClientID();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case FILENAME:
+        return isSetFilename();
+      case CLIENT_ID:
+        return isSetClientID();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof deleteFile_args)
+        return this.equals((deleteFile_args)that);
+      return false;
+    }
+
+    public boolean equals(deleteFile_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_filename = true && this.isSetFilename();
+      boolean that_present_filename = true && that.isSetFilename();
+      if (this_present_filename || that_present_filename) {
+        if (!(this_present_filename && that_present_filename))
+          return false;
+        if (!this.filename.equals(that.filename))
+          return false;
+      }
+
+      boolean this_present_clientID = true && this.isSetClientID();
+      boolean that_present_clientID = true && that.isSetClientID();
+      if (this_present_clientID || that_present_clientID) {
+        if (!(this_present_clientID && that_present_clientID))
+          return false;
+        if (!this.clientID.equals(that.clientID))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_filename = true && (isSetFilename());
+      list.add(present_filename);
+      if (present_filename)
+        list.add(filename);
+
+      boolean present_clientID = true && (isSetClientID());
+      list.add(present_clientID);
+      if (present_clientID)
+        list.add(clientID);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(deleteFile_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetFilename()).compareTo(other.isSetFilename());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetFilename()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.filename, other.filename);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetClientID()).compareTo(other.isSetClientID());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetClientID()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.clientID, other.clientID);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("deleteFile_args(");
+      boolean first = true;
+
+      sb.append("filename:");
+      if (this.filename == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.filename);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("clientID:");
+      if (this.clientID == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.clientID);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class deleteFile_argsStandardSchemeFactory implements SchemeFactory {
+      public deleteFile_argsStandardScheme getScheme() {
+        return new deleteFile_argsStandardScheme();
+      }
+    }
+
+    private static class deleteFile_argsStandardScheme extends StandardScheme<deleteFile_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, deleteFile_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // FILENAME
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.filename = iprot.readString();
+                struct.setFilenameIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // CLIENT_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.clientID = iprot.readString();
+                struct.setClientIDIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, deleteFile_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.filename != null) {
+          oprot.writeFieldBegin(FILENAME_FIELD_DESC);
+          oprot.writeString(struct.filename);
+          oprot.writeFieldEnd();
+        }
+        if (struct.clientID != null) {
+          oprot.writeFieldBegin(CLIENT_ID_FIELD_DESC);
+          oprot.writeString(struct.clientID);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class deleteFile_argsTupleSchemeFactory implements SchemeFactory {
+      public deleteFile_argsTupleScheme getScheme() {
+        return new deleteFile_argsTupleScheme();
+      }
+    }
+
+    private static class deleteFile_argsTupleScheme extends TupleScheme<deleteFile_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, deleteFile_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetFilename()) {
+          optionals.set(0);
+        }
+        if (struct.isSetClientID()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetFilename()) {
+          oprot.writeString(struct.filename);
+        }
+        if (struct.isSetClientID()) {
+          oprot.writeString(struct.clientID);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, deleteFile_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.filename = iprot.readString();
+          struct.setFilenameIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.clientID = iprot.readString();
+          struct.setClientIDIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class deleteFile_result implements org.apache.thrift.TBase<deleteFile_result, deleteFile_result._Fields>, java.io.Serializable, Cloneable, Comparable<deleteFile_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("deleteFile_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField SYSTEM_EXCEPTION_FIELD_DESC = new org.apache.thrift.protocol.TField("systemException", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new deleteFile_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new deleteFile_resultTupleSchemeFactory());
+    }
+
+    public StatusReport success; // required
+    public SystemException systemException; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      SYSTEM_EXCEPTION((short)1, "systemException");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // SYSTEM_EXCEPTION
+            return SYSTEM_EXCEPTION;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, StatusReport.class)));
+      tmpMap.put(_Fields.SYSTEM_EXCEPTION, new org.apache.thrift.meta_data.FieldMetaData("systemException", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(deleteFile_result.class, metaDataMap);
+    }
+
+    public deleteFile_result() {
+    }
+
+    public deleteFile_result(
+      StatusReport success,
+      SystemException systemException)
+    {
+      this();
+      this.success = success;
+      this.systemException = systemException;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public deleteFile_result(deleteFile_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new StatusReport(other.success);
+      }
+      if (other.isSetSystemException()) {
+        this.systemException = new SystemException(other.systemException);
+      }
+    }
+
+    public deleteFile_result deepCopy() {
+      return new deleteFile_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.systemException = null;
+    }
+
+    public StatusReport getSuccess() {
+      return this.success;
+    }
+
+    public deleteFile_result setSuccess(StatusReport success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public SystemException getSystemException() {
+      return this.systemException;
+    }
+
+    public deleteFile_result setSystemException(SystemException systemException) {
+      this.systemException = systemException;
+      return this;
+    }
+
+    public void unsetSystemException() {
+      this.systemException = null;
+    }
+
+    /** Returns true if field systemException is set (has been assigned a value) and false otherwise */
+    public boolean isSetSystemException() {
+      return this.systemException != null;
+    }
+
+    public void setSystemExceptionIsSet(boolean value) {
+      if (!value) {
+        this.systemException = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((StatusReport)value);
+        }
+        break;
+
+      case SYSTEM_EXCEPTION:
+        if (value == null) {
+          unsetSystemException();
+        } else {
+          setSystemException((SystemException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case SYSTEM_EXCEPTION:
+        return getSystemException();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case SYSTEM_EXCEPTION:
+        return isSetSystemException();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof deleteFile_result)
+        return this.equals((deleteFile_result)that);
+      return false;
+    }
+
+    public boolean equals(deleteFile_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_systemException = true && this.isSetSystemException();
+      boolean that_present_systemException = true && that.isSetSystemException();
+      if (this_present_systemException || that_present_systemException) {
+        if (!(this_present_systemException && that_present_systemException))
+          return false;
+        if (!this.systemException.equals(that.systemException))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      boolean present_systemException = true && (isSetSystemException());
+      list.add(present_systemException);
+      if (present_systemException)
+        list.add(systemException);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(deleteFile_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetSystemException()).compareTo(other.isSetSystemException());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSystemException()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.systemException, other.systemException);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("deleteFile_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("systemException:");
+      if (this.systemException == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.systemException);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class deleteFile_resultStandardSchemeFactory implements SchemeFactory {
+      public deleteFile_resultStandardScheme getScheme() {
+        return new deleteFile_resultStandardScheme();
+      }
+    }
+
+    private static class deleteFile_resultStandardScheme extends StandardScheme<deleteFile_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, deleteFile_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new StatusReport();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // SYSTEM_EXCEPTION
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.systemException = new SystemException();
+                struct.systemException.read(iprot);
+                struct.setSystemExceptionIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, deleteFile_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.systemException != null) {
+          oprot.writeFieldBegin(SYSTEM_EXCEPTION_FIELD_DESC);
+          struct.systemException.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class deleteFile_resultTupleSchemeFactory implements SchemeFactory {
+      public deleteFile_resultTupleScheme getScheme() {
+        return new deleteFile_resultTupleScheme();
+      }
+    }
+
+    private static class deleteFile_resultTupleScheme extends TupleScheme<deleteFile_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, deleteFile_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetSystemException()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+        if (struct.isSetSystemException()) {
+          struct.systemException.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, deleteFile_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = new StatusReport();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.systemException = new SystemException();
+          struct.systemException.read(iprot);
+          struct.setSystemExceptionIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class readFile_args implements org.apache.thrift.TBase<readFile_args, readFile_args._Fields>, java.io.Serializable, Cloneable, Comparable<readFile_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("readFile_args");
+
+    private static final org.apache.thrift.protocol.TField FILENAME_FIELD_DESC = new org.apache.thrift.protocol.TField("filename", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField CLIENT_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("clientID", org.apache.thrift.protocol.TType.STRING, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new readFile_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new readFile_argsTupleSchemeFactory());
+    }
+
+    public String filename; // required
+    public String clientID; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      FILENAME((short)1, "filename"),
+      CLIENT_ID((short)2, "clientID");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // FILENAME
+            return FILENAME;
+          case 2: // CLIENT_ID
+            return CLIENT_ID;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.FILENAME, new org.apache.thrift.meta_data.FieldMetaData("filename", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.CLIENT_ID, new org.apache.thrift.meta_data.FieldMetaData("clientID", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(readFile_args.class, metaDataMap);
+    }
+
+    public readFile_args() {
+    }
+
+    public readFile_args(
+      String filename,
+      String clientID)
+    {
+      this();
+      this.filename = filename;
+      this.clientID = clientID;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public readFile_args(readFile_args other) {
+      if (other.isSetFilename()) {
+        this.filename = other.filename;
+      }
+      if (other.isSetClientID()) {
+        this.clientID = other.clientID;
+      }
+    }
+
+    public readFile_args deepCopy() {
+      return new readFile_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.filename = null;
+      this.clientID = null;
+    }
+
+    public String getFilename() {
+      return this.filename;
+    }
+
+    public readFile_args setFilename(String filename) {
+      this.filename = filename;
+      return this;
+    }
+
+    public void unsetFilename() {
+      this.filename = null;
+    }
+
+    /** Returns true if field filename is set (has been assigned a value) and false otherwise */
+    public boolean isSetFilename() {
+      return this.filename != null;
+    }
+
+    public void setFilenameIsSet(boolean value) {
+      if (!value) {
+        this.filename = null;
+      }
+    }
+
+    public String getClientID() {
+      return this.clientID;
+    }
+
+    public readFile_args setClientID(String clientID) {
+      this.clientID = clientID;
+      return this;
+    }
+
+    public void unsetClientID() {
+      this.clientID = null;
+    }
+
+    /** Returns true if field clientID is set (has been assigned a value) and false otherwise */
+    public boolean isSetClientID() {
+      return this.clientID != null;
+    }
+
+    public void setClientIDIsSet(boolean value) {
+      if (!value) {
+        this.clientID = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case FILENAME:
+        if (value == null) {
+          unsetFilename();
+        } else {
+          setFilename((String)value);
+        }
+        break;
+
+      case CLIENT_ID:
+        if (value == null) {
+          unsetClientID();
+        } else {
+          setClientID((String)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case FILENAME:
+        return getFilename();
+
+      case CLIENT_ID:
+        return getClientID();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case FILENAME:
+        return isSetFilename();
+      case CLIENT_ID:
+        return isSetClientID();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof readFile_args)
+        return this.equals((readFile_args)that);
+      return false;
+    }
+
+    public boolean equals(readFile_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_filename = true && this.isSetFilename();
+      boolean that_present_filename = true && that.isSetFilename();
+      if (this_present_filename || that_present_filename) {
+        if (!(this_present_filename && that_present_filename))
+          return false;
+        if (!this.filename.equals(that.filename))
+          return false;
+      }
+
+      boolean this_present_clientID = true && this.isSetClientID();
+      boolean that_present_clientID = true && that.isSetClientID();
+      if (this_present_clientID || that_present_clientID) {
+        if (!(this_present_clientID && that_present_clientID))
+          return false;
+        if (!this.clientID.equals(that.clientID))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_filename = true && (isSetFilename());
+      list.add(present_filename);
+      if (present_filename)
+        list.add(filename);
+
+      boolean present_clientID = true && (isSetClientID());
+      list.add(present_clientID);
+      if (present_clientID)
+        list.add(clientID);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(readFile_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetFilename()).compareTo(other.isSetFilename());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetFilename()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.filename, other.filename);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetClientID()).compareTo(other.isSetClientID());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetClientID()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.clientID, other.clientID);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("readFile_args(");
+      boolean first = true;
+
+      sb.append("filename:");
+      if (this.filename == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.filename);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("clientID:");
+      if (this.clientID == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.clientID);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class readFile_argsStandardSchemeFactory implements SchemeFactory {
+      public readFile_argsStandardScheme getScheme() {
+        return new readFile_argsStandardScheme();
+      }
+    }
+
+    private static class readFile_argsStandardScheme extends StandardScheme<readFile_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, readFile_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // FILENAME
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.filename = iprot.readString();
+                struct.setFilenameIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // CLIENT_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.clientID = iprot.readString();
+                struct.setClientIDIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, readFile_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.filename != null) {
+          oprot.writeFieldBegin(FILENAME_FIELD_DESC);
+          oprot.writeString(struct.filename);
+          oprot.writeFieldEnd();
+        }
+        if (struct.clientID != null) {
+          oprot.writeFieldBegin(CLIENT_ID_FIELD_DESC);
+          oprot.writeString(struct.clientID);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class readFile_argsTupleSchemeFactory implements SchemeFactory {
+      public readFile_argsTupleScheme getScheme() {
+        return new readFile_argsTupleScheme();
+      }
+    }
+
+    private static class readFile_argsTupleScheme extends TupleScheme<readFile_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, readFile_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetFilename()) {
+          optionals.set(0);
+        }
+        if (struct.isSetClientID()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetFilename()) {
+          oprot.writeString(struct.filename);
+        }
+        if (struct.isSetClientID()) {
+          oprot.writeString(struct.clientID);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, readFile_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.filename = iprot.readString();
+          struct.setFilenameIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.clientID = iprot.readString();
+          struct.setClientIDIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class readFile_result implements org.apache.thrift.TBase<readFile_result, readFile_result._Fields>, java.io.Serializable, Cloneable, Comparable<readFile_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("readFile_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField SYSTEM_EXCEPTION_FIELD_DESC = new org.apache.thrift.protocol.TField("systemException", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new readFile_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new readFile_resultTupleSchemeFactory());
+    }
+
+    public RFile success; // required
+    public SystemException systemException; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      SYSTEM_EXCEPTION((short)1, "systemException");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // SYSTEM_EXCEPTION
+            return SYSTEM_EXCEPTION;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RFile.class)));
+      tmpMap.put(_Fields.SYSTEM_EXCEPTION, new org.apache.thrift.meta_data.FieldMetaData("systemException", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(readFile_result.class, metaDataMap);
+    }
+
+    public readFile_result() {
+    }
+
+    public readFile_result(
+      RFile success,
+      SystemException systemException)
+    {
+      this();
+      this.success = success;
+      this.systemException = systemException;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public readFile_result(readFile_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new RFile(other.success);
+      }
+      if (other.isSetSystemException()) {
+        this.systemException = new SystemException(other.systemException);
+      }
+    }
+
+    public readFile_result deepCopy() {
+      return new readFile_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.systemException = null;
+    }
+
+    public RFile getSuccess() {
+      return this.success;
+    }
+
+    public readFile_result setSuccess(RFile success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public SystemException getSystemException() {
+      return this.systemException;
+    }
+
+    public readFile_result setSystemException(SystemException systemException) {
+      this.systemException = systemException;
+      return this;
+    }
+
+    public void unsetSystemException() {
+      this.systemException = null;
+    }
+
+    /** Returns true if field systemException is set (has been assigned a value) and false otherwise */
+    public boolean isSetSystemException() {
+      return this.systemException != null;
+    }
+
+    public void setSystemExceptionIsSet(boolean value) {
+      if (!value) {
+        this.systemException = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((RFile)value);
+        }
+        break;
+
+      case SYSTEM_EXCEPTION:
+        if (value == null) {
+          unsetSystemException();
+        } else {
+          setSystemException((SystemException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case SYSTEM_EXCEPTION:
+        return getSystemException();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case SYSTEM_EXCEPTION:
+        return isSetSystemException();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof readFile_result)
+        return this.equals((readFile_result)that);
+      return false;
+    }
+
+    public boolean equals(readFile_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_systemException = true && this.isSetSystemException();
+      boolean that_present_systemException = true && that.isSetSystemException();
+      if (this_present_systemException || that_present_systemException) {
+        if (!(this_present_systemException && that_present_systemException))
+          return false;
+        if (!this.systemException.equals(that.systemException))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      boolean present_systemException = true && (isSetSystemException());
+      list.add(present_systemException);
+      if (present_systemException)
+        list.add(systemException);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(readFile_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetSystemException()).compareTo(other.isSetSystemException());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSystemException()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.systemException, other.systemException);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("readFile_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("systemException:");
+      if (this.systemException == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.systemException);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class readFile_resultStandardSchemeFactory implements SchemeFactory {
+      public readFile_resultStandardScheme getScheme() {
+        return new readFile_resultStandardScheme();
+      }
+    }
+
+    private static class readFile_resultStandardScheme extends StandardScheme<readFile_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, readFile_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new RFile();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // SYSTEM_EXCEPTION
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.systemException = new SystemException();
+                struct.systemException.read(iprot);
+                struct.setSystemExceptionIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, readFile_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.systemException != null) {
+          oprot.writeFieldBegin(SYSTEM_EXCEPTION_FIELD_DESC);
+          struct.systemException.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class readFile_resultTupleSchemeFactory implements SchemeFactory {
+      public readFile_resultTupleScheme getScheme() {
+        return new readFile_resultTupleScheme();
+      }
+    }
+
+    private static class readFile_resultTupleScheme extends TupleScheme<readFile_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, readFile_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetSystemException()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+        if (struct.isSetSystemException()) {
+          struct.systemException.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, readFile_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = new RFile();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.systemException = new SystemException();
+          struct.systemException.read(iprot);
+          struct.setSystemExceptionIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class readFileData_args implements org.apache.thrift.TBase<readFileData_args, readFileData_args._Fields>, java.io.Serializable, Cloneable, Comparable<readFileData_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("readFileData_args");
+
+    private static final org.apache.thrift.protocol.TField FILENAME_FIELD_DESC = new org.apache.thrift.protocol.TField("filename", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField CLIENT_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("clientID", org.apache.thrift.protocol.TType.STRING, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new readFileData_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new readFileData_argsTupleSchemeFactory());
+    }
+
+    public String filename; // required
+    public String clientID; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      FILENAME((short)1, "filename"),
+      CLIENT_ID((short)2, "clientID");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // FILENAME
+            return FILENAME;
+          case 2: // CLIENT_ID
+            return CLIENT_ID;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.FILENAME, new org.apache.thrift.meta_data.FieldMetaData("filename", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.CLIENT_ID, new org.apache.thrift.meta_data.FieldMetaData("clientID", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(readFileData_args.class, metaDataMap);
+    }
+
+    public readFileData_args() {
+    }
+
+    public readFileData_args(
+      String filename,
+      String clientID)
+    {
+      this();
+      this.filename = filename;
+      this.clientID = clientID;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public readFileData_args(readFileData_args other) {
+      if (other.isSetFilename()) {
+        this.filename = other.filename;
+      }
+      if (other.isSetClientID()) {
+        this.clientID = other.clientID;
+      }
+    }
+
+    public readFileData_args deepCopy() {
+      return new readFileData_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.filename = null;
+      this.clientID = null;
+    }
+
+    public String getFilename() {
+      return this.filename;
+    }
+
+    public readFileData_args setFilename(String filename) {
+      this.filename = filename;
+      return this;
+    }
+
+    public void unsetFilename() {
+      this.filename = null;
+    }
+
+    /** Returns true if field filename is set (has been assigned a value) and false otherwise */
+    public boolean isSetFilename() {
+      return this.filename != null;
+    }
+
+    public void setFilenameIsSet(boolean value) {
+      if (!value) {
+        this.filename = null;
+      }
+    }
+
+    public String getClientID() {
+      return this.clientID;
+    }
+
+    public readFileData_args setClientID(String clientID) {
+      this.clientID = clientID;
+      return this;
+    }
+
+    public void unsetClientID() {
+      this.clientID = null;
+    }
+
+    /** Returns true if field clientID is set (has been assigned a value) and false otherwise */
+    public boolean isSetClientID() {
+      return this.clientID != null;
+    }
+
+    public void setClientIDIsSet(boolean value) {
+      if (!value) {
+        this.clientID = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case FILENAME:
+        if (value == null) {
+          unsetFilename();
+        } else {
+          setFilename((String)value);
+        }
+        break;
+
+      case CLIENT_ID:
+        if (value == null) {
+          unsetClientID();
+        } else {
+          setClientID((String)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case FILENAME:
+        return getFilename();
+
+      case CLIENT_ID:
+        return getClientID();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case FILENAME:
+        return isSetFilename();
+      case CLIENT_ID:
+        return isSetClientID();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof readFileData_args)
+        return this.equals((readFileData_args)that);
+      return false;
+    }
+
+    public boolean equals(readFileData_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_filename = true && this.isSetFilename();
+      boolean that_present_filename = true && that.isSetFilename();
+      if (this_present_filename || that_present_filename) {
+        if (!(this_present_filename && that_present_filename))
+          return false;
+        if (!this.filename.equals(that.filename))
+          return false;
+      }
+
+      boolean this_present_clientID = true && this.isSetClientID();
+      boolean that_present_clientID = true && that.isSetClientID();
+      if (this_present_clientID || that_present_clientID) {
+        if (!(this_present_clientID && that_present_clientID))
+          return false;
+        if (!this.clientID.equals(that.clientID))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_filename = true && (isSetFilename());
+      list.add(present_filename);
+      if (present_filename)
+        list.add(filename);
+
+      boolean present_clientID = true && (isSetClientID());
+      list.add(present_clientID);
+      if (present_clientID)
+        list.add(clientID);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(readFileData_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetFilename()).compareTo(other.isSetFilename());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetFilename()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.filename, other.filename);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetClientID()).compareTo(other.isSetClientID());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetClientID()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.clientID, other.clientID);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("readFileData_args(");
+      boolean first = true;
+
+      sb.append("filename:");
+      if (this.filename == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.filename);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("clientID:");
+      if (this.clientID == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.clientID);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class readFileData_argsStandardSchemeFactory implements SchemeFactory {
+      public readFileData_argsStandardScheme getScheme() {
+        return new readFileData_argsStandardScheme();
+      }
+    }
+
+    private static class readFileData_argsStandardScheme extends StandardScheme<readFileData_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, readFileData_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // FILENAME
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.filename = iprot.readString();
+                struct.setFilenameIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // CLIENT_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.clientID = iprot.readString();
+                struct.setClientIDIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, readFileData_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.filename != null) {
+          oprot.writeFieldBegin(FILENAME_FIELD_DESC);
+          oprot.writeString(struct.filename);
+          oprot.writeFieldEnd();
+        }
+        if (struct.clientID != null) {
+          oprot.writeFieldBegin(CLIENT_ID_FIELD_DESC);
+          oprot.writeString(struct.clientID);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class readFileData_argsTupleSchemeFactory implements SchemeFactory {
+      public readFileData_argsTupleScheme getScheme() {
+        return new readFileData_argsTupleScheme();
+      }
+    }
+
+    private static class readFileData_argsTupleScheme extends TupleScheme<readFileData_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, readFileData_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetFilename()) {
+          optionals.set(0);
+        }
+        if (struct.isSetClientID()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetFilename()) {
+          oprot.writeString(struct.filename);
+        }
+        if (struct.isSetClientID()) {
+          oprot.writeString(struct.clientID);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, readFileData_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.filename = iprot.readString();
+          struct.setFilenameIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.clientID = iprot.readString();
+          struct.setClientIDIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class readFileData_result implements org.apache.thrift.TBase<readFileData_result, readFileData_result._Fields>, java.io.Serializable, Cloneable, Comparable<readFileData_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("readFileData_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField SYSTEM_EXCEPTION_FIELD_DESC = new org.apache.thrift.protocol.TField("systemException", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new readFileData_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new readFileData_resultTupleSchemeFactory());
+    }
+
+    public RFile success; // required
+    public SystemException systemException; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      SYSTEM_EXCEPTION((short)1, "systemException");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // SYSTEM_EXCEPTION
+            return SYSTEM_EXCEPTION;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RFile.class)));
+      tmpMap.put(_Fields.SYSTEM_EXCEPTION, new org.apache.thrift.meta_data.FieldMetaData("systemException", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(readFileData_result.class, metaDataMap);
+    }
+
+    public readFileData_result() {
+    }
+
+    public readFileData_result(
+      RFile success,
+      SystemException systemException)
+    {
+      this();
+      this.success = success;
+      this.systemException = systemException;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public readFileData_result(readFileData_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new RFile(other.success);
+      }
+      if (other.isSetSystemException()) {
+        this.systemException = new SystemException(other.systemException);
+      }
+    }
+
+    public readFileData_result deepCopy() {
+      return new readFileData_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.systemException = null;
+    }
+
+    public RFile getSuccess() {
+      return this.success;
+    }
+
+    public readFileData_result setSuccess(RFile success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public SystemException getSystemException() {
+      return this.systemException;
+    }
+
+    public readFileData_result setSystemException(SystemException systemException) {
+      this.systemException = systemException;
+      return this;
+    }
+
+    public void unsetSystemException() {
+      this.systemException = null;
+    }
+
+    /** Returns true if field systemException is set (has been assigned a value) and false otherwise */
+    public boolean isSetSystemException() {
+      return this.systemException != null;
+    }
+
+    public void setSystemExceptionIsSet(boolean value) {
+      if (!value) {
+        this.systemException = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((RFile)value);
+        }
+        break;
+
+      case SYSTEM_EXCEPTION:
+        if (value == null) {
+          unsetSystemException();
+        } else {
+          setSystemException((SystemException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case SYSTEM_EXCEPTION:
+        return getSystemException();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case SYSTEM_EXCEPTION:
+        return isSetSystemException();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof readFileData_result)
+        return this.equals((readFileData_result)that);
+      return false;
+    }
+
+    public boolean equals(readFileData_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_systemException = true && this.isSetSystemException();
+      boolean that_present_systemException = true && that.isSetSystemException();
+      if (this_present_systemException || that_present_systemException) {
+        if (!(this_present_systemException && that_present_systemException))
+          return false;
+        if (!this.systemException.equals(that.systemException))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      boolean present_systemException = true && (isSetSystemException());
+      list.add(present_systemException);
+      if (present_systemException)
+        list.add(systemException);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(readFileData_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetSystemException()).compareTo(other.isSetSystemException());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSystemException()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.systemException, other.systemException);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("readFileData_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("systemException:");
+      if (this.systemException == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.systemException);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class readFileData_resultStandardSchemeFactory implements SchemeFactory {
+      public readFileData_resultStandardScheme getScheme() {
+        return new readFileData_resultStandardScheme();
+      }
+    }
+
+    private static class readFileData_resultStandardScheme extends StandardScheme<readFileData_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, readFileData_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new RFile();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // SYSTEM_EXCEPTION
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.systemException = new SystemException();
+                struct.systemException.read(iprot);
+                struct.setSystemExceptionIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, readFileData_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.systemException != null) {
+          oprot.writeFieldBegin(SYSTEM_EXCEPTION_FIELD_DESC);
+          struct.systemException.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class readFileData_resultTupleSchemeFactory implements SchemeFactory {
+      public readFileData_resultTupleScheme getScheme() {
+        return new readFileData_resultTupleScheme();
+      }
+    }
+
+    private static class readFileData_resultTupleScheme extends TupleScheme<readFileData_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, readFileData_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetSystemException()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+        if (struct.isSetSystemException()) {
+          struct.systemException.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, readFileData_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = new RFile();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.systemException = new SystemException();
+          struct.systemException.read(iprot);
+          struct.setSystemExceptionIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class getTransactionStatus_args implements org.apache.thrift.TBase<getTransactionStatus_args, getTransactionStatus_args._Fields>, java.io.Serializable, Cloneable, Comparable<getTransactionStatus_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getTransactionStatus_args");
+
+    private static final org.apache.thrift.protocol.TField TRAN_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("tran_id", org.apache.thrift.protocol.TType.I64, (short)1);
+    private static final org.apache.thrift.protocol.TField PARTICIPANT_IP_FIELD_DESC = new org.apache.thrift.protocol.TField("participant_ip", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField PARTICIPANT_PORT_FIELD_DESC = new org.apache.thrift.protocol.TField("participant_port", org.apache.thrift.protocol.TType.I32, (short)3);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getTransactionStatus_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getTransactionStatus_argsTupleSchemeFactory());
+    }
+
+    public long tran_id; // required
+    public String participant_ip; // required
+    public int participant_port; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      TRAN_ID((short)1, "tran_id"),
+      PARTICIPANT_IP((short)2, "participant_ip"),
+      PARTICIPANT_PORT((short)3, "participant_port");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // TRAN_ID
+            return TRAN_ID;
+          case 2: // PARTICIPANT_IP
+            return PARTICIPANT_IP;
+          case 3: // PARTICIPANT_PORT
+            return PARTICIPANT_PORT;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __TRAN_ID_ISSET_ID = 0;
+    private static final int __PARTICIPANT_PORT_ISSET_ID = 1;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.TRAN_ID, new org.apache.thrift.meta_data.FieldMetaData("tran_id", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.PARTICIPANT_IP, new org.apache.thrift.meta_data.FieldMetaData("participant_ip", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.PARTICIPANT_PORT, new org.apache.thrift.meta_data.FieldMetaData("participant_port", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getTransactionStatus_args.class, metaDataMap);
+    }
+
+    public getTransactionStatus_args() {
+    }
+
+    public getTransactionStatus_args(
+      long tran_id,
+      String participant_ip,
+      int participant_port)
+    {
+      this();
+      this.tran_id = tran_id;
+      setTran_idIsSet(true);
+      this.participant_ip = participant_ip;
+      this.participant_port = participant_port;
+      setParticipant_portIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getTransactionStatus_args(getTransactionStatus_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.tran_id = other.tran_id;
+      if (other.isSetParticipant_ip()) {
+        this.participant_ip = other.participant_ip;
+      }
+      this.participant_port = other.participant_port;
+    }
+
+    public getTransactionStatus_args deepCopy() {
+      return new getTransactionStatus_args(this);
+    }
+
+    @Override
+    public void clear() {
+      setTran_idIsSet(false);
+      this.tran_id = 0;
+      this.participant_ip = null;
+      setParticipant_portIsSet(false);
+      this.participant_port = 0;
+    }
+
+    public long getTran_id() {
+      return this.tran_id;
+    }
+
+    public getTransactionStatus_args setTran_id(long tran_id) {
+      this.tran_id = tran_id;
+      setTran_idIsSet(true);
+      return this;
+    }
+
+    public void unsetTran_id() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __TRAN_ID_ISSET_ID);
+    }
+
+    /** Returns true if field tran_id is set (has been assigned a value) and false otherwise */
+    public boolean isSetTran_id() {
+      return EncodingUtils.testBit(__isset_bitfield, __TRAN_ID_ISSET_ID);
+    }
+
+    public void setTran_idIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __TRAN_ID_ISSET_ID, value);
+    }
+
+    public String getParticipant_ip() {
+      return this.participant_ip;
+    }
+
+    public getTransactionStatus_args setParticipant_ip(String participant_ip) {
+      this.participant_ip = participant_ip;
+      return this;
+    }
+
+    public void unsetParticipant_ip() {
+      this.participant_ip = null;
+    }
+
+    /** Returns true if field participant_ip is set (has been assigned a value) and false otherwise */
+    public boolean isSetParticipant_ip() {
+      return this.participant_ip != null;
+    }
+
+    public void setParticipant_ipIsSet(boolean value) {
+      if (!value) {
+        this.participant_ip = null;
+      }
+    }
+
+    public int getParticipant_port() {
+      return this.participant_port;
+    }
+
+    public getTransactionStatus_args setParticipant_port(int participant_port) {
+      this.participant_port = participant_port;
+      setParticipant_portIsSet(true);
+      return this;
+    }
+
+    public void unsetParticipant_port() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __PARTICIPANT_PORT_ISSET_ID);
+    }
+
+    /** Returns true if field participant_port is set (has been assigned a value) and false otherwise */
+    public boolean isSetParticipant_port() {
+      return EncodingUtils.testBit(__isset_bitfield, __PARTICIPANT_PORT_ISSET_ID);
+    }
+
+    public void setParticipant_portIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __PARTICIPANT_PORT_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case TRAN_ID:
+        if (value == null) {
+          unsetTran_id();
+        } else {
+          setTran_id((Long)value);
+        }
+        break;
+
+      case PARTICIPANT_IP:
+        if (value == null) {
+          unsetParticipant_ip();
+        } else {
+          setParticipant_ip((String)value);
+        }
+        break;
+
+      case PARTICIPANT_PORT:
+        if (value == null) {
+          unsetParticipant_port();
+        } else {
+          setParticipant_port((Integer)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case TRAN_ID:
+        return getTran_id();
+
+      case PARTICIPANT_IP:
+        return getParticipant_ip();
+
+      case PARTICIPANT_PORT:
+        return getParticipant_port();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case TRAN_ID:
+        return isSetTran_id();
+      case PARTICIPANT_IP:
+        return isSetParticipant_ip();
+      case PARTICIPANT_PORT:
+        return isSetParticipant_port();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getTransactionStatus_args)
+        return this.equals((getTransactionStatus_args)that);
+      return false;
+    }
+
+    public boolean equals(getTransactionStatus_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_tran_id = true;
+      boolean that_present_tran_id = true;
+      if (this_present_tran_id || that_present_tran_id) {
+        if (!(this_present_tran_id && that_present_tran_id))
+          return false;
+        if (this.tran_id != that.tran_id)
+          return false;
+      }
+
+      boolean this_present_participant_ip = true && this.isSetParticipant_ip();
+      boolean that_present_participant_ip = true && that.isSetParticipant_ip();
+      if (this_present_participant_ip || that_present_participant_ip) {
+        if (!(this_present_participant_ip && that_present_participant_ip))
+          return false;
+        if (!this.participant_ip.equals(that.participant_ip))
+          return false;
+      }
+
+      boolean this_present_participant_port = true;
+      boolean that_present_participant_port = true;
+      if (this_present_participant_port || that_present_participant_port) {
+        if (!(this_present_participant_port && that_present_participant_port))
+          return false;
+        if (this.participant_port != that.participant_port)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_tran_id = true;
+      list.add(present_tran_id);
+      if (present_tran_id)
+        list.add(tran_id);
+
+      boolean present_participant_ip = true && (isSetParticipant_ip());
+      list.add(present_participant_ip);
+      if (present_participant_ip)
+        list.add(participant_ip);
+
+      boolean present_participant_port = true;
+      list.add(present_participant_port);
+      if (present_participant_port)
+        list.add(participant_port);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(getTransactionStatus_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetTran_id()).compareTo(other.isSetTran_id());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetTran_id()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.tran_id, other.tran_id);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetParticipant_ip()).compareTo(other.isSetParticipant_ip());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetParticipant_ip()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.participant_ip, other.participant_ip);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetParticipant_port()).compareTo(other.isSetParticipant_port());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetParticipant_port()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.participant_port, other.participant_port);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getTransactionStatus_args(");
+      boolean first = true;
+
+      sb.append("tran_id:");
+      sb.append(this.tran_id);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("participant_ip:");
+      if (this.participant_ip == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.participant_ip);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("participant_port:");
+      sb.append(this.participant_port);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getTransactionStatus_argsStandardSchemeFactory implements SchemeFactory {
+      public getTransactionStatus_argsStandardScheme getScheme() {
+        return new getTransactionStatus_argsStandardScheme();
+      }
+    }
+
+    private static class getTransactionStatus_argsStandardScheme extends StandardScheme<getTransactionStatus_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getTransactionStatus_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // TRAN_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.tran_id = iprot.readI64();
+                struct.setTran_idIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // PARTICIPANT_IP
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.participant_ip = iprot.readString();
+                struct.setParticipant_ipIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // PARTICIPANT_PORT
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.participant_port = iprot.readI32();
+                struct.setParticipant_portIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getTransactionStatus_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(TRAN_ID_FIELD_DESC);
+        oprot.writeI64(struct.tran_id);
+        oprot.writeFieldEnd();
+        if (struct.participant_ip != null) {
+          oprot.writeFieldBegin(PARTICIPANT_IP_FIELD_DESC);
+          oprot.writeString(struct.participant_ip);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(PARTICIPANT_PORT_FIELD_DESC);
+        oprot.writeI32(struct.participant_port);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getTransactionStatus_argsTupleSchemeFactory implements SchemeFactory {
+      public getTransactionStatus_argsTupleScheme getScheme() {
+        return new getTransactionStatus_argsTupleScheme();
+      }
+    }
+
+    private static class getTransactionStatus_argsTupleScheme extends TupleScheme<getTransactionStatus_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getTransactionStatus_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetTran_id()) {
+          optionals.set(0);
+        }
+        if (struct.isSetParticipant_ip()) {
+          optionals.set(1);
+        }
+        if (struct.isSetParticipant_port()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
+        if (struct.isSetTran_id()) {
+          oprot.writeI64(struct.tran_id);
+        }
+        if (struct.isSetParticipant_ip()) {
+          oprot.writeString(struct.participant_ip);
+        }
+        if (struct.isSetParticipant_port()) {
+          oprot.writeI32(struct.participant_port);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getTransactionStatus_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(3);
+        if (incoming.get(0)) {
+          struct.tran_id = iprot.readI64();
+          struct.setTran_idIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.participant_ip = iprot.readString();
+          struct.setParticipant_ipIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.participant_port = iprot.readI32();
+          struct.setParticipant_portIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class getTransactionStatus_result implements org.apache.thrift.TBase<getTransactionStatus_result, getTransactionStatus_result._Fields>, java.io.Serializable, Cloneable, Comparable<getTransactionStatus_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getTransactionStatus_result");
+
+    private static final org.apache.thrift.protocol.TField SYSTEM_EXCEPTION_FIELD_DESC = new org.apache.thrift.protocol.TField("systemException", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getTransactionStatus_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getTransactionStatus_resultTupleSchemeFactory());
+    }
+
+    public SystemException systemException; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SYSTEM_EXCEPTION((short)1, "systemException");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // SYSTEM_EXCEPTION
+            return SYSTEM_EXCEPTION;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SYSTEM_EXCEPTION, new org.apache.thrift.meta_data.FieldMetaData("systemException", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getTransactionStatus_result.class, metaDataMap);
+    }
+
+    public getTransactionStatus_result() {
+    }
+
+    public getTransactionStatus_result(
+      SystemException systemException)
+    {
+      this();
+      this.systemException = systemException;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getTransactionStatus_result(getTransactionStatus_result other) {
+      if (other.isSetSystemException()) {
+        this.systemException = new SystemException(other.systemException);
+      }
+    }
+
+    public getTransactionStatus_result deepCopy() {
+      return new getTransactionStatus_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.systemException = null;
+    }
+
+    public SystemException getSystemException() {
+      return this.systemException;
+    }
+
+    public getTransactionStatus_result setSystemException(SystemException systemException) {
+      this.systemException = systemException;
+      return this;
+    }
+
+    public void unsetSystemException() {
+      this.systemException = null;
+    }
+
+    /** Returns true if field systemException is set (has been assigned a value) and false otherwise */
+    public boolean isSetSystemException() {
+      return this.systemException != null;
+    }
+
+    public void setSystemExceptionIsSet(boolean value) {
+      if (!value) {
+        this.systemException = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SYSTEM_EXCEPTION:
+        if (value == null) {
+          unsetSystemException();
+        } else {
+          setSystemException((SystemException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SYSTEM_EXCEPTION:
+        return getSystemException();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SYSTEM_EXCEPTION:
+        return isSetSystemException();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getTransactionStatus_result)
+        return this.equals((getTransactionStatus_result)that);
+      return false;
+    }
+
+    public boolean equals(getTransactionStatus_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_systemException = true && this.isSetSystemException();
+      boolean that_present_systemException = true && that.isSetSystemException();
+      if (this_present_systemException || that_present_systemException) {
+        if (!(this_present_systemException && that_present_systemException))
+          return false;
+        if (!this.systemException.equals(that.systemException))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_systemException = true && (isSetSystemException());
+      list.add(present_systemException);
+      if (present_systemException)
+        list.add(systemException);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(getTransactionStatus_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSystemException()).compareTo(other.isSetSystemException());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSystemException()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.systemException, other.systemException);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getTransactionStatus_result(");
+      boolean first = true;
+
+      sb.append("systemException:");
+      if (this.systemException == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.systemException);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getTransactionStatus_resultStandardSchemeFactory implements SchemeFactory {
+      public getTransactionStatus_resultStandardScheme getScheme() {
+        return new getTransactionStatus_resultStandardScheme();
+      }
+    }
+
+    private static class getTransactionStatus_resultStandardScheme extends StandardScheme<getTransactionStatus_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getTransactionStatus_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // SYSTEM_EXCEPTION
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.systemException = new SystemException();
+                struct.systemException.read(iprot);
+                struct.setSystemExceptionIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getTransactionStatus_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.systemException != null) {
+          oprot.writeFieldBegin(SYSTEM_EXCEPTION_FIELD_DESC);
+          struct.systemException.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getTransactionStatus_resultTupleSchemeFactory implements SchemeFactory {
+      public getTransactionStatus_resultTupleScheme getScheme() {
+        return new getTransactionStatus_resultTupleScheme();
+      }
+    }
+
+    private static class getTransactionStatus_resultTupleScheme extends TupleScheme<getTransactionStatus_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getTransactionStatus_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSystemException()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSystemException()) {
+          struct.systemException.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getTransactionStatus_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.systemException = new SystemException();
+          struct.systemException.read(iprot);
+          struct.setSystemExceptionIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class getTransactionStatuses_args implements org.apache.thrift.TBase<getTransactionStatuses_args, getTransactionStatuses_args._Fields>, java.io.Serializable, Cloneable, Comparable<getTransactionStatuses_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getTransactionStatuses_args");
+
+    private static final org.apache.thrift.protocol.TField TRAN_IDS_FIELD_DESC = new org.apache.thrift.protocol.TField("tran_ids", org.apache.thrift.protocol.TType.LIST, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getTransactionStatuses_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getTransactionStatuses_argsTupleSchemeFactory());
+    }
+
+    public List<Long> tran_ids; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      TRAN_IDS((short)1, "tran_ids");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // TRAN_IDS
+            return TRAN_IDS;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.TRAN_IDS, new org.apache.thrift.meta_data.FieldMetaData("tran_ids", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64))));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getTransactionStatuses_args.class, metaDataMap);
+    }
+
+    public getTransactionStatuses_args() {
+    }
+
+    public getTransactionStatuses_args(
+      List<Long> tran_ids)
+    {
+      this();
+      this.tran_ids = tran_ids;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getTransactionStatuses_args(getTransactionStatuses_args other) {
+      if (other.isSetTran_ids()) {
+        List<Long> __this__tran_ids = new ArrayList<Long>(other.tran_ids);
+        this.tran_ids = __this__tran_ids;
+      }
+    }
+
+    public getTransactionStatuses_args deepCopy() {
+      return new getTransactionStatuses_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.tran_ids = null;
+    }
+
+    public int getTran_idsSize() {
+      return (this.tran_ids == null) ? 0 : this.tran_ids.size();
+    }
+
+    public java.util.Iterator<Long> getTran_idsIterator() {
+      return (this.tran_ids == null) ? null : this.tran_ids.iterator();
+    }
+
+    public void addToTran_ids(long elem) {
+      if (this.tran_ids == null) {
+        this.tran_ids = new ArrayList<Long>();
+      }
+      this.tran_ids.add(elem);
+    }
+
+    public List<Long> getTran_ids() {
+      return this.tran_ids;
+    }
+
+    public getTransactionStatuses_args setTran_ids(List<Long> tran_ids) {
+      this.tran_ids = tran_ids;
+      return this;
+    }
+
+    public void unsetTran_ids() {
+      this.tran_ids = null;
+    }
+
+    /** Returns true if field tran_ids is set (has been assigned a value) and false otherwise */
+    public boolean isSetTran_ids() {
+      return this.tran_ids != null;
+    }
+
+    public void setTran_idsIsSet(boolean value) {
+      if (!value) {
+        this.tran_ids = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case TRAN_IDS:
+        if (value == null) {
+          unsetTran_ids();
+        } else {
+          setTran_ids((List<Long>)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case TRAN_IDS:
+        return getTran_ids();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case TRAN_IDS:
+        return isSetTran_ids();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getTransactionStatuses_args)
+        return this.equals((getTransactionStatuses_args)that);
+      return false;
+    }
+
+    public boolean equals(getTransactionStatuses_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_tran_ids = true && this.isSetTran_ids();
+      boolean that_present_tran_ids = true && that.isSetTran_ids();
+      if (this_present_tran_ids || that_present_tran_ids) {
+        if (!(this_present_tran_ids && that_present_tran_ids))
+          return false;
+        if (!this.tran_ids.equals(that.tran_ids))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_tran_ids = true && (isSetTran_ids());
+      list.add(present_tran_ids);
+      if (present_tran_ids)
+        list.add(tran_ids);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(getTransactionStatuses_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetTran_ids()).compareTo(other.isSetTran_ids());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetTran_ids()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.tran_ids, other.tran_ids);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getTransactionStatuses_args(");
+      boolean first = true;
+
+      sb.append("tran_ids:");
+      if (this.tran_ids == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.tran_ids);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getTransactionStatuses_argsStandardSchemeFactory implements SchemeFactory {
+      public getTransactionStatuses_argsStandardScheme getScheme() {
+        return new getTransactionStatuses_argsStandardScheme();
+      }
+    }
+
+    private static class getTransactionStatuses_argsStandardScheme extends StandardScheme<getTransactionStatuses_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getTransactionStatuses_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // TRAN_IDS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list0 = iprot.readListBegin();
+                  struct.tran_ids = new ArrayList<Long>(_list0.size);
+                  long _elem1;
+                  for (int _i2 = 0; _i2 < _list0.size; ++_i2)
+                  {
+                    _elem1 = iprot.readI64();
+                    struct.tran_ids.add(_elem1);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setTran_idsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getTransactionStatuses_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.tran_ids != null) {
+          oprot.writeFieldBegin(TRAN_IDS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, struct.tran_ids.size()));
+            for (long _iter3 : struct.tran_ids)
+            {
+              oprot.writeI64(_iter3);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getTransactionStatuses_argsTupleSchemeFactory implements SchemeFactory {
+      public getTransactionStatuses_argsTupleScheme getScheme() {
+        return new getTransactionStatuses_argsTupleScheme();
+      }
+    }
+
+    private static class getTransactionStatuses_argsTupleScheme extends TupleScheme<getTransactionStatuses_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getTransactionStatuses_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetTran_ids()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetTran_ids()) {
+          {
+            oprot.writeI32(struct.tran_ids.size());
+            for (long _iter4 : struct.tran_ids)
+            {
+              oprot.writeI64(_iter4);
+            }
+          }
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getTransactionStatuses_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list5 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.I64, iprot.readI32());
+            struct.tran_ids = new ArrayList<Long>(_list5.size);
+            long _elem6;
+            for (int _i7 = 0; _i7 < _list5.size; ++_i7)
+            {
+              _elem6 = iprot.readI64();
+              struct.tran_ids.add(_elem6);
+            }
+          }
+          struct.setTran_idsIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class getTransactionStatuses_result implements org.apache.thrift.TBase<getTransactionStatuses_result, getTransactionStatuses_result._Fields>, java.io.Serializable, Cloneable, Comparable<getTransactionStatuses_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getTransactionStatuses_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.LIST, (short)0);
+    private static final org.apache.thrift.protocol.TField SYSTEM_EXCEPTION_FIELD_DESC = new org.apache.thrift.protocol.TField("systemException", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new getTransactionStatuses_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new getTransactionStatuses_resultTupleSchemeFactory());
+    }
+
+    public List<Transaction> success; // required
+    public SystemException systemException; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      SYSTEM_EXCEPTION((short)1, "systemException");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // SYSTEM_EXCEPTION
+            return SYSTEM_EXCEPTION;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, Transaction.class))));
+      tmpMap.put(_Fields.SYSTEM_EXCEPTION, new org.apache.thrift.meta_data.FieldMetaData("systemException", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getTransactionStatuses_result.class, metaDataMap);
+    }
+
+    public getTransactionStatuses_result() {
+    }
+
+    public getTransactionStatuses_result(
+      List<Transaction> success,
+      SystemException systemException)
+    {
+      this();
+      this.success = success;
+      this.systemException = systemException;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public getTransactionStatuses_result(getTransactionStatuses_result other) {
+      if (other.isSetSuccess()) {
+        List<Transaction> __this__success = new ArrayList<Transaction>(other.success.size());
+        for (Transaction other_element : other.success) {
+          __this__success.add(new Transaction(other_element));
+        }
+        this.success = __this__success;
+      }
+      if (other.isSetSystemException()) {
+        this.systemException = new SystemException(other.systemException);
+      }
+    }
+
+    public getTransactionStatuses_result deepCopy() {
+      return new getTransactionStatuses_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.systemException = null;
+    }
+
+    public int getSuccessSize() {
+      return (this.success == null) ? 0 : this.success.size();
+    }
+
+    public java.util.Iterator<Transaction> getSuccessIterator() {
+      return (this.success == null) ? null : this.success.iterator();
+    }
+
+    public void addToSuccess(Transaction elem) {
+      if (this.success == null) {
+        this.success = new ArrayList<Transaction>();
+      }
+      this.success.add(elem);
+    }
+
+    public List<Transaction> getSuccess() {
+      return this.success;
+    }
+
+    public getTransactionStatuses_result setSuccess(List<Transaction> success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public SystemException getSystemException() {
+      return this.systemException;
+    }
+
+    public getTransactionStatuses_result setSystemException(SystemException systemException) {
+      this.systemException = systemException;
+      return this;
+    }
+
+    public void unsetSystemException() {
+      this.systemException = null;
+    }
+
+    /** Returns true if field systemException is set (has been assigned a value) and false otherwise */
+    public boolean isSetSystemException() {
+      return this.systemException != null;
+    }
+
+    public void setSystemExceptionIsSet(boolean value) {
+      if (!value) {
+        this.systemException = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((List<Transaction>)value);
+        }
+        break;
+
+      case SYSTEM_EXCEPTION:
+        if (value == null) {
+          unsetSystemException();
+        } else {
+          setSystemException((SystemException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case SYSTEM_EXCEPTION:
+        return getSystemException();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case SYSTEM_EXCEPTION:
+        return isSetSystemException();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof getTransactionStatuses_result)
+        return this.equals((getTransactionStatuses_result)that);
+      return false;
+    }
+
+    public boolean equals(getTransactionStatuses_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_systemException = true && this.isSetSystemException();
+      boolean that_present_systemException = true && that.isSetSystemException();
+      if (this_present_systemException || that_present_systemException) {
+        if (!(this_present_systemException && that_present_systemException))
+          return false;
+        if (!this.systemException.equals(that.systemException))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      boolean present_systemException = true && (isSetSystemException());
+      list.add(present_systemException);
+      if (present_systemException)
+        list.add(systemException);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(getTransactionStatuses_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetSystemException()).compareTo(other.isSetSystemException());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSystemException()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.systemException, other.systemException);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("getTransactionStatuses_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("systemException:");
+      if (this.systemException == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.systemException);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class getTransactionStatuses_resultStandardSchemeFactory implements SchemeFactory {
+      public getTransactionStatuses_resultStandardScheme getScheme() {
+        return new getTransactionStatuses_resultStandardScheme();
+      }
+    }
+
+    private static class getTransactionStatuses_resultStandardScheme extends StandardScheme<getTransactionStatuses_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, getTransactionStatuses_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list8 = iprot.readListBegin();
+                  struct.success = new ArrayList<Transaction>(_list8.size);
+                  Transaction _elem9;
+                  for (int _i10 = 0; _i10 < _list8.size; ++_i10)
+                  {
+                    _elem9 = new Transaction();
+                    _elem9.read(iprot);
+                    struct.success.add(_elem9);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // SYSTEM_EXCEPTION
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.systemException = new SystemException();
+                struct.systemException.read(iprot);
+                struct.setSystemExceptionIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, getTransactionStatuses_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.success.size()));
+            for (Transaction _iter11 : struct.success)
+            {
+              _iter11.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        if (struct.systemException != null) {
+          oprot.writeFieldBegin(SYSTEM_EXCEPTION_FIELD_DESC);
+          struct.systemException.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class getTransactionStatuses_resultTupleSchemeFactory implements SchemeFactory {
+      public getTransactionStatuses_resultTupleScheme getScheme() {
+        return new getTransactionStatuses_resultTupleScheme();
+      }
+    }
+
+    private static class getTransactionStatuses_resultTupleScheme extends TupleScheme<getTransactionStatuses_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, getTransactionStatuses_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetSystemException()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          {
+            oprot.writeI32(struct.success.size());
+            for (Transaction _iter12 : struct.success)
+            {
+              _iter12.write(oprot);
+            }
+          }
+        }
+        if (struct.isSetSystemException()) {
+          struct.systemException.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, getTransactionStatuses_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list13 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.success = new ArrayList<Transaction>(_list13.size);
+            Transaction _elem14;
+            for (int _i15 = 0; _i15 < _list13.size; ++_i15)
+            {
+              _elem14 = new Transaction();
+              _elem14.read(iprot);
+              struct.success.add(_elem14);
+            }
+          }
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.systemException = new SystemException();
+          struct.systemException.read(iprot);
+          struct.setSystemExceptionIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class commitBatch_args implements org.apache.thrift.TBase<commitBatch_args, commitBatch_args._Fields>, java.io.Serializable, Cloneable, Comparable<commitBatch_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("commitBatch_args");
+
+    private static final org.apache.thrift.protocol.TField OPERATIONS_FIELD_DESC = new org.apache.thrift.protocol.TField("operations", org.apache.thrift.protocol.TType.LIST, (short)1);
+    private static final org.apache.thrift.protocol.TField CLIENT_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("clientID", org.apache.thrift.protocol.TType.STRING, (short)2);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new commitBatch_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new commitBatch_argsTupleSchemeFactory());
+    }
+
+    public List<Operation> operations; // required
+    public String clientID; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      OPERATIONS((short)1, "operations"),
+      CLIENT_ID((short)2, "clientID");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // OPERATIONS
+            return OPERATIONS;
+          case 2: // CLIENT_ID
+            return CLIENT_ID;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.OPERATIONS, new org.apache.thrift.meta_data.FieldMetaData("operations", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, Operation.class))));
+      tmpMap.put(_Fields.CLIENT_ID, new org.apache.thrift.meta_data.FieldMetaData("clientID", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(commitBatch_args.class, metaDataMap);
+    }
+
+    public commitBatch_args() {
+    }
+
+    public commitBatch_args(
+      List<Operation> operations,
+      String clientID)
+    {
+      this();
+      this.operations = operations;
+      this.clientID = clientID;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public commitBatch_args(commitBatch_args other) {
+      if (other.isSetOperations()) {
+        List<Operation> __this__operations = new ArrayList<Operation>(other.operations.size());
+        for (Operation other_element : other.operations) {
+          __this__operations.add(new Operation(other_element));
+        }
+        this.operations = __this__operations;
+      }
+      if (other.isSetClientID()) {
+        this.clientID = other.clientID;
+      }
+    }
+
+    public commitBatch_args deepCopy() {
+      return new commitBatch_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.operations = null;
+      this.clientID = null;
+    }
+
+    public int getOperationsSize() {
+      return (this.operations == null) ? 0 : this.operations.size();
+    }
+
+    public java.util.Iterator<Operation> getOperationsIterator() {
+      return (this.operations == null) ? null : this.operations.iterator();
+    }
+
+    public void addToOperations(Operation elem) {
+      if (this.operations == null) {
+        this.operations = new ArrayList<Operation>();
+      }
+      this.operations.add(elem);
+    }
+
+    public List<Operation> getOperations() {
+      return this.operations;
+    }
+
+    public commitBatch_args setOperations(List<Operation> operations) {
+      this.operations = operations;
+      return this;
+    }
+
+    public void unsetOperations() {
+      this.operations = null;
+    }
+
+    /** Returns true if field operations is set (has been assigned a value) and false otherwise */
+    public boolean isSetOperations() {
+      return this.operations != null;
+    }
+
+    public void setOperationsIsSet(boolean value) {
+      if (!value) {
+        this.operations = null;
+      }
+    }
+
+    public String getClientID() {
+      return this.clientID;
+    }
+
+    public commitBatch_args setClientID(String clientID) {
+      this.clientID = clientID;
+      return this;
+    }
+
+    public void unsetClientID() {
+      this.clientID = null;
+    }
+
+    /** Returns true if field clientID is set (has been assigned a value) and false otherwise */
+    public boolean isSetClientID() {
+      return this.clientID != null;
+    }
+
+    public void setClientIDIsSet(boolean value) {
+      if (!value) {
+        this.clientID = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case OPERATIONS:
+        if (value == null) {
+          unsetOperations();
+        } else {
+          setOperations((List<Operation>)value);
+        }
+        break;
+
+      case CLIENT_ID:
+        if (value == null) {
+          unsetClientID();
+        } else {
+          setClientID((String)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case OPERATIONS:
+        return getOperations();
+
+      case CLIENT_ID:
+        return getClientID();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case OPERATIONS:
+        return isSetOperations();
+      case CLIENT_ID:
+        return isSetClientID();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof commitBatch_args)
+        return this.equals((commitBatch_args)that);
+      return false;
+    }
+
+    public boolean equals(commitBatch_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_operations = true && this.isSetOperations();
+      boolean that_present_operations = true && that.isSetOperations();
+      if (this_present_operations || that_present_operations) {
+        if (!(this_present_operations && that_present_operations))
+          return false;
+        if (!this.operations.equals(that.operations))
+          return false;
+      }
+
+      boolean this_present_clientID = true && this.isSetClientID();
+      boolean that_present_clientID = true && that.isSetClientID();
+      if (this_present_clientID || that_present_clientID) {
+        if (!(this_present_clientID && that_present_clientID))
+          return false;
+        if (!this.clientID.equals(that.clientID))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_operations = true && (isSetOperations());
+      list.add(present_operations);
+      if (present_operations)
+        list.add(operations);
+
+      boolean present_clientID = true && (isSetClientID());
+      list.add(present_clientID);
+      if (present_clientID)
+        list.add(clientID);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(commitBatch_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetOperations()).compareTo(other.isSetOperations());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetOperations()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.operations, other.operations);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetClientID()).compareTo(other.isSetClientID());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetClientID()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.clientID, other.clientID);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("commitBatch_args(");
+      boolean first = true;
+
+      sb.append("operations:");
+      if (this.operations == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.operations);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("clientID:");
+      if (this.clientID == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.clientID);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class commitBatch_argsStandardSchemeFactory implements SchemeFactory {
+      public commitBatch_argsStandardScheme getScheme() {
+        return new commitBatch_argsStandardScheme();
+      }
+    }
+
+    private static class commitBatch_argsStandardScheme extends StandardScheme<commitBatch_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, commitBatch_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // OPERATIONS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list16 = iprot.readListBegin();
+                  struct.operations = new ArrayList<Operation>(_list16.size);
+                  Operation _elem17;
+                  for (int _i18 = 0; _i18 < _list16.size; ++_i18)
+                  {
+                    _elem17 = new Operation();
+                    _elem17.read(iprot);
+                    struct.operations.add(_elem17);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setOperationsIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // CLIENT_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.clientID = iprot.readString();
+                struct.setClientIDIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, commitBatch_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.operations != null) {
+          oprot.writeFieldBegin(OPERATIONS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.operations.size()));
+            for (Operation _iter19 : struct.operations)
+            {
+              _iter19.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
+        if (struct.clientID != null) {
+          oprot.writeFieldBegin(CLIENT_ID_FIELD_DESC);
+          oprot.writeString(struct.clientID);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class commitBatch_argsTupleSchemeFactory implements SchemeFactory {
+      public commitBatch_argsTupleScheme getScheme() {
+        return new commitBatch_argsTupleScheme();
+      }
+    }
+
+    private static class commitBatch_argsTupleScheme extends TupleScheme<commitBatch_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, commitBatch_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetOperations()) {
+          optionals.set(0);
+        }
+        if (struct.isSetClientID()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetOperations()) {
+          {
+            oprot.writeI32(struct.operations.size());
+            for (Operation _iter20 : struct.operations)
+            {
+              _iter20.write(oprot);
+            }
+          }
+        }
+        if (struct.isSetClientID()) {
+          oprot.writeString(struct.clientID);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, commitBatch_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          {
+            org.apache.thrift.protocol.TList _list21 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.operations = new ArrayList<Operation>(_list21.size);
+            Operation _elem22;
+            for (int _i23 = 0; _i23 < _list21.size; ++_i23)
+            {
+              _elem22 = new Operation();
+              _elem22.read(iprot);
+              struct.operations.add(_elem22);
+            }
+          }
+          struct.setOperationsIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.clientID = iprot.readString();
+          struct.setClientIDIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class commitBatch_result implements org.apache.thrift.TBase<commitBatch_result, commitBatch_result._Fields>, java.io.Serializable, Cloneable, Comparable<commitBatch_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("commitBatch_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField SYSTEM_EXCEPTION_FIELD_DESC = new org.apache.thrift.protocol.TField("systemException", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new commitBatch_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new commitBatch_resultTupleSchemeFactory());
+    }
+
+    public StatusReport success; // required
+    public SystemException systemException; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      SYSTEM_EXCEPTION((short)1, "systemException");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // SYSTEM_EXCEPTION
+            return SYSTEM_EXCEPTION;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, StatusReport.class)));
+      tmpMap.put(_Fields.SYSTEM_EXCEPTION, new org.apache.thrift.meta_data.FieldMetaData("systemException", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(commitBatch_result.class, metaDataMap);
+    }
+
+    public commitBatch_result() {
+    }
+
+    public commitBatch_result(
+      StatusReport success,
+      SystemException systemException)
+    {
+      this();
+      this.success = success;
+      this.systemException = systemException;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public commitBatch_result(commitBatch_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new StatusReport(other.success);
+      }
+      if (other.isSetSystemException()) {
+        this.systemException = new SystemException(other.systemException);
+      }
+    }
+
+    public commitBatch_result deepCopy() {
+      return new commitBatch_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.systemException = null;
+    }
+
+    public StatusReport getSuccess() {
+      return this.success;
+    }
+
+    public commitBatch_result setSuccess(StatusReport success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public SystemException getSystemException() {
+      return this.systemException;
+    }
+
+    public commitBatch_result setSystemException(SystemException systemException) {
+      this.systemException = systemException;
+      return this;
+    }
+
+    public void unsetSystemException() {
+      this.systemException = null;
+    }
+
+    /** Returns true if field systemException is set (has been assigned a value) and false otherwise */
+    public boolean isSetSystemException() {
+      return this.systemException != null;
+    }
+
+    public void setSystemExceptionIsSet(boolean value) {
+      if (!value) {
+        this.systemException = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((StatusReport)value);
+        }
+        break;
+
+      case SYSTEM_EXCEPTION:
+        if (value == null) {
+          unsetSystemException();
+        } else {
+          setSystemException((SystemException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case SYSTEM_EXCEPTION:
+        return getSystemException();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case SYSTEM_EXCEPTION:
+        return isSetSystemException();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof commitBatch_result)
+        return this.equals((commitBatch_result)that);
+      return false;
+    }
+
+    public boolean equals(commitBatch_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_systemException = true && this.isSetSystemException();
+      boolean that_present_systemException = true && that.isSetSystemException();
+      if (this_present_systemException || that_present_systemException) {
+        if (!(this_present_systemException && that_present_systemException))
+          return false;
+        if (!this.systemException.equals(that.systemException))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      boolean present_systemException = true && (isSetSystemException());
+      list.add(present_systemException);
+      if (present_systemException)
+        list.add(systemException);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(commitBatch_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetSystemException()).compareTo(other.isSetSystemException());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSystemException()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.systemException, other.systemException);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("commitBatch_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("systemException:");
+      if (this.systemException == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.systemException);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class commitBatch_resultStandardSchemeFactory implements SchemeFactory {
+      public commitBatch_resultStandardScheme getScheme() {
+        return new commitBatch_resultStandardScheme();
+      }
+    }
+
+    private static class commitBatch_resultStandardScheme extends StandardScheme<commitBatch_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, commitBatch_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new StatusReport();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // SYSTEM_EXCEPTION
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.systemException = new SystemException();
+                struct.systemException.read(iprot);
+                struct.setSystemExceptionIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, commitBatch_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.systemException != null) {
+          oprot.writeFieldBegin(SYSTEM_EXCEPTION_FIELD_DESC);
+          struct.systemException.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class commitBatch_resultTupleSchemeFactory implements SchemeFactory {
+      public commitBatch_resultTupleScheme getScheme() {
+        return new commitBatch_resultTupleScheme();
+      }
+    }
+
+    private static class commitBatch_resultTupleScheme extends TupleScheme<commitBatch_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, commitBatch_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetSystemException()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+        if (struct.isSetSystemException()) {
+          struct.systemException.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, commitBatch_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = new StatusReport();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.systemException = new SystemException();
+          struct.systemException.read(iprot);
+          struct.setSystemExceptionIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class openUpload_args implements org.apache.thrift.TBase<openUpload_args, openUpload_args._Fields>, java.io.Serializable, Cloneable, Comparable<openUpload_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("openUpload_args");
+
+    private static final org.apache.thrift.protocol.TField FILENAME_FIELD_DESC = new org.apache.thrift.protocol.TField("filename", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField CLIENT_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("clientID", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField SIZE_FIELD_DESC = new org.apache.thrift.protocol.TField("size", org.apache.thrift.protocol.TType.I64, (short)3);
+    private static final org.apache.thrift.protocol.TField DIGEST_FIELD_DESC = new org.apache.thrift.protocol.TField("digest", org.apache.thrift.protocol.TType.STRING, (short)4);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new openUpload_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new openUpload_argsTupleSchemeFactory());
+    }
+
+    public String filename; // required
+    public String clientID; // required
+    public long size; // required
+    public String digest; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      FILENAME((short)1, "filename"),
+      CLIENT_ID((short)2, "clientID"),
+      SIZE((short)3, "size"),
+      DIGEST((short)4, "digest");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // FILENAME
+            return FILENAME;
+          case 2: // CLIENT_ID
+            return CLIENT_ID;
+          case 3: // SIZE
+            return SIZE;
+          case 4: // DIGEST
+            return DIGEST;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __SIZE_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.FILENAME, new org.apache.thrift.meta_data.FieldMetaData("filename", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.CLIENT_ID, new org.apache.thrift.meta_data.FieldMetaData("clientID", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.SIZE, new org.apache.thrift.meta_data.FieldMetaData("size", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.DIGEST, new org.apache.thrift.meta_data.FieldMetaData("digest", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(openUpload_args.class, metaDataMap);
+    }
+
+    public openUpload_args() {
+    }
+
+    public openUpload_args(
+      String filename,
+      String clientID,
+      long size,
+      String digest)
+    {
+      this();
+      this.filename = filename;
+      this.clientID = clientID;
+      this.size = size;
+      setSizeIsSet(true);
+      this.digest = digest;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public openUpload_args(openUpload_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      if (other.isSetFilename()) {
+        this.filename = other.filename;
+      }
+      if (other.isSetClientID()) {
+        this.clientID = other.clientID;
+      }
+      this.size = other.size;
+      if (other.isSetDigest()) {
+        this.digest = other.digest;
+      }
+    }
+
+    public openUpload_args deepCopy() {
+      return new openUpload_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.filename = null;
+      this.clientID = null;
+      setSizeIsSet(false);
+      this.size = 0;
+      this.digest = null;
+    }
+
+    public String getFilename() {
+      return this.filename;
+    }
+
+    public openUpload_args setFilename(String filename) {
+      this.filename = filename;
+      return this;
+    }
+
+    public void unsetFilename() {
+      this.filename = null;
+    }
+
+    /** Returns true if field filename is set (has been assigned a value) and false otherwise */
+    public boolean isSetFilename() {
+      return this.filename != null;
+    }
+
+    public void setFilenameIsSet(boolean value) {
+      if (!value) {
+        this.filename = null;
+      }
+    }
+
+    public String getClientID() {
+      return this.clientID;
+    }
+
+    public openUpload_args setClientID(String clientID) {
+      this.clientID = clientID;
+      return this;
+    }
+
+    public void unsetClientID() {
+      this.clientID = null;
+    }
+
+    /** Returns true if field clientID is set (has been assigned a value) and false otherwise */
+    public boolean isSetClientID() {
+      return this.clientID != null;
+    }
+
+    public void setClientIDIsSet(boolean value) {
+      if (!value) {
+        this.clientID = null;
+      }
+    }
+
+    public long getSize() {
+      return this.size;
+    }
+
+    public openUpload_args setSize(long size) {
+      this.size = size;
+      setSizeIsSet(true);
+      return this;
+    }
+
+    public void unsetSize() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SIZE_ISSET_ID);
+    }
+
+    /** Returns true if field size is set (has been assigned a value) and false otherwise */
+    public boolean isSetSize() {
+      return EncodingUtils.testBit(__isset_bitfield, __SIZE_ISSET_ID);
+    }
+
+    public void setSizeIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SIZE_ISSET_ID, value);
+    }
+
+    public String getDigest() {
+      return this.digest;
+    }
+
+    public openUpload_args setDigest(String digest) {
+      this.digest = digest;
+      return this;
+    }
+
+    public void unsetDigest() {
+      this.digest = null;
+    }
+
+    /** Returns true if field digest is set (has been assigned a value) and false otherwise */
+    public boolean isSetDigest() {
+      return this.digest != null;
+    }
+
+    public void setDigestIsSet(boolean value) {
+      if (!value) {
+        this.digest = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case FILENAME:
+        if (value == null) {
+          unsetFilename();
+        } else {
+          setFilename((String)value);
+        }
+        break;
+
+      case CLIENT_ID:
+        if (value == null) {
+          unsetClientID();
+        } else {
+          setClientID((String)value);
+        }
+        break;
+
+      case SIZE:
+        if (value == null) {
+          unsetSize();
+        } else {
+          setSize((Long)value);
+        }
+        break;
+
+      case DIGEST:
+        if (value == null) {
+          unsetDigest();
+        } else {
+          setDigest((String)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case FILENAME:
+        return getFilename();
+
+      case CLIENT_ID:
+        return getClientID();
+
+      case SIZE:
+        return getSize();
+
+      case DIGEST:
+        return getDigest();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case FILENAME:
+        return isSetFilename();
+      case CLIENT_ID:
+        return isSetClientID();
+      case SIZE:
+        return isSetSize();
+      case DIGEST:
+        return isSetDigest();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof openUpload_args)
+        return this.equals((openUpload_args)that);
+      return false;
+    }
+
+    public boolean equals(openUpload_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_filename = true && this.isSetFilename();
+      boolean that_present_filename = true && that.isSetFilename();
+      if (this_present_filename || that_present_filename) {
+        if (!(this_present_filename && that_present_filename))
+          return false;
+        if (!this.filename.equals(that.filename))
+          return false;
+      }
+
+      boolean this_present_clientID = true && this.isSetClientID();
+      boolean that_present_clientID = true && that.isSetClientID();
+      if (this_present_clientID || that_present_clientID) {
+        if (!(this_present_clientID && that_present_clientID))
+          return false;
+        if (!this.clientID.equals(that.clientID))
+          return false;
+      }
+
+      boolean this_present_size = true;
+      boolean that_present_size = true;
+      if (this_present_size || that_present_size) {
+        if (!(this_present_size && that_present_size))
+          return false;
+        if (this.size != that.size)
+          return false;
+      }
+
+      boolean this_present_digest = true && this.isSetDigest();
+      boolean that_present_digest = true && that.isSetDigest();
+      if (this_present_digest || that_present_digest) {
+        if (!(this_present_digest && that_present_digest))
+          return false;
+        if (!this.digest.equals(that.digest))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_filename = true && (isSetFilename());
+      list.add(present_filename);
+      if (present_filename)
+        list.add(filename);
+
+      boolean present_clientID = true && (isSetClientID());
+      list.add(present_clientID);
+      if (present_clientID)
+        list.add(clientID);
+
+      boolean present_size = true;
+      list.add(present_size);
+      if (present_size)
+        list.add(size);
+
+      boolean present_digest = true && (isSetDigest());
+      list.add(present_digest);
+      if (present_digest)
+        list.add(digest);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(openUpload_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetFilename()).compareTo(other.isSetFilename());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetFilename()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.filename, other.filename);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetClientID()).compareTo(other.isSetClientID());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetClientID()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.clientID, other.clientID);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetSize()).compareTo(other.isSetSize());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSize()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.size, other.size);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetDigest()).compareTo(other.isSetDigest());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetDigest()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.digest, other.digest);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("openUpload_args(");
+      boolean first = true;
+
+      sb.append("filename:");
+      if (this.filename == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.filename);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("clientID:");
+      if (this.clientID == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.clientID);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("size:");
+      sb.append(this.size);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("digest:");
+      if (this.digest == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.digest);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class openUpload_argsStandardSchemeFactory implements SchemeFactory {
+      public openUpload_argsStandardScheme getScheme() {
+        return new openUpload_argsStandardScheme();
+      }
+    }
+
+    private static class openUpload_argsStandardScheme extends StandardScheme<openUpload_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, openUpload_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // FILENAME
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.filename = iprot.readString();
+                struct.setFilenameIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // CLIENT_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.clientID = iprot.readString();
+                struct.setClientIDIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // SIZE
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.size = iprot.readI64();
+                struct.setSizeIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // DIGEST
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.digest = iprot.readString();
+                struct.setDigestIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, openUpload_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.filename != null) {
+          oprot.writeFieldBegin(FILENAME_FIELD_DESC);
+          oprot.writeString(struct.filename);
+          oprot.writeFieldEnd();
+        }
+        if (struct.clientID != null) {
+          oprot.writeFieldBegin(CLIENT_ID_FIELD_DESC);
+          oprot.writeString(struct.clientID);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(SIZE_FIELD_DESC);
+        oprot.writeI64(struct.size);
+        oprot.writeFieldEnd();
+        if (struct.digest != null) {
+          oprot.writeFieldBegin(DIGEST_FIELD_DESC);
+          oprot.writeString(struct.digest);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class openUpload_argsTupleSchemeFactory implements SchemeFactory {
+      public openUpload_argsTupleScheme getScheme() {
+        return new openUpload_argsTupleScheme();
+      }
+    }
+
+    private static class openUpload_argsTupleScheme extends TupleScheme<openUpload_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, openUpload_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetFilename()) {
+          optionals.set(0);
+        }
+        if (struct.isSetClientID()) {
+          optionals.set(1);
+        }
+        if (struct.isSetSize()) {
+          optionals.set(2);
+        }
+        if (struct.isSetDigest()) {
+          optionals.set(3);
+        }
+        oprot.writeBitSet(optionals, 4);
+        if (struct.isSetFilename()) {
+          oprot.writeString(struct.filename);
+        }
+        if (struct.isSetClientID()) {
+          oprot.writeString(struct.clientID);
+        }
+        if (struct.isSetSize()) {
+          oprot.writeI64(struct.size);
+        }
+        if (struct.isSetDigest()) {
+          oprot.writeString(struct.digest);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, openUpload_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(4);
+        if (incoming.get(0)) {
+          struct.filename = iprot.readString();
+          struct.setFilenameIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.clientID = iprot.readString();
+          struct.setClientIDIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.size = iprot.readI64();
+          struct.setSizeIsSet(true);
+        }
+        if (incoming.get(3)) {
+          struct.digest = iprot.readString();
+          struct.setDigestIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class openUpload_result implements org.apache.thrift.TBase<openUpload_result, openUpload_result._Fields>, java.io.Serializable, Cloneable, Comparable<openUpload_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("openUpload_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.I64, (short)0);
+    private static final org.apache.thrift.protocol.TField SYSTEM_EXCEPTION_FIELD_DESC = new org.apache.thrift.protocol.TField("systemException", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new openUpload_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new openUpload_resultTupleSchemeFactory());
+    }
+
+    public long success; // required
+    public SystemException systemException; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      SYSTEM_EXCEPTION((short)1, "systemException");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // SYSTEM_EXCEPTION
+            return SYSTEM_EXCEPTION;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __SUCCESS_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.SYSTEM_EXCEPTION, new org.apache.thrift.meta_data.FieldMetaData("systemException", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(openUpload_result.class, metaDataMap);
+    }
+
+    public openUpload_result() {
+    }
+
+    public openUpload_result(
+      long success,
+      SystemException systemException)
+    {
+      this();
+      this.success = success;
+      setSuccessIsSet(true);
+      this.systemException = systemException;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public openUpload_result(openUpload_result other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.success = other.success;
+      if (other.isSetSystemException()) {
+        this.systemException = new SystemException(other.systemException);
+      }
+    }
+
+    public openUpload_result deepCopy() {
+      return new openUpload_result(this);
+    }
+
+    @Override
+    public void clear() {
+      setSuccessIsSet(false);
+      this.success = 0;
+      this.systemException = null;
+    }
+
+    public long getSuccess() {
+      return this.success;
+    }
+
+    public openUpload_result setSuccess(long success) {
+      this.success = success;
+      setSuccessIsSet(true);
+      return this;
+    }
+
+    public void unsetSuccess() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return EncodingUtils.testBit(__isset_bitfield, __SUCCESS_ISSET_ID);
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SUCCESS_ISSET_ID, value);
+    }
+
+    public SystemException getSystemException() {
+      return this.systemException;
+    }
+
+    public openUpload_result setSystemException(SystemException systemException) {
+      this.systemException = systemException;
+      return this;
+    }
+
+    public void unsetSystemException() {
+      this.systemException = null;
+    }
+
+    /** Returns true if field systemException is set (has been assigned a value) and false otherwise */
+    public boolean isSetSystemException() {
+      return this.systemException != null;
+    }
+
+    public void setSystemExceptionIsSet(boolean value) {
+      if (!value) {
+        this.systemException = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((Long)value);
+        }
+        break;
+
+      case SYSTEM_EXCEPTION:
+        if (value == null) {
+          unsetSystemException();
+        } else {
+          setSystemException((SystemException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case SYSTEM_EXCEPTION:
+        return getSystemException();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case SYSTEM_EXCEPTION:
+        return isSetSystemException();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof openUpload_result)
+        return this.equals((openUpload_result)that);
+      return false;
+    }
+
+    public boolean equals(openUpload_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true;
+      boolean that_present_success = true;
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (this.success != that.success)
+          return false;
+      }
+
+      boolean this_present_systemException = true && this.isSetSystemException();
+      boolean that_present_systemException = true && that.isSetSystemException();
+      if (this_present_systemException || that_present_systemException) {
+        if (!(this_present_systemException && that_present_systemException))
+          return false;
+        if (!this.systemException.equals(that.systemException))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true;
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      boolean present_systemException = true && (isSetSystemException());
+      list.add(present_systemException);
+      if (present_systemException)
+        list.add(systemException);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(openUpload_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetSystemException()).compareTo(other.isSetSystemException());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSystemException()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.systemException, other.systemException);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("openUpload_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      sb.append(this.success);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("systemException:");
+      if (this.systemException == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.systemException);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class openUpload_resultStandardSchemeFactory implements SchemeFactory {
+      public openUpload_resultStandardScheme getScheme() {
+        return new openUpload_resultStandardScheme();
+      }
+    }
+
+    private static class openUpload_resultStandardScheme extends StandardScheme<openUpload_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, openUpload_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.success = iprot.readI64();
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // SYSTEM_EXCEPTION
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.systemException = new SystemException();
+                struct.systemException.read(iprot);
+                struct.setSystemExceptionIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
 
-      protected boolean isOneway() {
-        return false;
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
       }
 
-      public void start(I iface, readFile_args args, org.apache.thrift.async.AsyncMethodCallback<RFile> resultHandler) throws TException {
-        iface.readFile(args.filename, args.clientID,resultHandler);
-      }
-    }
+      public void write(org.apache.thrift.protocol.TProtocol oprot, openUpload_result struct) throws org.apache.thrift.TException {
+        struct.validate();
 
-    public static class getTransactionStatus<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, getTransactionStatus_args, Void> {
-      public getTransactionStatus() {
-        super("getTransactionStatus");
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+        oprot.writeI64(struct.success);
+        oprot.writeFieldEnd();
+        if (struct.systemException != null) {
+          oprot.writeFieldBegin(SYSTEM_EXCEPTION_FIELD_DESC);
+          struct.systemException.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
       }
 
-      public getTransactionStatus_args getEmptyArgsInstance() {
-        return new getTransactionStatus_args();
-      }
+    }
 
-      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
-        final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<Void>() { 
-          public void onComplete(Void o) {
-            getTransactionStatus_result result = new getTransactionStatus_result();
-            try {
-              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
-              return;
-            } catch (Exception e) {
-              LOGGER.error("Exception writing to internal frame buffer", e);
-            }
-            fb.close();
-          }
-          public void onError(Exception e) {
-            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
-            org.apache.thrift.TBase msg;
-            getTransactionStatus_result result = new getTransactionStatus_result();
-            if (e instanceof SystemException) {
-                        result.systemException = (SystemException) e;
-                        result.setSystemExceptionIsSet(true);
-                        msg = result;
-            }
-             else 
-            {
-              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
-              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
-            }
-            try {
-              fcall.sendResponse(fb,msg,msgType,seqid);
-              return;
-            } catch (Exception ex) {
-              LOGGER.error("Exception writing to internal frame buffer", ex);
-            }
-            fb.close();
-          }
-        };
+    private static class openUpload_resultTupleSchemeFactory implements SchemeFactory {
+      public openUpload_resultTupleScheme getScheme() {
+        return new openUpload_resultTupleScheme();
       }
+    }
 
-      protected boolean isOneway() {
-        return false;
+    private static class openUpload_resultTupleScheme extends TupleScheme<openUpload_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, openUpload_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetSystemException()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          oprot.writeI64(struct.success);
+        }
+        if (struct.isSetSystemException()) {
+          struct.systemException.write(oprot);
+        }
       }
 
-      public void start(I iface, getTransactionStatus_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
-        iface.getTransactionStatus(args.tran_id, args.participant_ip, args.participant_port,resultHandler);
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, openUpload_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = iprot.readI64();
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.systemException = new SystemException();
+          struct.systemException.read(iprot);
+          struct.setSystemExceptionIsSet(true);
+        }
       }
     }
 
   }
 
-  public static class writeFile_args implements org.apache.thrift.TBase<writeFile_args, writeFile_args._Fields>, java.io.Serializable, Cloneable, Comparable<writeFile_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("writeFile_args");
+  public static class uploadChunk_args implements org.apache.thrift.TBase<uploadChunk_args, uploadChunk_args._Fields>, java.io.Serializable, Cloneable, Comparable<uploadChunk_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("uploadChunk_args");
 
-    private static final org.apache.thrift.protocol.TField R_FILE_FIELD_DESC = new org.apache.thrift.protocol.TField("rFile", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField UPLOAD_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("upload_id", org.apache.thrift.protocol.TType.I64, (short)1);
+    private static final org.apache.thrift.protocol.TField OFFSET_FIELD_DESC = new org.apache.thrift.protocol.TField("offset", org.apache.thrift.protocol.TType.I64, (short)2);
+    private static final org.apache.thrift.protocol.TField DATA_FIELD_DESC = new org.apache.thrift.protocol.TField("data", org.apache.thrift.protocol.TType.STRING, (short)3);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new writeFile_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new writeFile_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new uploadChunk_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new uploadChunk_argsTupleSchemeFactory());
     }
 
-    public RFile rFile; // required
+    public long upload_id; // required
+    public long offset; // required
+    public ByteBuffer data; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      R_FILE((short)1, "rFile");
+      UPLOAD_ID((short)1, "upload_id"),
+      OFFSET((short)2, "offset"),
+      DATA((short)3, "data");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -737,8 +9584,12 @@ public class FileStore {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // R_FILE
-            return R_FILE;
+          case 1: // UPLOAD_ID
+            return UPLOAD_ID;
+          case 2: // OFFSET
+            return OFFSET;
+          case 3: // DATA
+            return DATA;
           default:
             return null;
         }
@@ -779,74 +9630,166 @@ public class FileStore {
     }
 
     // isset id assignments
+    private static final int __UPLOAD_ID_ISSET_ID = 0;
+    private static final int __OFFSET_ISSET_ID = 1;
+    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.R_FILE, new org.apache.thrift.meta_data.FieldMetaData("rFile", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RFile.class)));
+      tmpMap.put(_Fields.UPLOAD_ID, new org.apache.thrift.meta_data.FieldMetaData("upload_id", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.OFFSET, new org.apache.thrift.meta_data.FieldMetaData("offset", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.DATA, new org.apache.thrift.meta_data.FieldMetaData("data", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING        , true)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(writeFile_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(uploadChunk_args.class, metaDataMap);
     }
 
-    public writeFile_args() {
+    public uploadChunk_args() {
     }
 
-    public writeFile_args(
-      RFile rFile)
+    public uploadChunk_args(
+      long upload_id,
+      long offset,
+      ByteBuffer data)
     {
       this();
-      this.rFile = rFile;
+      this.upload_id = upload_id;
+      setUpload_idIsSet(true);
+      this.offset = offset;
+      setOffsetIsSet(true);
+      this.data = org.apache.thrift.TBaseHelper.copyBinary(data);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public writeFile_args(writeFile_args other) {
-      if (other.isSetRFile()) {
-        this.rFile = new RFile(other.rFile);
+    public uploadChunk_args(uploadChunk_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.upload_id = other.upload_id;
+      this.offset = other.offset;
+      if (other.isSetData()) {
+        this.data = org.apache.thrift.TBaseHelper.copyBinary(other.data);
       }
     }
 
-    public writeFile_args deepCopy() {
-      return new writeFile_args(this);
+    public uploadChunk_args deepCopy() {
+      return new uploadChunk_args(this);
     }
 
     @Override
     public void clear() {
-      this.rFile = null;
+      setUpload_idIsSet(false);
+      this.upload_id = 0;
+      setOffsetIsSet(false);
+      this.offset = 0;
+      this.data = null;
     }
 
-    public RFile getRFile() {
-      return this.rFile;
+    public long getUpload_id() {
+      return this.upload_id;
     }
 
-    public writeFile_args setRFile(RFile rFile) {
-      this.rFile = rFile;
+    public uploadChunk_args setUpload_id(long upload_id) {
+      this.upload_id = upload_id;
+      setUpload_idIsSet(true);
       return this;
     }
 
-    public void unsetRFile() {
-      this.rFile = null;
+    public void unsetUpload_id() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __UPLOAD_ID_ISSET_ID);
     }
 
-    /** Returns true if field rFile is set (has been assigned a value) and false otherwise */
-    public boolean isSetRFile() {
-      return this.rFile != null;
+    /** Returns true if field upload_id is set (has been assigned a value) and false otherwise */
+    public boolean isSetUpload_id() {
+      return EncodingUtils.testBit(__isset_bitfield, __UPLOAD_ID_ISSET_ID);
     }
 
-    public void setRFileIsSet(boolean value) {
+    public void setUpload_idIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __UPLOAD_ID_ISSET_ID, value);
+    }
+
+    public long getOffset() {
+      return this.offset;
+    }
+
+    public uploadChunk_args setOffset(long offset) {
+      this.offset = offset;
+      setOffsetIsSet(true);
+      return this;
+    }
+
+    public void unsetOffset() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __OFFSET_ISSET_ID);
+    }
+
+    /** Returns true if field offset is set (has been assigned a value) and false otherwise */
+    public boolean isSetOffset() {
+      return EncodingUtils.testBit(__isset_bitfield, __OFFSET_ISSET_ID);
+    }
+
+    public void setOffsetIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __OFFSET_ISSET_ID, value);
+    }
+
+    public byte[] getData() {
+      setData(org.apache.thrift.TBaseHelper.rightSize(data));
+      return data == null ? null : data.array();
+    }
+
+    public ByteBuffer bufferForData() {
+      return org.apache.thrift.TBaseHelper.copyBinary(data);
+    }
+
+    public uploadChunk_args setData(byte[] data) {
+      this.data = data == null ? (ByteBuffer)null : ByteBuffer.wrap(Arrays.copyOf(data, data.length));
+      return this;
+    }
+
+    public uploadChunk_args setData(ByteBuffer data) {
+      this.data = org.apache.thrift.TBaseHelper.copyBinary(data);
+      return this;
+    }
+
+    public void unsetData() {
+      this.data = null;
+    }
+
+    /** Returns true if field data is set (has been assigned a value) and false otherwise */
+    public boolean isSetData() {
+      return this.data != null;
+    }
+
+    public void setDataIsSet(boolean value) {
       if (!value) {
-        this.rFile = null;
+        this.data = null;
       }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case R_FILE:
+      case UPLOAD_ID:
         if (value == null) {
-          unsetRFile();
+          unsetUpload_id();
         } else {
-          setRFile((RFile)value);
+          setUpload_id((Long)value);
+        }
+        break;
+
+      case OFFSET:
+        if (value == null) {
+          unsetOffset();
+        } else {
+          setOffset((Long)value);
+        }
+        break;
+
+      case DATA:
+        if (value == null) {
+          unsetData();
+        } else {
+          setData((ByteBuffer)value);
         }
         break;
 
@@ -855,8 +9798,14 @@ public class FileStore {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case R_FILE:
-        return getRFile();
+      case UPLOAD_ID:
+        return getUpload_id();
+
+      case OFFSET:
+        return getOffset();
+
+      case DATA:
+        return getData();
 
       }
       throw new IllegalStateException();
@@ -869,8 +9818,12 @@ public class FileStore {
       }
 
       switch (field) {
-      case R_FILE:
-        return isSetRFile();
+      case UPLOAD_ID:
+        return isSetUpload_id();
+      case OFFSET:
+        return isSetOffset();
+      case DATA:
+        return isSetData();
       }
       throw new IllegalStateException();
     }
@@ -879,21 +9832,39 @@ public class FileStore {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof writeFile_args)
-        return this.equals((writeFile_args)that);
+      if (that instanceof uploadChunk_args)
+        return this.equals((uploadChunk_args)that);
       return false;
     }
 
-    public boolean equals(writeFile_args that) {
+    public boolean equals(uploadChunk_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_rFile = true && this.isSetRFile();
-      boolean that_present_rFile = true && that.isSetRFile();
-      if (this_present_rFile || that_present_rFile) {
-        if (!(this_present_rFile && that_present_rFile))
+      boolean this_present_upload_id = true;
+      boolean that_present_upload_id = true;
+      if (this_present_upload_id || that_present_upload_id) {
+        if (!(this_present_upload_id && that_present_upload_id))
           return false;
-        if (!this.rFile.equals(that.rFile))
+        if (this.upload_id != that.upload_id)
+          return false;
+      }
+
+      boolean this_present_offset = true;
+      boolean that_present_offset = true;
+      if (this_present_offset || that_present_offset) {
+        if (!(this_present_offset && that_present_offset))
+          return false;
+        if (this.offset != that.offset)
+          return false;
+      }
+
+      boolean this_present_data = true && this.isSetData();
+      boolean that_present_data = true && that.isSetData();
+      if (this_present_data || that_present_data) {
+        if (!(this_present_data && that_present_data))
+          return false;
+        if (!this.data.equals(that.data))
           return false;
       }
 
@@ -904,28 +9875,58 @@ public class FileStore {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_rFile = true && (isSetRFile());
-      list.add(present_rFile);
-      if (present_rFile)
-        list.add(rFile);
+      boolean present_upload_id = true;
+      list.add(present_upload_id);
+      if (present_upload_id)
+        list.add(upload_id);
+
+      boolean present_offset = true;
+      list.add(present_offset);
+      if (present_offset)
+        list.add(offset);
+
+      boolean present_data = true && (isSetData());
+      list.add(present_data);
+      if (present_data)
+        list.add(data);
 
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(writeFile_args other) {
+    public int compareTo(uploadChunk_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetRFile()).compareTo(other.isSetRFile());
+      lastComparison = Boolean.valueOf(isSetUpload_id()).compareTo(other.isSetUpload_id());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetRFile()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.rFile, other.rFile);
+      if (isSetUpload_id()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.upload_id, other.upload_id);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetOffset()).compareTo(other.isSetOffset());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetOffset()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.offset, other.offset);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetData()).compareTo(other.isSetData());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetData()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.data, other.data);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -947,14 +9948,22 @@ public class FileStore {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("writeFile_args(");
+      StringBuilder sb = new StringBuilder("uploadChunk_args(");
       boolean first = true;
 
-      sb.append("rFile:");
-      if (this.rFile == null) {
+      sb.append("upload_id:");
+      sb.append(this.upload_id);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("offset:");
+      sb.append(this.offset);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("data:");
+      if (this.data == null) {
         sb.append("null");
       } else {
-        sb.append(this.rFile);
+        org.apache.thrift.TBaseHelper.toString(this.data, sb);
       }
       first = false;
       sb.append(")");
@@ -964,9 +9973,6 @@ public class FileStore {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (rFile != null) {
-        rFile.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -979,21 +9985,23 @@ public class FileStore {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class writeFile_argsStandardSchemeFactory implements SchemeFactory {
-      public writeFile_argsStandardScheme getScheme() {
-        return new writeFile_argsStandardScheme();
+    private static class uploadChunk_argsStandardSchemeFactory implements SchemeFactory {
+      public uploadChunk_argsStandardScheme getScheme() {
+        return new uploadChunk_argsStandardScheme();
       }
     }
 
-    private static class writeFile_argsStandardScheme extends StandardScheme<writeFile_args> {
+    private static class uploadChunk_argsStandardScheme extends StandardScheme<uploadChunk_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, writeFile_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, uploadChunk_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -1003,11 +10011,26 @@ public class FileStore {
             break;
           }
           switch (schemeField.id) {
-            case 1: // R_FILE
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.rFile = new RFile();
-                struct.rFile.read(iprot);
-                struct.setRFileIsSet(true);
+            case 1: // UPLOAD_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.upload_id = iprot.readI64();
+                struct.setUpload_idIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // OFFSET
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.offset = iprot.readI64();
+                struct.setOffsetIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // DATA
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.data = iprot.readBinary();
+                struct.setDataIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -1023,13 +10046,19 @@ public class FileStore {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, writeFile_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, uploadChunk_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.rFile != null) {
-          oprot.writeFieldBegin(R_FILE_FIELD_DESC);
-          struct.rFile.write(oprot);
+        oprot.writeFieldBegin(UPLOAD_ID_FIELD_DESC);
+        oprot.writeI64(struct.upload_id);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(OFFSET_FIELD_DESC);
+        oprot.writeI64(struct.offset);
+        oprot.writeFieldEnd();
+        if (struct.data != null) {
+          oprot.writeFieldBegin(DATA_FIELD_DESC);
+          oprot.writeBinary(struct.data);
           oprot.writeFieldEnd();
         }
         oprot.writeFieldStop();
@@ -1038,59 +10067,75 @@ public class FileStore {
 
     }
 
-    private static class writeFile_argsTupleSchemeFactory implements SchemeFactory {
-      public writeFile_argsTupleScheme getScheme() {
-        return new writeFile_argsTupleScheme();
+    private static class uploadChunk_argsTupleSchemeFactory implements SchemeFactory {
+      public uploadChunk_argsTupleScheme getScheme() {
+        return new uploadChunk_argsTupleScheme();
       }
     }
 
-    private static class writeFile_argsTupleScheme extends TupleScheme<writeFile_args> {
+    private static class uploadChunk_argsTupleScheme extends TupleScheme<uploadChunk_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, writeFile_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, uploadChunk_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetRFile()) {
+        if (struct.isSetUpload_id()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
-        if (struct.isSetRFile()) {
-          struct.rFile.write(oprot);
+        if (struct.isSetOffset()) {
+          optionals.set(1);
+        }
+        if (struct.isSetData()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
+        if (struct.isSetUpload_id()) {
+          oprot.writeI64(struct.upload_id);
+        }
+        if (struct.isSetOffset()) {
+          oprot.writeI64(struct.offset);
+        }
+        if (struct.isSetData()) {
+          oprot.writeBinary(struct.data);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, writeFile_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, uploadChunk_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
+        BitSet incoming = iprot.readBitSet(3);
         if (incoming.get(0)) {
-          struct.rFile = new RFile();
-          struct.rFile.read(iprot);
-          struct.setRFileIsSet(true);
+          struct.upload_id = iprot.readI64();
+          struct.setUpload_idIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.offset = iprot.readI64();
+          struct.setOffsetIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.data = iprot.readBinary();
+          struct.setDataIsSet(true);
         }
       }
     }
 
   }
 
-  public static class writeFile_result implements org.apache.thrift.TBase<writeFile_result, writeFile_result._Fields>, java.io.Serializable, Cloneable, Comparable<writeFile_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("writeFile_result");
+  public static class uploadChunk_result implements org.apache.thrift.TBase<uploadChunk_result, uploadChunk_result._Fields>, java.io.Serializable, Cloneable, Comparable<uploadChunk_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("uploadChunk_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
     private static final org.apache.thrift.protocol.TField SYSTEM_EXCEPTION_FIELD_DESC = new org.apache.thrift.protocol.TField("systemException", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new writeFile_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new writeFile_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new uploadChunk_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new uploadChunk_resultTupleSchemeFactory());
     }
 
-    public StatusReport success; // required
     public SystemException systemException; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success"),
       SYSTEM_EXCEPTION((short)1, "systemException");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
@@ -1106,8 +10151,6 @@ public class FileStore {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 0: // SUCCESS
-            return SUCCESS;
           case 1: // SYSTEM_EXCEPTION
             return SYSTEM_EXCEPTION;
           default:
@@ -1153,77 +10196,45 @@ public class FileStore {
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, StatusReport.class)));
       tmpMap.put(_Fields.SYSTEM_EXCEPTION, new org.apache.thrift.meta_data.FieldMetaData("systemException", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(writeFile_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(uploadChunk_result.class, metaDataMap);
     }
 
-    public writeFile_result() {
+    public uploadChunk_result() {
     }
 
-    public writeFile_result(
-      StatusReport success,
+    public uploadChunk_result(
       SystemException systemException)
     {
       this();
-      this.success = success;
       this.systemException = systemException;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public writeFile_result(writeFile_result other) {
-      if (other.isSetSuccess()) {
-        this.success = new StatusReport(other.success);
-      }
+    public uploadChunk_result(uploadChunk_result other) {
       if (other.isSetSystemException()) {
         this.systemException = new SystemException(other.systemException);
       }
     }
 
-    public writeFile_result deepCopy() {
-      return new writeFile_result(this);
+    public uploadChunk_result deepCopy() {
+      return new uploadChunk_result(this);
     }
 
     @Override
     public void clear() {
-      this.success = null;
       this.systemException = null;
     }
 
-    public StatusReport getSuccess() {
-      return this.success;
-    }
-
-    public writeFile_result setSuccess(StatusReport success) {
-      this.success = success;
-      return this;
-    }
-
-    public void unsetSuccess() {
-      this.success = null;
-    }
-
-    /** Returns true if field success is set (has been assigned a value) and false otherwise */
-    public boolean isSetSuccess() {
-      return this.success != null;
-    }
-
-    public void setSuccessIsSet(boolean value) {
-      if (!value) {
-        this.success = null;
-      }
-    }
-
     public SystemException getSystemException() {
       return this.systemException;
     }
 
-    public writeFile_result setSystemException(SystemException systemException) {
+    public uploadChunk_result setSystemException(SystemException systemException) {
       this.systemException = systemException;
       return this;
     }
@@ -1245,14 +10256,6 @@ public class FileStore {
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case SUCCESS:
-        if (value == null) {
-          unsetSuccess();
-        } else {
-          setSuccess((StatusReport)value);
-        }
-        break;
-
       case SYSTEM_EXCEPTION:
         if (value == null) {
           unsetSystemException();
@@ -1266,9 +10269,6 @@ public class FileStore {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case SUCCESS:
-        return getSuccess();
-
       case SYSTEM_EXCEPTION:
         return getSystemException();
 
@@ -1283,8 +10283,6 @@ public class FileStore {
       }
 
       switch (field) {
-      case SUCCESS:
-        return isSetSuccess();
       case SYSTEM_EXCEPTION:
         return isSetSystemException();
       }
@@ -1295,24 +10293,15 @@ public class FileStore {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof writeFile_result)
-        return this.equals((writeFile_result)that);
+      if (that instanceof uploadChunk_result)
+        return this.equals((uploadChunk_result)that);
       return false;
     }
 
-    public boolean equals(writeFile_result that) {
+    public boolean equals(uploadChunk_result that) {
       if (that == null)
         return false;
 
-      boolean this_present_success = true && this.isSetSuccess();
-      boolean that_present_success = true && that.isSetSuccess();
-      if (this_present_success || that_present_success) {
-        if (!(this_present_success && that_present_success))
-          return false;
-        if (!this.success.equals(that.success))
-          return false;
-      }
-
       boolean this_present_systemException = true && this.isSetSystemException();
       boolean that_present_systemException = true && that.isSetSystemException();
       if (this_present_systemException || that_present_systemException) {
@@ -1329,11 +10318,6 @@ public class FileStore {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_success = true && (isSetSuccess());
-      list.add(present_success);
-      if (present_success)
-        list.add(success);
-
       boolean present_systemException = true && (isSetSystemException());
       list.add(present_systemException);
       if (present_systemException)
@@ -1343,23 +10327,13 @@ public class FileStore {
     }
 
     @Override
-    public int compareTo(writeFile_result other) {
+    public int compareTo(uploadChunk_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetSuccess()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       lastComparison = Boolean.valueOf(isSetSystemException()).compareTo(other.isSetSystemException());
       if (lastComparison != 0) {
         return lastComparison;
@@ -1387,17 +10361,9 @@ public class FileStore {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("writeFile_result(");
+      StringBuilder sb = new StringBuilder("uploadChunk_result(");
       boolean first = true;
 
-      sb.append("success:");
-      if (this.success == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.success);
-      }
-      first = false;
-      if (!first) sb.append(", ");
       sb.append("systemException:");
       if (this.systemException == null) {
         sb.append("null");
@@ -1412,9 +10378,6 @@ public class FileStore {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (success != null) {
-        success.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -1433,15 +10396,15 @@ public class FileStore {
       }
     }
 
-    private static class writeFile_resultStandardSchemeFactory implements SchemeFactory {
-      public writeFile_resultStandardScheme getScheme() {
-        return new writeFile_resultStandardScheme();
+    private static class uploadChunk_resultStandardSchemeFactory implements SchemeFactory {
+      public uploadChunk_resultStandardScheme getScheme() {
+        return new uploadChunk_resultStandardScheme();
       }
     }
 
-    private static class writeFile_resultStandardScheme extends StandardScheme<writeFile_result> {
+    private static class uploadChunk_resultStandardScheme extends StandardScheme<uploadChunk_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, writeFile_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, uploadChunk_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -1451,15 +10414,6 @@ public class FileStore {
             break;
           }
           switch (schemeField.id) {
-            case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new StatusReport();
-                struct.success.read(iprot);
-                struct.setSuccessIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
             case 1: // SYSTEM_EXCEPTION
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
                 struct.systemException = new SystemException();
@@ -1480,15 +10434,10 @@ public class FileStore {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, writeFile_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, uploadChunk_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.success != null) {
-          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          struct.success.write(oprot);
-          oprot.writeFieldEnd();
-        }
         if (struct.systemException != null) {
           oprot.writeFieldBegin(SYSTEM_EXCEPTION_FIELD_DESC);
           struct.systemException.write(oprot);
@@ -1500,43 +10449,32 @@ public class FileStore {
 
     }
 
-    private static class writeFile_resultTupleSchemeFactory implements SchemeFactory {
-      public writeFile_resultTupleScheme getScheme() {
-        return new writeFile_resultTupleScheme();
+    private static class uploadChunk_resultTupleSchemeFactory implements SchemeFactory {
+      public uploadChunk_resultTupleScheme getScheme() {
+        return new uploadChunk_resultTupleScheme();
       }
     }
 
-    private static class writeFile_resultTupleScheme extends TupleScheme<writeFile_result> {
+    private static class uploadChunk_resultTupleScheme extends TupleScheme<uploadChunk_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, writeFile_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, uploadChunk_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetSuccess()) {
-          optionals.set(0);
-        }
         if (struct.isSetSystemException()) {
-          optionals.set(1);
-        }
-        oprot.writeBitSet(optionals, 2);
-        if (struct.isSetSuccess()) {
-          struct.success.write(oprot);
+          optionals.set(0);
         }
+        oprot.writeBitSet(optionals, 1);
         if (struct.isSetSystemException()) {
           struct.systemException.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, writeFile_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, uploadChunk_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.success = new StatusReport();
-          struct.success.read(iprot);
-          struct.setSuccessIsSet(true);
-        }
-        if (incoming.get(1)) {
           struct.systemException = new SystemException();
           struct.systemException.read(iprot);
           struct.setSystemExceptionIsSet(true);
@@ -1546,25 +10484,22 @@ public class FileStore {
 
   }
 
-  public static class deleteFile_args implements org.apache.thrift.TBase<deleteFile_args, deleteFile_args._Fields>, java.io.Serializable, Cloneable, Comparable<deleteFile_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("deleteFile_args");
+  public static class commitUpload_args implements org.apache.thrift.TBase<commitUpload_args, commitUpload_args._Fields>, java.io.Serializable, Cloneable, Comparable<commitUpload_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("commitUpload_args");
 
-    private static final org.apache.thrift.protocol.TField FILENAME_FIELD_DESC = new org.apache.thrift.protocol.TField("filename", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField CLIENT_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("clientID", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField UPLOAD_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("upload_id", org.apache.thrift.protocol.TType.I64, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new deleteFile_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new deleteFile_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new commitUpload_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new commitUpload_argsTupleSchemeFactory());
     }
 
-    public String filename; // required
-    public String clientID; // required
+    public long upload_id; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      FILENAME((short)1, "filename"),
-      CLIENT_ID((short)2, "clientID");
+      UPLOAD_ID((short)1, "upload_id");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -1579,10 +10514,8 @@ public class FileStore {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // FILENAME
-            return FILENAME;
-          case 2: // CLIENT_ID
-            return CLIENT_ID;
+          case 1: // UPLOAD_ID
+            return UPLOAD_ID;
           default:
             return null;
         }
@@ -1623,114 +10556,76 @@ public class FileStore {
     }
 
     // isset id assignments
+    private static final int __UPLOAD_ID_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.FILENAME, new org.apache.thrift.meta_data.FieldMetaData("filename", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.CLIENT_ID, new org.apache.thrift.meta_data.FieldMetaData("clientID", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.UPLOAD_ID, new org.apache.thrift.meta_data.FieldMetaData("upload_id", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(deleteFile_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(commitUpload_args.class, metaDataMap);
     }
 
-    public deleteFile_args() {
+    public commitUpload_args() {
     }
 
-    public deleteFile_args(
-      String filename,
-      String clientID)
+    public commitUpload_args(
+      long upload_id)
     {
       this();
-      this.filename = filename;
-      this.clientID = clientID;
+      this.upload_id = upload_id;
+      setUpload_idIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public deleteFile_args(deleteFile_args other) {
-      if (other.isSetFilename()) {
-        this.filename = other.filename;
-      }
-      if (other.isSetClientID()) {
-        this.clientID = other.clientID;
-      }
+    public commitUpload_args(commitUpload_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.upload_id = other.upload_id;
     }
 
-    public deleteFile_args deepCopy() {
-      return new deleteFile_args(this);
+    public commitUpload_args deepCopy() {
+      return new commitUpload_args(this);
     }
 
     @Override
     public void clear() {
-      this.filename = null;
-      this.clientID = null;
-    }
-
-    public String getFilename() {
-      return this.filename;
-    }
-
-    public deleteFile_args setFilename(String filename) {
-      this.filename = filename;
-      return this;
-    }
-
-    public void unsetFilename() {
-      this.filename = null;
-    }
-
-    /** Returns true if field filename is set (has been assigned a value) and false otherwise */
-    public boolean isSetFilename() {
-      return this.filename != null;
-    }
-
-    public void setFilenameIsSet(boolean value) {
-      if (!value) {
-        this.filename = null;
-      }
+      setUpload_idIsSet(false);
+      this.upload_id = 0;
     }
 
-    public String getClientID() {
-      return this.clientID;
+    public long getUpload_id() {
+      return this.upload_id;
     }
 
-    public deleteFile_args setClientID(String clientID) {
-      this.clientID = clientID;
+    public commitUpload_args setUpload_id(long upload_id) {
+      this.upload_id = upload_id;
+      setUpload_idIsSet(true);
       return this;
     }
-
-    public void unsetClientID() {
-      this.clientID = null;
+
+    public void unsetUpload_id() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __UPLOAD_ID_ISSET_ID);
     }
 
-    /** Returns true if field clientID is set (has been assigned a value) and false otherwise */
-    public boolean isSetClientID() {
-      return this.clientID != null;
+    /** Returns true if field upload_id is set (has been assigned a value) and false otherwise */
+    public boolean isSetUpload_id() {
+      return EncodingUtils.testBit(__isset_bitfield, __UPLOAD_ID_ISSET_ID);
     }
 
-    public void setClientIDIsSet(boolean value) {
-      if (!value) {
-        this.clientID = null;
-      }
+    public void setUpload_idIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __UPLOAD_ID_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case FILENAME:
-        if (value == null) {
-          unsetFilename();
-        } else {
-          setFilename((String)value);
-        }
-        break;
-
-      case CLIENT_ID:
+      case UPLOAD_ID:
         if (value == null) {
-          unsetClientID();
+          unsetUpload_id();
         } else {
-          setClientID((String)value);
+          setUpload_id((Long)value);
         }
         break;
 
@@ -1739,11 +10634,8 @@ public class FileStore {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case FILENAME:
-        return getFilename();
-
-      case CLIENT_ID:
-        return getClientID();
+      case UPLOAD_ID:
+        return getUpload_id();
 
       }
       throw new IllegalStateException();
@@ -1756,10 +10648,8 @@ public class FileStore {
       }
 
       switch (field) {
-      case FILENAME:
-        return isSetFilename();
-      case CLIENT_ID:
-        return isSetClientID();
+      case UPLOAD_ID:
+        return isSetUpload_id();
       }
       throw new IllegalStateException();
     }
@@ -1768,30 +10658,21 @@ public class FileStore {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof deleteFile_args)
-        return this.equals((deleteFile_args)that);
+      if (that instanceof commitUpload_args)
+        return this.equals((commitUpload_args)that);
       return false;
     }
 
-    public boolean equals(deleteFile_args that) {
+    public boolean equals(commitUpload_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_filename = true && this.isSetFilename();
-      boolean that_present_filename = true && that.isSetFilename();
-      if (this_present_filename || that_present_filename) {
-        if (!(this_present_filename && that_present_filename))
-          return false;
-        if (!this.filename.equals(that.filename))
-          return false;
-      }
-
-      boolean this_present_clientID = true && this.isSetClientID();
-      boolean that_present_clientID = true && that.isSetClientID();
-      if (this_present_clientID || that_present_clientID) {
-        if (!(this_present_clientID && that_present_clientID))
+      boolean this_present_upload_id = true;
+      boolean that_present_upload_id = true;
+      if (this_present_upload_id || that_present_upload_id) {
+        if (!(this_present_upload_id && that_present_upload_id))
           return false;
-        if (!this.clientID.equals(that.clientID))
+        if (this.upload_id != that.upload_id)
           return false;
       }
 
@@ -1802,43 +10683,28 @@ public class FileStore {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_filename = true && (isSetFilename());
-      list.add(present_filename);
-      if (present_filename)
-        list.add(filename);
-
-      boolean present_clientID = true && (isSetClientID());
-      list.add(present_clientID);
-      if (present_clientID)
-        list.add(clientID);
+      boolean present_upload_id = true;
+      list.add(present_upload_id);
+      if (present_upload_id)
+        list.add(upload_id);
 
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(deleteFile_args other) {
+    public int compareTo(commitUpload_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetFilename()).compareTo(other.isSetFilename());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetFilename()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.filename, other.filename);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetClientID()).compareTo(other.isSetClientID());
+      lastComparison = Boolean.valueOf(isSetUpload_id()).compareTo(other.isSetUpload_id());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetClientID()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.clientID, other.clientID);
+      if (isSetUpload_id()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.upload_id, other.upload_id);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -1860,23 +10726,11 @@ public class FileStore {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("deleteFile_args(");
+      StringBuilder sb = new StringBuilder("commitUpload_args(");
       boolean first = true;
 
-      sb.append("filename:");
-      if (this.filename == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.filename);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("clientID:");
-      if (this.clientID == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.clientID);
-      }
+      sb.append("upload_id:");
+      sb.append(this.upload_id);
       first = false;
       sb.append(")");
       return sb.toString();
@@ -1897,21 +10751,23 @@ public class FileStore {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class deleteFile_argsStandardSchemeFactory implements SchemeFactory {
-      public deleteFile_argsStandardScheme getScheme() {
-        return new deleteFile_argsStandardScheme();
+    private static class commitUpload_argsStandardSchemeFactory implements SchemeFactory {
+      public commitUpload_argsStandardScheme getScheme() {
+        return new commitUpload_argsStandardScheme();
       }
     }
 
-    private static class deleteFile_argsStandardScheme extends StandardScheme<deleteFile_args> {
+    private static class commitUpload_argsStandardScheme extends StandardScheme<commitUpload_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, deleteFile_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, commitUpload_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -1921,18 +10777,10 @@ public class FileStore {
             break;
           }
           switch (schemeField.id) {
-            case 1: // FILENAME
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.filename = iprot.readString();
-                struct.setFilenameIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 2: // CLIENT_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.clientID = iprot.readString();
-                struct.setClientIDIsSet(true);
+            case 1: // UPLOAD_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.upload_id = iprot.readI64();
+                struct.setUpload_idIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -1948,80 +10796,63 @@ public class FileStore {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, deleteFile_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, commitUpload_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.filename != null) {
-          oprot.writeFieldBegin(FILENAME_FIELD_DESC);
-          oprot.writeString(struct.filename);
-          oprot.writeFieldEnd();
-        }
-        if (struct.clientID != null) {
-          oprot.writeFieldBegin(CLIENT_ID_FIELD_DESC);
-          oprot.writeString(struct.clientID);
-          oprot.writeFieldEnd();
-        }
+        oprot.writeFieldBegin(UPLOAD_ID_FIELD_DESC);
+        oprot.writeI64(struct.upload_id);
+        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class deleteFile_argsTupleSchemeFactory implements SchemeFactory {
-      public deleteFile_argsTupleScheme getScheme() {
-        return new deleteFile_argsTupleScheme();
+    private static class commitUpload_argsTupleSchemeFactory implements SchemeFactory {
+      public commitUpload_argsTupleScheme getScheme() {
+        return new commitUpload_argsTupleScheme();
       }
     }
 
-    private static class deleteFile_argsTupleScheme extends TupleScheme<deleteFile_args> {
+    private static class commitUpload_argsTupleScheme extends TupleScheme<commitUpload_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, deleteFile_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, commitUpload_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetFilename()) {
+        if (struct.isSetUpload_id()) {
           optionals.set(0);
         }
-        if (struct.isSetClientID()) {
-          optionals.set(1);
-        }
-        oprot.writeBitSet(optionals, 2);
-        if (struct.isSetFilename()) {
-          oprot.writeString(struct.filename);
-        }
-        if (struct.isSetClientID()) {
-          oprot.writeString(struct.clientID);
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetUpload_id()) {
+          oprot.writeI64(struct.upload_id);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, deleteFile_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, commitUpload_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.filename = iprot.readString();
-          struct.setFilenameIsSet(true);
-        }
-        if (incoming.get(1)) {
-          struct.clientID = iprot.readString();
-          struct.setClientIDIsSet(true);
+          struct.upload_id = iprot.readI64();
+          struct.setUpload_idIsSet(true);
         }
       }
     }
 
   }
 
-  public static class deleteFile_result implements org.apache.thrift.TBase<deleteFile_result, deleteFile_result._Fields>, java.io.Serializable, Cloneable, Comparable<deleteFile_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("deleteFile_result");
+  public static class commitUpload_result implements org.apache.thrift.TBase<commitUpload_result, commitUpload_result._Fields>, java.io.Serializable, Cloneable, Comparable<commitUpload_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("commitUpload_result");
 
     private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
     private static final org.apache.thrift.protocol.TField SYSTEM_EXCEPTION_FIELD_DESC = new org.apache.thrift.protocol.TField("systemException", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new deleteFile_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new deleteFile_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new commitUpload_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new commitUpload_resultTupleSchemeFactory());
     }
 
     public StatusReport success; // required
@@ -2097,13 +10928,13 @@ public class FileStore {
       tmpMap.put(_Fields.SYSTEM_EXCEPTION, new org.apache.thrift.meta_data.FieldMetaData("systemException", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(deleteFile_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(commitUpload_result.class, metaDataMap);
     }
 
-    public deleteFile_result() {
+    public commitUpload_result() {
     }
 
-    public deleteFile_result(
+    public commitUpload_result(
       StatusReport success,
       SystemException systemException)
     {
@@ -2115,7 +10946,7 @@ public class FileStore {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public deleteFile_result(deleteFile_result other) {
+    public commitUpload_result(commitUpload_result other) {
       if (other.isSetSuccess()) {
         this.success = new StatusReport(other.success);
       }
@@ -2124,8 +10955,8 @@ public class FileStore {
       }
     }
 
-    public deleteFile_result deepCopy() {
-      return new deleteFile_result(this);
+    public commitUpload_result deepCopy() {
+      return new commitUpload_result(this);
     }
 
     @Override
@@ -2138,7 +10969,7 @@ public class FileStore {
       return this.success;
     }
 
-    public deleteFile_result setSuccess(StatusReport success) {
+    public commitUpload_result setSuccess(StatusReport success) {
       this.success = success;
       return this;
     }
@@ -2162,7 +10993,7 @@ public class FileStore {
       return this.systemException;
     }
 
-    public deleteFile_result setSystemException(SystemException systemException) {
+    public commitUpload_result setSystemException(SystemException systemException) {
       this.systemException = systemException;
       return this;
     }
@@ -2234,12 +11065,12 @@ public class FileStore {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof deleteFile_result)
-        return this.equals((deleteFile_result)that);
+      if (that instanceof commitUpload_result)
+        return this.equals((commitUpload_result)that);
       return false;
     }
 
-    public boolean equals(deleteFile_result that) {
+    public boolean equals(commitUpload_result that) {
       if (that == null)
         return false;
 
@@ -2282,7 +11113,7 @@ public class FileStore {
     }
 
     @Override
-    public int compareTo(deleteFile_result other) {
+    public int compareTo(commitUpload_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -2326,7 +11157,7 @@ public class FileStore {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("deleteFile_result(");
+      StringBuilder sb = new StringBuilder("commitUpload_result(");
       boolean first = true;
 
       sb.append("success:");
@@ -2372,15 +11203,15 @@ public class FileStore {
       }
     }
 
-    private static class deleteFile_resultStandardSchemeFactory implements SchemeFactory {
-      public deleteFile_resultStandardScheme getScheme() {
-        return new deleteFile_resultStandardScheme();
+    private static class commitUpload_resultStandardSchemeFactory implements SchemeFactory {
+      public commitUpload_resultStandardScheme getScheme() {
+        return new commitUpload_resultStandardScheme();
       }
     }
 
-    private static class deleteFile_resultStandardScheme extends StandardScheme<deleteFile_result> {
+    private static class commitUpload_resultStandardScheme extends StandardScheme<commitUpload_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, deleteFile_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, commitUpload_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -2419,7 +11250,7 @@ public class FileStore {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, deleteFile_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, commitUpload_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -2439,16 +11270,16 @@ public class FileStore {
 
     }
 
-    private static class deleteFile_resultTupleSchemeFactory implements SchemeFactory {
-      public deleteFile_resultTupleScheme getScheme() {
-        return new deleteFile_resultTupleScheme();
+    private static class commitUpload_resultTupleSchemeFactory implements SchemeFactory {
+      public commitUpload_resultTupleScheme getScheme() {
+        return new commitUpload_resultTupleScheme();
       }
     }
 
-    private static class deleteFile_resultTupleScheme extends TupleScheme<deleteFile_result> {
+    private static class commitUpload_resultTupleScheme extends TupleScheme<commitUpload_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, deleteFile_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, commitUpload_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSuccess()) {
@@ -2467,7 +11298,7 @@ public class FileStore {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, deleteFile_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, commitUpload_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
@@ -2485,25 +11316,22 @@ public class FileStore {
 
   }
 
-  public static class readFile_args implements org.apache.thrift.TBase<readFile_args, readFile_args._Fields>, java.io.Serializable, Cloneable, Comparable<readFile_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("readFile_args");
+  public static class abortUpload_args implements org.apache.thrift.TBase<abortUpload_args, abortUpload_args._Fields>, java.io.Serializable, Cloneable, Comparable<abortUpload_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("abortUpload_args");
 
-    private static final org.apache.thrift.protocol.TField FILENAME_FIELD_DESC = new org.apache.thrift.protocol.TField("filename", org.apache.thrift.protocol.TType.STRING, (short)1);
-    private static final org.apache.thrift.protocol.TField CLIENT_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("clientID", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField UPLOAD_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("upload_id", org.apache.thrift.protocol.TType.I64, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new readFile_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new readFile_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new abortUpload_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new abortUpload_argsTupleSchemeFactory());
     }
 
-    public String filename; // required
-    public String clientID; // required
+    public long upload_id; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      FILENAME((short)1, "filename"),
-      CLIENT_ID((short)2, "clientID");
+      UPLOAD_ID((short)1, "upload_id");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -2518,10 +11346,8 @@ public class FileStore {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // FILENAME
-            return FILENAME;
-          case 2: // CLIENT_ID
-            return CLIENT_ID;
+          case 1: // UPLOAD_ID
+            return UPLOAD_ID;
           default:
             return null;
         }
@@ -2562,114 +11388,76 @@ public class FileStore {
     }
 
     // isset id assignments
+    private static final int __UPLOAD_ID_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.FILENAME, new org.apache.thrift.meta_data.FieldMetaData("filename", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.CLIENT_ID, new org.apache.thrift.meta_data.FieldMetaData("clientID", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.UPLOAD_ID, new org.apache.thrift.meta_data.FieldMetaData("upload_id", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(readFile_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(abortUpload_args.class, metaDataMap);
     }
 
-    public readFile_args() {
+    public abortUpload_args() {
     }
 
-    public readFile_args(
-      String filename,
-      String clientID)
+    public abortUpload_args(
+      long upload_id)
     {
       this();
-      this.filename = filename;
-      this.clientID = clientID;
+      this.upload_id = upload_id;
+      setUpload_idIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public readFile_args(readFile_args other) {
-      if (other.isSetFilename()) {
-        this.filename = other.filename;
-      }
-      if (other.isSetClientID()) {
-        this.clientID = other.clientID;
-      }
+    public abortUpload_args(abortUpload_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.upload_id = other.upload_id;
     }
 
-    public readFile_args deepCopy() {
-      return new readFile_args(this);
+    public abortUpload_args deepCopy() {
+      return new abortUpload_args(this);
     }
 
     @Override
     public void clear() {
-      this.filename = null;
-      this.clientID = null;
-    }
-
-    public String getFilename() {
-      return this.filename;
-    }
-
-    public readFile_args setFilename(String filename) {
-      this.filename = filename;
-      return this;
-    }
-
-    public void unsetFilename() {
-      this.filename = null;
-    }
-
-    /** Returns true if field filename is set (has been assigned a value) and false otherwise */
-    public boolean isSetFilename() {
-      return this.filename != null;
-    }
-
-    public void setFilenameIsSet(boolean value) {
-      if (!value) {
-        this.filename = null;
-      }
+      setUpload_idIsSet(false);
+      this.upload_id = 0;
     }
 
-    public String getClientID() {
-      return this.clientID;
+    public long getUpload_id() {
+      return this.upload_id;
     }
 
-    public readFile_args setClientID(String clientID) {
-      this.clientID = clientID;
+    public abortUpload_args setUpload_id(long upload_id) {
+      this.upload_id = upload_id;
+      setUpload_idIsSet(true);
       return this;
     }
 
-    public void unsetClientID() {
-      this.clientID = null;
-    }
-
-    /** Returns true if field clientID is set (has been assigned a value) and false otherwise */
-    public boolean isSetClientID() {
-      return this.clientID != null;
+    public void unsetUpload_id() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __UPLOAD_ID_ISSET_ID);
     }
 
-    public void setClientIDIsSet(boolean value) {
-      if (!value) {
-        this.clientID = null;
-      }
+    /** Returns true if field upload_id is set (has been assigned a value) and false otherwise */
+    public boolean isSetUpload_id() {
+      return EncodingUtils.testBit(__isset_bitfield, __UPLOAD_ID_ISSET_ID);
     }
 
-    public void setFieldValue(_Fields field, Object value) {
-      switch (field) {
-      case FILENAME:
-        if (value == null) {
-          unsetFilename();
-        } else {
-          setFilename((String)value);
-        }
-        break;
+    public void setUpload_idIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __UPLOAD_ID_ISSET_ID, value);
+    }
 
-      case CLIENT_ID:
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case UPLOAD_ID:
         if (value == null) {
-          unsetClientID();
+          unsetUpload_id();
         } else {
-          setClientID((String)value);
+          setUpload_id((Long)value);
         }
         break;
 
@@ -2678,11 +11466,8 @@ public class FileStore {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case FILENAME:
-        return getFilename();
-
-      case CLIENT_ID:
-        return getClientID();
+      case UPLOAD_ID:
+        return getUpload_id();
 
       }
       throw new IllegalStateException();
@@ -2695,10 +11480,8 @@ public class FileStore {
       }
 
       switch (field) {
-      case FILENAME:
-        return isSetFilename();
-      case CLIENT_ID:
-        return isSetClientID();
+      case UPLOAD_ID:
+        return isSetUpload_id();
       }
       throw new IllegalStateException();
     }
@@ -2707,30 +11490,21 @@ public class FileStore {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof readFile_args)
-        return this.equals((readFile_args)that);
+      if (that instanceof abortUpload_args)
+        return this.equals((abortUpload_args)that);
       return false;
     }
 
-    public boolean equals(readFile_args that) {
+    public boolean equals(abortUpload_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_filename = true && this.isSetFilename();
-      boolean that_present_filename = true && that.isSetFilename();
-      if (this_present_filename || that_present_filename) {
-        if (!(this_present_filename && that_present_filename))
-          return false;
-        if (!this.filename.equals(that.filename))
-          return false;
-      }
-
-      boolean this_present_clientID = true && this.isSetClientID();
-      boolean that_present_clientID = true && that.isSetClientID();
-      if (this_present_clientID || that_present_clientID) {
-        if (!(this_present_clientID && that_present_clientID))
+      boolean this_present_upload_id = true;
+      boolean that_present_upload_id = true;
+      if (this_present_upload_id || that_present_upload_id) {
+        if (!(this_present_upload_id && that_present_upload_id))
           return false;
-        if (!this.clientID.equals(that.clientID))
+        if (this.upload_id != that.upload_id)
           return false;
       }
 
@@ -2741,43 +11515,28 @@ public class FileStore {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_filename = true && (isSetFilename());
-      list.add(present_filename);
-      if (present_filename)
-        list.add(filename);
-
-      boolean present_clientID = true && (isSetClientID());
-      list.add(present_clientID);
-      if (present_clientID)
-        list.add(clientID);
+      boolean present_upload_id = true;
+      list.add(present_upload_id);
+      if (present_upload_id)
+        list.add(upload_id);
 
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(readFile_args other) {
+    public int compareTo(abortUpload_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetFilename()).compareTo(other.isSetFilename());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetFilename()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.filename, other.filename);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
-      lastComparison = Boolean.valueOf(isSetClientID()).compareTo(other.isSetClientID());
+      lastComparison = Boolean.valueOf(isSetUpload_id()).compareTo(other.isSetUpload_id());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetClientID()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.clientID, other.clientID);
+      if (isSetUpload_id()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.upload_id, other.upload_id);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -2799,23 +11558,11 @@ public class FileStore {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("readFile_args(");
+      StringBuilder sb = new StringBuilder("abortUpload_args(");
       boolean first = true;
 
-      sb.append("filename:");
-      if (this.filename == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.filename);
-      }
-      first = false;
-      if (!first) sb.append(", ");
-      sb.append("clientID:");
-      if (this.clientID == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.clientID);
-      }
+      sb.append("upload_id:");
+      sb.append(this.upload_id);
       first = false;
       sb.append(")");
       return sb.toString();
@@ -2836,21 +11583,23 @@ public class FileStore {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class readFile_argsStandardSchemeFactory implements SchemeFactory {
-      public readFile_argsStandardScheme getScheme() {
-        return new readFile_argsStandardScheme();
+    private static class abortUpload_argsStandardSchemeFactory implements SchemeFactory {
+      public abortUpload_argsStandardScheme getScheme() {
+        return new abortUpload_argsStandardScheme();
       }
     }
 
-    private static class readFile_argsStandardScheme extends StandardScheme<readFile_args> {
+    private static class abortUpload_argsStandardScheme extends StandardScheme<abortUpload_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, readFile_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, abortUpload_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -2860,18 +11609,10 @@ public class FileStore {
             break;
           }
           switch (schemeField.id) {
-            case 1: // FILENAME
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.filename = iprot.readString();
-                struct.setFilenameIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
-            case 2: // CLIENT_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.clientID = iprot.readString();
-                struct.setClientIDIsSet(true);
+            case 1: // UPLOAD_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.upload_id = iprot.readI64();
+                struct.setUpload_idIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -2887,88 +11628,68 @@ public class FileStore {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, readFile_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, abortUpload_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.filename != null) {
-          oprot.writeFieldBegin(FILENAME_FIELD_DESC);
-          oprot.writeString(struct.filename);
-          oprot.writeFieldEnd();
-        }
-        if (struct.clientID != null) {
-          oprot.writeFieldBegin(CLIENT_ID_FIELD_DESC);
-          oprot.writeString(struct.clientID);
-          oprot.writeFieldEnd();
-        }
+        oprot.writeFieldBegin(UPLOAD_ID_FIELD_DESC);
+        oprot.writeI64(struct.upload_id);
+        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class readFile_argsTupleSchemeFactory implements SchemeFactory {
-      public readFile_argsTupleScheme getScheme() {
-        return new readFile_argsTupleScheme();
+    private static class abortUpload_argsTupleSchemeFactory implements SchemeFactory {
+      public abortUpload_argsTupleScheme getScheme() {
+        return new abortUpload_argsTupleScheme();
       }
     }
 
-    private static class readFile_argsTupleScheme extends TupleScheme<readFile_args> {
+    private static class abortUpload_argsTupleScheme extends TupleScheme<abortUpload_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, readFile_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, abortUpload_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetFilename()) {
+        if (struct.isSetUpload_id()) {
           optionals.set(0);
         }
-        if (struct.isSetClientID()) {
-          optionals.set(1);
-        }
-        oprot.writeBitSet(optionals, 2);
-        if (struct.isSetFilename()) {
-          oprot.writeString(struct.filename);
-        }
-        if (struct.isSetClientID()) {
-          oprot.writeString(struct.clientID);
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetUpload_id()) {
+          oprot.writeI64(struct.upload_id);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, readFile_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, abortUpload_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.filename = iprot.readString();
-          struct.setFilenameIsSet(true);
-        }
-        if (incoming.get(1)) {
-          struct.clientID = iprot.readString();
-          struct.setClientIDIsSet(true);
+          struct.upload_id = iprot.readI64();
+          struct.setUpload_idIsSet(true);
         }
       }
     }
 
   }
 
-  public static class readFile_result implements org.apache.thrift.TBase<readFile_result, readFile_result._Fields>, java.io.Serializable, Cloneable, Comparable<readFile_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("readFile_result");
+  public static class abortUpload_result implements org.apache.thrift.TBase<abortUpload_result, abortUpload_result._Fields>, java.io.Serializable, Cloneable, Comparable<abortUpload_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("abortUpload_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
     private static final org.apache.thrift.protocol.TField SYSTEM_EXCEPTION_FIELD_DESC = new org.apache.thrift.protocol.TField("systemException", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new readFile_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new readFile_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new abortUpload_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new abortUpload_resultTupleSchemeFactory());
     }
 
-    public RFile success; // required
     public SystemException systemException; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success"),
       SYSTEM_EXCEPTION((short)1, "systemException");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
@@ -2984,8 +11705,6 @@ public class FileStore {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 0: // SUCCESS
-            return SUCCESS;
           case 1: // SYSTEM_EXCEPTION
             return SYSTEM_EXCEPTION;
           default:
@@ -3031,77 +11750,45 @@ public class FileStore {
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RFile.class)));
       tmpMap.put(_Fields.SYSTEM_EXCEPTION, new org.apache.thrift.meta_data.FieldMetaData("systemException", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(readFile_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(abortUpload_result.class, metaDataMap);
     }
 
-    public readFile_result() {
+    public abortUpload_result() {
     }
 
-    public readFile_result(
-      RFile success,
+    public abortUpload_result(
       SystemException systemException)
     {
       this();
-      this.success = success;
       this.systemException = systemException;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public readFile_result(readFile_result other) {
-      if (other.isSetSuccess()) {
-        this.success = new RFile(other.success);
-      }
+    public abortUpload_result(abortUpload_result other) {
       if (other.isSetSystemException()) {
         this.systemException = new SystemException(other.systemException);
       }
     }
 
-    public readFile_result deepCopy() {
-      return new readFile_result(this);
+    public abortUpload_result deepCopy() {
+      return new abortUpload_result(this);
     }
 
     @Override
     public void clear() {
-      this.success = null;
       this.systemException = null;
     }
 
-    public RFile getSuccess() {
-      return this.success;
-    }
-
-    public readFile_result setSuccess(RFile success) {
-      this.success = success;
-      return this;
-    }
-
-    public void unsetSuccess() {
-      this.success = null;
-    }
-
-    /** Returns true if field success is set (has been assigned a value) and false otherwise */
-    public boolean isSetSuccess() {
-      return this.success != null;
-    }
-
-    public void setSuccessIsSet(boolean value) {
-      if (!value) {
-        this.success = null;
-      }
-    }
-
     public SystemException getSystemException() {
       return this.systemException;
     }
 
-    public readFile_result setSystemException(SystemException systemException) {
+    public abortUpload_result setSystemException(SystemException systemException) {
       this.systemException = systemException;
       return this;
     }
@@ -3123,14 +11810,6 @@ public class FileStore {
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case SUCCESS:
-        if (value == null) {
-          unsetSuccess();
-        } else {
-          setSuccess((RFile)value);
-        }
-        break;
-
       case SYSTEM_EXCEPTION:
         if (value == null) {
           unsetSystemException();
@@ -3144,9 +11823,6 @@ public class FileStore {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case SUCCESS:
-        return getSuccess();
-
       case SYSTEM_EXCEPTION:
         return getSystemException();
 
@@ -3161,8 +11837,6 @@ public class FileStore {
       }
 
       switch (field) {
-      case SUCCESS:
-        return isSetSuccess();
       case SYSTEM_EXCEPTION:
         return isSetSystemException();
       }
@@ -3173,24 +11847,15 @@ public class FileStore {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof readFile_result)
-        return this.equals((readFile_result)that);
+      if (that instanceof abortUpload_result)
+        return this.equals((abortUpload_result)that);
       return false;
     }
 
-    public boolean equals(readFile_result that) {
+    public boolean equals(abortUpload_result that) {
       if (that == null)
         return false;
 
-      boolean this_present_success = true && this.isSetSuccess();
-      boolean that_present_success = true && that.isSetSuccess();
-      if (this_present_success || that_present_success) {
-        if (!(this_present_success && that_present_success))
-          return false;
-        if (!this.success.equals(that.success))
-          return false;
-      }
-
       boolean this_present_systemException = true && this.isSetSystemException();
       boolean that_present_systemException = true && that.isSetSystemException();
       if (this_present_systemException || that_present_systemException) {
@@ -3207,11 +11872,6 @@ public class FileStore {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_success = true && (isSetSuccess());
-      list.add(present_success);
-      if (present_success)
-        list.add(success);
-
       boolean present_systemException = true && (isSetSystemException());
       list.add(present_systemException);
       if (present_systemException)
@@ -3221,23 +11881,13 @@ public class FileStore {
     }
 
     @Override
-    public int compareTo(readFile_result other) {
+    public int compareTo(abortUpload_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetSuccess()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       lastComparison = Boolean.valueOf(isSetSystemException()).compareTo(other.isSetSystemException());
       if (lastComparison != 0) {
         return lastComparison;
@@ -3265,17 +11915,9 @@ public class FileStore {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("readFile_result(");
+      StringBuilder sb = new StringBuilder("abortUpload_result(");
       boolean first = true;
 
-      sb.append("success:");
-      if (this.success == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.success);
-      }
-      first = false;
-      if (!first) sb.append(", ");
       sb.append("systemException:");
       if (this.systemException == null) {
         sb.append("null");
@@ -3290,9 +11932,6 @@ public class FileStore {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (success != null) {
-        success.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -3311,15 +11950,15 @@ public class FileStore {
       }
     }
 
-    private static class readFile_resultStandardSchemeFactory implements SchemeFactory {
-      public readFile_resultStandardScheme getScheme() {
-        return new readFile_resultStandardScheme();
+    private static class abortUpload_resultStandardSchemeFactory implements SchemeFactory {
+      public abortUpload_resultStandardScheme getScheme() {
+        return new abortUpload_resultStandardScheme();
       }
     }
 
-    private static class readFile_resultStandardScheme extends StandardScheme<readFile_result> {
+    private static class abortUpload_resultStandardScheme extends StandardScheme<abortUpload_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, readFile_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, abortUpload_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -3329,15 +11968,6 @@ public class FileStore {
             break;
           }
           switch (schemeField.id) {
-            case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new RFile();
-                struct.success.read(iprot);
-                struct.setSuccessIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
             case 1: // SYSTEM_EXCEPTION
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
                 struct.systemException = new SystemException();
@@ -3358,15 +11988,10 @@ public class FileStore {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, readFile_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, abortUpload_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.success != null) {
-          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          struct.success.write(oprot);
-          oprot.writeFieldEnd();
-        }
         if (struct.systemException != null) {
           oprot.writeFieldBegin(SYSTEM_EXCEPTION_FIELD_DESC);
           struct.systemException.write(oprot);
@@ -3378,43 +12003,32 @@ public class FileStore {
 
     }
 
-    private static class readFile_resultTupleSchemeFactory implements SchemeFactory {
-      public readFile_resultTupleScheme getScheme() {
-        return new readFile_resultTupleScheme();
+    private static class abortUpload_resultTupleSchemeFactory implements SchemeFactory {
+      public abortUpload_resultTupleScheme getScheme() {
+        return new abortUpload_resultTupleScheme();
       }
     }
 
-    private static class readFile_resultTupleScheme extends TupleScheme<readFile_result> {
+    private static class abortUpload_resultTupleScheme extends TupleScheme<abortUpload_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, readFile_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, abortUpload_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetSuccess()) {
-          optionals.set(0);
-        }
         if (struct.isSetSystemException()) {
-          optionals.set(1);
-        }
-        oprot.writeBitSet(optionals, 2);
-        if (struct.isSetSuccess()) {
-          struct.success.write(oprot);
+          optionals.set(0);
         }
+        oprot.writeBitSet(optionals, 1);
         if (struct.isSetSystemException()) {
           struct.systemException.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, readFile_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, abortUpload_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.success = new RFile();
-          struct.success.read(iprot);
-          struct.setSuccessIsSet(true);
-        }
-        if (incoming.get(1)) {
           struct.systemException = new SystemException();
           struct.systemException.read(iprot);
           struct.setSystemExceptionIsSet(true);
@@ -3424,28 +12038,31 @@ public class FileStore {
 
   }
 
-  public static class getTransactionStatus_args implements org.apache.thrift.TBase<getTransactionStatus_args, getTransactionStatus_args._Fields>, java.io.Serializable, Cloneable, Comparable<getTransactionStatus_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getTransactionStatus_args");
+  public static class downloadChunk_args implements org.apache.thrift.TBase<downloadChunk_args, downloadChunk_args._Fields>, java.io.Serializable, Cloneable, Comparable<downloadChunk_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("downloadChunk_args");
 
-    private static final org.apache.thrift.protocol.TField TRAN_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("tran_id", org.apache.thrift.protocol.TType.I64, (short)1);
-    private static final org.apache.thrift.protocol.TField PARTICIPANT_IP_FIELD_DESC = new org.apache.thrift.protocol.TField("participant_ip", org.apache.thrift.protocol.TType.STRING, (short)2);
-    private static final org.apache.thrift.protocol.TField PARTICIPANT_PORT_FIELD_DESC = new org.apache.thrift.protocol.TField("participant_port", org.apache.thrift.protocol.TType.I32, (short)3);
+    private static final org.apache.thrift.protocol.TField FILENAME_FIELD_DESC = new org.apache.thrift.protocol.TField("filename", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField CLIENT_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("clientID", org.apache.thrift.protocol.TType.STRING, (short)2);
+    private static final org.apache.thrift.protocol.TField OFFSET_FIELD_DESC = new org.apache.thrift.protocol.TField("offset", org.apache.thrift.protocol.TType.I64, (short)3);
+    private static final org.apache.thrift.protocol.TField LENGTH_FIELD_DESC = new org.apache.thrift.protocol.TField("length", org.apache.thrift.protocol.TType.I32, (short)4);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getTransactionStatus_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getTransactionStatus_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new downloadChunk_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new downloadChunk_argsTupleSchemeFactory());
     }
 
-    public long tran_id; // required
-    public String participant_ip; // required
-    public int participant_port; // required
+    public String filename; // required
+    public String clientID; // required
+    public long offset; // required
+    public int length; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      TRAN_ID((short)1, "tran_id"),
-      PARTICIPANT_IP((short)2, "participant_ip"),
-      PARTICIPANT_PORT((short)3, "participant_port");
+      FILENAME((short)1, "filename"),
+      CLIENT_ID((short)2, "clientID"),
+      OFFSET((short)3, "offset"),
+      LENGTH((short)4, "length");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -3460,12 +12077,14 @@ public class FileStore {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // TRAN_ID
-            return TRAN_ID;
-          case 2: // PARTICIPANT_IP
-            return PARTICIPANT_IP;
-          case 3: // PARTICIPANT_PORT
-            return PARTICIPANT_PORT;
+          case 1: // FILENAME
+            return FILENAME;
+          case 2: // CLIENT_ID
+            return CLIENT_ID;
+          case 3: // OFFSET
+            return OFFSET;
+          case 4: // LENGTH
+            return LENGTH;
           default:
             return null;
         }
@@ -3506,156 +12125,196 @@ public class FileStore {
     }
 
     // isset id assignments
-    private static final int __TRAN_ID_ISSET_ID = 0;
-    private static final int __PARTICIPANT_PORT_ISSET_ID = 1;
+    private static final int __OFFSET_ISSET_ID = 0;
+    private static final int __LENGTH_ISSET_ID = 1;
     private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.TRAN_ID, new org.apache.thrift.meta_data.FieldMetaData("tran_id", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
-      tmpMap.put(_Fields.PARTICIPANT_IP, new org.apache.thrift.meta_data.FieldMetaData("participant_ip", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.FILENAME, new org.apache.thrift.meta_data.FieldMetaData("filename", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
-      tmpMap.put(_Fields.PARTICIPANT_PORT, new org.apache.thrift.meta_data.FieldMetaData("participant_port", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+      tmpMap.put(_Fields.CLIENT_ID, new org.apache.thrift.meta_data.FieldMetaData("clientID", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.OFFSET, new org.apache.thrift.meta_data.FieldMetaData("offset", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.LENGTH, new org.apache.thrift.meta_data.FieldMetaData("length", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getTransactionStatus_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(downloadChunk_args.class, metaDataMap);
     }
 
-    public getTransactionStatus_args() {
+    public downloadChunk_args() {
     }
 
-    public getTransactionStatus_args(
-      long tran_id,
-      String participant_ip,
-      int participant_port)
+    public downloadChunk_args(
+      String filename,
+      String clientID,
+      long offset,
+      int length)
     {
       this();
-      this.tran_id = tran_id;
-      setTran_idIsSet(true);
-      this.participant_ip = participant_ip;
-      this.participant_port = participant_port;
-      setParticipant_portIsSet(true);
+      this.filename = filename;
+      this.clientID = clientID;
+      this.offset = offset;
+      setOffsetIsSet(true);
+      this.length = length;
+      setLengthIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getTransactionStatus_args(getTransactionStatus_args other) {
+    public downloadChunk_args(downloadChunk_args other) {
       __isset_bitfield = other.__isset_bitfield;
-      this.tran_id = other.tran_id;
-      if (other.isSetParticipant_ip()) {
-        this.participant_ip = other.participant_ip;
+      if (other.isSetFilename()) {
+        this.filename = other.filename;
       }
-      this.participant_port = other.participant_port;
+      if (other.isSetClientID()) {
+        this.clientID = other.clientID;
+      }
+      this.offset = other.offset;
+      this.length = other.length;
     }
 
-    public getTransactionStatus_args deepCopy() {
-      return new getTransactionStatus_args(this);
+    public downloadChunk_args deepCopy() {
+      return new downloadChunk_args(this);
     }
 
     @Override
     public void clear() {
-      setTran_idIsSet(false);
-      this.tran_id = 0;
-      this.participant_ip = null;
-      setParticipant_portIsSet(false);
-      this.participant_port = 0;
+      this.filename = null;
+      this.clientID = null;
+      setOffsetIsSet(false);
+      this.offset = 0;
+      setLengthIsSet(false);
+      this.length = 0;
     }
 
-    public long getTran_id() {
-      return this.tran_id;
+    public String getFilename() {
+      return this.filename;
     }
 
-    public getTransactionStatus_args setTran_id(long tran_id) {
-      this.tran_id = tran_id;
-      setTran_idIsSet(true);
+    public downloadChunk_args setFilename(String filename) {
+      this.filename = filename;
       return this;
     }
 
-    public void unsetTran_id() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __TRAN_ID_ISSET_ID);
+    public void unsetFilename() {
+      this.filename = null;
     }
 
-    /** Returns true if field tran_id is set (has been assigned a value) and false otherwise */
-    public boolean isSetTran_id() {
-      return EncodingUtils.testBit(__isset_bitfield, __TRAN_ID_ISSET_ID);
+    /** Returns true if field filename is set (has been assigned a value) and false otherwise */
+    public boolean isSetFilename() {
+      return this.filename != null;
     }
 
-    public void setTran_idIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __TRAN_ID_ISSET_ID, value);
+    public void setFilenameIsSet(boolean value) {
+      if (!value) {
+        this.filename = null;
+      }
     }
 
-    public String getParticipant_ip() {
-      return this.participant_ip;
+    public String getClientID() {
+      return this.clientID;
     }
 
-    public getTransactionStatus_args setParticipant_ip(String participant_ip) {
-      this.participant_ip = participant_ip;
+    public downloadChunk_args setClientID(String clientID) {
+      this.clientID = clientID;
       return this;
     }
 
-    public void unsetParticipant_ip() {
-      this.participant_ip = null;
+    public void unsetClientID() {
+      this.clientID = null;
     }
 
-    /** Returns true if field participant_ip is set (has been assigned a value) and false otherwise */
-    public boolean isSetParticipant_ip() {
-      return this.participant_ip != null;
+    /** Returns true if field clientID is set (has been assigned a value) and false otherwise */
+    public boolean isSetClientID() {
+      return this.clientID != null;
     }
 
-    public void setParticipant_ipIsSet(boolean value) {
+    public void setClientIDIsSet(boolean value) {
       if (!value) {
-        this.participant_ip = null;
+        this.clientID = null;
       }
     }
 
-    public int getParticipant_port() {
-      return this.participant_port;
+    public long getOffset() {
+      return this.offset;
     }
 
-    public getTransactionStatus_args setParticipant_port(int participant_port) {
-      this.participant_port = participant_port;
-      setParticipant_portIsSet(true);
+    public downloadChunk_args setOffset(long offset) {
+      this.offset = offset;
+      setOffsetIsSet(true);
       return this;
     }
 
-    public void unsetParticipant_port() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __PARTICIPANT_PORT_ISSET_ID);
+    public void unsetOffset() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __OFFSET_ISSET_ID);
     }
 
-    /** Returns true if field participant_port is set (has been assigned a value) and false otherwise */
-    public boolean isSetParticipant_port() {
-      return EncodingUtils.testBit(__isset_bitfield, __PARTICIPANT_PORT_ISSET_ID);
+    /** Returns true if field offset is set (has been assigned a value) and false otherwise */
+    public boolean isSetOffset() {
+      return EncodingUtils.testBit(__isset_bitfield, __OFFSET_ISSET_ID);
     }
 
-    public void setParticipant_portIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __PARTICIPANT_PORT_ISSET_ID, value);
+    public void setOffsetIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __OFFSET_ISSET_ID, value);
+    }
+
+    public int getLength() {
+      return this.length;
+    }
+
+    public downloadChunk_args setLength(int length) {
+      this.length = length;
+      setLengthIsSet(true);
+      return this;
+    }
+
+    public void unsetLength() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __LENGTH_ISSET_ID);
+    }
+
+    /** Returns true if field length is set (has been assigned a value) and false otherwise */
+    public boolean isSetLength() {
+      return EncodingUtils.testBit(__isset_bitfield, __LENGTH_ISSET_ID);
+    }
+
+    public void setLengthIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __LENGTH_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case TRAN_ID:
+      case FILENAME:
         if (value == null) {
-          unsetTran_id();
+          unsetFilename();
         } else {
-          setTran_id((Long)value);
+          setFilename((String)value);
         }
         break;
 
-      case PARTICIPANT_IP:
+      case CLIENT_ID:
         if (value == null) {
-          unsetParticipant_ip();
+          unsetClientID();
         } else {
-          setParticipant_ip((String)value);
+          setClientID((String)value);
         }
         break;
 
-      case PARTICIPANT_PORT:
+      case OFFSET:
         if (value == null) {
-          unsetParticipant_port();
+          unsetOffset();
         } else {
-          setParticipant_port((Integer)value);
+          setOffset((Long)value);
+        }
+        break;
+
+      case LENGTH:
+        if (value == null) {
+          unsetLength();
+        } else {
+          setLength((Integer)value);
         }
         break;
 
@@ -3664,14 +12323,17 @@ public class FileStore {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case TRAN_ID:
-        return getTran_id();
+      case FILENAME:
+        return getFilename();
 
-      case PARTICIPANT_IP:
-        return getParticipant_ip();
+      case CLIENT_ID:
+        return getClientID();
 
-      case PARTICIPANT_PORT:
-        return getParticipant_port();
+      case OFFSET:
+        return getOffset();
+
+      case LENGTH:
+        return getLength();
 
       }
       throw new IllegalStateException();
@@ -3684,12 +12346,14 @@ public class FileStore {
       }
 
       switch (field) {
-      case TRAN_ID:
-        return isSetTran_id();
-      case PARTICIPANT_IP:
-        return isSetParticipant_ip();
-      case PARTICIPANT_PORT:
-        return isSetParticipant_port();
+      case FILENAME:
+        return isSetFilename();
+      case CLIENT_ID:
+        return isSetClientID();
+      case OFFSET:
+        return isSetOffset();
+      case LENGTH:
+        return isSetLength();
       }
       throw new IllegalStateException();
     }
@@ -3698,39 +12362,48 @@ public class FileStore {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getTransactionStatus_args)
-        return this.equals((getTransactionStatus_args)that);
+      if (that instanceof downloadChunk_args)
+        return this.equals((downloadChunk_args)that);
       return false;
     }
 
-    public boolean equals(getTransactionStatus_args that) {
+    public boolean equals(downloadChunk_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_tran_id = true;
-      boolean that_present_tran_id = true;
-      if (this_present_tran_id || that_present_tran_id) {
-        if (!(this_present_tran_id && that_present_tran_id))
+      boolean this_present_filename = true && this.isSetFilename();
+      boolean that_present_filename = true && that.isSetFilename();
+      if (this_present_filename || that_present_filename) {
+        if (!(this_present_filename && that_present_filename))
           return false;
-        if (this.tran_id != that.tran_id)
+        if (!this.filename.equals(that.filename))
           return false;
       }
 
-      boolean this_present_participant_ip = true && this.isSetParticipant_ip();
-      boolean that_present_participant_ip = true && that.isSetParticipant_ip();
-      if (this_present_participant_ip || that_present_participant_ip) {
-        if (!(this_present_participant_ip && that_present_participant_ip))
+      boolean this_present_clientID = true && this.isSetClientID();
+      boolean that_present_clientID = true && that.isSetClientID();
+      if (this_present_clientID || that_present_clientID) {
+        if (!(this_present_clientID && that_present_clientID))
           return false;
-        if (!this.participant_ip.equals(that.participant_ip))
+        if (!this.clientID.equals(that.clientID))
           return false;
       }
 
-      boolean this_present_participant_port = true;
-      boolean that_present_participant_port = true;
-      if (this_present_participant_port || that_present_participant_port) {
-        if (!(this_present_participant_port && that_present_participant_port))
+      boolean this_present_offset = true;
+      boolean that_present_offset = true;
+      if (this_present_offset || that_present_offset) {
+        if (!(this_present_offset && that_present_offset))
           return false;
-        if (this.participant_port != that.participant_port)
+        if (this.offset != that.offset)
+          return false;
+      }
+
+      boolean this_present_length = true;
+      boolean that_present_length = true;
+      if (this_present_length || that_present_length) {
+        if (!(this_present_length && that_present_length))
+          return false;
+        if (this.length != that.length)
           return false;
       }
 
@@ -3741,58 +12414,73 @@ public class FileStore {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_tran_id = true;
-      list.add(present_tran_id);
-      if (present_tran_id)
-        list.add(tran_id);
+      boolean present_filename = true && (isSetFilename());
+      list.add(present_filename);
+      if (present_filename)
+        list.add(filename);
 
-      boolean present_participant_ip = true && (isSetParticipant_ip());
-      list.add(present_participant_ip);
-      if (present_participant_ip)
-        list.add(participant_ip);
+      boolean present_clientID = true && (isSetClientID());
+      list.add(present_clientID);
+      if (present_clientID)
+        list.add(clientID);
 
-      boolean present_participant_port = true;
-      list.add(present_participant_port);
-      if (present_participant_port)
-        list.add(participant_port);
+      boolean present_offset = true;
+      list.add(present_offset);
+      if (present_offset)
+        list.add(offset);
+
+      boolean present_length = true;
+      list.add(present_length);
+      if (present_length)
+        list.add(length);
 
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(getTransactionStatus_args other) {
+    public int compareTo(downloadChunk_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
-
-      int lastComparison = 0;
-
-      lastComparison = Boolean.valueOf(isSetTran_id()).compareTo(other.isSetTran_id());
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetFilename()).compareTo(other.isSetFilename());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetFilename()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.filename, other.filename);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetClientID()).compareTo(other.isSetClientID());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetTran_id()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.tran_id, other.tran_id);
+      if (isSetClientID()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.clientID, other.clientID);
         if (lastComparison != 0) {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetParticipant_ip()).compareTo(other.isSetParticipant_ip());
+      lastComparison = Boolean.valueOf(isSetOffset()).compareTo(other.isSetOffset());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetParticipant_ip()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.participant_ip, other.participant_ip);
+      if (isSetOffset()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.offset, other.offset);
         if (lastComparison != 0) {
           return lastComparison;
         }
       }
-      lastComparison = Boolean.valueOf(isSetParticipant_port()).compareTo(other.isSetParticipant_port());
+      lastComparison = Boolean.valueOf(isSetLength()).compareTo(other.isSetLength());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetParticipant_port()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.participant_port, other.participant_port);
+      if (isSetLength()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.length, other.length);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -3814,23 +12502,31 @@ public class FileStore {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getTransactionStatus_args(");
+      StringBuilder sb = new StringBuilder("downloadChunk_args(");
       boolean first = true;
 
-      sb.append("tran_id:");
-      sb.append(this.tran_id);
+      sb.append("filename:");
+      if (this.filename == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.filename);
+      }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("participant_ip:");
-      if (this.participant_ip == null) {
+      sb.append("clientID:");
+      if (this.clientID == null) {
         sb.append("null");
       } else {
-        sb.append(this.participant_ip);
+        sb.append(this.clientID);
       }
       first = false;
       if (!first) sb.append(", ");
-      sb.append("participant_port:");
-      sb.append(this.participant_port);
+      sb.append("offset:");
+      sb.append(this.offset);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("length:");
+      sb.append(this.length);
       first = false;
       sb.append(")");
       return sb.toString();
@@ -3859,15 +12555,15 @@ public class FileStore {
       }
     }
 
-    private static class getTransactionStatus_argsStandardSchemeFactory implements SchemeFactory {
-      public getTransactionStatus_argsStandardScheme getScheme() {
-        return new getTransactionStatus_argsStandardScheme();
+    private static class downloadChunk_argsStandardSchemeFactory implements SchemeFactory {
+      public downloadChunk_argsStandardScheme getScheme() {
+        return new downloadChunk_argsStandardScheme();
       }
     }
 
-    private static class getTransactionStatus_argsStandardScheme extends StandardScheme<getTransactionStatus_args> {
+    private static class downloadChunk_argsStandardScheme extends StandardScheme<downloadChunk_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getTransactionStatus_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, downloadChunk_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -3877,26 +12573,34 @@ public class FileStore {
             break;
           }
           switch (schemeField.id) {
-            case 1: // TRAN_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
-                struct.tran_id = iprot.readI64();
-                struct.setTran_idIsSet(true);
+            case 1: // FILENAME
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.filename = iprot.readString();
+                struct.setFilenameIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 2: // PARTICIPANT_IP
+            case 2: // CLIENT_ID
               if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
-                struct.participant_ip = iprot.readString();
-                struct.setParticipant_ipIsSet(true);
+                struct.clientID = iprot.readString();
+                struct.setClientIDIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
               break;
-            case 3: // PARTICIPANT_PORT
+            case 3: // OFFSET
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.offset = iprot.readI64();
+                struct.setOffsetIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 4: // LENGTH
               if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
-                struct.participant_port = iprot.readI32();
-                struct.setParticipant_portIsSet(true);
+                struct.length = iprot.readI32();
+                struct.setLengthIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -3912,20 +12616,25 @@ public class FileStore {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getTransactionStatus_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, downloadChunk_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        oprot.writeFieldBegin(TRAN_ID_FIELD_DESC);
-        oprot.writeI64(struct.tran_id);
-        oprot.writeFieldEnd();
-        if (struct.participant_ip != null) {
-          oprot.writeFieldBegin(PARTICIPANT_IP_FIELD_DESC);
-          oprot.writeString(struct.participant_ip);
+        if (struct.filename != null) {
+          oprot.writeFieldBegin(FILENAME_FIELD_DESC);
+          oprot.writeString(struct.filename);
           oprot.writeFieldEnd();
         }
-        oprot.writeFieldBegin(PARTICIPANT_PORT_FIELD_DESC);
-        oprot.writeI32(struct.participant_port);
+        if (struct.clientID != null) {
+          oprot.writeFieldBegin(CLIENT_ID_FIELD_DESC);
+          oprot.writeString(struct.clientID);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(OFFSET_FIELD_DESC);
+        oprot.writeI64(struct.offset);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(LENGTH_FIELD_DESC);
+        oprot.writeI32(struct.length);
         oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
@@ -3933,75 +12642,88 @@ public class FileStore {
 
     }
 
-    private static class getTransactionStatus_argsTupleSchemeFactory implements SchemeFactory {
-      public getTransactionStatus_argsTupleScheme getScheme() {
-        return new getTransactionStatus_argsTupleScheme();
+    private static class downloadChunk_argsTupleSchemeFactory implements SchemeFactory {
+      public downloadChunk_argsTupleScheme getScheme() {
+        return new downloadChunk_argsTupleScheme();
       }
     }
 
-    private static class getTransactionStatus_argsTupleScheme extends TupleScheme<getTransactionStatus_args> {
+    private static class downloadChunk_argsTupleScheme extends TupleScheme<downloadChunk_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getTransactionStatus_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, downloadChunk_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetTran_id()) {
+        if (struct.isSetFilename()) {
           optionals.set(0);
         }
-        if (struct.isSetParticipant_ip()) {
+        if (struct.isSetClientID()) {
           optionals.set(1);
         }
-        if (struct.isSetParticipant_port()) {
+        if (struct.isSetOffset()) {
           optionals.set(2);
         }
-        oprot.writeBitSet(optionals, 3);
-        if (struct.isSetTran_id()) {
-          oprot.writeI64(struct.tran_id);
+        if (struct.isSetLength()) {
+          optionals.set(3);
         }
-        if (struct.isSetParticipant_ip()) {
-          oprot.writeString(struct.participant_ip);
+        oprot.writeBitSet(optionals, 4);
+        if (struct.isSetFilename()) {
+          oprot.writeString(struct.filename);
         }
-        if (struct.isSetParticipant_port()) {
-          oprot.writeI32(struct.participant_port);
+        if (struct.isSetClientID()) {
+          oprot.writeString(struct.clientID);
+        }
+        if (struct.isSetOffset()) {
+          oprot.writeI64(struct.offset);
+        }
+        if (struct.isSetLength()) {
+          oprot.writeI32(struct.length);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getTransactionStatus_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, downloadChunk_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(3);
+        BitSet incoming = iprot.readBitSet(4);
         if (incoming.get(0)) {
-          struct.tran_id = iprot.readI64();
-          struct.setTran_idIsSet(true);
+          struct.filename = iprot.readString();
+          struct.setFilenameIsSet(true);
         }
         if (incoming.get(1)) {
-          struct.participant_ip = iprot.readString();
-          struct.setParticipant_ipIsSet(true);
+          struct.clientID = iprot.readString();
+          struct.setClientIDIsSet(true);
         }
         if (incoming.get(2)) {
-          struct.participant_port = iprot.readI32();
-          struct.setParticipant_portIsSet(true);
+          struct.offset = iprot.readI64();
+          struct.setOffsetIsSet(true);
+        }
+        if (incoming.get(3)) {
+          struct.length = iprot.readI32();
+          struct.setLengthIsSet(true);
         }
       }
     }
 
   }
 
-  public static class getTransactionStatus_result implements org.apache.thrift.TBase<getTransactionStatus_result, getTransactionStatus_result._Fields>, java.io.Serializable, Cloneable, Comparable<getTransactionStatus_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("getTransactionStatus_result");
+  public static class downloadChunk_result implements org.apache.thrift.TBase<downloadChunk_result, downloadChunk_result._Fields>, java.io.Serializable, Cloneable, Comparable<downloadChunk_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("downloadChunk_result");
 
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
     private static final org.apache.thrift.protocol.TField SYSTEM_EXCEPTION_FIELD_DESC = new org.apache.thrift.protocol.TField("systemException", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new getTransactionStatus_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new getTransactionStatus_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new downloadChunk_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new downloadChunk_resultTupleSchemeFactory());
     }
 
+    public FileChunk success; // required
     public SystemException systemException; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
       SYSTEM_EXCEPTION((short)1, "systemException");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
@@ -4017,6 +12739,8 @@ public class FileStore {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
           case 1: // SYSTEM_EXCEPTION
             return SYSTEM_EXCEPTION;
           default:
@@ -4062,45 +12786,77 @@ public class FileStore {
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, FileChunk.class)));
       tmpMap.put(_Fields.SYSTEM_EXCEPTION, new org.apache.thrift.meta_data.FieldMetaData("systemException", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(getTransactionStatus_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(downloadChunk_result.class, metaDataMap);
     }
 
-    public getTransactionStatus_result() {
+    public downloadChunk_result() {
     }
 
-    public getTransactionStatus_result(
+    public downloadChunk_result(
+      FileChunk success,
       SystemException systemException)
     {
       this();
+      this.success = success;
       this.systemException = systemException;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public getTransactionStatus_result(getTransactionStatus_result other) {
+    public downloadChunk_result(downloadChunk_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new FileChunk(other.success);
+      }
       if (other.isSetSystemException()) {
         this.systemException = new SystemException(other.systemException);
       }
     }
 
-    public getTransactionStatus_result deepCopy() {
-      return new getTransactionStatus_result(this);
+    public downloadChunk_result deepCopy() {
+      return new downloadChunk_result(this);
     }
 
     @Override
     public void clear() {
+      this.success = null;
       this.systemException = null;
     }
 
+    public FileChunk getSuccess() {
+      return this.success;
+    }
+
+    public downloadChunk_result setSuccess(FileChunk success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
     public SystemException getSystemException() {
       return this.systemException;
     }
 
-    public getTransactionStatus_result setSystemException(SystemException systemException) {
+    public downloadChunk_result setSystemException(SystemException systemException) {
       this.systemException = systemException;
       return this;
     }
@@ -4122,6 +12878,14 @@ public class FileStore {
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((FileChunk)value);
+        }
+        break;
+
       case SYSTEM_EXCEPTION:
         if (value == null) {
           unsetSystemException();
@@ -4135,6 +12899,9 @@ public class FileStore {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
       case SYSTEM_EXCEPTION:
         return getSystemException();
 
@@ -4149,6 +12916,8 @@ public class FileStore {
       }
 
       switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
       case SYSTEM_EXCEPTION:
         return isSetSystemException();
       }
@@ -4159,15 +12928,24 @@ public class FileStore {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof getTransactionStatus_result)
-        return this.equals((getTransactionStatus_result)that);
+      if (that instanceof downloadChunk_result)
+        return this.equals((downloadChunk_result)that);
       return false;
     }
 
-    public boolean equals(getTransactionStatus_result that) {
+    public boolean equals(downloadChunk_result that) {
       if (that == null)
         return false;
 
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
       boolean this_present_systemException = true && this.isSetSystemException();
       boolean that_present_systemException = true && that.isSetSystemException();
       if (this_present_systemException || that_present_systemException) {
@@ -4184,6 +12962,11 @@ public class FileStore {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
       boolean present_systemException = true && (isSetSystemException());
       list.add(present_systemException);
       if (present_systemException)
@@ -4193,13 +12976,23 @@ public class FileStore {
     }
 
     @Override
-    public int compareTo(getTransactionStatus_result other) {
+    public int compareTo(downloadChunk_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       lastComparison = Boolean.valueOf(isSetSystemException()).compareTo(other.isSetSystemException());
       if (lastComparison != 0) {
         return lastComparison;
@@ -4227,9 +13020,17 @@ public class FileStore {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("getTransactionStatus_result(");
+      StringBuilder sb = new StringBuilder("downloadChunk_result(");
       boolean first = true;
 
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
       sb.append("systemException:");
       if (this.systemException == null) {
         sb.append("null");
@@ -4244,6 +13045,9 @@ public class FileStore {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -4262,15 +13066,15 @@ public class FileStore {
       }
     }
 
-    private static class getTransactionStatus_resultStandardSchemeFactory implements SchemeFactory {
-      public getTransactionStatus_resultStandardScheme getScheme() {
-        return new getTransactionStatus_resultStandardScheme();
+    private static class downloadChunk_resultStandardSchemeFactory implements SchemeFactory {
+      public downloadChunk_resultStandardScheme getScheme() {
+        return new downloadChunk_resultStandardScheme();
       }
     }
 
-    private static class getTransactionStatus_resultStandardScheme extends StandardScheme<getTransactionStatus_result> {
+    private static class downloadChunk_resultStandardScheme extends StandardScheme<downloadChunk_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, getTransactionStatus_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, downloadChunk_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -4280,6 +13084,15 @@ public class FileStore {
             break;
           }
           switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new FileChunk();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             case 1: // SYSTEM_EXCEPTION
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
                 struct.systemException = new SystemException();
@@ -4300,10 +13113,15 @@ public class FileStore {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, getTransactionStatus_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, downloadChunk_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
         if (struct.systemException != null) {
           oprot.writeFieldBegin(SYSTEM_EXCEPTION_FIELD_DESC);
           struct.systemException.write(oprot);
@@ -4315,32 +13133,43 @@ public class FileStore {
 
     }
 
-    private static class getTransactionStatus_resultTupleSchemeFactory implements SchemeFactory {
-      public getTransactionStatus_resultTupleScheme getScheme() {
-        return new getTransactionStatus_resultTupleScheme();
+    private static class downloadChunk_resultTupleSchemeFactory implements SchemeFactory {
+      public downloadChunk_resultTupleScheme getScheme() {
+        return new downloadChunk_resultTupleScheme();
       }
     }
 
-    private static class getTransactionStatus_resultTupleScheme extends TupleScheme<getTransactionStatus_result> {
+    private static class downloadChunk_resultTupleScheme extends TupleScheme<downloadChunk_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, getTransactionStatus_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, downloadChunk_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetSystemException()) {
+        if (struct.isSetSuccess()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSystemException()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
         if (struct.isSetSystemException()) {
           struct.systemException.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, getTransactionStatus_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, downloadChunk_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
+          struct.success = new FileChunk();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
           struct.systemException = new SystemException();
           struct.systemException.read(iprot);
           struct.setSystemExceptionIsSet(true);
@@ -32,31 +32,47 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked"})
-@Generated(value = "Autogenerated by Thrift Compiler (0.9.3)", date = "2015-12-09")
+@Generated(value = "Autogenerated by Thrift Compiler (0.9.3)", date = "2026-10-18")
 public class Participant_Interface {
 
   public interface Iface {
 
     public StatusReport canCommit(Transaction tran_info) throws SystemException, org.apache.thrift.TException;
 
+    public StatusReport canCommitBatch(List<Transaction> tran_infos) throws SystemException, org.apache.thrift.TException;
+
     public void doCommit(long tran_id) throws SystemException, org.apache.thrift.TException;
 
     public void doAbort(long tran_id) throws SystemException, org.apache.thrift.TException;
 
     public RFile readFile(Transaction tran_info) throws SystemException, org.apache.thrift.TException;
 
+    public void writeChunk(long tran_id, long offset, ByteBuffer data) throws SystemException, org.apache.thrift.TException;
+
+    public FileChunk readChunk(String filename, long offset, int length) throws SystemException, org.apache.thrift.TException;
+
+    public void ping() throws org.apache.thrift.TException;
+
   }
 
   public interface AsyncIface {
 
     public void canCommit(Transaction tran_info, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void canCommitBatch(List<Transaction> tran_infos, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
     public void doCommit(long tran_id, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
     public void doAbort(long tran_id, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
     public void readFile(Transaction tran_info, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
 
+    public void writeChunk(long tran_id, long offset, ByteBuffer data, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void readChunk(String filename, long offset, int length, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
+    public void ping(org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException;
+
   }
 
   public static class Client extends org.apache.thrift.TServiceClient implements Iface {
@@ -105,6 +121,32 @@ public class Participant_Interface {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "canCommit failed: unknown result");
     }
 
+    public StatusReport canCommitBatch(List<Transaction> tran_infos) throws SystemException, org.apache.thrift.TException
+    {
+      send_canCommitBatch(tran_infos);
+      return recv_canCommitBatch();
+    }
+
+    public void send_canCommitBatch(List<Transaction> tran_infos) throws org.apache.thrift.TException
+    {
+      canCommitBatch_args args = new canCommitBatch_args();
+      args.setTran_infos(tran_infos);
+      sendBase("canCommitBatch", args);
+    }
+
+    public StatusReport recv_canCommitBatch() throws SystemException, org.apache.thrift.TException
+    {
+      canCommitBatch_result result = new canCommitBatch_result();
+      receiveBase(result, "canCommitBatch");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.systemException != null) {
+        throw result.systemException;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "canCommitBatch failed: unknown result");
+    }
+
     public void doCommit(long tran_id) throws SystemException, org.apache.thrift.TException
     {
       send_doCommit(tran_id);
@@ -177,6 +219,78 @@ public class Participant_Interface {
       throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "readFile failed: unknown result");
     }
 
+    public void writeChunk(long tran_id, long offset, ByteBuffer data) throws SystemException, org.apache.thrift.TException
+    {
+      send_writeChunk(tran_id, offset, data);
+      recv_writeChunk();
+    }
+
+    public void send_writeChunk(long tran_id, long offset, ByteBuffer data) throws org.apache.thrift.TException
+    {
+      writeChunk_args args = new writeChunk_args();
+      args.setTran_id(tran_id);
+      args.setOffset(offset);
+      args.setData(data);
+      sendBase("writeChunk", args);
+    }
+
+    public void recv_writeChunk() throws SystemException, org.apache.thrift.TException
+    {
+      writeChunk_result result = new writeChunk_result();
+      receiveBase(result, "writeChunk");
+      if (result.systemException != null) {
+        throw result.systemException;
+      }
+      return;
+    }
+
+    public FileChunk readChunk(String filename, long offset, int length) throws SystemException, org.apache.thrift.TException
+    {
+      send_readChunk(filename, offset, length);
+      return recv_readChunk();
+    }
+
+    public void send_readChunk(String filename, long offset, int length) throws org.apache.thrift.TException
+    {
+      readChunk_args args = new readChunk_args();
+      args.setFilename(filename);
+      args.setOffset(offset);
+      args.setLength(length);
+      sendBase("readChunk", args);
+    }
+
+    public FileChunk recv_readChunk() throws SystemException, org.apache.thrift.TException
+    {
+      readChunk_result result = new readChunk_result();
+      receiveBase(result, "readChunk");
+      if (result.isSetSuccess()) {
+        return result.success;
+      }
+      if (result.systemException != null) {
+        throw result.systemException;
+      }
+      throw new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.MISSING_RESULT, "readChunk failed: unknown result");
+    }
+
+    public void ping() throws org.apache.thrift.TException
+    {
+      send_ping();
+      recv_ping();
+    }
+
+    public void send_ping() throws org.apache.thrift.TException
+    {
+      ping_args args = new ping_args();
+      sendBase("ping", args);
+    }
+
+    public void recv_ping() throws org.apache.thrift.TException
+    {
+      ping_result result = new ping_result();
+      receiveBase(result, "ping");
+      return;
+    }
+
   }
   public static class AsyncClient extends org.apache.thrift.async.TAsyncClient implements AsyncIface {
     public static class Factory implements org.apache.thrift.async.TAsyncClientFactory<AsyncClient> {
@@ -227,6 +341,38 @@ public class Participant_Interface {
       }
     }
 
+    public void canCommitBatch(List<Transaction> tran_infos, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      canCommitBatch_call method_call = new canCommitBatch_call(tran_infos, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class canCommitBatch_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private List<Transaction> tran_infos;
+      public canCommitBatch_call(List<Transaction> tran_infos, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.tran_infos = tran_infos;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("canCommitBatch", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        canCommitBatch_args args = new canCommitBatch_args();
+        args.setTran_infos(tran_infos);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public StatusReport getResult() throws SystemException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_canCommitBatch();
+      }
+    }
+
     public void doCommit(long tran_id, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
       checkReady();
       doCommit_call method_call = new doCommit_call(tran_id, resultHandler, this, ___protocolFactory, ___transport);
@@ -323,6 +469,111 @@ public class Participant_Interface {
       }
     }
 
+    public void writeChunk(long tran_id, long offset, ByteBuffer data, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      writeChunk_call method_call = new writeChunk_call(tran_id, offset, data, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class writeChunk_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private long tran_id;
+      private long offset;
+      private ByteBuffer data;
+      public writeChunk_call(long tran_id, long offset, ByteBuffer data, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.tran_id = tran_id;
+        this.offset = offset;
+        this.data = data;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("writeChunk", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        writeChunk_args args = new writeChunk_args();
+        args.setTran_id(tran_id);
+        args.setOffset(offset);
+        args.setData(data);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public void getResult() throws SystemException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        (new Client(prot)).recv_writeChunk();
+      }
+    }
+
+    public void readChunk(String filename, long offset, int length, org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      readChunk_call method_call = new readChunk_call(filename, offset, length, resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class readChunk_call extends org.apache.thrift.async.TAsyncMethodCall {
+      private String filename;
+      private long offset;
+      private int length;
+      public readChunk_call(String filename, long offset, int length, org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+        this.filename = filename;
+        this.offset = offset;
+        this.length = length;
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("readChunk", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        readChunk_args args = new readChunk_args();
+        args.setFilename(filename);
+        args.setOffset(offset);
+        args.setLength(length);
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public FileChunk getResult() throws SystemException, org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        return (new Client(prot)).recv_readChunk();
+      }
+    }
+
+    public void ping(org.apache.thrift.async.AsyncMethodCallback resultHandler) throws org.apache.thrift.TException {
+      checkReady();
+      ping_call method_call = new ping_call(resultHandler, this, ___protocolFactory, ___transport);
+      this.___currentMethod = method_call;
+      ___manager.call(method_call);
+    }
+
+    public static class ping_call extends org.apache.thrift.async.TAsyncMethodCall {
+      public ping_call(org.apache.thrift.async.AsyncMethodCallback resultHandler, org.apache.thrift.async.TAsyncClient client, org.apache.thrift.protocol.TProtocolFactory protocolFactory, org.apache.thrift.transport.TNonblockingTransport transport) throws org.apache.thrift.TException {
+        super(client, protocolFactory, transport, resultHandler, false);
+      }
+
+      public void write_args(org.apache.thrift.protocol.TProtocol prot) throws org.apache.thrift.TException {
+        prot.writeMessageBegin(new org.apache.thrift.protocol.TMessage("ping", org.apache.thrift.protocol.TMessageType.CALL, 0));
+        ping_args args = new ping_args();
+        args.write(prot);
+        prot.writeMessageEnd();
+      }
+
+      public void getResult() throws org.apache.thrift.TException {
+        if (getState() != org.apache.thrift.async.TAsyncMethodCall.State.RESPONSE_READ) {
+          throw new IllegalStateException("Method call not finished!");
+        }
+        org.apache.thrift.transport.TMemoryInputTransport memoryTransport = new org.apache.thrift.transport.TMemoryInputTransport(getFrameBuffer().array());
+        org.apache.thrift.protocol.TProtocol prot = client.getProtocolFactory().getProtocol(memoryTransport);
+        (new Client(prot)).recv_ping();
+      }
+    }
+
   }
 
   public static class Processor<I extends Iface> extends org.apache.thrift.TBaseProcessor<I> implements org.apache.thrift.TProcessor {
@@ -337,9 +588,13 @@ public class Participant_Interface {
 
     private static <I extends Iface> Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> getProcessMap(Map<String,  org.apache.thrift.ProcessFunction<I, ? extends  org.apache.thrift.TBase>> processMap) {
       processMap.put("canCommit", new canCommit());
+      processMap.put("canCommitBatch", new canCommitBatch());
       processMap.put("doCommit", new doCommit());
       processMap.put("doAbort", new doAbort());
       processMap.put("readFile", new readFile());
+      processMap.put("writeChunk", new writeChunk());
+      processMap.put("readChunk", new readChunk());
+      processMap.put("ping", new ping());
       return processMap;
     }
 
@@ -367,6 +622,30 @@ public class Participant_Interface {
       }
     }
 
+    public static class canCommitBatch<I extends Iface> extends org.apache.thrift.ProcessFunction<I, canCommitBatch_args> {
+      public canCommitBatch() {
+        super("canCommitBatch");
+      }
+
+      public canCommitBatch_args getEmptyArgsInstance() {
+        return new canCommitBatch_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public canCommitBatch_result getResult(I iface, canCommitBatch_args args) throws org.apache.thrift.TException {
+        canCommitBatch_result result = new canCommitBatch_result();
+        try {
+          result.success = iface.canCommitBatch(args.tran_infos);
+        } catch (SystemException systemException) {
+          result.systemException = systemException;
+        }
+        return result;
+      }
+    }
+
     public static class doCommit<I extends Iface> extends org.apache.thrift.ProcessFunction<I, doCommit_args> {
       public doCommit() {
         super("doCommit");
@@ -439,6 +718,74 @@ public class Participant_Interface {
       }
     }
 
+    public static class writeChunk<I extends Iface> extends org.apache.thrift.ProcessFunction<I, writeChunk_args> {
+      public writeChunk() {
+        super("writeChunk");
+      }
+
+      public writeChunk_args getEmptyArgsInstance() {
+        return new writeChunk_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public writeChunk_result getResult(I iface, writeChunk_args args) throws org.apache.thrift.TException {
+        writeChunk_result result = new writeChunk_result();
+        try {
+          iface.writeChunk(args.tran_id, args.offset, args.data);
+        } catch (SystemException systemException) {
+          result.systemException = systemException;
+        }
+        return result;
+      }
+    }
+
+    public static class readChunk<I extends Iface> extends org.apache.thrift.ProcessFunction<I, readChunk_args> {
+      public readChunk() {
+        super("readChunk");
+      }
+
+      public readChunk_args getEmptyArgsInstance() {
+        return new readChunk_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public readChunk_result getResult(I iface, readChunk_args args) throws org.apache.thrift.TException {
+        readChunk_result result = new readChunk_result();
+        try {
+          result.success = iface.readChunk(args.filename, args.offset, args.length);
+        } catch (SystemException systemException) {
+          result.systemException = systemException;
+        }
+        return result;
+      }
+    }
+
+    public static class ping<I extends Iface> extends org.apache.thrift.ProcessFunction<I, ping_args> {
+      public ping() {
+        super("ping");
+      }
+
+      public ping_args getEmptyArgsInstance() {
+        return new ping_args();
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public ping_result getResult(I iface, ping_args args) throws org.apache.thrift.TException {
+        ping_result result = new ping_result();
+        iface.ping();
+        return result;
+      }
+    }
+
   }
 
   public static class AsyncProcessor<I extends AsyncIface> extends org.apache.thrift.TBaseAsyncProcessor<I> {
@@ -453,9 +800,13 @@ public class Participant_Interface {
 
     private static <I extends AsyncIface> Map<String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase,?>> getProcessMap(Map<String,  org.apache.thrift.AsyncProcessFunction<I, ? extends  org.apache.thrift.TBase, ?>> processMap) {
       processMap.put("canCommit", new canCommit());
+      processMap.put("canCommitBatch", new canCommitBatch());
       processMap.put("doCommit", new doCommit());
       processMap.put("doAbort", new doAbort());
       processMap.put("readFile", new readFile());
+      processMap.put("writeChunk", new writeChunk());
+      processMap.put("readChunk", new readChunk());
+      processMap.put("ping", new ping());
       return processMap;
     }
 
@@ -516,20 +867,21 @@ public class Participant_Interface {
       }
     }
 
-    public static class doCommit<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, doCommit_args, Void> {
-      public doCommit() {
-        super("doCommit");
+    public static class canCommitBatch<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, canCommitBatch_args, StatusReport> {
+      public canCommitBatch() {
+        super("canCommitBatch");
       }
 
-      public doCommit_args getEmptyArgsInstance() {
-        return new doCommit_args();
+      public canCommitBatch_args getEmptyArgsInstance() {
+        return new canCommitBatch_args();
       }
 
-      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<StatusReport> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
-        return new AsyncMethodCallback<Void>() { 
-          public void onComplete(Void o) {
-            doCommit_result result = new doCommit_result();
+        return new AsyncMethodCallback<StatusReport>() { 
+          public void onComplete(StatusReport o) {
+            canCommitBatch_result result = new canCommitBatch_result();
+            result.success = o;
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
               return;
@@ -541,7 +893,7 @@ public class Participant_Interface {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            doCommit_result result = new doCommit_result();
+            canCommitBatch_result result = new canCommitBatch_result();
             if (e instanceof SystemException) {
                         result.systemException = (SystemException) e;
                         result.setSystemExceptionIsSet(true);
@@ -567,25 +919,25 @@ public class Participant_Interface {
         return false;
       }
 
-      public void start(I iface, doCommit_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
-        iface.doCommit(args.tran_id,resultHandler);
+      public void start(I iface, canCommitBatch_args args, org.apache.thrift.async.AsyncMethodCallback<StatusReport> resultHandler) throws TException {
+        iface.canCommitBatch(args.tran_infos,resultHandler);
       }
     }
 
-    public static class doAbort<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, doAbort_args, Void> {
-      public doAbort() {
-        super("doAbort");
+    public static class doCommit<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, doCommit_args, Void> {
+      public doCommit() {
+        super("doCommit");
       }
 
-      public doAbort_args getEmptyArgsInstance() {
-        return new doAbort_args();
+      public doCommit_args getEmptyArgsInstance() {
+        return new doCommit_args();
       }
 
       public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
         return new AsyncMethodCallback<Void>() { 
           public void onComplete(Void o) {
-            doAbort_result result = new doAbort_result();
+            doCommit_result result = new doCommit_result();
             try {
               fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
               return;
@@ -597,7 +949,7 @@ public class Participant_Interface {
           public void onError(Exception e) {
             byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
             org.apache.thrift.TBase msg;
-            doAbort_result result = new doAbort_result();
+            doCommit_result result = new doCommit_result();
             if (e instanceof SystemException) {
                         result.systemException = (SystemException) e;
                         result.setSystemExceptionIsSet(true);
@@ -623,21 +975,77 @@ public class Participant_Interface {
         return false;
       }
 
-      public void start(I iface, doAbort_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
-        iface.doAbort(args.tran_id,resultHandler);
+      public void start(I iface, doCommit_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.doCommit(args.tran_id,resultHandler);
       }
     }
 
-    public static class readFile<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, readFile_args, RFile> {
-      public readFile() {
-        super("readFile");
+    public static class doAbort<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, doAbort_args, Void> {
+      public doAbort() {
+        super("doAbort");
       }
 
-      public readFile_args getEmptyArgsInstance() {
-        return new readFile_args();
+      public doAbort_args getEmptyArgsInstance() {
+        return new doAbort_args();
       }
 
-      public AsyncMethodCallback<RFile> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            doAbort_result result = new doAbort_result();
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            doAbort_result result = new doAbort_result();
+            if (e instanceof SystemException) {
+                        result.systemException = (SystemException) e;
+                        result.setSystemExceptionIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, doAbort_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.doAbort(args.tran_id,resultHandler);
+      }
+    }
+
+    public static class readFile<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, readFile_args, RFile> {
+      public readFile() {
+        super("readFile");
+      }
+
+      public readFile_args getEmptyArgsInstance() {
+        return new readFile_args();
+      }
+
+      public AsyncMethodCallback<RFile> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
         final org.apache.thrift.AsyncProcessFunction fcall = this;
         return new AsyncMethodCallback<RFile>() { 
           public void onComplete(RFile o) {
@@ -685,6 +1093,169 @@ public class Participant_Interface {
       }
     }
 
+    public static class writeChunk<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, writeChunk_args, Void> {
+      public writeChunk() {
+        super("writeChunk");
+      }
+
+      public writeChunk_args getEmptyArgsInstance() {
+        return new writeChunk_args();
+      }
+
+      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            writeChunk_result result = new writeChunk_result();
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            writeChunk_result result = new writeChunk_result();
+            if (e instanceof SystemException) {
+                        result.systemException = (SystemException) e;
+                        result.setSystemExceptionIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, writeChunk_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.writeChunk(args.tran_id, args.offset, args.data,resultHandler);
+      }
+    }
+
+    public static class readChunk<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, readChunk_args, FileChunk> {
+      public readChunk() {
+        super("readChunk");
+      }
+
+      public readChunk_args getEmptyArgsInstance() {
+        return new readChunk_args();
+      }
+
+      public AsyncMethodCallback<FileChunk> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<FileChunk>() { 
+          public void onComplete(FileChunk o) {
+            readChunk_result result = new readChunk_result();
+            result.success = o;
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            readChunk_result result = new readChunk_result();
+            if (e instanceof SystemException) {
+                        result.systemException = (SystemException) e;
+                        result.setSystemExceptionIsSet(true);
+                        msg = result;
+            }
+             else 
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, readChunk_args args, org.apache.thrift.async.AsyncMethodCallback<FileChunk> resultHandler) throws TException {
+        iface.readChunk(args.filename, args.offset, args.length,resultHandler);
+      }
+    }
+
+    public static class ping<I extends AsyncIface> extends org.apache.thrift.AsyncProcessFunction<I, ping_args, Void> {
+      public ping() {
+        super("ping");
+      }
+
+      public ping_args getEmptyArgsInstance() {
+        return new ping_args();
+      }
+
+      public AsyncMethodCallback<Void> getResultHandler(final AsyncFrameBuffer fb, final int seqid) {
+        final org.apache.thrift.AsyncProcessFunction fcall = this;
+        return new AsyncMethodCallback<Void>() { 
+          public void onComplete(Void o) {
+            ping_result result = new ping_result();
+            try {
+              fcall.sendResponse(fb,result, org.apache.thrift.protocol.TMessageType.REPLY,seqid);
+              return;
+            } catch (Exception e) {
+              LOGGER.error("Exception writing to internal frame buffer", e);
+            }
+            fb.close();
+          }
+          public void onError(Exception e) {
+            byte msgType = org.apache.thrift.protocol.TMessageType.REPLY;
+            org.apache.thrift.TBase msg;
+            ping_result result = new ping_result();
+            {
+              msgType = org.apache.thrift.protocol.TMessageType.EXCEPTION;
+              msg = (org.apache.thrift.TBase)new org.apache.thrift.TApplicationException(org.apache.thrift.TApplicationException.INTERNAL_ERROR, e.getMessage());
+            }
+            try {
+              fcall.sendResponse(fb,msg,msgType,seqid);
+              return;
+            } catch (Exception ex) {
+              LOGGER.error("Exception writing to internal frame buffer", ex);
+            }
+            fb.close();
+          }
+        };
+      }
+
+      protected boolean isOneway() {
+        return false;
+      }
+
+      public void start(I iface, ping_args args, org.apache.thrift.async.AsyncMethodCallback<Void> resultHandler) throws TException {
+        iface.ping(resultHandler);
+      }
+    }
+
   }
 
   public static class canCommit_args implements org.apache.thrift.TBase<canCommit_args, canCommit_args._Fields>, java.io.Serializable, Cloneable, Comparable<canCommit_args>   {
@@ -1526,22 +2097,22 @@ public class Participant_Interface {
 
   }
 
-  public static class doCommit_args implements org.apache.thrift.TBase<doCommit_args, doCommit_args._Fields>, java.io.Serializable, Cloneable, Comparable<doCommit_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("doCommit_args");
+  public static class canCommitBatch_args implements org.apache.thrift.TBase<canCommitBatch_args, canCommitBatch_args._Fields>, java.io.Serializable, Cloneable, Comparable<canCommitBatch_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("canCommitBatch_args");
 
-    private static final org.apache.thrift.protocol.TField TRAN_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("tran_id", org.apache.thrift.protocol.TType.I64, (short)1);
+    private static final org.apache.thrift.protocol.TField TRAN_INFOS_FIELD_DESC = new org.apache.thrift.protocol.TField("tran_infos", org.apache.thrift.protocol.TType.LIST, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new doCommit_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new doCommit_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new canCommitBatch_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new canCommitBatch_argsTupleSchemeFactory());
     }
 
-    public long tran_id; // required
+    public List<Transaction> tran_infos; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      TRAN_ID((short)1, "tran_id");
+      TRAN_INFOS((short)1, "tran_infos");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -1556,8 +2127,8 @@ public class Participant_Interface {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // TRAN_ID
-            return TRAN_ID;
+          case 1: // TRAN_INFOS
+            return TRAN_INFOS;
           default:
             return null;
         }
@@ -1598,76 +2169,94 @@ public class Participant_Interface {
     }
 
     // isset id assignments
-    private static final int __TRAN_ID_ISSET_ID = 0;
-    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.TRAN_ID, new org.apache.thrift.meta_data.FieldMetaData("tran_id", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.TRAN_INFOS, new org.apache.thrift.meta_data.FieldMetaData("tran_infos", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.ListMetaData(org.apache.thrift.protocol.TType.LIST, 
+              new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, Transaction.class))));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(doCommit_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(canCommitBatch_args.class, metaDataMap);
     }
 
-    public doCommit_args() {
+    public canCommitBatch_args() {
     }
 
-    public doCommit_args(
-      long tran_id)
+    public canCommitBatch_args(
+      List<Transaction> tran_infos)
     {
       this();
-      this.tran_id = tran_id;
-      setTran_idIsSet(true);
+      this.tran_infos = tran_infos;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public doCommit_args(doCommit_args other) {
-      __isset_bitfield = other.__isset_bitfield;
-      this.tran_id = other.tran_id;
+    public canCommitBatch_args(canCommitBatch_args other) {
+      if (other.isSetTran_infos()) {
+        List<Transaction> __this__tran_infos = new ArrayList<Transaction>(other.tran_infos.size());
+        for (Transaction other_element : other.tran_infos) {
+          __this__tran_infos.add(new Transaction(other_element));
+        }
+        this.tran_infos = __this__tran_infos;
+      }
     }
 
-    public doCommit_args deepCopy() {
-      return new doCommit_args(this);
+    public canCommitBatch_args deepCopy() {
+      return new canCommitBatch_args(this);
     }
 
     @Override
     public void clear() {
-      setTran_idIsSet(false);
-      this.tran_id = 0;
+      this.tran_infos = null;
     }
 
-    public long getTran_id() {
-      return this.tran_id;
+    public int getTran_infosSize() {
+      return (this.tran_infos == null) ? 0 : this.tran_infos.size();
     }
 
-    public doCommit_args setTran_id(long tran_id) {
-      this.tran_id = tran_id;
-      setTran_idIsSet(true);
+    public java.util.Iterator<Transaction> getTran_infosIterator() {
+      return (this.tran_infos == null) ? null : this.tran_infos.iterator();
+    }
+
+    public void addToTran_infos(Transaction elem) {
+      if (this.tran_infos == null) {
+        this.tran_infos = new ArrayList<Transaction>();
+      }
+      this.tran_infos.add(elem);
+    }
+
+    public List<Transaction> getTran_infos() {
+      return this.tran_infos;
+    }
+
+    public canCommitBatch_args setTran_infos(List<Transaction> tran_infos) {
+      this.tran_infos = tran_infos;
       return this;
     }
 
-    public void unsetTran_id() {
-      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __TRAN_ID_ISSET_ID);
+    public void unsetTran_infos() {
+      this.tran_infos = null;
     }
 
-    /** Returns true if field tran_id is set (has been assigned a value) and false otherwise */
-    public boolean isSetTran_id() {
-      return EncodingUtils.testBit(__isset_bitfield, __TRAN_ID_ISSET_ID);
+    /** Returns true if field tran_infos is set (has been assigned a value) and false otherwise */
+    public boolean isSetTran_infos() {
+      return this.tran_infos != null;
     }
 
-    public void setTran_idIsSet(boolean value) {
-      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __TRAN_ID_ISSET_ID, value);
+    public void setTran_infosIsSet(boolean value) {
+      if (!value) {
+        this.tran_infos = null;
+      }
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case TRAN_ID:
+      case TRAN_INFOS:
         if (value == null) {
-          unsetTran_id();
+          unsetTran_infos();
         } else {
-          setTran_id((Long)value);
+          setTran_infos((List<Transaction>)value);
         }
         break;
 
@@ -1676,8 +2265,8 @@ public class Participant_Interface {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case TRAN_ID:
-        return getTran_id();
+      case TRAN_INFOS:
+        return getTran_infos();
 
       }
       throw new IllegalStateException();
@@ -1690,8 +2279,8 @@ public class Participant_Interface {
       }
 
       switch (field) {
-      case TRAN_ID:
-        return isSetTran_id();
+      case TRAN_INFOS:
+        return isSetTran_infos();
       }
       throw new IllegalStateException();
     }
@@ -1700,21 +2289,21 @@ public class Participant_Interface {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof doCommit_args)
-        return this.equals((doCommit_args)that);
+      if (that instanceof canCommitBatch_args)
+        return this.equals((canCommitBatch_args)that);
       return false;
     }
 
-    public boolean equals(doCommit_args that) {
+    public boolean equals(canCommitBatch_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_tran_id = true;
-      boolean that_present_tran_id = true;
-      if (this_present_tran_id || that_present_tran_id) {
-        if (!(this_present_tran_id && that_present_tran_id))
+      boolean this_present_tran_infos = true && this.isSetTran_infos();
+      boolean that_present_tran_infos = true && that.isSetTran_infos();
+      if (this_present_tran_infos || that_present_tran_infos) {
+        if (!(this_present_tran_infos && that_present_tran_infos))
           return false;
-        if (this.tran_id != that.tran_id)
+        if (!this.tran_infos.equals(that.tran_infos))
           return false;
       }
 
@@ -1725,28 +2314,28 @@ public class Participant_Interface {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_tran_id = true;
-      list.add(present_tran_id);
-      if (present_tran_id)
-        list.add(tran_id);
+      boolean present_tran_infos = true && (isSetTran_infos());
+      list.add(present_tran_infos);
+      if (present_tran_infos)
+        list.add(tran_infos);
 
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(doCommit_args other) {
+    public int compareTo(canCommitBatch_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetTran_id()).compareTo(other.isSetTran_id());
+      lastComparison = Boolean.valueOf(isSetTran_infos()).compareTo(other.isSetTran_infos());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetTran_id()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.tran_id, other.tran_id);
+      if (isSetTran_infos()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.tran_infos, other.tran_infos);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -1768,11 +2357,15 @@ public class Participant_Interface {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("doCommit_args(");
+      StringBuilder sb = new StringBuilder("canCommitBatch_args(");
       boolean first = true;
 
-      sb.append("tran_id:");
-      sb.append(this.tran_id);
+      sb.append("tran_infos:");
+      if (this.tran_infos == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.tran_infos);
+      }
       first = false;
       sb.append(")");
       return sb.toString();
@@ -1793,23 +2386,21 @@ public class Participant_Interface {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
-        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
-        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class doCommit_argsStandardSchemeFactory implements SchemeFactory {
-      public doCommit_argsStandardScheme getScheme() {
-        return new doCommit_argsStandardScheme();
+    private static class canCommitBatch_argsStandardSchemeFactory implements SchemeFactory {
+      public canCommitBatch_argsStandardScheme getScheme() {
+        return new canCommitBatch_argsStandardScheme();
       }
     }
 
-    private static class doCommit_argsStandardScheme extends StandardScheme<doCommit_args> {
+    private static class canCommitBatch_argsStandardScheme extends StandardScheme<canCommitBatch_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, doCommit_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, canCommitBatch_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -1819,10 +2410,21 @@ public class Participant_Interface {
             break;
           }
           switch (schemeField.id) {
-            case 1: // TRAN_ID
-              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
-                struct.tran_id = iprot.readI64();
-                struct.setTran_idIsSet(true);
+            case 1: // TRAN_INFOS
+              if (schemeField.type == org.apache.thrift.protocol.TType.LIST) {
+                {
+                  org.apache.thrift.protocol.TList _list24 = iprot.readListBegin();
+                  struct.tran_infos = new ArrayList<Transaction>(_list24.size);
+                  Transaction _elem25;
+                  for (int _i26 = 0; _i26 < _list24.size; ++_i26)
+                  {
+                    _elem25 = new Transaction();
+                    _elem25.read(iprot);
+                    struct.tran_infos.add(_elem25);
+                  }
+                  iprot.readListEnd();
+                }
+                struct.setTran_infosIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -1838,68 +2440,96 @@ public class Participant_Interface {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, doCommit_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, canCommitBatch_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        oprot.writeFieldBegin(TRAN_ID_FIELD_DESC);
-        oprot.writeI64(struct.tran_id);
-        oprot.writeFieldEnd();
+        if (struct.tran_infos != null) {
+          oprot.writeFieldBegin(TRAN_INFOS_FIELD_DESC);
+          {
+            oprot.writeListBegin(new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, struct.tran_infos.size()));
+            for (Transaction _iter27 : struct.tran_infos)
+            {
+              _iter27.write(oprot);
+            }
+            oprot.writeListEnd();
+          }
+          oprot.writeFieldEnd();
+        }
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class doCommit_argsTupleSchemeFactory implements SchemeFactory {
-      public doCommit_argsTupleScheme getScheme() {
-        return new doCommit_argsTupleScheme();
+    private static class canCommitBatch_argsTupleSchemeFactory implements SchemeFactory {
+      public canCommitBatch_argsTupleScheme getScheme() {
+        return new canCommitBatch_argsTupleScheme();
       }
     }
 
-    private static class doCommit_argsTupleScheme extends TupleScheme<doCommit_args> {
+    private static class canCommitBatch_argsTupleScheme extends TupleScheme<canCommitBatch_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, doCommit_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, canCommitBatch_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetTran_id()) {
+        if (struct.isSetTran_infos()) {
           optionals.set(0);
         }
         oprot.writeBitSet(optionals, 1);
-        if (struct.isSetTran_id()) {
-          oprot.writeI64(struct.tran_id);
+        if (struct.isSetTran_infos()) {
+          {
+            oprot.writeI32(struct.tran_infos.size());
+            for (Transaction _iter28 : struct.tran_infos)
+            {
+              _iter28.write(oprot);
+            }
+          }
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, doCommit_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, canCommitBatch_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.tran_id = iprot.readI64();
-          struct.setTran_idIsSet(true);
+          {
+            org.apache.thrift.protocol.TList _list29 = new org.apache.thrift.protocol.TList(org.apache.thrift.protocol.TType.STRUCT, iprot.readI32());
+            struct.tran_infos = new ArrayList<Transaction>(_list29.size);
+            Transaction _elem30;
+            for (int _i31 = 0; _i31 < _list29.size; ++_i31)
+            {
+              _elem30 = new Transaction();
+              _elem30.read(iprot);
+              struct.tran_infos.add(_elem30);
+            }
+          }
+          struct.setTran_infosIsSet(true);
         }
       }
     }
 
   }
 
-  public static class doCommit_result implements org.apache.thrift.TBase<doCommit_result, doCommit_result._Fields>, java.io.Serializable, Cloneable, Comparable<doCommit_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("doCommit_result");
+  public static class canCommitBatch_result implements org.apache.thrift.TBase<canCommitBatch_result, canCommitBatch_result._Fields>, java.io.Serializable, Cloneable, Comparable<canCommitBatch_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("canCommitBatch_result");
 
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
     private static final org.apache.thrift.protocol.TField SYSTEM_EXCEPTION_FIELD_DESC = new org.apache.thrift.protocol.TField("systemException", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new doCommit_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new doCommit_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new canCommitBatch_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new canCommitBatch_resultTupleSchemeFactory());
     }
 
+    public StatusReport success; // required
     public SystemException systemException; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
       SYSTEM_EXCEPTION((short)1, "systemException");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
@@ -1915,6 +2545,8 @@ public class Participant_Interface {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
           case 1: // SYSTEM_EXCEPTION
             return SYSTEM_EXCEPTION;
           default:
@@ -1960,45 +2592,77 @@ public class Participant_Interface {
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, StatusReport.class)));
       tmpMap.put(_Fields.SYSTEM_EXCEPTION, new org.apache.thrift.meta_data.FieldMetaData("systemException", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(doCommit_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(canCommitBatch_result.class, metaDataMap);
     }
 
-    public doCommit_result() {
+    public canCommitBatch_result() {
     }
 
-    public doCommit_result(
+    public canCommitBatch_result(
+      StatusReport success,
       SystemException systemException)
     {
       this();
+      this.success = success;
       this.systemException = systemException;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public doCommit_result(doCommit_result other) {
+    public canCommitBatch_result(canCommitBatch_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new StatusReport(other.success);
+      }
       if (other.isSetSystemException()) {
         this.systemException = new SystemException(other.systemException);
       }
     }
 
-    public doCommit_result deepCopy() {
-      return new doCommit_result(this);
+    public canCommitBatch_result deepCopy() {
+      return new canCommitBatch_result(this);
     }
 
     @Override
     public void clear() {
+      this.success = null;
       this.systemException = null;
     }
 
+    public StatusReport getSuccess() {
+      return this.success;
+    }
+
+    public canCommitBatch_result setSuccess(StatusReport success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
     public SystemException getSystemException() {
       return this.systemException;
     }
 
-    public doCommit_result setSystemException(SystemException systemException) {
+    public canCommitBatch_result setSystemException(SystemException systemException) {
       this.systemException = systemException;
       return this;
     }
@@ -2020,6 +2684,14 @@ public class Participant_Interface {
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((StatusReport)value);
+        }
+        break;
+
       case SYSTEM_EXCEPTION:
         if (value == null) {
           unsetSystemException();
@@ -2033,6 +2705,9 @@ public class Participant_Interface {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
       case SYSTEM_EXCEPTION:
         return getSystemException();
 
@@ -2047,6 +2722,8 @@ public class Participant_Interface {
       }
 
       switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
       case SYSTEM_EXCEPTION:
         return isSetSystemException();
       }
@@ -2057,15 +2734,24 @@ public class Participant_Interface {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof doCommit_result)
-        return this.equals((doCommit_result)that);
+      if (that instanceof canCommitBatch_result)
+        return this.equals((canCommitBatch_result)that);
       return false;
     }
 
-    public boolean equals(doCommit_result that) {
+    public boolean equals(canCommitBatch_result that) {
       if (that == null)
         return false;
 
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
       boolean this_present_systemException = true && this.isSetSystemException();
       boolean that_present_systemException = true && that.isSetSystemException();
       if (this_present_systemException || that_present_systemException) {
@@ -2082,6 +2768,11 @@ public class Participant_Interface {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
       boolean present_systemException = true && (isSetSystemException());
       list.add(present_systemException);
       if (present_systemException)
@@ -2091,13 +2782,23 @@ public class Participant_Interface {
     }
 
     @Override
-    public int compareTo(doCommit_result other) {
+    public int compareTo(canCommitBatch_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
       lastComparison = Boolean.valueOf(isSetSystemException()).compareTo(other.isSetSystemException());
       if (lastComparison != 0) {
         return lastComparison;
@@ -2125,9 +2826,17 @@ public class Participant_Interface {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("doCommit_result(");
+      StringBuilder sb = new StringBuilder("canCommitBatch_result(");
       boolean first = true;
 
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
       sb.append("systemException:");
       if (this.systemException == null) {
         sb.append("null");
@@ -2142,6 +2851,9 @@ public class Participant_Interface {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -2160,15 +2872,15 @@ public class Participant_Interface {
       }
     }
 
-    private static class doCommit_resultStandardSchemeFactory implements SchemeFactory {
-      public doCommit_resultStandardScheme getScheme() {
-        return new doCommit_resultStandardScheme();
+    private static class canCommitBatch_resultStandardSchemeFactory implements SchemeFactory {
+      public canCommitBatch_resultStandardScheme getScheme() {
+        return new canCommitBatch_resultStandardScheme();
       }
     }
 
-    private static class doCommit_resultStandardScheme extends StandardScheme<doCommit_result> {
+    private static class canCommitBatch_resultStandardScheme extends StandardScheme<canCommitBatch_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, doCommit_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, canCommitBatch_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -2178,6 +2890,15 @@ public class Participant_Interface {
             break;
           }
           switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new StatusReport();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
             case 1: // SYSTEM_EXCEPTION
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
                 struct.systemException = new SystemException();
@@ -2198,10 +2919,15 @@ public class Participant_Interface {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, doCommit_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, canCommitBatch_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
         if (struct.systemException != null) {
           oprot.writeFieldBegin(SYSTEM_EXCEPTION_FIELD_DESC);
           struct.systemException.write(oprot);
@@ -2213,32 +2939,43 @@ public class Participant_Interface {
 
     }
 
-    private static class doCommit_resultTupleSchemeFactory implements SchemeFactory {
-      public doCommit_resultTupleScheme getScheme() {
-        return new doCommit_resultTupleScheme();
+    private static class canCommitBatch_resultTupleSchemeFactory implements SchemeFactory {
+      public canCommitBatch_resultTupleScheme getScheme() {
+        return new canCommitBatch_resultTupleScheme();
       }
     }
 
-    private static class doCommit_resultTupleScheme extends TupleScheme<doCommit_result> {
+    private static class canCommitBatch_resultTupleScheme extends TupleScheme<canCommitBatch_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, doCommit_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, canCommitBatch_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetSystemException()) {
+        if (struct.isSetSuccess()) {
           optionals.set(0);
         }
-        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSystemException()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
         if (struct.isSetSystemException()) {
           struct.systemException.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, doCommit_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, canCommitBatch_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(1);
+        BitSet incoming = iprot.readBitSet(2);
         if (incoming.get(0)) {
+          struct.success = new StatusReport();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
           struct.systemException = new SystemException();
           struct.systemException.read(iprot);
           struct.setSystemExceptionIsSet(true);
@@ -2248,15 +2985,15 @@ public class Participant_Interface {
 
   }
 
-  public static class doAbort_args implements org.apache.thrift.TBase<doAbort_args, doAbort_args._Fields>, java.io.Serializable, Cloneable, Comparable<doAbort_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("doAbort_args");
+  public static class doCommit_args implements org.apache.thrift.TBase<doCommit_args, doCommit_args._Fields>, java.io.Serializable, Cloneable, Comparable<doCommit_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("doCommit_args");
 
     private static final org.apache.thrift.protocol.TField TRAN_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("tran_id", org.apache.thrift.protocol.TType.I64, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new doAbort_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new doAbort_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new doCommit_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new doCommit_argsTupleSchemeFactory());
     }
 
     public long tran_id; // required
@@ -2328,13 +3065,13 @@ public class Participant_Interface {
       tmpMap.put(_Fields.TRAN_ID, new org.apache.thrift.meta_data.FieldMetaData("tran_id", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(doAbort_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(doCommit_args.class, metaDataMap);
     }
 
-    public doAbort_args() {
+    public doCommit_args() {
     }
 
-    public doAbort_args(
+    public doCommit_args(
       long tran_id)
     {
       this();
@@ -2345,13 +3082,13 @@ public class Participant_Interface {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public doAbort_args(doAbort_args other) {
+    public doCommit_args(doCommit_args other) {
       __isset_bitfield = other.__isset_bitfield;
       this.tran_id = other.tran_id;
     }
 
-    public doAbort_args deepCopy() {
-      return new doAbort_args(this);
+    public doCommit_args deepCopy() {
+      return new doCommit_args(this);
     }
 
     @Override
@@ -2364,7 +3101,7 @@ public class Participant_Interface {
       return this.tran_id;
     }
 
-    public doAbort_args setTran_id(long tran_id) {
+    public doCommit_args setTran_id(long tran_id) {
       this.tran_id = tran_id;
       setTran_idIsSet(true);
       return this;
@@ -2422,12 +3159,12 @@ public class Participant_Interface {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof doAbort_args)
-        return this.equals((doAbort_args)that);
+      if (that instanceof doCommit_args)
+        return this.equals((doCommit_args)that);
       return false;
     }
 
-    public boolean equals(doAbort_args that) {
+    public boolean equals(doCommit_args that) {
       if (that == null)
         return false;
 
@@ -2456,7 +3193,7 @@ public class Participant_Interface {
     }
 
     @Override
-    public int compareTo(doAbort_args other) {
+    public int compareTo(doCommit_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -2490,7 +3227,7 @@ public class Participant_Interface {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("doAbort_args(");
+      StringBuilder sb = new StringBuilder("doCommit_args(");
       boolean first = true;
 
       sb.append("tran_id:");
@@ -2523,15 +3260,15 @@ public class Participant_Interface {
       }
     }
 
-    private static class doAbort_argsStandardSchemeFactory implements SchemeFactory {
-      public doAbort_argsStandardScheme getScheme() {
-        return new doAbort_argsStandardScheme();
+    private static class doCommit_argsStandardSchemeFactory implements SchemeFactory {
+      public doCommit_argsStandardScheme getScheme() {
+        return new doCommit_argsStandardScheme();
       }
     }
 
-    private static class doAbort_argsStandardScheme extends StandardScheme<doAbort_args> {
+    private static class doCommit_argsStandardScheme extends StandardScheme<doCommit_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, doAbort_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, doCommit_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -2560,7 +3297,7 @@ public class Participant_Interface {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, doAbort_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, doCommit_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -2573,16 +3310,16 @@ public class Participant_Interface {
 
     }
 
-    private static class doAbort_argsTupleSchemeFactory implements SchemeFactory {
-      public doAbort_argsTupleScheme getScheme() {
-        return new doAbort_argsTupleScheme();
+    private static class doCommit_argsTupleSchemeFactory implements SchemeFactory {
+      public doCommit_argsTupleScheme getScheme() {
+        return new doCommit_argsTupleScheme();
       }
     }
 
-    private static class doAbort_argsTupleScheme extends TupleScheme<doAbort_args> {
+    private static class doCommit_argsTupleScheme extends TupleScheme<doCommit_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, doAbort_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, doCommit_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetTran_id()) {
@@ -2595,7 +3332,7 @@ public class Participant_Interface {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, doAbort_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, doCommit_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
@@ -2607,15 +3344,15 @@ public class Participant_Interface {
 
   }
 
-  public static class doAbort_result implements org.apache.thrift.TBase<doAbort_result, doAbort_result._Fields>, java.io.Serializable, Cloneable, Comparable<doAbort_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("doAbort_result");
+  public static class doCommit_result implements org.apache.thrift.TBase<doCommit_result, doCommit_result._Fields>, java.io.Serializable, Cloneable, Comparable<doCommit_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("doCommit_result");
 
     private static final org.apache.thrift.protocol.TField SYSTEM_EXCEPTION_FIELD_DESC = new org.apache.thrift.protocol.TField("systemException", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new doAbort_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new doAbort_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new doCommit_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new doCommit_resultTupleSchemeFactory());
     }
 
     public SystemException systemException; // required
@@ -2685,13 +3422,13 @@ public class Participant_Interface {
       tmpMap.put(_Fields.SYSTEM_EXCEPTION, new org.apache.thrift.meta_data.FieldMetaData("systemException", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(doAbort_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(doCommit_result.class, metaDataMap);
     }
 
-    public doAbort_result() {
+    public doCommit_result() {
     }
 
-    public doAbort_result(
+    public doCommit_result(
       SystemException systemException)
     {
       this();
@@ -2701,14 +3438,14 @@ public class Participant_Interface {
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public doAbort_result(doAbort_result other) {
+    public doCommit_result(doCommit_result other) {
       if (other.isSetSystemException()) {
         this.systemException = new SystemException(other.systemException);
       }
     }
 
-    public doAbort_result deepCopy() {
-      return new doAbort_result(this);
+    public doCommit_result deepCopy() {
+      return new doCommit_result(this);
     }
 
     @Override
@@ -2720,7 +3457,7 @@ public class Participant_Interface {
       return this.systemException;
     }
 
-    public doAbort_result setSystemException(SystemException systemException) {
+    public doCommit_result setSystemException(SystemException systemException) {
       this.systemException = systemException;
       return this;
     }
@@ -2779,12 +3516,12 @@ public class Participant_Interface {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof doAbort_result)
-        return this.equals((doAbort_result)that);
+      if (that instanceof doCommit_result)
+        return this.equals((doCommit_result)that);
       return false;
     }
 
-    public boolean equals(doAbort_result that) {
+    public boolean equals(doCommit_result that) {
       if (that == null)
         return false;
 
@@ -2813,7 +3550,7 @@ public class Participant_Interface {
     }
 
     @Override
-    public int compareTo(doAbort_result other) {
+    public int compareTo(doCommit_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
@@ -2847,7 +3584,7 @@ public class Participant_Interface {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("doAbort_result(");
+      StringBuilder sb = new StringBuilder("doCommit_result(");
       boolean first = true;
 
       sb.append("systemException:");
@@ -2882,15 +3619,15 @@ public class Participant_Interface {
       }
     }
 
-    private static class doAbort_resultStandardSchemeFactory implements SchemeFactory {
-      public doAbort_resultStandardScheme getScheme() {
-        return new doAbort_resultStandardScheme();
+    private static class doCommit_resultStandardSchemeFactory implements SchemeFactory {
+      public doCommit_resultStandardScheme getScheme() {
+        return new doCommit_resultStandardScheme();
       }
     }
 
-    private static class doAbort_resultStandardScheme extends StandardScheme<doAbort_result> {
+    private static class doCommit_resultStandardScheme extends StandardScheme<doCommit_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, doAbort_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, doCommit_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -2920,7 +3657,7 @@ public class Participant_Interface {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, doAbort_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, doCommit_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
@@ -2935,16 +3672,16 @@ public class Participant_Interface {
 
     }
 
-    private static class doAbort_resultTupleSchemeFactory implements SchemeFactory {
-      public doAbort_resultTupleScheme getScheme() {
-        return new doAbort_resultTupleScheme();
+    private static class doCommit_resultTupleSchemeFactory implements SchemeFactory {
+      public doCommit_resultTupleScheme getScheme() {
+        return new doCommit_resultTupleScheme();
       }
     }
 
-    private static class doAbort_resultTupleScheme extends TupleScheme<doAbort_result> {
+    private static class doCommit_resultTupleScheme extends TupleScheme<doCommit_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, doAbort_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, doCommit_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
         if (struct.isSetSystemException()) {
@@ -2957,7 +3694,7 @@ public class Participant_Interface {
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, doAbort_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, doCommit_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
@@ -2970,22 +3707,22 @@ public class Participant_Interface {
 
   }
 
-  public static class readFile_args implements org.apache.thrift.TBase<readFile_args, readFile_args._Fields>, java.io.Serializable, Cloneable, Comparable<readFile_args>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("readFile_args");
+  public static class doAbort_args implements org.apache.thrift.TBase<doAbort_args, doAbort_args._Fields>, java.io.Serializable, Cloneable, Comparable<doAbort_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("doAbort_args");
 
-    private static final org.apache.thrift.protocol.TField TRAN_INFO_FIELD_DESC = new org.apache.thrift.protocol.TField("tran_info", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+    private static final org.apache.thrift.protocol.TField TRAN_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("tran_id", org.apache.thrift.protocol.TType.I64, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new readFile_argsStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new readFile_argsTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new doAbort_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new doAbort_argsTupleSchemeFactory());
     }
 
-    public Transaction tran_info; // required
+    public long tran_id; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      TRAN_INFO((short)1, "tran_info");
+      TRAN_ID((short)1, "tran_id");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -3000,8 +3737,8 @@ public class Participant_Interface {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 1: // TRAN_INFO
-            return TRAN_INFO;
+          case 1: // TRAN_ID
+            return TRAN_ID;
           default:
             return null;
         }
@@ -3042,74 +3779,76 @@ public class Participant_Interface {
     }
 
     // isset id assignments
+    private static final int __TRAN_ID_ISSET_ID = 0;
+    private byte __isset_bitfield = 0;
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.TRAN_INFO, new org.apache.thrift.meta_data.FieldMetaData("tran_info", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, Transaction.class)));
+      tmpMap.put(_Fields.TRAN_ID, new org.apache.thrift.meta_data.FieldMetaData("tran_id", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(readFile_args.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(doAbort_args.class, metaDataMap);
     }
 
-    public readFile_args() {
+    public doAbort_args() {
     }
 
-    public readFile_args(
-      Transaction tran_info)
+    public doAbort_args(
+      long tran_id)
     {
       this();
-      this.tran_info = tran_info;
+      this.tran_id = tran_id;
+      setTran_idIsSet(true);
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public readFile_args(readFile_args other) {
-      if (other.isSetTran_info()) {
-        this.tran_info = new Transaction(other.tran_info);
-      }
+    public doAbort_args(doAbort_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.tran_id = other.tran_id;
     }
 
-    public readFile_args deepCopy() {
-      return new readFile_args(this);
+    public doAbort_args deepCopy() {
+      return new doAbort_args(this);
     }
 
     @Override
     public void clear() {
-      this.tran_info = null;
+      setTran_idIsSet(false);
+      this.tran_id = 0;
     }
 
-    public Transaction getTran_info() {
-      return this.tran_info;
+    public long getTran_id() {
+      return this.tran_id;
     }
 
-    public readFile_args setTran_info(Transaction tran_info) {
-      this.tran_info = tran_info;
+    public doAbort_args setTran_id(long tran_id) {
+      this.tran_id = tran_id;
+      setTran_idIsSet(true);
       return this;
     }
 
-    public void unsetTran_info() {
-      this.tran_info = null;
+    public void unsetTran_id() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __TRAN_ID_ISSET_ID);
     }
 
-    /** Returns true if field tran_info is set (has been assigned a value) and false otherwise */
-    public boolean isSetTran_info() {
-      return this.tran_info != null;
+    /** Returns true if field tran_id is set (has been assigned a value) and false otherwise */
+    public boolean isSetTran_id() {
+      return EncodingUtils.testBit(__isset_bitfield, __TRAN_ID_ISSET_ID);
     }
 
-    public void setTran_infoIsSet(boolean value) {
-      if (!value) {
-        this.tran_info = null;
-      }
+    public void setTran_idIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __TRAN_ID_ISSET_ID, value);
     }
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case TRAN_INFO:
+      case TRAN_ID:
         if (value == null) {
-          unsetTran_info();
+          unsetTran_id();
         } else {
-          setTran_info((Transaction)value);
+          setTran_id((Long)value);
         }
         break;
 
@@ -3118,8 +3857,8 @@ public class Participant_Interface {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case TRAN_INFO:
-        return getTran_info();
+      case TRAN_ID:
+        return getTran_id();
 
       }
       throw new IllegalStateException();
@@ -3132,8 +3871,8 @@ public class Participant_Interface {
       }
 
       switch (field) {
-      case TRAN_INFO:
-        return isSetTran_info();
+      case TRAN_ID:
+        return isSetTran_id();
       }
       throw new IllegalStateException();
     }
@@ -3142,21 +3881,21 @@ public class Participant_Interface {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof readFile_args)
-        return this.equals((readFile_args)that);
+      if (that instanceof doAbort_args)
+        return this.equals((doAbort_args)that);
       return false;
     }
 
-    public boolean equals(readFile_args that) {
+    public boolean equals(doAbort_args that) {
       if (that == null)
         return false;
 
-      boolean this_present_tran_info = true && this.isSetTran_info();
-      boolean that_present_tran_info = true && that.isSetTran_info();
-      if (this_present_tran_info || that_present_tran_info) {
-        if (!(this_present_tran_info && that_present_tran_info))
+      boolean this_present_tran_id = true;
+      boolean that_present_tran_id = true;
+      if (this_present_tran_id || that_present_tran_id) {
+        if (!(this_present_tran_id && that_present_tran_id))
           return false;
-        if (!this.tran_info.equals(that.tran_info))
+        if (this.tran_id != that.tran_id)
           return false;
       }
 
@@ -3167,28 +3906,28 @@ public class Participant_Interface {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_tran_info = true && (isSetTran_info());
-      list.add(present_tran_info);
-      if (present_tran_info)
-        list.add(tran_info);
+      boolean present_tran_id = true;
+      list.add(present_tran_id);
+      if (present_tran_id)
+        list.add(tran_id);
 
       return list.hashCode();
     }
 
     @Override
-    public int compareTo(readFile_args other) {
+    public int compareTo(doAbort_args other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetTran_info()).compareTo(other.isSetTran_info());
+      lastComparison = Boolean.valueOf(isSetTran_id()).compareTo(other.isSetTran_id());
       if (lastComparison != 0) {
         return lastComparison;
       }
-      if (isSetTran_info()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.tran_info, other.tran_info);
+      if (isSetTran_id()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.tran_id, other.tran_id);
         if (lastComparison != 0) {
           return lastComparison;
         }
@@ -3210,15 +3949,11 @@ public class Participant_Interface {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("readFile_args(");
+      StringBuilder sb = new StringBuilder("doAbort_args(");
       boolean first = true;
 
-      sb.append("tran_info:");
-      if (this.tran_info == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.tran_info);
-      }
+      sb.append("tran_id:");
+      sb.append(this.tran_id);
       first = false;
       sb.append(")");
       return sb.toString();
@@ -3227,9 +3962,6 @@ public class Participant_Interface {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (tran_info != null) {
-        tran_info.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -3242,21 +3974,23 @@ public class Participant_Interface {
 
     private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
       try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
         read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
       } catch (org.apache.thrift.TException te) {
         throw new java.io.IOException(te);
       }
     }
 
-    private static class readFile_argsStandardSchemeFactory implements SchemeFactory {
-      public readFile_argsStandardScheme getScheme() {
-        return new readFile_argsStandardScheme();
+    private static class doAbort_argsStandardSchemeFactory implements SchemeFactory {
+      public doAbort_argsStandardScheme getScheme() {
+        return new doAbort_argsStandardScheme();
       }
     }
 
-    private static class readFile_argsStandardScheme extends StandardScheme<readFile_args> {
+    private static class doAbort_argsStandardScheme extends StandardScheme<doAbort_args> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, readFile_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, doAbort_args struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -3266,11 +4000,10 @@ public class Participant_Interface {
             break;
           }
           switch (schemeField.id) {
-            case 1: // TRAN_INFO
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.tran_info = new Transaction();
-                struct.tran_info.read(iprot);
-                struct.setTran_infoIsSet(true);
+            case 1: // TRAN_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.tran_id = iprot.readI64();
+                struct.setTran_idIsSet(true);
               } else { 
                 org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
               }
@@ -3286,74 +4019,68 @@ public class Participant_Interface {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, readFile_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, doAbort_args struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.tran_info != null) {
-          oprot.writeFieldBegin(TRAN_INFO_FIELD_DESC);
-          struct.tran_info.write(oprot);
-          oprot.writeFieldEnd();
-        }
+        oprot.writeFieldBegin(TRAN_ID_FIELD_DESC);
+        oprot.writeI64(struct.tran_id);
+        oprot.writeFieldEnd();
         oprot.writeFieldStop();
         oprot.writeStructEnd();
       }
 
     }
 
-    private static class readFile_argsTupleSchemeFactory implements SchemeFactory {
-      public readFile_argsTupleScheme getScheme() {
-        return new readFile_argsTupleScheme();
+    private static class doAbort_argsTupleSchemeFactory implements SchemeFactory {
+      public doAbort_argsTupleScheme getScheme() {
+        return new doAbort_argsTupleScheme();
       }
     }
 
-    private static class readFile_argsTupleScheme extends TupleScheme<readFile_args> {
+    private static class doAbort_argsTupleScheme extends TupleScheme<doAbort_args> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, readFile_args struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, doAbort_args struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetTran_info()) {
+        if (struct.isSetTran_id()) {
           optionals.set(0);
         }
         oprot.writeBitSet(optionals, 1);
-        if (struct.isSetTran_info()) {
-          struct.tran_info.write(oprot);
+        if (struct.isSetTran_id()) {
+          oprot.writeI64(struct.tran_id);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, readFile_args struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, doAbort_args struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
         BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.tran_info = new Transaction();
-          struct.tran_info.read(iprot);
-          struct.setTran_infoIsSet(true);
+          struct.tran_id = iprot.readI64();
+          struct.setTran_idIsSet(true);
         }
       }
     }
 
   }
 
-  public static class readFile_result implements org.apache.thrift.TBase<readFile_result, readFile_result._Fields>, java.io.Serializable, Cloneable, Comparable<readFile_result>   {
-    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("readFile_result");
+  public static class doAbort_result implements org.apache.thrift.TBase<doAbort_result, doAbort_result._Fields>, java.io.Serializable, Cloneable, Comparable<doAbort_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("doAbort_result");
 
-    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
     private static final org.apache.thrift.protocol.TField SYSTEM_EXCEPTION_FIELD_DESC = new org.apache.thrift.protocol.TField("systemException", org.apache.thrift.protocol.TType.STRUCT, (short)1);
 
     private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
     static {
-      schemes.put(StandardScheme.class, new readFile_resultStandardSchemeFactory());
-      schemes.put(TupleScheme.class, new readFile_resultTupleSchemeFactory());
+      schemes.put(StandardScheme.class, new doAbort_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new doAbort_resultTupleSchemeFactory());
     }
 
-    public RFile success; // required
     public SystemException systemException; // required
 
     /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
     public enum _Fields implements org.apache.thrift.TFieldIdEnum {
-      SUCCESS((short)0, "success"),
       SYSTEM_EXCEPTION((short)1, "systemException");
 
       private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
@@ -3369,8 +4096,6 @@ public class Participant_Interface {
        */
       public static _Fields findByThriftId(int fieldId) {
         switch(fieldId) {
-          case 0: // SUCCESS
-            return SUCCESS;
           case 1: // SYSTEM_EXCEPTION
             return SYSTEM_EXCEPTION;
           default:
@@ -3416,77 +4141,45 @@ public class Participant_Interface {
     public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
     static {
       Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
-      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
-          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RFile.class)));
       tmpMap.put(_Fields.SYSTEM_EXCEPTION, new org.apache.thrift.meta_data.FieldMetaData("systemException", org.apache.thrift.TFieldRequirementType.DEFAULT, 
           new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
       metaDataMap = Collections.unmodifiableMap(tmpMap);
-      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(readFile_result.class, metaDataMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(doAbort_result.class, metaDataMap);
     }
 
-    public readFile_result() {
+    public doAbort_result() {
     }
 
-    public readFile_result(
-      RFile success,
+    public doAbort_result(
       SystemException systemException)
     {
       this();
-      this.success = success;
       this.systemException = systemException;
     }
 
     /**
      * Performs a deep copy on <i>other</i>.
      */
-    public readFile_result(readFile_result other) {
-      if (other.isSetSuccess()) {
-        this.success = new RFile(other.success);
-      }
+    public doAbort_result(doAbort_result other) {
       if (other.isSetSystemException()) {
         this.systemException = new SystemException(other.systemException);
       }
     }
 
-    public readFile_result deepCopy() {
-      return new readFile_result(this);
+    public doAbort_result deepCopy() {
+      return new doAbort_result(this);
     }
 
     @Override
     public void clear() {
-      this.success = null;
       this.systemException = null;
     }
 
-    public RFile getSuccess() {
-      return this.success;
-    }
-
-    public readFile_result setSuccess(RFile success) {
-      this.success = success;
-      return this;
-    }
-
-    public void unsetSuccess() {
-      this.success = null;
-    }
-
-    /** Returns true if field success is set (has been assigned a value) and false otherwise */
-    public boolean isSetSuccess() {
-      return this.success != null;
-    }
-
-    public void setSuccessIsSet(boolean value) {
-      if (!value) {
-        this.success = null;
-      }
-    }
-
     public SystemException getSystemException() {
       return this.systemException;
     }
 
-    public readFile_result setSystemException(SystemException systemException) {
+    public doAbort_result setSystemException(SystemException systemException) {
       this.systemException = systemException;
       return this;
     }
@@ -3508,14 +4201,6 @@ public class Participant_Interface {
 
     public void setFieldValue(_Fields field, Object value) {
       switch (field) {
-      case SUCCESS:
-        if (value == null) {
-          unsetSuccess();
-        } else {
-          setSuccess((RFile)value);
-        }
-        break;
-
       case SYSTEM_EXCEPTION:
         if (value == null) {
           unsetSystemException();
@@ -3529,9 +4214,6 @@ public class Participant_Interface {
 
     public Object getFieldValue(_Fields field) {
       switch (field) {
-      case SUCCESS:
-        return getSuccess();
-
       case SYSTEM_EXCEPTION:
         return getSystemException();
 
@@ -3546,8 +4228,6 @@ public class Participant_Interface {
       }
 
       switch (field) {
-      case SUCCESS:
-        return isSetSuccess();
       case SYSTEM_EXCEPTION:
         return isSetSystemException();
       }
@@ -3558,24 +4238,15 @@ public class Participant_Interface {
     public boolean equals(Object that) {
       if (that == null)
         return false;
-      if (that instanceof readFile_result)
-        return this.equals((readFile_result)that);
+      if (that instanceof doAbort_result)
+        return this.equals((doAbort_result)that);
       return false;
     }
 
-    public boolean equals(readFile_result that) {
+    public boolean equals(doAbort_result that) {
       if (that == null)
         return false;
 
-      boolean this_present_success = true && this.isSetSuccess();
-      boolean that_present_success = true && that.isSetSuccess();
-      if (this_present_success || that_present_success) {
-        if (!(this_present_success && that_present_success))
-          return false;
-        if (!this.success.equals(that.success))
-          return false;
-      }
-
       boolean this_present_systemException = true && this.isSetSystemException();
       boolean that_present_systemException = true && that.isSetSystemException();
       if (this_present_systemException || that_present_systemException) {
@@ -3592,11 +4263,6 @@ public class Participant_Interface {
     public int hashCode() {
       List<Object> list = new ArrayList<Object>();
 
-      boolean present_success = true && (isSetSuccess());
-      list.add(present_success);
-      if (present_success)
-        list.add(success);
-
       boolean present_systemException = true && (isSetSystemException());
       list.add(present_systemException);
       if (present_systemException)
@@ -3606,23 +4272,13 @@ public class Participant_Interface {
     }
 
     @Override
-    public int compareTo(readFile_result other) {
+    public int compareTo(doAbort_result other) {
       if (!getClass().equals(other.getClass())) {
         return getClass().getName().compareTo(other.getClass().getName());
       }
 
       int lastComparison = 0;
 
-      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
-      if (lastComparison != 0) {
-        return lastComparison;
-      }
-      if (isSetSuccess()) {
-        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
-        if (lastComparison != 0) {
-          return lastComparison;
-        }
-      }
       lastComparison = Boolean.valueOf(isSetSystemException()).compareTo(other.isSetSystemException());
       if (lastComparison != 0) {
         return lastComparison;
@@ -3650,17 +4306,9 @@ public class Participant_Interface {
 
     @Override
     public String toString() {
-      StringBuilder sb = new StringBuilder("readFile_result(");
+      StringBuilder sb = new StringBuilder("doAbort_result(");
       boolean first = true;
 
-      sb.append("success:");
-      if (this.success == null) {
-        sb.append("null");
-      } else {
-        sb.append(this.success);
-      }
-      first = false;
-      if (!first) sb.append(", ");
       sb.append("systemException:");
       if (this.systemException == null) {
         sb.append("null");
@@ -3675,9 +4323,6 @@ public class Participant_Interface {
     public void validate() throws org.apache.thrift.TException {
       // check for required fields
       // check for sub-struct validity
-      if (success != null) {
-        success.validate();
-      }
     }
 
     private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
@@ -3696,15 +4341,15 @@ public class Participant_Interface {
       }
     }
 
-    private static class readFile_resultStandardSchemeFactory implements SchemeFactory {
-      public readFile_resultStandardScheme getScheme() {
-        return new readFile_resultStandardScheme();
+    private static class doAbort_resultStandardSchemeFactory implements SchemeFactory {
+      public doAbort_resultStandardScheme getScheme() {
+        return new doAbort_resultStandardScheme();
       }
     }
 
-    private static class readFile_resultStandardScheme extends StandardScheme<readFile_result> {
+    private static class doAbort_resultStandardScheme extends StandardScheme<doAbort_result> {
 
-      public void read(org.apache.thrift.protocol.TProtocol iprot, readFile_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol iprot, doAbort_result struct) throws org.apache.thrift.TException {
         org.apache.thrift.protocol.TField schemeField;
         iprot.readStructBegin();
         while (true)
@@ -3714,15 +4359,6 @@ public class Participant_Interface {
             break;
           }
           switch (schemeField.id) {
-            case 0: // SUCCESS
-              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
-                struct.success = new RFile();
-                struct.success.read(iprot);
-                struct.setSuccessIsSet(true);
-              } else { 
-                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
-              }
-              break;
             case 1: // SYSTEM_EXCEPTION
               if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
                 struct.systemException = new SystemException();
@@ -3743,15 +4379,10 @@ public class Participant_Interface {
         struct.validate();
       }
 
-      public void write(org.apache.thrift.protocol.TProtocol oprot, readFile_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol oprot, doAbort_result struct) throws org.apache.thrift.TException {
         struct.validate();
 
         oprot.writeStructBegin(STRUCT_DESC);
-        if (struct.success != null) {
-          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
-          struct.success.write(oprot);
-          oprot.writeFieldEnd();
-        }
         if (struct.systemException != null) {
           oprot.writeFieldBegin(SYSTEM_EXCEPTION_FIELD_DESC);
           struct.systemException.write(oprot);
@@ -3763,43 +4394,32 @@ public class Participant_Interface {
 
     }
 
-    private static class readFile_resultTupleSchemeFactory implements SchemeFactory {
-      public readFile_resultTupleScheme getScheme() {
-        return new readFile_resultTupleScheme();
+    private static class doAbort_resultTupleSchemeFactory implements SchemeFactory {
+      public doAbort_resultTupleScheme getScheme() {
+        return new doAbort_resultTupleScheme();
       }
     }
 
-    private static class readFile_resultTupleScheme extends TupleScheme<readFile_result> {
+    private static class doAbort_resultTupleScheme extends TupleScheme<doAbort_result> {
 
       @Override
-      public void write(org.apache.thrift.protocol.TProtocol prot, readFile_result struct) throws org.apache.thrift.TException {
+      public void write(org.apache.thrift.protocol.TProtocol prot, doAbort_result struct) throws org.apache.thrift.TException {
         TTupleProtocol oprot = (TTupleProtocol) prot;
         BitSet optionals = new BitSet();
-        if (struct.isSetSuccess()) {
-          optionals.set(0);
-        }
         if (struct.isSetSystemException()) {
-          optionals.set(1);
-        }
-        oprot.writeBitSet(optionals, 2);
-        if (struct.isSetSuccess()) {
-          struct.success.write(oprot);
+          optionals.set(0);
         }
+        oprot.writeBitSet(optionals, 1);
         if (struct.isSetSystemException()) {
           struct.systemException.write(oprot);
         }
       }
 
       @Override
-      public void read(org.apache.thrift.protocol.TProtocol prot, readFile_result struct) throws org.apache.thrift.TException {
+      public void read(org.apache.thrift.protocol.TProtocol prot, doAbort_result struct) throws org.apache.thrift.TException {
         TTupleProtocol iprot = (TTupleProtocol) prot;
-        BitSet incoming = iprot.readBitSet(2);
+        BitSet incoming = iprot.readBitSet(1);
         if (incoming.get(0)) {
-          struct.success = new RFile();
-          struct.success.read(iprot);
-          struct.setSuccessIsSet(true);
-        }
-        if (incoming.get(1)) {
           struct.systemException = new SystemException();
           struct.systemException.read(iprot);
           struct.setSystemExceptionIsSet(true);
@@ -3809,4 +4429,3315 @@ public class Participant_Interface {
 
   }
 
+  public static class readFile_args implements org.apache.thrift.TBase<readFile_args, readFile_args._Fields>, java.io.Serializable, Cloneable, Comparable<readFile_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("readFile_args");
+
+    private static final org.apache.thrift.protocol.TField TRAN_INFO_FIELD_DESC = new org.apache.thrift.protocol.TField("tran_info", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new readFile_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new readFile_argsTupleSchemeFactory());
+    }
+
+    public Transaction tran_info; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      TRAN_INFO((short)1, "tran_info");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // TRAN_INFO
+            return TRAN_INFO;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.TRAN_INFO, new org.apache.thrift.meta_data.FieldMetaData("tran_info", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, Transaction.class)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(readFile_args.class, metaDataMap);
+    }
+
+    public readFile_args() {
+    }
+
+    public readFile_args(
+      Transaction tran_info)
+    {
+      this();
+      this.tran_info = tran_info;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public readFile_args(readFile_args other) {
+      if (other.isSetTran_info()) {
+        this.tran_info = new Transaction(other.tran_info);
+      }
+    }
+
+    public readFile_args deepCopy() {
+      return new readFile_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.tran_info = null;
+    }
+
+    public Transaction getTran_info() {
+      return this.tran_info;
+    }
+
+    public readFile_args setTran_info(Transaction tran_info) {
+      this.tran_info = tran_info;
+      return this;
+    }
+
+    public void unsetTran_info() {
+      this.tran_info = null;
+    }
+
+    /** Returns true if field tran_info is set (has been assigned a value) and false otherwise */
+    public boolean isSetTran_info() {
+      return this.tran_info != null;
+    }
+
+    public void setTran_infoIsSet(boolean value) {
+      if (!value) {
+        this.tran_info = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case TRAN_INFO:
+        if (value == null) {
+          unsetTran_info();
+        } else {
+          setTran_info((Transaction)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case TRAN_INFO:
+        return getTran_info();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case TRAN_INFO:
+        return isSetTran_info();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof readFile_args)
+        return this.equals((readFile_args)that);
+      return false;
+    }
+
+    public boolean equals(readFile_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_tran_info = true && this.isSetTran_info();
+      boolean that_present_tran_info = true && that.isSetTran_info();
+      if (this_present_tran_info || that_present_tran_info) {
+        if (!(this_present_tran_info && that_present_tran_info))
+          return false;
+        if (!this.tran_info.equals(that.tran_info))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_tran_info = true && (isSetTran_info());
+      list.add(present_tran_info);
+      if (present_tran_info)
+        list.add(tran_info);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(readFile_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetTran_info()).compareTo(other.isSetTran_info());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetTran_info()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.tran_info, other.tran_info);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("readFile_args(");
+      boolean first = true;
+
+      sb.append("tran_info:");
+      if (this.tran_info == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.tran_info);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (tran_info != null) {
+        tran_info.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class readFile_argsStandardSchemeFactory implements SchemeFactory {
+      public readFile_argsStandardScheme getScheme() {
+        return new readFile_argsStandardScheme();
+      }
+    }
+
+    private static class readFile_argsStandardScheme extends StandardScheme<readFile_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, readFile_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // TRAN_INFO
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.tran_info = new Transaction();
+                struct.tran_info.read(iprot);
+                struct.setTran_infoIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, readFile_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.tran_info != null) {
+          oprot.writeFieldBegin(TRAN_INFO_FIELD_DESC);
+          struct.tran_info.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class readFile_argsTupleSchemeFactory implements SchemeFactory {
+      public readFile_argsTupleScheme getScheme() {
+        return new readFile_argsTupleScheme();
+      }
+    }
+
+    private static class readFile_argsTupleScheme extends TupleScheme<readFile_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, readFile_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetTran_info()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetTran_info()) {
+          struct.tran_info.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, readFile_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.tran_info = new Transaction();
+          struct.tran_info.read(iprot);
+          struct.setTran_infoIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class readFile_result implements org.apache.thrift.TBase<readFile_result, readFile_result._Fields>, java.io.Serializable, Cloneable, Comparable<readFile_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("readFile_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField SYSTEM_EXCEPTION_FIELD_DESC = new org.apache.thrift.protocol.TField("systemException", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new readFile_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new readFile_resultTupleSchemeFactory());
+    }
+
+    public RFile success; // required
+    public SystemException systemException; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      SYSTEM_EXCEPTION((short)1, "systemException");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // SYSTEM_EXCEPTION
+            return SYSTEM_EXCEPTION;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, RFile.class)));
+      tmpMap.put(_Fields.SYSTEM_EXCEPTION, new org.apache.thrift.meta_data.FieldMetaData("systemException", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(readFile_result.class, metaDataMap);
+    }
+
+    public readFile_result() {
+    }
+
+    public readFile_result(
+      RFile success,
+      SystemException systemException)
+    {
+      this();
+      this.success = success;
+      this.systemException = systemException;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public readFile_result(readFile_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new RFile(other.success);
+      }
+      if (other.isSetSystemException()) {
+        this.systemException = new SystemException(other.systemException);
+      }
+    }
+
+    public readFile_result deepCopy() {
+      return new readFile_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.systemException = null;
+    }
+
+    public RFile getSuccess() {
+      return this.success;
+    }
+
+    public readFile_result setSuccess(RFile success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public SystemException getSystemException() {
+      return this.systemException;
+    }
+
+    public readFile_result setSystemException(SystemException systemException) {
+      this.systemException = systemException;
+      return this;
+    }
+
+    public void unsetSystemException() {
+      this.systemException = null;
+    }
+
+    /** Returns true if field systemException is set (has been assigned a value) and false otherwise */
+    public boolean isSetSystemException() {
+      return this.systemException != null;
+    }
+
+    public void setSystemExceptionIsSet(boolean value) {
+      if (!value) {
+        this.systemException = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((RFile)value);
+        }
+        break;
+
+      case SYSTEM_EXCEPTION:
+        if (value == null) {
+          unsetSystemException();
+        } else {
+          setSystemException((SystemException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case SYSTEM_EXCEPTION:
+        return getSystemException();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case SYSTEM_EXCEPTION:
+        return isSetSystemException();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof readFile_result)
+        return this.equals((readFile_result)that);
+      return false;
+    }
+
+    public boolean equals(readFile_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_systemException = true && this.isSetSystemException();
+      boolean that_present_systemException = true && that.isSetSystemException();
+      if (this_present_systemException || that_present_systemException) {
+        if (!(this_present_systemException && that_present_systemException))
+          return false;
+        if (!this.systemException.equals(that.systemException))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      boolean present_systemException = true && (isSetSystemException());
+      list.add(present_systemException);
+      if (present_systemException)
+        list.add(systemException);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(readFile_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetSystemException()).compareTo(other.isSetSystemException());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSystemException()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.systemException, other.systemException);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("readFile_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("systemException:");
+      if (this.systemException == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.systemException);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class readFile_resultStandardSchemeFactory implements SchemeFactory {
+      public readFile_resultStandardScheme getScheme() {
+        return new readFile_resultStandardScheme();
+      }
+    }
+
+    private static class readFile_resultStandardScheme extends StandardScheme<readFile_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, readFile_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new RFile();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // SYSTEM_EXCEPTION
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.systemException = new SystemException();
+                struct.systemException.read(iprot);
+                struct.setSystemExceptionIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, readFile_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.systemException != null) {
+          oprot.writeFieldBegin(SYSTEM_EXCEPTION_FIELD_DESC);
+          struct.systemException.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class readFile_resultTupleSchemeFactory implements SchemeFactory {
+      public readFile_resultTupleScheme getScheme() {
+        return new readFile_resultTupleScheme();
+      }
+    }
+
+    private static class readFile_resultTupleScheme extends TupleScheme<readFile_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, readFile_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetSystemException()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+        if (struct.isSetSystemException()) {
+          struct.systemException.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, readFile_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = new RFile();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.systemException = new SystemException();
+          struct.systemException.read(iprot);
+          struct.setSystemExceptionIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class writeChunk_args implements org.apache.thrift.TBase<writeChunk_args, writeChunk_args._Fields>, java.io.Serializable, Cloneable, Comparable<writeChunk_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("writeChunk_args");
+
+    private static final org.apache.thrift.protocol.TField TRAN_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("tran_id", org.apache.thrift.protocol.TType.I64, (short)1);
+    private static final org.apache.thrift.protocol.TField OFFSET_FIELD_DESC = new org.apache.thrift.protocol.TField("offset", org.apache.thrift.protocol.TType.I64, (short)2);
+    private static final org.apache.thrift.protocol.TField DATA_FIELD_DESC = new org.apache.thrift.protocol.TField("data", org.apache.thrift.protocol.TType.STRING, (short)3);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new writeChunk_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new writeChunk_argsTupleSchemeFactory());
+    }
+
+    public long tran_id; // required
+    public long offset; // required
+    public ByteBuffer data; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      TRAN_ID((short)1, "tran_id"),
+      OFFSET((short)2, "offset"),
+      DATA((short)3, "data");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // TRAN_ID
+            return TRAN_ID;
+          case 2: // OFFSET
+            return OFFSET;
+          case 3: // DATA
+            return DATA;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __TRAN_ID_ISSET_ID = 0;
+    private static final int __OFFSET_ISSET_ID = 1;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.TRAN_ID, new org.apache.thrift.meta_data.FieldMetaData("tran_id", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.OFFSET, new org.apache.thrift.meta_data.FieldMetaData("offset", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.DATA, new org.apache.thrift.meta_data.FieldMetaData("data", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING        , true)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(writeChunk_args.class, metaDataMap);
+    }
+
+    public writeChunk_args() {
+    }
+
+    public writeChunk_args(
+      long tran_id,
+      long offset,
+      ByteBuffer data)
+    {
+      this();
+      this.tran_id = tran_id;
+      setTran_idIsSet(true);
+      this.offset = offset;
+      setOffsetIsSet(true);
+      this.data = org.apache.thrift.TBaseHelper.copyBinary(data);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public writeChunk_args(writeChunk_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      this.tran_id = other.tran_id;
+      this.offset = other.offset;
+      if (other.isSetData()) {
+        this.data = org.apache.thrift.TBaseHelper.copyBinary(other.data);
+      }
+    }
+
+    public writeChunk_args deepCopy() {
+      return new writeChunk_args(this);
+    }
+
+    @Override
+    public void clear() {
+      setTran_idIsSet(false);
+      this.tran_id = 0;
+      setOffsetIsSet(false);
+      this.offset = 0;
+      this.data = null;
+    }
+
+    public long getTran_id() {
+      return this.tran_id;
+    }
+
+    public writeChunk_args setTran_id(long tran_id) {
+      this.tran_id = tran_id;
+      setTran_idIsSet(true);
+      return this;
+    }
+
+    public void unsetTran_id() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __TRAN_ID_ISSET_ID);
+    }
+
+    /** Returns true if field tran_id is set (has been assigned a value) and false otherwise */
+    public boolean isSetTran_id() {
+      return EncodingUtils.testBit(__isset_bitfield, __TRAN_ID_ISSET_ID);
+    }
+
+    public void setTran_idIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __TRAN_ID_ISSET_ID, value);
+    }
+
+    public long getOffset() {
+      return this.offset;
+    }
+
+    public writeChunk_args setOffset(long offset) {
+      this.offset = offset;
+      setOffsetIsSet(true);
+      return this;
+    }
+
+    public void unsetOffset() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __OFFSET_ISSET_ID);
+    }
+
+    /** Returns true if field offset is set (has been assigned a value) and false otherwise */
+    public boolean isSetOffset() {
+      return EncodingUtils.testBit(__isset_bitfield, __OFFSET_ISSET_ID);
+    }
+
+    public void setOffsetIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __OFFSET_ISSET_ID, value);
+    }
+
+    public byte[] getData() {
+      setData(org.apache.thrift.TBaseHelper.rightSize(data));
+      return data == null ? null : data.array();
+    }
+
+    public ByteBuffer bufferForData() {
+      return org.apache.thrift.TBaseHelper.copyBinary(data);
+    }
+
+    public writeChunk_args setData(byte[] data) {
+      this.data = data == null ? (ByteBuffer)null : ByteBuffer.wrap(Arrays.copyOf(data, data.length));
+      return this;
+    }
+
+    public writeChunk_args setData(ByteBuffer data) {
+      this.data = org.apache.thrift.TBaseHelper.copyBinary(data);
+      return this;
+    }
+
+    public void unsetData() {
+      this.data = null;
+    }
+
+    /** Returns true if field data is set (has been assigned a value) and false otherwise */
+    public boolean isSetData() {
+      return this.data != null;
+    }
+
+    public void setDataIsSet(boolean value) {
+      if (!value) {
+        this.data = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case TRAN_ID:
+        if (value == null) {
+          unsetTran_id();
+        } else {
+          setTran_id((Long)value);
+        }
+        break;
+
+      case OFFSET:
+        if (value == null) {
+          unsetOffset();
+        } else {
+          setOffset((Long)value);
+        }
+        break;
+
+      case DATA:
+        if (value == null) {
+          unsetData();
+        } else {
+          setData((ByteBuffer)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case TRAN_ID:
+        return getTran_id();
+
+      case OFFSET:
+        return getOffset();
+
+      case DATA:
+        return getData();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case TRAN_ID:
+        return isSetTran_id();
+      case OFFSET:
+        return isSetOffset();
+      case DATA:
+        return isSetData();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof writeChunk_args)
+        return this.equals((writeChunk_args)that);
+      return false;
+    }
+
+    public boolean equals(writeChunk_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_tran_id = true;
+      boolean that_present_tran_id = true;
+      if (this_present_tran_id || that_present_tran_id) {
+        if (!(this_present_tran_id && that_present_tran_id))
+          return false;
+        if (this.tran_id != that.tran_id)
+          return false;
+      }
+
+      boolean this_present_offset = true;
+      boolean that_present_offset = true;
+      if (this_present_offset || that_present_offset) {
+        if (!(this_present_offset && that_present_offset))
+          return false;
+        if (this.offset != that.offset)
+          return false;
+      }
+
+      boolean this_present_data = true && this.isSetData();
+      boolean that_present_data = true && that.isSetData();
+      if (this_present_data || that_present_data) {
+        if (!(this_present_data && that_present_data))
+          return false;
+        if (!this.data.equals(that.data))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_tran_id = true;
+      list.add(present_tran_id);
+      if (present_tran_id)
+        list.add(tran_id);
+
+      boolean present_offset = true;
+      list.add(present_offset);
+      if (present_offset)
+        list.add(offset);
+
+      boolean present_data = true && (isSetData());
+      list.add(present_data);
+      if (present_data)
+        list.add(data);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(writeChunk_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetTran_id()).compareTo(other.isSetTran_id());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetTran_id()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.tran_id, other.tran_id);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetOffset()).compareTo(other.isSetOffset());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetOffset()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.offset, other.offset);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetData()).compareTo(other.isSetData());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetData()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.data, other.data);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("writeChunk_args(");
+      boolean first = true;
+
+      sb.append("tran_id:");
+      sb.append(this.tran_id);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("offset:");
+      sb.append(this.offset);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("data:");
+      if (this.data == null) {
+        sb.append("null");
+      } else {
+        org.apache.thrift.TBaseHelper.toString(this.data, sb);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class writeChunk_argsStandardSchemeFactory implements SchemeFactory {
+      public writeChunk_argsStandardScheme getScheme() {
+        return new writeChunk_argsStandardScheme();
+      }
+    }
+
+    private static class writeChunk_argsStandardScheme extends StandardScheme<writeChunk_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, writeChunk_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // TRAN_ID
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.tran_id = iprot.readI64();
+                struct.setTran_idIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // OFFSET
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.offset = iprot.readI64();
+                struct.setOffsetIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // DATA
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.data = iprot.readBinary();
+                struct.setDataIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, writeChunk_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldBegin(TRAN_ID_FIELD_DESC);
+        oprot.writeI64(struct.tran_id);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(OFFSET_FIELD_DESC);
+        oprot.writeI64(struct.offset);
+        oprot.writeFieldEnd();
+        if (struct.data != null) {
+          oprot.writeFieldBegin(DATA_FIELD_DESC);
+          oprot.writeBinary(struct.data);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class writeChunk_argsTupleSchemeFactory implements SchemeFactory {
+      public writeChunk_argsTupleScheme getScheme() {
+        return new writeChunk_argsTupleScheme();
+      }
+    }
+
+    private static class writeChunk_argsTupleScheme extends TupleScheme<writeChunk_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, writeChunk_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetTran_id()) {
+          optionals.set(0);
+        }
+        if (struct.isSetOffset()) {
+          optionals.set(1);
+        }
+        if (struct.isSetData()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
+        if (struct.isSetTran_id()) {
+          oprot.writeI64(struct.tran_id);
+        }
+        if (struct.isSetOffset()) {
+          oprot.writeI64(struct.offset);
+        }
+        if (struct.isSetData()) {
+          oprot.writeBinary(struct.data);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, writeChunk_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(3);
+        if (incoming.get(0)) {
+          struct.tran_id = iprot.readI64();
+          struct.setTran_idIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.offset = iprot.readI64();
+          struct.setOffsetIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.data = iprot.readBinary();
+          struct.setDataIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class writeChunk_result implements org.apache.thrift.TBase<writeChunk_result, writeChunk_result._Fields>, java.io.Serializable, Cloneable, Comparable<writeChunk_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("writeChunk_result");
+
+    private static final org.apache.thrift.protocol.TField SYSTEM_EXCEPTION_FIELD_DESC = new org.apache.thrift.protocol.TField("systemException", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new writeChunk_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new writeChunk_resultTupleSchemeFactory());
+    }
+
+    public SystemException systemException; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SYSTEM_EXCEPTION((short)1, "systemException");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // SYSTEM_EXCEPTION
+            return SYSTEM_EXCEPTION;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SYSTEM_EXCEPTION, new org.apache.thrift.meta_data.FieldMetaData("systemException", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(writeChunk_result.class, metaDataMap);
+    }
+
+    public writeChunk_result() {
+    }
+
+    public writeChunk_result(
+      SystemException systemException)
+    {
+      this();
+      this.systemException = systemException;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public writeChunk_result(writeChunk_result other) {
+      if (other.isSetSystemException()) {
+        this.systemException = new SystemException(other.systemException);
+      }
+    }
+
+    public writeChunk_result deepCopy() {
+      return new writeChunk_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.systemException = null;
+    }
+
+    public SystemException getSystemException() {
+      return this.systemException;
+    }
+
+    public writeChunk_result setSystemException(SystemException systemException) {
+      this.systemException = systemException;
+      return this;
+    }
+
+    public void unsetSystemException() {
+      this.systemException = null;
+    }
+
+    /** Returns true if field systemException is set (has been assigned a value) and false otherwise */
+    public boolean isSetSystemException() {
+      return this.systemException != null;
+    }
+
+    public void setSystemExceptionIsSet(boolean value) {
+      if (!value) {
+        this.systemException = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SYSTEM_EXCEPTION:
+        if (value == null) {
+          unsetSystemException();
+        } else {
+          setSystemException((SystemException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SYSTEM_EXCEPTION:
+        return getSystemException();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SYSTEM_EXCEPTION:
+        return isSetSystemException();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof writeChunk_result)
+        return this.equals((writeChunk_result)that);
+      return false;
+    }
+
+    public boolean equals(writeChunk_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_systemException = true && this.isSetSystemException();
+      boolean that_present_systemException = true && that.isSetSystemException();
+      if (this_present_systemException || that_present_systemException) {
+        if (!(this_present_systemException && that_present_systemException))
+          return false;
+        if (!this.systemException.equals(that.systemException))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_systemException = true && (isSetSystemException());
+      list.add(present_systemException);
+      if (present_systemException)
+        list.add(systemException);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(writeChunk_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSystemException()).compareTo(other.isSetSystemException());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSystemException()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.systemException, other.systemException);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("writeChunk_result(");
+      boolean first = true;
+
+      sb.append("systemException:");
+      if (this.systemException == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.systemException);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class writeChunk_resultStandardSchemeFactory implements SchemeFactory {
+      public writeChunk_resultStandardScheme getScheme() {
+        return new writeChunk_resultStandardScheme();
+      }
+    }
+
+    private static class writeChunk_resultStandardScheme extends StandardScheme<writeChunk_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, writeChunk_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // SYSTEM_EXCEPTION
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.systemException = new SystemException();
+                struct.systemException.read(iprot);
+                struct.setSystemExceptionIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, writeChunk_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.systemException != null) {
+          oprot.writeFieldBegin(SYSTEM_EXCEPTION_FIELD_DESC);
+          struct.systemException.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class writeChunk_resultTupleSchemeFactory implements SchemeFactory {
+      public writeChunk_resultTupleScheme getScheme() {
+        return new writeChunk_resultTupleScheme();
+      }
+    }
+
+    private static class writeChunk_resultTupleScheme extends TupleScheme<writeChunk_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, writeChunk_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSystemException()) {
+          optionals.set(0);
+        }
+        oprot.writeBitSet(optionals, 1);
+        if (struct.isSetSystemException()) {
+          struct.systemException.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, writeChunk_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(1);
+        if (incoming.get(0)) {
+          struct.systemException = new SystemException();
+          struct.systemException.read(iprot);
+          struct.setSystemExceptionIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class readChunk_args implements org.apache.thrift.TBase<readChunk_args, readChunk_args._Fields>, java.io.Serializable, Cloneable, Comparable<readChunk_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("readChunk_args");
+
+    private static final org.apache.thrift.protocol.TField FILENAME_FIELD_DESC = new org.apache.thrift.protocol.TField("filename", org.apache.thrift.protocol.TType.STRING, (short)1);
+    private static final org.apache.thrift.protocol.TField OFFSET_FIELD_DESC = new org.apache.thrift.protocol.TField("offset", org.apache.thrift.protocol.TType.I64, (short)2);
+    private static final org.apache.thrift.protocol.TField LENGTH_FIELD_DESC = new org.apache.thrift.protocol.TField("length", org.apache.thrift.protocol.TType.I32, (short)3);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new readChunk_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new readChunk_argsTupleSchemeFactory());
+    }
+
+    public String filename; // required
+    public long offset; // required
+    public int length; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      FILENAME((short)1, "filename"),
+      OFFSET((short)2, "offset"),
+      LENGTH((short)3, "length");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 1: // FILENAME
+            return FILENAME;
+          case 2: // OFFSET
+            return OFFSET;
+          case 3: // LENGTH
+            return LENGTH;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    private static final int __OFFSET_ISSET_ID = 0;
+    private static final int __LENGTH_ISSET_ID = 1;
+    private byte __isset_bitfield = 0;
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.FILENAME, new org.apache.thrift.meta_data.FieldMetaData("filename", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+      tmpMap.put(_Fields.OFFSET, new org.apache.thrift.meta_data.FieldMetaData("offset", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+      tmpMap.put(_Fields.LENGTH, new org.apache.thrift.meta_data.FieldMetaData("length", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I32)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(readChunk_args.class, metaDataMap);
+    }
+
+    public readChunk_args() {
+    }
+
+    public readChunk_args(
+      String filename,
+      long offset,
+      int length)
+    {
+      this();
+      this.filename = filename;
+      this.offset = offset;
+      setOffsetIsSet(true);
+      this.length = length;
+      setLengthIsSet(true);
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public readChunk_args(readChunk_args other) {
+      __isset_bitfield = other.__isset_bitfield;
+      if (other.isSetFilename()) {
+        this.filename = other.filename;
+      }
+      this.offset = other.offset;
+      this.length = other.length;
+    }
+
+    public readChunk_args deepCopy() {
+      return new readChunk_args(this);
+    }
+
+    @Override
+    public void clear() {
+      this.filename = null;
+      setOffsetIsSet(false);
+      this.offset = 0;
+      setLengthIsSet(false);
+      this.length = 0;
+    }
+
+    public String getFilename() {
+      return this.filename;
+    }
+
+    public readChunk_args setFilename(String filename) {
+      this.filename = filename;
+      return this;
+    }
+
+    public void unsetFilename() {
+      this.filename = null;
+    }
+
+    /** Returns true if field filename is set (has been assigned a value) and false otherwise */
+    public boolean isSetFilename() {
+      return this.filename != null;
+    }
+
+    public void setFilenameIsSet(boolean value) {
+      if (!value) {
+        this.filename = null;
+      }
+    }
+
+    public long getOffset() {
+      return this.offset;
+    }
+
+    public readChunk_args setOffset(long offset) {
+      this.offset = offset;
+      setOffsetIsSet(true);
+      return this;
+    }
+
+    public void unsetOffset() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __OFFSET_ISSET_ID);
+    }
+
+    /** Returns true if field offset is set (has been assigned a value) and false otherwise */
+    public boolean isSetOffset() {
+      return EncodingUtils.testBit(__isset_bitfield, __OFFSET_ISSET_ID);
+    }
+
+    public void setOffsetIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __OFFSET_ISSET_ID, value);
+    }
+
+    public int getLength() {
+      return this.length;
+    }
+
+    public readChunk_args setLength(int length) {
+      this.length = length;
+      setLengthIsSet(true);
+      return this;
+    }
+
+    public void unsetLength() {
+      __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __LENGTH_ISSET_ID);
+    }
+
+    /** Returns true if field length is set (has been assigned a value) and false otherwise */
+    public boolean isSetLength() {
+      return EncodingUtils.testBit(__isset_bitfield, __LENGTH_ISSET_ID);
+    }
+
+    public void setLengthIsSet(boolean value) {
+      __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __LENGTH_ISSET_ID, value);
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case FILENAME:
+        if (value == null) {
+          unsetFilename();
+        } else {
+          setFilename((String)value);
+        }
+        break;
+
+      case OFFSET:
+        if (value == null) {
+          unsetOffset();
+        } else {
+          setOffset((Long)value);
+        }
+        break;
+
+      case LENGTH:
+        if (value == null) {
+          unsetLength();
+        } else {
+          setLength((Integer)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case FILENAME:
+        return getFilename();
+
+      case OFFSET:
+        return getOffset();
+
+      case LENGTH:
+        return getLength();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case FILENAME:
+        return isSetFilename();
+      case OFFSET:
+        return isSetOffset();
+      case LENGTH:
+        return isSetLength();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof readChunk_args)
+        return this.equals((readChunk_args)that);
+      return false;
+    }
+
+    public boolean equals(readChunk_args that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_filename = true && this.isSetFilename();
+      boolean that_present_filename = true && that.isSetFilename();
+      if (this_present_filename || that_present_filename) {
+        if (!(this_present_filename && that_present_filename))
+          return false;
+        if (!this.filename.equals(that.filename))
+          return false;
+      }
+
+      boolean this_present_offset = true;
+      boolean that_present_offset = true;
+      if (this_present_offset || that_present_offset) {
+        if (!(this_present_offset && that_present_offset))
+          return false;
+        if (this.offset != that.offset)
+          return false;
+      }
+
+      boolean this_present_length = true;
+      boolean that_present_length = true;
+      if (this_present_length || that_present_length) {
+        if (!(this_present_length && that_present_length))
+          return false;
+        if (this.length != that.length)
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_filename = true && (isSetFilename());
+      list.add(present_filename);
+      if (present_filename)
+        list.add(filename);
+
+      boolean present_offset = true;
+      list.add(present_offset);
+      if (present_offset)
+        list.add(offset);
+
+      boolean present_length = true;
+      list.add(present_length);
+      if (present_length)
+        list.add(length);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(readChunk_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetFilename()).compareTo(other.isSetFilename());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetFilename()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.filename, other.filename);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetOffset()).compareTo(other.isSetOffset());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetOffset()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.offset, other.offset);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetLength()).compareTo(other.isSetLength());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetLength()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.length, other.length);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("readChunk_args(");
+      boolean first = true;
+
+      sb.append("filename:");
+      if (this.filename == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.filename);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("offset:");
+      sb.append(this.offset);
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("length:");
+      sb.append(this.length);
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+        __isset_bitfield = 0;
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class readChunk_argsStandardSchemeFactory implements SchemeFactory {
+      public readChunk_argsStandardScheme getScheme() {
+        return new readChunk_argsStandardScheme();
+      }
+    }
+
+    private static class readChunk_argsStandardScheme extends StandardScheme<readChunk_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, readChunk_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 1: // FILENAME
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+                struct.filename = iprot.readString();
+                struct.setFilenameIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 2: // OFFSET
+              if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+                struct.offset = iprot.readI64();
+                struct.setOffsetIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 3: // LENGTH
+              if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+                struct.length = iprot.readI32();
+                struct.setLengthIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, readChunk_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.filename != null) {
+          oprot.writeFieldBegin(FILENAME_FIELD_DESC);
+          oprot.writeString(struct.filename);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldBegin(OFFSET_FIELD_DESC);
+        oprot.writeI64(struct.offset);
+        oprot.writeFieldEnd();
+        oprot.writeFieldBegin(LENGTH_FIELD_DESC);
+        oprot.writeI32(struct.length);
+        oprot.writeFieldEnd();
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class readChunk_argsTupleSchemeFactory implements SchemeFactory {
+      public readChunk_argsTupleScheme getScheme() {
+        return new readChunk_argsTupleScheme();
+      }
+    }
+
+    private static class readChunk_argsTupleScheme extends TupleScheme<readChunk_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, readChunk_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetFilename()) {
+          optionals.set(0);
+        }
+        if (struct.isSetOffset()) {
+          optionals.set(1);
+        }
+        if (struct.isSetLength()) {
+          optionals.set(2);
+        }
+        oprot.writeBitSet(optionals, 3);
+        if (struct.isSetFilename()) {
+          oprot.writeString(struct.filename);
+        }
+        if (struct.isSetOffset()) {
+          oprot.writeI64(struct.offset);
+        }
+        if (struct.isSetLength()) {
+          oprot.writeI32(struct.length);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, readChunk_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(3);
+        if (incoming.get(0)) {
+          struct.filename = iprot.readString();
+          struct.setFilenameIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.offset = iprot.readI64();
+          struct.setOffsetIsSet(true);
+        }
+        if (incoming.get(2)) {
+          struct.length = iprot.readI32();
+          struct.setLengthIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class readChunk_result implements org.apache.thrift.TBase<readChunk_result, readChunk_result._Fields>, java.io.Serializable, Cloneable, Comparable<readChunk_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("readChunk_result");
+
+    private static final org.apache.thrift.protocol.TField SUCCESS_FIELD_DESC = new org.apache.thrift.protocol.TField("success", org.apache.thrift.protocol.TType.STRUCT, (short)0);
+    private static final org.apache.thrift.protocol.TField SYSTEM_EXCEPTION_FIELD_DESC = new org.apache.thrift.protocol.TField("systemException", org.apache.thrift.protocol.TType.STRUCT, (short)1);
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new readChunk_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new readChunk_resultTupleSchemeFactory());
+    }
+
+    public FileChunk success; // required
+    public SystemException systemException; // required
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      SUCCESS((short)0, "success"),
+      SYSTEM_EXCEPTION((short)1, "systemException");
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          case 0: // SUCCESS
+            return SUCCESS;
+          case 1: // SYSTEM_EXCEPTION
+            return SYSTEM_EXCEPTION;
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      tmpMap.put(_Fields.SUCCESS, new org.apache.thrift.meta_data.FieldMetaData("success", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.StructMetaData(org.apache.thrift.protocol.TType.STRUCT, FileChunk.class)));
+      tmpMap.put(_Fields.SYSTEM_EXCEPTION, new org.apache.thrift.meta_data.FieldMetaData("systemException", org.apache.thrift.TFieldRequirementType.DEFAULT, 
+          new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT)));
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(readChunk_result.class, metaDataMap);
+    }
+
+    public readChunk_result() {
+    }
+
+    public readChunk_result(
+      FileChunk success,
+      SystemException systemException)
+    {
+      this();
+      this.success = success;
+      this.systemException = systemException;
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public readChunk_result(readChunk_result other) {
+      if (other.isSetSuccess()) {
+        this.success = new FileChunk(other.success);
+      }
+      if (other.isSetSystemException()) {
+        this.systemException = new SystemException(other.systemException);
+      }
+    }
+
+    public readChunk_result deepCopy() {
+      return new readChunk_result(this);
+    }
+
+    @Override
+    public void clear() {
+      this.success = null;
+      this.systemException = null;
+    }
+
+    public FileChunk getSuccess() {
+      return this.success;
+    }
+
+    public readChunk_result setSuccess(FileChunk success) {
+      this.success = success;
+      return this;
+    }
+
+    public void unsetSuccess() {
+      this.success = null;
+    }
+
+    /** Returns true if field success is set (has been assigned a value) and false otherwise */
+    public boolean isSetSuccess() {
+      return this.success != null;
+    }
+
+    public void setSuccessIsSet(boolean value) {
+      if (!value) {
+        this.success = null;
+      }
+    }
+
+    public SystemException getSystemException() {
+      return this.systemException;
+    }
+
+    public readChunk_result setSystemException(SystemException systemException) {
+      this.systemException = systemException;
+      return this;
+    }
+
+    public void unsetSystemException() {
+      this.systemException = null;
+    }
+
+    /** Returns true if field systemException is set (has been assigned a value) and false otherwise */
+    public boolean isSetSystemException() {
+      return this.systemException != null;
+    }
+
+    public void setSystemExceptionIsSet(boolean value) {
+      if (!value) {
+        this.systemException = null;
+      }
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      case SUCCESS:
+        if (value == null) {
+          unsetSuccess();
+        } else {
+          setSuccess((FileChunk)value);
+        }
+        break;
+
+      case SYSTEM_EXCEPTION:
+        if (value == null) {
+          unsetSystemException();
+        } else {
+          setSystemException((SystemException)value);
+        }
+        break;
+
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      case SUCCESS:
+        return getSuccess();
+
+      case SYSTEM_EXCEPTION:
+        return getSystemException();
+
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      case SUCCESS:
+        return isSetSuccess();
+      case SYSTEM_EXCEPTION:
+        return isSetSystemException();
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof readChunk_result)
+        return this.equals((readChunk_result)that);
+      return false;
+    }
+
+    public boolean equals(readChunk_result that) {
+      if (that == null)
+        return false;
+
+      boolean this_present_success = true && this.isSetSuccess();
+      boolean that_present_success = true && that.isSetSuccess();
+      if (this_present_success || that_present_success) {
+        if (!(this_present_success && that_present_success))
+          return false;
+        if (!this.success.equals(that.success))
+          return false;
+      }
+
+      boolean this_present_systemException = true && this.isSetSystemException();
+      boolean that_present_systemException = true && that.isSetSystemException();
+      if (this_present_systemException || that_present_systemException) {
+        if (!(this_present_systemException && that_present_systemException))
+          return false;
+        if (!this.systemException.equals(that.systemException))
+          return false;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      boolean present_success = true && (isSetSuccess());
+      list.add(present_success);
+      if (present_success)
+        list.add(success);
+
+      boolean present_systemException = true && (isSetSystemException());
+      list.add(present_systemException);
+      if (present_systemException)
+        list.add(systemException);
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(readChunk_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      lastComparison = Boolean.valueOf(isSetSuccess()).compareTo(other.isSetSuccess());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSuccess()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.success, other.success);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      lastComparison = Boolean.valueOf(isSetSystemException()).compareTo(other.isSetSystemException());
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+      if (isSetSystemException()) {
+        lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.systemException, other.systemException);
+        if (lastComparison != 0) {
+          return lastComparison;
+        }
+      }
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("readChunk_result(");
+      boolean first = true;
+
+      sb.append("success:");
+      if (this.success == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.success);
+      }
+      first = false;
+      if (!first) sb.append(", ");
+      sb.append("systemException:");
+      if (this.systemException == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.systemException);
+      }
+      first = false;
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+      if (success != null) {
+        success.validate();
+      }
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class readChunk_resultStandardSchemeFactory implements SchemeFactory {
+      public readChunk_resultStandardScheme getScheme() {
+        return new readChunk_resultStandardScheme();
+      }
+    }
+
+    private static class readChunk_resultStandardScheme extends StandardScheme<readChunk_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, readChunk_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            case 0: // SUCCESS
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.success = new FileChunk();
+                struct.success.read(iprot);
+                struct.setSuccessIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            case 1: // SYSTEM_EXCEPTION
+              if (schemeField.type == org.apache.thrift.protocol.TType.STRUCT) {
+                struct.systemException = new SystemException();
+                struct.systemException.read(iprot);
+                struct.setSystemExceptionIsSet(true);
+              } else { 
+                org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+              }
+              break;
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, readChunk_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        if (struct.success != null) {
+          oprot.writeFieldBegin(SUCCESS_FIELD_DESC);
+          struct.success.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        if (struct.systemException != null) {
+          oprot.writeFieldBegin(SYSTEM_EXCEPTION_FIELD_DESC);
+          struct.systemException.write(oprot);
+          oprot.writeFieldEnd();
+        }
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class readChunk_resultTupleSchemeFactory implements SchemeFactory {
+      public readChunk_resultTupleScheme getScheme() {
+        return new readChunk_resultTupleScheme();
+      }
+    }
+
+    private static class readChunk_resultTupleScheme extends TupleScheme<readChunk_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, readChunk_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+        BitSet optionals = new BitSet();
+        if (struct.isSetSuccess()) {
+          optionals.set(0);
+        }
+        if (struct.isSetSystemException()) {
+          optionals.set(1);
+        }
+        oprot.writeBitSet(optionals, 2);
+        if (struct.isSetSuccess()) {
+          struct.success.write(oprot);
+        }
+        if (struct.isSetSystemException()) {
+          struct.systemException.write(oprot);
+        }
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, readChunk_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+        BitSet incoming = iprot.readBitSet(2);
+        if (incoming.get(0)) {
+          struct.success = new FileChunk();
+          struct.success.read(iprot);
+          struct.setSuccessIsSet(true);
+        }
+        if (incoming.get(1)) {
+          struct.systemException = new SystemException();
+          struct.systemException.read(iprot);
+          struct.setSystemExceptionIsSet(true);
+        }
+      }
+    }
+
+  }
+
+  public static class ping_args implements org.apache.thrift.TBase<ping_args, ping_args._Fields>, java.io.Serializable, Cloneable, Comparable<ping_args>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("ping_args");
+
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new ping_argsStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new ping_argsTupleSchemeFactory());
+    }
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      ;
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(ping_args.class, metaDataMap);
+    }
+
+    public ping_args() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public ping_args(ping_args other) {
+    }
+
+    public ping_args deepCopy() {
+      return new ping_args(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof ping_args)
+        return this.equals((ping_args)that);
+      return false;
+    }
+
+    public boolean equals(ping_args that) {
+      if (that == null)
+        return false;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(ping_args other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+    }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("ping_args(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class ping_argsStandardSchemeFactory implements SchemeFactory {
+      public ping_argsStandardScheme getScheme() {
+        return new ping_argsStandardScheme();
+      }
+    }
+
+    private static class ping_argsStandardScheme extends StandardScheme<ping_args> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, ping_args struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, ping_args struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class ping_argsTupleSchemeFactory implements SchemeFactory {
+      public ping_argsTupleScheme getScheme() {
+        return new ping_argsTupleScheme();
+      }
+    }
+
+    private static class ping_argsTupleScheme extends TupleScheme<ping_args> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, ping_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, ping_args struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+      }
+    }
+
+  }
+
+  public static class ping_result implements org.apache.thrift.TBase<ping_result, ping_result._Fields>, java.io.Serializable, Cloneable, Comparable<ping_result>   {
+    private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("ping_result");
+
+
+    private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
+    static {
+      schemes.put(StandardScheme.class, new ping_resultStandardSchemeFactory());
+      schemes.put(TupleScheme.class, new ping_resultTupleSchemeFactory());
+    }
+
+
+    /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
+    public enum _Fields implements org.apache.thrift.TFieldIdEnum {
+      ;
+
+      private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
+
+      static {
+        for (_Fields field : EnumSet.allOf(_Fields.class)) {
+          byName.put(field.getFieldName(), field);
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, or null if its not found.
+       */
+      public static _Fields findByThriftId(int fieldId) {
+        switch(fieldId) {
+          default:
+            return null;
+        }
+      }
+
+      /**
+       * Find the _Fields constant that matches fieldId, throwing an exception
+       * if it is not found.
+       */
+      public static _Fields findByThriftIdOrThrow(int fieldId) {
+        _Fields fields = findByThriftId(fieldId);
+        if (fields == null) throw new IllegalArgumentException("Field " + fieldId + " doesn't exist!");
+        return fields;
+      }
+
+      /**
+       * Find the _Fields constant that matches name, or null if its not found.
+       */
+      public static _Fields findByName(String name) {
+        return byName.get(name);
+      }
+
+      private final short _thriftId;
+      private final String _fieldName;
+
+      _Fields(short thriftId, String fieldName) {
+        _thriftId = thriftId;
+        _fieldName = fieldName;
+      }
+
+      public short getThriftFieldId() {
+        return _thriftId;
+      }
+
+      public String getFieldName() {
+        return _fieldName;
+      }
+    }
+
+    // isset id assignments
+    public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
+    static {
+      Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
+      metaDataMap = Collections.unmodifiableMap(tmpMap);
+      org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(ping_result.class, metaDataMap);
+    }
+
+    public ping_result() {
+    }
+
+    /**
+     * Performs a deep copy on <i>other</i>.
+     */
+    public ping_result(ping_result other) {
+    }
+
+    public ping_result deepCopy() {
+      return new ping_result(this);
+    }
+
+    @Override
+    public void clear() {
+    }
+
+    public void setFieldValue(_Fields field, Object value) {
+      switch (field) {
+      }
+    }
+
+    public Object getFieldValue(_Fields field) {
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    /** Returns true if field corresponding to fieldID is set (has been assigned a value) and false otherwise */
+    public boolean isSet(_Fields field) {
+      if (field == null) {
+        throw new IllegalArgumentException();
+      }
+
+      switch (field) {
+      }
+      throw new IllegalStateException();
+    }
+
+    @Override
+    public boolean equals(Object that) {
+      if (that == null)
+        return false;
+      if (that instanceof ping_result)
+        return this.equals((ping_result)that);
+      return false;
+    }
+
+    public boolean equals(ping_result that) {
+      if (that == null)
+        return false;
+
+      return true;
+    }
+
+    @Override
+    public int hashCode() {
+      List<Object> list = new ArrayList<Object>();
+
+      return list.hashCode();
+    }
+
+    @Override
+    public int compareTo(ping_result other) {
+      if (!getClass().equals(other.getClass())) {
+        return getClass().getName().compareTo(other.getClass().getName());
+      }
+
+      int lastComparison = 0;
+
+      return 0;
+    }
+
+    public _Fields fieldForId(int fieldId) {
+      return _Fields.findByThriftId(fieldId);
+    }
+
+    public void read(org.apache.thrift.protocol.TProtocol iprot) throws org.apache.thrift.TException {
+      schemes.get(iprot.getScheme()).getScheme().read(iprot, this);
+    }
+
+    public void write(org.apache.thrift.protocol.TProtocol oprot) throws org.apache.thrift.TException {
+      schemes.get(oprot.getScheme()).getScheme().write(oprot, this);
+      }
+
+    @Override
+    public String toString() {
+      StringBuilder sb = new StringBuilder("ping_result(");
+      boolean first = true;
+
+      sb.append(")");
+      return sb.toString();
+    }
+
+    public void validate() throws org.apache.thrift.TException {
+      // check for required fields
+      // check for sub-struct validity
+    }
+
+    private void writeObject(java.io.ObjectOutputStream out) throws java.io.IOException {
+      try {
+        write(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(out)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
+      try {
+        read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
+      } catch (org.apache.thrift.TException te) {
+        throw new java.io.IOException(te);
+      }
+    }
+
+    private static class ping_resultStandardSchemeFactory implements SchemeFactory {
+      public ping_resultStandardScheme getScheme() {
+        return new ping_resultStandardScheme();
+      }
+    }
+
+    private static class ping_resultStandardScheme extends StandardScheme<ping_result> {
+
+      public void read(org.apache.thrift.protocol.TProtocol iprot, ping_result struct) throws org.apache.thrift.TException {
+        org.apache.thrift.protocol.TField schemeField;
+        iprot.readStructBegin();
+        while (true)
+        {
+          schemeField = iprot.readFieldBegin();
+          if (schemeField.type == org.apache.thrift.protocol.TType.STOP) { 
+            break;
+          }
+          switch (schemeField.id) {
+            default:
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+          }
+          iprot.readFieldEnd();
+        }
+        iprot.readStructEnd();
+
+        // check for required fields of primitive type, which can't be checked in the validate method
+        struct.validate();
+      }
+
+      public void write(org.apache.thrift.protocol.TProtocol oprot, ping_result struct) throws org.apache.thrift.TException {
+        struct.validate();
+
+        oprot.writeStructBegin(STRUCT_DESC);
+        oprot.writeFieldStop();
+        oprot.writeStructEnd();
+      }
+
+    }
+
+    private static class ping_resultTupleSchemeFactory implements SchemeFactory {
+      public ping_resultTupleScheme getScheme() {
+        return new ping_resultTupleScheme();
+      }
+    }
+
+    private static class ping_resultTupleScheme extends TupleScheme<ping_result> {
+
+      @Override
+      public void write(org.apache.thrift.protocol.TProtocol prot, ping_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol oprot = (TTupleProtocol) prot;
+      }
+
+      @Override
+      public void read(org.apache.thrift.protocol.TProtocol prot, ping_result struct) throws org.apache.thrift.TException {
+        TTupleProtocol iprot = (TTupleProtocol) prot;
+      }
+    }
+
+  }
+
 }
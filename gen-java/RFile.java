@@ -32,13 +32,17 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked"})
-@Generated(value = "Autogenerated by Thrift Compiler (0.9.3)", date = "2015-12-09")
+@Generated(value = "Autogenerated by Thrift Compiler (0.9.3)", date = "2026-10-18")
 public class RFile implements org.apache.thrift.TBase<RFile, RFile._Fields>, java.io.Serializable, Cloneable, Comparable<RFile> {
   private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("RFile");
 
   private static final org.apache.thrift.protocol.TField FILENAME_FIELD_DESC = new org.apache.thrift.protocol.TField("filename", org.apache.thrift.protocol.TType.STRING, (short)1);
   private static final org.apache.thrift.protocol.TField CONTENT_FIELD_DESC = new org.apache.thrift.protocol.TField("content", org.apache.thrift.protocol.TType.STRING, (short)2);
   private static final org.apache.thrift.protocol.TField CLIENT_ID_FIELD_DESC = new org.apache.thrift.protocol.TField("clientID", org.apache.thrift.protocol.TType.STRING, (short)3);
+  private static final org.apache.thrift.protocol.TField DATA_FIELD_DESC = new org.apache.thrift.protocol.TField("data", org.apache.thrift.protocol.TType.STRING, (short)4);
+  private static final org.apache.thrift.protocol.TField SIZE_FIELD_DESC = new org.apache.thrift.protocol.TField("size", org.apache.thrift.protocol.TType.I64, (short)5);
+  private static final org.apache.thrift.protocol.TField VERSION_FIELD_DESC = new org.apache.thrift.protocol.TField("version", org.apache.thrift.protocol.TType.I64, (short)6);
+  private static final org.apache.thrift.protocol.TField DIGEST_FIELD_DESC = new org.apache.thrift.protocol.TField("digest", org.apache.thrift.protocol.TType.STRING, (short)7);
 
   private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
   static {
@@ -49,12 +53,20 @@ public class RFile implements org.apache.thrift.TBase<RFile, RFile._Fields>, jav
   public String filename; // optional
   public String content; // optional
   public String clientID; // optional
+  public ByteBuffer data; // optional
+  public long size; // optional
+  public long version; // optional
+  public String digest; // optional
 
   /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
   public enum _Fields implements org.apache.thrift.TFieldIdEnum {
     FILENAME((short)1, "filename"),
     CONTENT((short)2, "content"),
-    CLIENT_ID((short)3, "clientID");
+    CLIENT_ID((short)3, "clientID"),
+    DATA((short)4, "data"),
+    SIZE((short)5, "size"),
+    VERSION((short)6, "version"),
+    DIGEST((short)7, "digest");
 
     private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -75,6 +87,14 @@ public class RFile implements org.apache.thrift.TBase<RFile, RFile._Fields>, jav
           return CONTENT;
         case 3: // CLIENT_ID
           return CLIENT_ID;
+        case 4: // DATA
+          return DATA;
+        case 5: // SIZE
+          return SIZE;
+        case 6: // VERSION
+          return VERSION;
+        case 7: // DIGEST
+          return DIGEST;
         default:
           return null;
       }
@@ -115,7 +135,10 @@ public class RFile implements org.apache.thrift.TBase<RFile, RFile._Fields>, jav
   }
 
   // isset id assignments
-  private static final _Fields optionals[] = {_Fields.FILENAME,_Fields.CONTENT,_Fields.CLIENT_ID};
+  private static final int __SIZE_ISSET_ID = 0;
+  private static final int __VERSION_ISSET_ID = 1;
+  private byte __isset_bitfield = 0;
+  private static final _Fields optionals[] = {_Fields.FILENAME,_Fields.CONTENT,_Fields.CLIENT_ID,_Fields.DATA,_Fields.SIZE,_Fields.VERSION,_Fields.DIGEST};
   public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
   static {
     Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
@@ -125,6 +148,14 @@ public class RFile implements org.apache.thrift.TBase<RFile, RFile._Fields>, jav
         new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
     tmpMap.put(_Fields.CLIENT_ID, new org.apache.thrift.meta_data.FieldMetaData("clientID", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
         new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
+    tmpMap.put(_Fields.DATA, new org.apache.thrift.meta_data.FieldMetaData("data", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING        , true)));
+    tmpMap.put(_Fields.SIZE, new org.apache.thrift.meta_data.FieldMetaData("size", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+    tmpMap.put(_Fields.VERSION, new org.apache.thrift.meta_data.FieldMetaData("version", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.I64)));
+    tmpMap.put(_Fields.DIGEST, new org.apache.thrift.meta_data.FieldMetaData("digest", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRING)));
     metaDataMap = Collections.unmodifiableMap(tmpMap);
     org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(RFile.class, metaDataMap);
   }
@@ -136,6 +167,7 @@ public class RFile implements org.apache.thrift.TBase<RFile, RFile._Fields>, jav
    * Performs a deep copy on <i>other</i>.
    */
   public RFile(RFile other) {
+    __isset_bitfield = other.__isset_bitfield;
     if (other.isSetFilename()) {
       this.filename = other.filename;
     }
@@ -145,6 +177,14 @@ public class RFile implements org.apache.thrift.TBase<RFile, RFile._Fields>, jav
     if (other.isSetClientID()) {
       this.clientID = other.clientID;
     }
+    if (other.isSetData()) {
+      this.data = org.apache.thrift.TBaseHelper.copyBinary(other.data);
+    }
+    this.size = other.size;
+    this.version = other.version;
+    if (other.isSetDigest()) {
+      this.digest = other.digest;
+    }
   }
 
   public RFile deepCopy() {
@@ -156,6 +196,12 @@ public class RFile implements org.apache.thrift.TBase<RFile, RFile._Fields>, jav
     this.filename = null;
     this.content = null;
     this.clientID = null;
+    this.data = null;
+    setSizeIsSet(false);
+    this.size = 0;
+    setVersionIsSet(false);
+    this.version = 0;
+    this.digest = null;
   }
 
   public String getFilename() {
@@ -230,6 +276,110 @@ public class RFile implements org.apache.thrift.TBase<RFile, RFile._Fields>, jav
     }
   }
 
+  public byte[] getData() {
+    setData(org.apache.thrift.TBaseHelper.rightSize(data));
+    return data == null ? null : data.array();
+  }
+
+  public ByteBuffer bufferForData() {
+    return org.apache.thrift.TBaseHelper.copyBinary(data);
+  }
+
+  public RFile setData(byte[] data) {
+    this.data = data == null ? (ByteBuffer)null : ByteBuffer.wrap(Arrays.copyOf(data, data.length));
+    return this;
+  }
+
+  public RFile setData(ByteBuffer data) {
+    this.data = org.apache.thrift.TBaseHelper.copyBinary(data);
+    return this;
+  }
+
+  public void unsetData() {
+    this.data = null;
+  }
+
+  /** Returns true if field data is set (has been assigned a value) and false otherwise */
+  public boolean isSetData() {
+    return this.data != null;
+  }
+
+  public void setDataIsSet(boolean value) {
+    if (!value) {
+      this.data = null;
+    }
+  }
+
+  public long getSize() {
+    return this.size;
+  }
+
+  public RFile setSize(long size) {
+    this.size = size;
+    setSizeIsSet(true);
+    return this;
+  }
+
+  public void unsetSize() {
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __SIZE_ISSET_ID);
+  }
+
+  /** Returns true if field size is set (has been assigned a value) and false otherwise */
+  public boolean isSetSize() {
+    return EncodingUtils.testBit(__isset_bitfield, __SIZE_ISSET_ID);
+  }
+
+  public void setSizeIsSet(boolean value) {
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __SIZE_ISSET_ID, value);
+  }
+
+  public long getVersion() {
+    return this.version;
+  }
+
+  public RFile setVersion(long version) {
+    this.version = version;
+    setVersionIsSet(true);
+    return this;
+  }
+
+  public void unsetVersion() {
+    __isset_bitfield = EncodingUtils.clearBit(__isset_bitfield, __VERSION_ISSET_ID);
+  }
+
+  /** Returns true if field version is set (has been assigned a value) and false otherwise */
+  public boolean isSetVersion() {
+    return EncodingUtils.testBit(__isset_bitfield, __VERSION_ISSET_ID);
+  }
+
+  public void setVersionIsSet(boolean value) {
+    __isset_bitfield = EncodingUtils.setBit(__isset_bitfield, __VERSION_ISSET_ID, value);
+  }
+
+  public String getDigest() {
+    return this.digest;
+  }
+
+  public RFile setDigest(String digest) {
+    this.digest = digest;
+    return this;
+  }
+
+  public void unsetDigest() {
+    this.digest = null;
+  }
+
+  /** Returns true if field digest is set (has been assigned a value) and false otherwise */
+  public boolean isSetDigest() {
+    return this.digest != null;
+  }
+
+  public void setDigestIsSet(boolean value) {
+    if (!value) {
+      this.digest = null;
+    }
+  }
+
   public void setFieldValue(_Fields field, Object value) {
     switch (field) {
     case FILENAME:
@@ -256,6 +406,38 @@ public class RFile implements org.apache.thrift.TBase<RFile, RFile._Fields>, jav
       }
       break;
 
+    case DATA:
+      if (value == null) {
+        unsetData();
+      } else {
+        setData((ByteBuffer)value);
+      }
+      break;
+
+    case SIZE:
+      if (value == null) {
+        unsetSize();
+      } else {
+        setSize((Long)value);
+      }
+      break;
+
+    case VERSION:
+      if (value == null) {
+        unsetVersion();
+      } else {
+        setVersion((Long)value);
+      }
+      break;
+
+    case DIGEST:
+      if (value == null) {
+        unsetDigest();
+      } else {
+        setDigest((String)value);
+      }
+      break;
+
     }
   }
 
@@ -270,6 +452,18 @@ public class RFile implements org.apache.thrift.TBase<RFile, RFile._Fields>, jav
     case CLIENT_ID:
       return getClientID();
 
+    case DATA:
+      return getData();
+
+    case SIZE:
+      return getSize();
+
+    case VERSION:
+      return getVersion();
+
+    case DIGEST:
+      return getDigest();
+
     }
     throw new IllegalStateException();
   }
@@ -287,6 +481,14 @@ public class RFile implements org.apache.thrift.TBase<RFile, RFile._Fields>, jav
       return isSetContent();
     case CLIENT_ID:
       return isSetClientID();
+    case DATA:
+      return isSetData();
+    case SIZE:
+      return isSetSize();
+    case VERSION:
+      return isSetVersion();
+    case DIGEST:
+      return isSetDigest();
     }
     throw new IllegalStateException();
   }
@@ -331,6 +533,42 @@ public class RFile implements org.apache.thrift.TBase<RFile, RFile._Fields>, jav
         return false;
     }
 
+    boolean this_present_data = true && this.isSetData();
+    boolean that_present_data = true && that.isSetData();
+    if (this_present_data || that_present_data) {
+      if (!(this_present_data && that_present_data))
+        return false;
+      if (!this.data.equals(that.data))
+        return false;
+    }
+
+    boolean this_present_size = true && this.isSetSize();
+    boolean that_present_size = true && that.isSetSize();
+    if (this_present_size || that_present_size) {
+      if (!(this_present_size && that_present_size))
+        return false;
+      if (this.size != that.size)
+        return false;
+    }
+
+    boolean this_present_version = true && this.isSetVersion();
+    boolean that_present_version = true && that.isSetVersion();
+    if (this_present_version || that_present_version) {
+      if (!(this_present_version && that_present_version))
+        return false;
+      if (this.version != that.version)
+        return false;
+    }
+
+    boolean this_present_digest = true && this.isSetDigest();
+    boolean that_present_digest = true && that.isSetDigest();
+    if (this_present_digest || that_present_digest) {
+      if (!(this_present_digest && that_present_digest))
+        return false;
+      if (!this.digest.equals(that.digest))
+        return false;
+    }
+
     return true;
   }
 
@@ -353,6 +591,26 @@ public class RFile implements org.apache.thrift.TBase<RFile, RFile._Fields>, jav
     if (present_clientID)
       list.add(clientID);
 
+    boolean present_data = true && (isSetData());
+    list.add(present_data);
+    if (present_data)
+      list.add(data);
+
+    boolean present_size = true && (isSetSize());
+    list.add(present_size);
+    if (present_size)
+      list.add(size);
+
+    boolean present_version = true && (isSetVersion());
+    list.add(present_version);
+    if (present_version)
+      list.add(version);
+
+    boolean present_digest = true && (isSetDigest());
+    list.add(present_digest);
+    if (present_digest)
+      list.add(digest);
+
     return list.hashCode();
   }
 
@@ -394,6 +652,46 @@ public class RFile implements org.apache.thrift.TBase<RFile, RFile._Fields>, jav
         return lastComparison;
       }
     }
+    lastComparison = Boolean.valueOf(isSetData()).compareTo(other.isSetData());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetData()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.data, other.data);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = Boolean.valueOf(isSetSize()).compareTo(other.isSetSize());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetSize()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.size, other.size);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = Boolean.valueOf(isSetVersion()).compareTo(other.isSetVersion());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetVersion()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.version, other.version);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
+    lastComparison = Boolean.valueOf(isSetDigest()).compareTo(other.isSetDigest());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetDigest()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.digest, other.digest);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
     return 0;
   }
 
@@ -443,6 +741,38 @@ public class RFile implements org.apache.thrift.TBase<RFile, RFile._Fields>, jav
       }
       first = false;
     }
+    if (isSetData()) {
+      if (!first) sb.append(", ");
+      sb.append("data:");
+      if (this.data == null) {
+        sb.append("null");
+      } else {
+        org.apache.thrift.TBaseHelper.toString(this.data, sb);
+      }
+      first = false;
+    }
+    if (isSetSize()) {
+      if (!first) sb.append(", ");
+      sb.append("size:");
+      sb.append(this.size);
+      first = false;
+    }
+    if (isSetVersion()) {
+      if (!first) sb.append(", ");
+      sb.append("version:");
+      sb.append(this.version);
+      first = false;
+    }
+    if (isSetDigest()) {
+      if (!first) sb.append(", ");
+      sb.append("digest:");
+      if (this.digest == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.digest);
+      }
+      first = false;
+    }
     sb.append(")");
     return sb.toString();
   }
@@ -462,6 +792,8 @@ public class RFile implements org.apache.thrift.TBase<RFile, RFile._Fields>, jav
 
   private void readObject(java.io.ObjectInputStream in) throws java.io.IOException, ClassNotFoundException {
     try {
+      // it doesn't seem like you should have to do this, but java serialization is wacky, and doesn't call the default constructor.
+      __isset_bitfield = 0;
       read(new org.apache.thrift.protocol.TCompactProtocol(new org.apache.thrift.transport.TIOStreamTransport(in)));
     } catch (org.apache.thrift.TException te) {
       throw new java.io.IOException(te);
@@ -510,6 +842,38 @@ public class RFile implements org.apache.thrift.TBase<RFile, RFile._Fields>, jav
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
             }
             break;
+          case 4: // DATA
+            if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+              struct.data = iprot.readBinary();
+              struct.setDataIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 5: // SIZE
+            if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+              struct.size = iprot.readI64();
+              struct.setSizeIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 6: // VERSION
+            if (schemeField.type == org.apache.thrift.protocol.TType.I64) {
+              struct.version = iprot.readI64();
+              struct.setVersionIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
+          case 7: // DIGEST
+            if (schemeField.type == org.apache.thrift.protocol.TType.STRING) {
+              struct.digest = iprot.readString();
+              struct.setDigestIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
           default:
             org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
         }
@@ -546,6 +910,30 @@ public class RFile implements org.apache.thrift.TBase<RFile, RFile._Fields>, jav
           oprot.writeFieldEnd();
         }
       }
+      if (struct.data != null) {
+        if (struct.isSetData()) {
+          oprot.writeFieldBegin(DATA_FIELD_DESC);
+          oprot.writeBinary(struct.data);
+          oprot.writeFieldEnd();
+        }
+      }
+      if (struct.isSetSize()) {
+        oprot.writeFieldBegin(SIZE_FIELD_DESC);
+        oprot.writeI64(struct.size);
+        oprot.writeFieldEnd();
+      }
+      if (struct.isSetVersion()) {
+        oprot.writeFieldBegin(VERSION_FIELD_DESC);
+        oprot.writeI64(struct.version);
+        oprot.writeFieldEnd();
+      }
+      if (struct.digest != null) {
+        if (struct.isSetDigest()) {
+          oprot.writeFieldBegin(DIGEST_FIELD_DESC);
+          oprot.writeString(struct.digest);
+          oprot.writeFieldEnd();
+        }
+      }
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
@@ -573,7 +961,19 @@ public class RFile implements org.apache.thrift.TBase<RFile, RFile._Fields>, jav
       if (struct.isSetClientID()) {
         optionals.set(2);
       }
-      oprot.writeBitSet(optionals, 3);
+      if (struct.isSetData()) {
+        optionals.set(3);
+      }
+      if (struct.isSetSize()) {
+        optionals.set(4);
+      }
+      if (struct.isSetVersion()) {
+        optionals.set(5);
+      }
+      if (struct.isSetDigest()) {
+        optionals.set(6);
+      }
+      oprot.writeBitSet(optionals, 7);
       if (struct.isSetFilename()) {
         oprot.writeString(struct.filename);
       }
@@ -583,12 +983,24 @@ public class RFile implements org.apache.thrift.TBase<RFile, RFile._Fields>, jav
       if (struct.isSetClientID()) {
         oprot.writeString(struct.clientID);
       }
+      if (struct.isSetData()) {
+        oprot.writeBinary(struct.data);
+      }
+      if (struct.isSetSize()) {
+        oprot.writeI64(struct.size);
+      }
+      if (struct.isSetVersion()) {
+        oprot.writeI64(struct.version);
+      }
+      if (struct.isSetDigest()) {
+        oprot.writeString(struct.digest);
+      }
     }
 
     @Override
     public void read(org.apache.thrift.protocol.TProtocol prot, RFile struct) throws org.apache.thrift.TException {
       TTupleProtocol iprot = (TTupleProtocol) prot;
-      BitSet incoming = iprot.readBitSet(3);
+      BitSet incoming = iprot.readBitSet(7);
       if (incoming.get(0)) {
         struct.filename = iprot.readString();
         struct.setFilenameIsSet(true);
@@ -601,6 +1013,22 @@ public class RFile implements org.apache.thrift.TBase<RFile, RFile._Fields>, jav
         struct.clientID = iprot.readString();
         struct.setClientIDIsSet(true);
       }
+      if (incoming.get(3)) {
+        struct.data = iprot.readBinary();
+        struct.setDataIsSet(true);
+      }
+      if (incoming.get(4)) {
+        struct.size = iprot.readI64();
+        struct.setSizeIsSet(true);
+      }
+      if (incoming.get(5)) {
+        struct.version = iprot.readI64();
+        struct.setVersionIsSet(true);
+      }
+      if (incoming.get(6)) {
+        struct.digest = iprot.readString();
+        struct.setDigestIsSet(true);
+      }
     }
   }
 
@@ -32,7 +32,7 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 @SuppressWarnings({"cast", "rawtypes", "serial", "unchecked"})
-@Generated(value = "Autogenerated by Thrift Compiler (0.9.3)", date = "2015-12-09")
+@Generated(value = "Autogenerated by Thrift Compiler (0.9.3)", date = "2026-10-18")
 public class Transaction implements org.apache.thrift.TBase<Transaction, Transaction._Fields>, java.io.Serializable, Cloneable, Comparable<Transaction> {
   private static final org.apache.thrift.protocol.TStruct STRUCT_DESC = new org.apache.thrift.protocol.TStruct("Transaction");
 
@@ -42,6 +42,7 @@ public class Transaction implements org.apache.thrift.TBase<Transaction, Transac
   private static final org.apache.thrift.protocol.TField FILE_NAME_FIELD_DESC = new org.apache.thrift.protocol.TField("file_name", org.apache.thrift.protocol.TType.STRING, (short)4);
   private static final org.apache.thrift.protocol.TField R_FILE_FIELD_DESC = new org.apache.thrift.protocol.TField("rFile", org.apache.thrift.protocol.TType.STRUCT, (short)5);
   private static final org.apache.thrift.protocol.TField TRAN_STATUS_FIELD_DESC = new org.apache.thrift.protocol.TField("tran_status", org.apache.thrift.protocol.TType.I32, (short)6);
+  private static final org.apache.thrift.protocol.TField OP_TYPE_FIELD_DESC = new org.apache.thrift.protocol.TField("op_type", org.apache.thrift.protocol.TType.I32, (short)7);
 
   private static final Map<Class<? extends IScheme>, SchemeFactory> schemes = new HashMap<Class<? extends IScheme>, SchemeFactory>();
   static {
@@ -55,6 +56,7 @@ public class Transaction implements org.apache.thrift.TBase<Transaction, Transac
   public String file_name; // required
   public RFile rFile; // required
   public T_Status tran_status; // required
+  public OpType op_type; // optional
 
   /** The set of fields this struct contains, along with convenience methods for finding and manipulating them. */
   public enum _Fields implements org.apache.thrift.TFieldIdEnum {
@@ -63,7 +65,8 @@ public class Transaction implements org.apache.thrift.TBase<Transaction, Transac
     CLIENT_ID((short)3, "client_id"),
     FILE_NAME((short)4, "file_name"),
     R_FILE((short)5, "rFile"),
-    TRAN_STATUS((short)6, "tran_status");
+    TRAN_STATUS((short)6, "tran_status"),
+    OP_TYPE((short)7, "op_type");
 
     private static final Map<String, _Fields> byName = new HashMap<String, _Fields>();
 
@@ -90,6 +93,8 @@ public class Transaction implements org.apache.thrift.TBase<Transaction, Transac
           return R_FILE;
         case 6: // TRAN_STATUS
           return TRAN_STATUS;
+        case 7: // OP_TYPE
+          return OP_TYPE;
         default:
           return null;
       }
@@ -132,6 +137,7 @@ public class Transaction implements org.apache.thrift.TBase<Transaction, Transac
   // isset id assignments
   private static final int __TRAN_ID_ISSET_ID = 0;
   private byte __isset_bitfield = 0;
+  private static final _Fields optionals[] = {_Fields.OP_TYPE};
   public static final Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> metaDataMap;
   static {
     Map<_Fields, org.apache.thrift.meta_data.FieldMetaData> tmpMap = new EnumMap<_Fields, org.apache.thrift.meta_data.FieldMetaData>(_Fields.class);
@@ -147,6 +153,8 @@ public class Transaction implements org.apache.thrift.TBase<Transaction, Transac
         new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.STRUCT        , "RFile")));
     tmpMap.put(_Fields.TRAN_STATUS, new org.apache.thrift.meta_data.FieldMetaData("tran_status", org.apache.thrift.TFieldRequirementType.DEFAULT, 
         new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.ENUM        , "T_Status")));
+    tmpMap.put(_Fields.OP_TYPE, new org.apache.thrift.meta_data.FieldMetaData("op_type", org.apache.thrift.TFieldRequirementType.OPTIONAL, 
+        new org.apache.thrift.meta_data.FieldValueMetaData(org.apache.thrift.protocol.TType.ENUM        , "OpType")));
     metaDataMap = Collections.unmodifiableMap(tmpMap);
     org.apache.thrift.meta_data.FieldMetaData.addStructMetaDataMap(Transaction.class, metaDataMap);
   }
@@ -193,6 +201,9 @@ public class Transaction implements org.apache.thrift.TBase<Transaction, Transac
     if (other.isSetTran_status()) {
       this.tran_status = other.tran_status;
     }
+    if (other.isSetOp_type()) {
+      this.op_type = other.op_type;
+    }
   }
 
   public Transaction deepCopy() {
@@ -208,6 +219,7 @@ public class Transaction implements org.apache.thrift.TBase<Transaction, Transac
     this.file_name = null;
     this.rFile = null;
     this.tran_status = null;
+    this.op_type = null;
   }
 
   public long getTran_id() {
@@ -353,6 +365,30 @@ public class Transaction implements org.apache.thrift.TBase<Transaction, Transac
     }
   }
 
+  public OpType getOp_type() {
+    return this.op_type;
+  }
+
+  public Transaction setOp_type(OpType op_type) {
+    this.op_type = op_type;
+    return this;
+  }
+
+  public void unsetOp_type() {
+    this.op_type = null;
+  }
+
+  /** Returns true if field op_type is set (has been assigned a value) and false otherwise */
+  public boolean isSetOp_type() {
+    return this.op_type != null;
+  }
+
+  public void setOp_typeIsSet(boolean value) {
+    if (!value) {
+      this.op_type = null;
+    }
+  }
+
   public void setFieldValue(_Fields field, Object value) {
     switch (field) {
     case TRAN_ID:
@@ -403,6 +439,14 @@ public class Transaction implements org.apache.thrift.TBase<Transaction, Transac
       }
       break;
 
+    case OP_TYPE:
+      if (value == null) {
+        unsetOp_type();
+      } else {
+        setOp_type((OpType)value);
+      }
+      break;
+
     }
   }
 
@@ -426,6 +470,9 @@ public class Transaction implements org.apache.thrift.TBase<Transaction, Transac
     case TRAN_STATUS:
       return getTran_status();
 
+    case OP_TYPE:
+      return getOp_type();
+
     }
     throw new IllegalStateException();
   }
@@ -449,6 +496,8 @@ public class Transaction implements org.apache.thrift.TBase<Transaction, Transac
       return isSetRFile();
     case TRAN_STATUS:
       return isSetTran_status();
+    case OP_TYPE:
+      return isSetOp_type();
     }
     throw new IllegalStateException();
   }
@@ -520,6 +569,15 @@ public class Transaction implements org.apache.thrift.TBase<Transaction, Transac
         return false;
     }
 
+    boolean this_present_op_type = true && this.isSetOp_type();
+    boolean that_present_op_type = true && that.isSetOp_type();
+    if (this_present_op_type || that_present_op_type) {
+      if (!(this_present_op_type && that_present_op_type))
+        return false;
+      if (!this.op_type.equals(that.op_type))
+        return false;
+    }
+
     return true;
   }
 
@@ -557,6 +615,11 @@ public class Transaction implements org.apache.thrift.TBase<Transaction, Transac
     if (present_tran_status)
       list.add(tran_status.getValue());
 
+    boolean present_op_type = true && (isSetOp_type());
+    list.add(present_op_type);
+    if (present_op_type)
+      list.add(op_type.getValue());
+
     return list.hashCode();
   }
 
@@ -628,6 +691,16 @@ public class Transaction implements org.apache.thrift.TBase<Transaction, Transac
         return lastComparison;
       }
     }
+    lastComparison = Boolean.valueOf(isSetOp_type()).compareTo(other.isSetOp_type());
+    if (lastComparison != 0) {
+      return lastComparison;
+    }
+    if (isSetOp_type()) {
+      lastComparison = org.apache.thrift.TBaseHelper.compareTo(this.op_type, other.op_type);
+      if (lastComparison != 0) {
+        return lastComparison;
+      }
+    }
     return 0;
   }
 
@@ -691,6 +764,16 @@ public class Transaction implements org.apache.thrift.TBase<Transaction, Transac
       sb.append(this.tran_status);
     }
     first = false;
+    if (isSetOp_type()) {
+      if (!first) sb.append(", ");
+      sb.append("op_type:");
+      if (this.op_type == null) {
+        sb.append("null");
+      } else {
+        sb.append(this.op_type);
+      }
+      first = false;
+    }
     sb.append(")");
     return sb.toString();
   }
@@ -785,6 +868,14 @@ public class Transaction implements org.apache.thrift.TBase<Transaction, Transac
               org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
             }
             break;
+          case 7: // OP_TYPE
+            if (schemeField.type == org.apache.thrift.protocol.TType.I32) {
+              struct.op_type = OpType.findByValue(iprot.readI32());
+              struct.setOp_typeIsSet(true);
+            } else { 
+              org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
+            }
+            break;
           default:
             org.apache.thrift.protocol.TProtocolUtil.skip(iprot, schemeField.type);
         }
@@ -828,6 +919,13 @@ public class Transaction implements org.apache.thrift.TBase<Transaction, Transac
         oprot.writeI32(struct.tran_status.getValue());
         oprot.writeFieldEnd();
       }
+      if (struct.op_type != null) {
+        if (struct.isSetOp_type()) {
+          oprot.writeFieldBegin(OP_TYPE_FIELD_DESC);
+          oprot.writeI32(struct.op_type.getValue());
+          oprot.writeFieldEnd();
+        }
+      }
       oprot.writeFieldStop();
       oprot.writeStructEnd();
     }
@@ -864,7 +962,10 @@ public class Transaction implements org.apache.thrift.TBase<Transaction, Transac
       if (struct.isSetTran_status()) {
         optionals.set(5);
       }
-      oprot.writeBitSet(optionals, 6);
+      if (struct.isSetOp_type()) {
+        optionals.set(6);
+      }
+      oprot.writeBitSet(optionals, 7);
       if (struct.isSetTran_id()) {
         oprot.writeI64(struct.tran_id);
       }
@@ -883,12 +984,15 @@ public class Transaction implements org.apache.thrift.TBase<Transaction, Transac
       if (struct.isSetTran_status()) {
         oprot.writeI32(struct.tran_status.getValue());
       }
+      if (struct.isSetOp_type()) {
+        oprot.writeI32(struct.op_type.getValue());
+      }
     }
 
     @Override
     public void read(org.apache.thrift.protocol.TProtocol prot, Transaction struct) throws org.apache.thrift.TException {
       TTupleProtocol iprot = (TTupleProtocol) prot;
-      BitSet incoming = iprot.readBitSet(6);
+      BitSet incoming = iprot.readBitSet(7);
       if (incoming.get(0)) {
         struct.tran_id = iprot.readI64();
         struct.setTran_idIsSet(true);
@@ -914,6 +1018,10 @@ public class Transaction implements org.apache.thrift.TBase<Transaction, Transac
         struct.tran_status = T_Status.findByValue(iprot.readI32());
         struct.setTran_statusIsSet(true);
       }
+      if (incoming.get(6)) {
+        struct.op_type = OpType.findByValue(iprot.readI32());
+        struct.setOp_typeIsSet(true);
+      }
     }
   }
 
@@ -1,14 +1,20 @@
-import java.io.BufferedReader;
 import java.io.File;
+import java.io.FileInputStream;
 import java.io.FileNotFoundException;
-import java.io.FileReader;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Scanner;
 
 import org.apache.thrift.TException;
-import org.apache.thrift.protocol.TBinaryProtocol;
 import org.apache.thrift.protocol.TProtocol;
 import org.apache.thrift.transport.TSocket;
 import org.apache.thrift.transport.TTransport;
@@ -84,6 +90,12 @@ public class Client {
 					if (details[i].equals("--client"))
 						clientElement.clientName = details[++i];
 
+					if (details[i].equals("--batch"))
+						clientElement.batched = true;
+
+					if (details[i].equals("--output"))
+						clientElement.outputName = details[++i];
+
 					i++;
 				}
 				
@@ -106,11 +118,94 @@ public class Client {
 	}
 	
 	
+	/**
+	 * Sends each operation to the Controller. Consecutive operations marked
+	 * with --batch are sent together as one atomic request.
+	 */
 	private void performOperation() {
 		
 		for(int i=0;i<clientOperationList.size();i++) {
 			
-			sendClientRequest(clientOperationList.get(i));
+			ClientDAO clientElement=clientOperationList.get(i);
+			
+			if(!clientElement.batched) {
+				
+				sendClientRequest(clientElement);
+				
+				continue;
+			}
+			
+			List<ClientDAO> batch=new ArrayList<ClientDAO>();
+			
+			batch.add(clientElement);
+			
+			while(i+1<clientOperationList.size() && clientOperationList.get(i+1).batched)
+				batch.add(clientOperationList.get(++i));
+			
+			sendBatchRequest(batch);
+		}
+	}
+	
+	
+	/**
+	 * Sends several write and delete operations to the Controller, which
+	 * performs either all or none of them.
+	 * 
+	 * @param batch
+	 *            Operations to perform. Host, port and client are taken from
+	 *            the first one.
+	 */
+	private void sendBatchRequest(List<ClientDAO> batch) {
+		
+		ClientDAO first=batch.get(0);
+		
+		List<Operation> operations=new ArrayList<Operation>();
+		
+		for(ClientDAO clientElement:batch) {
+			
+			Operation operation=new Operation();
+			
+			operation.setOperation_name(clientElement.operationName);
+			
+			operation.setOp_type(Operation_Type.parse(clientElement.operationName));
+			
+			operation.setFile_name(clientElement.fileName);
+			
+			if(operation.getOp_type()==OpType.WRITE) {
+				
+				RFile localFile=getFileInfo(clientElement);
+				
+				if(localFile==null)
+					return;
+				
+				operation.setRFile(localFile);
+			}
+			
+			operations.add(operation);
+		}
+		
+		try {
+			
+			TTransport clientTransport = Thrift_Config.wrapTransport(new TSocket(first.hostname, first.hostport));
+			
+			clientTransport.open();
+			
+			TProtocol protocol = Thrift_Config.createProtocol(clientTransport);
+			
+			FileStore.Client client = new FileStore.Client(protocol);
+			
+			StatusReport batchStatus = client.commitBatch(operations, first.clientName);
+			
+			if(batchStatus.status==Status.SUCCESSFUL)
+				System.out.println("Batch transaction of "+operations.size()+" operations successful !!");
+			else
+				System.out.println("Batch transaction of "+operations.size()+" operations failed !!");
+			
+			clientTransport.close();
+			
+		} catch (TException e) {
+			
+			e.printStackTrace();
 		}
 	}
 
@@ -128,20 +223,23 @@ public class Client {
 
 			TTransport clientTransport;
 
-			clientTransport = new TSocket(clientElement.hostname, clientElement.hostport);
+			clientTransport = Thrift_Config.wrapTransport(new TSocket(clientElement.hostname, clientElement.hostport));
 
 			clientTransport.open();
 
-			TProtocol protocol = new TBinaryProtocol(clientTransport);
+			TProtocol protocol = Thrift_Config.createProtocol(clientTransport);
 
 			FileStore.Client client = new FileStore.Client(protocol);
 
 			if (clientElement.operationName.equals("read")) {
 				
-				RFile readFile = client.readFile(clientElement.fileName,clientElement.clientName);
+				RFile readFile = client.readFileData(clientElement.fileName,clientElement.clientName);
 				
-				if(readFile!=null && readFile.getContent()!=null) {
-					System.out.println("File Content is "+readFile.getContent());
+				if(readFile!=null && readFile.isSetData()) {
+					System.out.println("File Content is "+new String(readFile.getData(), StandardCharsets.UTF_8));
+					
+					if(readFile.isSetVersion())
+						System.out.println("File Version is "+readFile.getVersion());
 				}
 				else {
 					System.out.println("An error occurred while accessing file. Please make sure your file exists !!");
@@ -163,6 +261,19 @@ public class Client {
 				}
 			}
 
+			else if (clientElement.operationName.equals("upload")) {
+				
+				if(uploadFile(client, clientElement))
+					System.out.println("Upload transaction successful !!");
+				else
+					System.out.println("Upload transaction failed !!");
+			}
+
+			else if (clientElement.operationName.equals("download")) {
+				
+				downloadFile(client, clientElement);
+			}
+
 			else if(clientElement.operationName.equals("delete")) {
 				
 				StatusReport deleteStatus = client.deleteFile(clientElement.fileName,clientElement.clientName);
@@ -186,7 +297,237 @@ public class Client {
 	
 	
 	/**
-	 * Reads local file into RFile object
+	 * Streams a local file to the Controller in chunks of chunk_size bytes, so
+	 * only a single chunk is held in memory however large the file is. The
+	 * upload is aborted if a chunk cannot be sent.
+	 * 
+	 * @param client
+	 *            Connected client of the Controller.
+	 * @param clientElement
+	 *            Object of Client used to fill in details of desired operation.
+	 * @return True if the upload was committed, false otherwise.
+	 */
+	private boolean uploadFile(FileStore.Client client, ClientDAO clientElement) throws TException {
+		
+		FileInputStream input;
+		
+		try {
+			
+			input = new FileInputStream(clientElement.fileName);
+			
+		} catch (FileNotFoundException e) {
+			
+			System.out.println("File " + clientElement.fileName + " not found. Please make sure your file exists !!");
+			
+			return false;
+		}
+		
+		FileChannel channel = input.getChannel();
+		
+		long upload_id;
+		
+		try {
+			
+			// Size and digest are sent up front, the Controller checks the chunks against them.
+			upload_id = client.openUpload(clientElement.fileName, clientElement.clientName, channel.size(), digestOf(channel));
+			
+		} catch (IOException e) {
+			
+			e.printStackTrace();
+			
+			try {
+				
+				input.close();
+				
+			} catch (IOException e1) {
+				
+				e1.printStackTrace();
+			}
+			
+			return false;
+		}
+		
+		try {
+			
+			ByteBuffer chunk = ByteBuffer.allocate(Constants.chunk_size);
+			
+			long offset = 0;
+			
+			// An empty file is still sent as one empty chunk, which creates it at Participants.
+			do {
+				
+				chunk.clear();
+				
+				while (chunk.hasRemaining()) {
+					
+					if (channel.read(chunk) < 0)
+						break;
+				}
+				
+				chunk.flip();
+				
+				int length = chunk.remaining();
+				
+				client.uploadChunk(upload_id, offset, chunk);
+				
+				offset += length;
+				
+			} while (offset < channel.size());
+			
+			return client.commitUpload(upload_id).status == Status.SUCCESSFUL;
+			
+		} catch (IOException e) {
+			
+			e.printStackTrace();
+			
+		} catch (SystemException e) {
+			
+			System.out.println(e.getMessage());
+		}
+		
+		finally {
+			
+			try {
+				
+				input.close();
+				
+			} catch (IOException e) {
+				
+				e.printStackTrace();
+			}
+		}
+		
+		client.abortUpload(upload_id);
+		
+		return false;
+	}
+	
+	
+	/**
+	 * Computes the SHA-256 digest of a file a chunk at a time, without
+	 * moving the position of its channel.
+	 * 
+	 * @param channel
+	 *            Channel of the file.
+	 * @return Digest as hex string.
+	 */
+	private static String digestOf(FileChannel channel) throws IOException {
+		
+		MessageDigest digest = Content_Digest.create();
+		
+		ByteBuffer chunk = ByteBuffer.allocate(Constants.chunk_size);
+		
+		long position = 0;
+		
+		while (true) {
+			
+			chunk.clear();
+			
+			int read = channel.read(chunk, position);
+			
+			if (read < 0)
+				break;
+			
+			chunk.flip();
+			
+			digest.update(chunk);
+			
+			position += read;
+		}
+		
+		return Content_Digest.toHex(digest.digest());
+	}
+	
+	
+	/**
+	 * Streams a file from the Controller into a local file in chunks of
+	 * chunk_size bytes. The file is written to the path given with --output,
+	 * or to its name followed by .download. If size, modification time or
+	 * version change between two chunks, the file was replaced while
+	 * downloading and the download is discarded.
+	 * 
+	 * @param client
+	 *            Connected client of the Controller.
+	 * @param clientElement
+	 *            Object of Client used to fill in details of desired operation.
+	 */
+	private void downloadFile(FileStore.Client client, ClientDAO clientElement) throws TException {
+		
+		File output = new File(clientElement.outputName != null ? clientElement.outputName : clientElement.fileName + ".download");
+		
+		FileOutputStream out = null;
+		
+		boolean complete = false;
+		
+		try {
+			
+			out = new FileOutputStream(output);
+			
+			FileChunk first = null;
+			
+			long offset = 0;
+			
+			while (true) {
+				
+				FileChunk chunk = client.downloadChunk(clientElement.fileName, clientElement.clientName, offset, Constants.chunk_size);
+				
+				if (first == null)
+					first = chunk;
+				
+				else if (chunk.getFile_size() != first.getFile_size() || chunk.getModified() != first.getModified() || chunk.getVersion() != first.getVersion()) {
+					
+					System.out.println("File " + clientElement.fileName + " changed while downloading. Please try again !!");
+					
+					break;
+				}
+				
+				ByteBuffer data = chunk.bufferForData();
+				
+				int length = data.remaining();
+				
+				out.getChannel().write(data);
+				
+				offset += length;
+				
+				if (offset >= chunk.getFile_size() || length == 0) {
+					
+					complete = offset == chunk.getFile_size();
+					
+					break;
+				}
+			}
+			
+		} catch (SystemException e) {
+			
+			System.out.println("An error occurred while accessing file. Please make sure your file exists !! " + e.getMessage());
+			
+		} catch (IOException e) {
+			
+			e.printStackTrace();
+		}
+		
+		finally {
+			
+			try {
+				
+				if (out != null)
+					out.close();
+				
+			} catch (IOException e) {
+				
+				e.printStackTrace();
+			}
+		}
+		
+		if (complete)
+			System.out.println("File " + clientElement.fileName + " downloaded to " + output.getPath());
+		else
+			output.delete();
+	}
+	
+	
+	/**
+	 * Reads local file into RFile object as binary content
 	 * 
 	 * @param clientElement
 	 *            Object of Client used to fill in details of desired operation.
@@ -199,28 +540,20 @@ public class Client {
 
 		try {
 
-			BufferedReader bufferReader = new BufferedReader(new FileReader(clientElement.fileName));
-
-			StringBuilder stringBuilder = new StringBuilder();
-
-			String readLine = "";
-
-			while ((readLine = bufferReader.readLine()) != null) {
-
-				stringBuilder.append(readLine + "\n");
-			}
-
-			String fileContent = stringBuilder.toString();
+			byte[] fileContent = Files.readAllBytes(Paths.get(clientElement.fileName));
 
 			localFile = new RFile();
 
 			localFile.setFilename(clientElement.fileName);
 			
-			localFile.setContent(fileContent);
+			// Sent as it is on disk, the buffer is not copied by the generated setter.
+			localFile.data = ByteBuffer.wrap(fileContent);
+			
+			localFile.setSize(fileContent.length);
 			
 			localFile.setClientID(clientElement.clientName);
 
-		} catch (FileNotFoundException e) {
+		} catch (NoSuchFileException e) {
 			// TODO Auto-generated catch block
 			System.out.println("File " + fileName + " not found. Please make sure your file exists !!");
 
@@ -240,6 +573,8 @@ public class Client {
 		String operationName;
 		String fileName;
 		String clientName;
+		boolean batched;
+		String outputName;
 		
 	}
 	
@@ -4,4 +4,115 @@ public class Constants {
 	public static String no_args_error="Please enter valid arguments !!";
 	
 	public static String invalid_port="Please enter valid port number !!";
+	public static String log_replay_error="Could not replay transaction log, exiting !!";
+	
+	/** Address of the Coordinator, asked by a recovering Participant for the decisions of its in-doubt transactions. */
+	public static String coordinator_host=System.getProperty("coordinator_host", "localhost");
+	
+	public static int coordinator_port=Integer.getInteger("coordinator_port", 8085);
+	
+	/** Maximum number of in-doubt transactions resolved by a single status request of a recovering Participant. */
+	public static int recovery_batch_size=Integer.getInteger("recovery_batch_size", 1000);
+	
+	/** Threads of a recovering Participant applying decisions in parallel, and threads per Participant of a restarted Coordinator sending them. */
+	public static int recovery_threads=Integer.getInteger("recovery_threads", 2*Runtime.getRuntime().availableProcessors());
+	
+	/** Delay in milliseconds before a recovering Participant asks again for transactions which are not decided yet. */
+	public static long recovery_retry_interval=Long.getLong("recovery_retry_interval", 5000);
+	
+	/** Deadline in milliseconds for collecting all votes of the first phase. */
+	public static int prepare_timeout=Integer.getInteger("prepare_timeout", 12000);
+	
+	/** Delay in milliseconds before the first retry of an undelivered decision, and the cap for later retries. */
+	public static long outbox_initial_backoff=Long.getLong("outbox_initial_backoff", 500);
+	
+	public static long outbox_max_backoff=Long.getLong("outbox_max_backoff", 60000);
+	
+	/** Maximum number of open connections from Coordinator to each Participant. */
+	public static int pool_size=Integer.getInteger("pool_size", 16);
+	
+	/** Idle time in milliseconds after which a pooled connection is closed. */
+	public static long pool_max_idle=Long.getLong("pool_max_idle", 60000);
+	
+	/** Idle time in milliseconds after which a pooled connection is checked before reuse. */
+	public static long pool_validate_idle=Long.getLong("pool_validate_idle", 1000);
+	
+	/** Interval in milliseconds between two heartbeats Coordinator sends to each Participant. */
+	public static long heartbeat_interval=Long.getLong("heartbeat_interval", 500);
+	
+	/** Consecutive failed heartbeats or calls after which a Participant is considered down and calls to it fail at once. */
+	public static int breaker_failure_threshold=Integer.getInteger("breaker_failure_threshold", 3);
+	
+	/** Bounds in milliseconds of the heartbeat timeout, which adapts to the observed latency of heartbeats. */
+	public static int heartbeat_timeout_min=Integer.getInteger("heartbeat_timeout_min", 100);
+	
+	public static int heartbeat_timeout_max=Integer.getInteger("heartbeat_timeout_max", 2000);
+	
+	/** Bounds in milliseconds of the timeout of calls to a Participant other than prepares, which adapts to their observed latency. */
+	public static int call_timeout_min=Integer.getInteger("call_timeout_min", 2000);
+	
+	public static int call_timeout_max=Integer.getInteger("call_timeout_max", prepare_timeout);
+	
+	/** Multiple of the 99th percentile of observed latencies used as timeout. */
+	public static int timeout_latency_factor=Integer.getInteger("timeout_latency_factor", 4);
+	
+	/** Policy choosing the Participant which serves a read, one of random, least-outstanding, ewma or p2c. See Read_Router. */
+	public static String read_routing=System.getProperty("read_routing", "p2c");
+	
+	/** Weight of the latest read in the moving average of read latency of a Participant. */
+	public static double read_ewma_weight=Double.parseDouble(System.getProperty("read_ewma_weight", "0.3"));
+	
+	/** Time in milliseconds without reads after which the average read latency of a Participant counts half. */
+	public static long read_ewma_half_life=Long.getLong("read_ewma_half_life", 5000);
+	
+	/** Size in bytes to which each segment of the write-ahead log is preallocated. */
+	public static long log_segment_size=Long.getLong("log_segment_size", 16*1024*1024);
+	
+	/** Maximum number of log records forced to disk with a single fsync. */
+	public static int group_commit_batch_size=Integer.getInteger("group_commit_batch_size", 256);
+	
+	/** Time in milliseconds the log flusher waits for more records before forcing a batch which is not full. */
+	public static long group_commit_max_wait=Long.getLong("group_commit_max_wait", 0);
+	
+	/** Interval in milliseconds between two checkpoints of the transaction log. */
+	public static long checkpoint_interval=Long.getLong("checkpoint_interval", 60000);
+	
+	/** Counts reads served by Coordinator and reports them with every checkpoint. */
+	public static boolean audit_reads=Boolean.getBoolean("audit_reads");
+	
+	/** Number of Transaction IDs reserved with a single write of the persisted high-water mark. */
+	public static long tran_id_block_size=Long.getLong("tran_id_block_size", 10000);
+	
+	/** Thrift server engine, one of threadpool, hsha or threaded-selector. See Thrift_Config. */
+	public static String server_engine=System.getProperty("server_engine", "threadpool");
+	
+	/** Selector threads of the threaded-selector engine. */
+	public static int server_selector_threads=Integer.getInteger("server_selector_threads", 2);
+	
+	/** Worker threads of the hsha and threaded-selector engines. */
+	public static int server_worker_threads=Integer.getInteger("server_worker_threads", 4*Runtime.getRuntime().availableProcessors());
+	
+	/** Requests waiting for a worker, and connections waiting for a selector, beyond which new ones are rejected. */
+	public static int server_queue_size=Integer.getInteger("server_queue_size", 10000);
+	
+	/** Transport layered on the socket, one of socket, framed or fastframed. See Thrift_Config. */
+	public static String transport=System.getProperty("transport", "socket");
+	
+	/** Thrift protocol, binary or compact. */
+	public static String protocol=System.getProperty("protocol", "binary");
+	
+	/** Largest chunk in bytes sent by a client and served by downloadChunk(). */
+	public static int chunk_size=Integer.getInteger("chunk_size", 1024*1024);
+	
+	/** Time in milliseconds after which an upload without new chunks is aborted. */
+	public static long upload_timeout=Long.getLong("upload_timeout", 60000);
+	
+	/** Time in milliseconds a prepare waits for a file locked by older transactions. Keep it below prepare_timeout. */
+	public static long lock_wait_timeout=Long.getLong("lock_wait_timeout", prepare_timeout/2);
+	
+	/** Time in milliseconds a prepare waits for a file when a younger transaction is ahead of it, see Lock_Manager. */
+	public static long lock_wait_younger_timeout=Long.getLong("lock_wait_younger_timeout", 500);
+	
+	/** Interval in milliseconds between two reports of lock wait metrics at Participants, 0 disables them. */
+	public static long lock_stats_interval=Long.getLong("lock_stats_interval", 60000);
 }
@@ -0,0 +1,59 @@
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * The class Content_Digest computes the SHA-256 digest identifying the content
+ * of a file. Coordinator sets it on every write, Participants check it when
+ * staging the content and name staged content after it, and transaction logs
+ * record it instead of the content.
+ *
+ * @author chetan
+ *
+ */
+public class Content_Digest {
+
+	private static final char[] HEX="0123456789abcdef".toCharArray();
+
+	/**
+	 * Returns a new SHA-256 digest.
+	 */
+	public static MessageDigest create() {
+
+		try {
+
+			return MessageDigest.getInstance("SHA-256");
+
+		} catch (NoSuchAlgorithmException e) {
+
+			throw new IllegalStateException(e);
+		}
+	}
+
+	/**
+	 * Returns digest of the remaining bytes of given buffer as hex string,
+	 * without changing the position of the buffer.
+	 */
+	public static String of(ByteBuffer data) {
+
+		MessageDigest digest=create();
+
+		digest.update(data.duplicate());
+
+		return toHex(digest.digest());
+	}
+
+	public static String toHex(byte[] bytes) {
+
+		char[] hex=new char[bytes.length*2];
+
+		for (int i=0; i < bytes.length; i++) {
+
+			hex[2*i]=HEX[(bytes[i] >> 4) & 0xf];
+
+			hex[2*i+1]=HEX[bytes[i] & 0xf];
+		}
+
+		return new String(hex);
+	}
+}
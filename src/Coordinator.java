@@ -1,22 +1,38 @@
 import java.io.File;
-import java.io.FileInputStream;
 import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
+import java.io.FileInputStream;
+import java.io.IOException;
 import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
-import java.util.Random;
+import java.util.Map;
 import java.util.Scanner;
-
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+import org.apache.thrift.TApplicationException;
+import org.apache.thrift.TBaseHelper;
 import org.apache.thrift.TException;
-import org.apache.thrift.protocol.TBinaryProtocol;
-import org.apache.thrift.protocol.TProtocol;
 import org.apache.thrift.server.TServer;
-import org.apache.thrift.server.TThreadPoolServer;
-import org.apache.thrift.transport.TServerSocket;
-import org.apache.thrift.transport.TSocket;
-import org.apache.thrift.transport.TTransport;
 import org.apache.thrift.transport.TTransportException;
 
 /**
@@ -35,15 +51,26 @@ public class Coordinator {
 
 	private Coordinator_Handler coordinator_handler;
 	private List<Participant> participant_list;
-	private List<Transaction> transactions;
+	private final Transaction_Map transactions=new Transaction_Map();
 	private File participants_file;
 	private int coordinator_port;
-	private long transaction_id=10000;
-	private final Object lock=new Object();
-	private final Object transaction_lock=new Object();
+	private Transaction_ID_Generator id_generator;
+	private final ExecutorService rpc_executor=Executors.newCachedThreadPool();
+	private Decision_Outbox outbox;
+	private final Participant_Health participant_health=new Participant_Health();
+	private final Participant_Pool participant_pool=new Participant_Pool(participant_health);
+	private final Read_Router read_router=new Read_Router(participant_health);
+	private final Transaction_Log transaction_log=new Transaction_Log("transaction_log");
+	private final ConcurrentHashMap<Long, AtomicInteger> decisions_in_flight=new ConcurrentHashMap<Long, AtomicInteger>();
+	private final ReentrantReadWriteLock decision_lock=new ReentrantReadWriteLock();
+	private long checkpoint_segment=0;
+	private final AtomicLong reads_served=new AtomicLong();
+	private final AtomicLong reads_failed=new AtomicLong();
+	private final ConcurrentHashMap<Long, Upload> uploads=new ConcurrentHashMap<Long, Upload>();
 	
 	public Coordinator() {
 
+		outbox=new Decision_Outbox(this, "outbox");
 	}
 
 	public static void main(String[] args) {
@@ -57,7 +84,23 @@ public class Coordinator {
 			
 			if(coordinator.parseArguments(args)) {
 				
-				coordinator.initTransactionList();
+				if (!coordinator.initTransactionList()) {
+					
+					System.out.println(Constants.log_replay_error);
+					
+					System.exit(1);
+				}
+				
+				coordinator.participant_health.start(coordinator.participant_list);
+				
+				coordinator.outbox.start();
+				
+				// Participants get the locks of transactions left unfinished back before new transactions ask for them.
+				coordinator.resolveTransactions();
+				
+				coordinator.startCheckpointing();
+				
+				coordinator.startUploadReaper();
 				
 				coordinator.startServer();	
 			}
@@ -134,16 +177,13 @@ public class Coordinator {
 				// TODO Auto-generated method stub
 				try {
 
-						TServerSocket serverTransport = new TServerSocket(coordinator_port);
-
 						coordinator_handler = new Coordinator_Handler(Coordinator.this, participant_list);
 
 						FileStore.Processor<Coordinator_Handler> processor = new FileStore.Processor<Coordinator_Handler>(
 								coordinator_handler);
 
-						// Creates a multi-threaded thrift server to serve multiple requests.						
-						TServer server = new TThreadPoolServer(
-								new TThreadPoolServer.Args(serverTransport).processor(processor));
+						// Creates a multi-threaded thrift server of the configured engine to serve multiple requests.
+						TServer server = Thrift_Config.createServer(processor, coordinator_port);
 
 						System.out.println("coordinator started and running on port " + coordinator_port);
 
@@ -166,89 +206,408 @@ public class Coordinator {
 	 */
 	private long getTran_ID() {
 		
-		synchronized (lock) {
+		return id_generator.next();
+	}
+	
+	/**
+	 * Appends current state of given Transaction to the write-ahead log which
+	 * is used during recovery.
+	 * 
+	 * @param transaction
+	 *            Object of Transaction representing file operation.
+	 * @return False if the record could not be written.
+	 */
+	private boolean logTransaction(Transaction transaction) {
+		
+		try {
+			
+			transaction_log.append(transaction);
+			
+			return true;
+			
+		} catch (IOException ex) {
 			
-			transaction_id++;
+			ex.printStackTrace();
 			
-			return transaction_id;
+			return false;
 		}
 	}
 	
 	/**
-	 * This method maintains a permanent log of each transaction which can be
-	 * used during recovery.
+	 * Appends decision of Commit or Abort for given Transaction to the
+	 * write-ahead log.
+	 * 
+	 * @param tran_id
+	 *            Transaction ID.
+	 * @param isCommit
+	 *            Decision of Transaction. True for Commit, False for Abort.
+	 * @return False if the decision could not be written.
+	 */
+	private boolean logDecision(long tran_id, boolean isCommit) {
+		
+		Transaction decision=new Transaction();
+		
+		decision.setTran_id(tran_id);
+		
+		decision.setTran_status(isCommit ? T_Status.COMMIT : T_Status.ABORT);
+		
+		return logTransaction(decision);
+	}
+	
+	/**
+	 * The method initTransactionList initializes the Transaction List by
+	 * replaying the write-ahead log. A Transaction List kept by older versions
+	 * in a single serialized file is imported once.
+	 * 
+	 * @return False if the log could not be replayed.
 	 */
-	private void serializeTransactions() {
+	private boolean initTransactionList() {
 		
-		synchronized (transaction_lock) {
+		final AtomicLong last_logged_id=new AtomicLong(10000);
+		
+		try {
 			
-			try {
-
-				FileOutputStream fout = new FileOutputStream("transactions");
-
-				ObjectOutputStream oos = new ObjectOutputStream(fout);
-
-				oos.writeObject(transactions);
-
-				if (oos != null)
-					oos.close();
-
-				if (fout != null)
-					fout.close();
-
-			} catch (Exception ex) {
-
-				ex.printStackTrace();
+			long checkpoint_tran_id=transaction_log.replay(new Transaction_Log.Replay_Handler() {
+				
+				@Override
+				public void replay(Transaction record) {
+					
+					if (!transactions.setStatus(record.getTran_id(), record.getTran_status()))
+						transactions.put(record);
+					
+					last_logged_id.set(Math.max(last_logged_id.get(), record.getTran_id()));
+				}
+			});
+			
+			last_logged_id.set(Math.max(last_logged_id.get(), checkpoint_tran_id));
+			
+			importTransactionFile(last_logged_id);
+			
+			List<Transaction> history=transactions.values();
+			
+			Collections.sort(history, new Comparator<Transaction>() {
+				
+				@Override
+				public int compare(Transaction t1, Transaction t2) {
+					
+					return Long.compare(t1.getTran_id(), t2.getTran_id());
+				}
+			});
+			
+			System.out.println("\n--- Transaction Log ---");
+			
+			for(Transaction trans:history) {
+				
+				System.out.println("\ntid "+trans.getTran_id());
+				System.out.println("operation "+trans.getOperation_name());
+				System.out.println("clientid "+trans.getClient_id());
+				System.out.println("filename "+trans.getFile_name());
+				System.out.println("status "+trans.getTran_status());
 			}
+		
+		} catch (IOException e) {
+		    
+			e.printStackTrace();
+			
+			return false;
 		}
+		
+		id_generator=new Transaction_ID_Generator("transaction_log/tran_id", last_logged_id.get());
+		
+		return true;
 	}
 	
 	/**
-	 * The method initTransactionList initializes the Transaction List using
-	 * logs.
+	 * Imports the serialized Transaction List written by older versions,
+	 * checkpoints it into the write-ahead log and renames it, so it is
+	 * imported only once. Participants may still hold operations of these
+	 * Transactions pending, so their decisions are kept until
+	 * resolveTransactions() has sent them again.
+	 * 
+	 * @param last_logged_id
+	 *            Highest Transaction ID found so far, raised to the highest
+	 *            imported one.
+	 * @throws IOException
+	 *             If the file could not be read or checkpointed.
 	 */
-	private void initTransactionList() {
+	@SuppressWarnings("unchecked")
+	private void importTransactionFile(AtomicLong last_logged_id) throws IOException {
+		
+		File file=new File("transactions");
+		
+		if(!file.exists())
+			return;
+		
+		List<Transaction> imported;
+		
+		ObjectInputStream objectinputstream=new ObjectInputStream(new FileInputStream(file));
 		
 		try {
-		    
-				FileInputStream fileInputStream = new FileInputStream("transactions");
-		    
-				ObjectInputStream objectinputstream = new ObjectInputStream(fileInputStream);
-		    
-				transactions=(List<Transaction>) objectinputstream.readObject();
+			
+			imported=(List<Transaction>) objectinputstream.readObject();
+			
+		} catch (ClassNotFoundException e) {
+			
+			throw new IOException(e);
+			
+		} finally {
+			
+			objectinputstream.close();
+		}
+		
+		for(Transaction trans:imported) {
+			
+			// A Transaction found in the write-ahead log as well is newer there.
+			if(transactions.get(trans.getTran_id())==null)
+				transactions.put(Transaction_Log.metadataOf(trans));
+			
+			last_logged_id.set(Math.max(last_logged_id.get(), trans.getTran_id()));
+		}
+		
+		long segment=transaction_log.rollSegment();
+		
+		transaction_log.writeCheckpoint(segment, last_logged_id.get(), transactions.values());
+		
+		checkpoint_segment=segment;
+		
+		if(!file.renameTo(new File("transactions.imported")))
+			throw new IOException("Could not rename imported "+file);
+		
+		System.out.println("Imported "+imported.size()+" transactions into the write-ahead log");
+	}
+	
+	/**
+	 * The method resolveTransactions() finishes the transactions which a
+	 * previous run of the Coordinator left in the log. A pending transaction
+	 * never got a decision, so it committed nowhere and is presumed aborted. Its
+	 * abort is logged, and then the decisions of all transactions in the log
+	 * are sent again to all Participants in parallel, so that Participants
+	 * release their locks without waiting for a restart of their own. A
+	 * Participant which cannot be reached gets its decisions through the
+	 * outbox. Returns once every decision is delivered or in the outbox.
+	 */
+	private void resolveTransactions() {
+		
+		final List<Transaction> decisions=new ArrayList<Transaction>();
+		
+		List<Transaction> presumed_aborts=new ArrayList<Transaction>();
+		
+		for (Transaction trans : transactions.values()) {
+			
+			Transaction decision=new Transaction();
+			
+			decision.setTran_id(trans.getTran_id());
+			
+			if (trans.getTran_status() == T_Status.PENDING) {
+				
+				transactions.setStatus(trans.getTran_id(), T_Status.ABORT);
+				
+				decision.setTran_status(T_Status.ABORT);
+				
+				presumed_aborts.add(decision);
+			}
+			else
+				decision.setTran_status(trans.getTran_status());
+			
+			decisions.add(decision);
+		}
+		
+		if (decisions.isEmpty())
+			return;
+		
+		Collections.sort(decisions, new Comparator<Transaction>() {
+			
+			@Override
+			public int compare(Transaction t1, Transaction t2) {
+				
+				return Long.compare(t1.getTran_id(), t2.getTran_id());
+			}
+		});
+		
+		System.out.println("Resolving "+decisions.size()+" unfinished transactions, "+presumed_aborts.size()+" presumed aborted");
+		
+		long start=System.currentTimeMillis();
+		
+		try {
+			
+			// An abort which is not logged is presumed again after the next restart.
+			transaction_log.append(presumed_aborts);
+			
+		} catch (IOException e) {
+			
+			e.printStackTrace();
+		}
+		
+		List<Future<?>> senders=new ArrayList<Future<?>>();
+		
+		Map<Participant, List<Transaction>> undelivered=new HashMap<Participant, List<Transaction>>();
+		
+		for (final Participant participant : participant_list) {
+			
+			final AtomicInteger next=new AtomicInteger();
+			
+			final AtomicBoolean reachable=new AtomicBoolean(true);
+			
+			final List<Transaction> failed=Collections.synchronizedList(new ArrayList<Transaction>());
+			
+			undelivered.put(participant, failed);
+			
+			for (int i=0; i < Constants.recovery_threads; i++) {
+				
+				senders.add(rpc_executor.submit(new Runnable() {
+					
+					@Override
+					public void run() {
+						
+						int index;
+						
+						while ((index=next.getAndIncrement()) < decisions.size()) {
+							
+							Transaction decision=decisions.get(index);
+							
+							// Once a Participant fails, the rest of its decisions go to the outbox without another attempt.
+							if (!reachable.get() || !sendDecision(participant, decision.getTran_id(), decision.getTran_status() == T_Status.COMMIT)) {
+								
+								reachable.set(false);
+								
+								failed.add(decision);
+							}
+						}
+					}
+				}));
+			}
+		}
+		
+		for (Future<?> sender : senders) {
+			
+			try {
 				
-				if(objectinputstream!=null)
-					objectinputstream.close();
+				sender.get();
 				
-				if(fileInputStream!=null)
-					fileInputStream.close();
+			} catch (InterruptedException e) {
 				
-				System.out.println("\n--- Transaction Log ---");
+				Thread.currentThread().interrupt();
 				
-				for(Transaction trans:transactions) {
+			} catch (ExecutionException e) {
+				
+				e.getCause().printStackTrace();
+			}
+		}
+		
+		for (Participant participant : participant_list) {
+			
+			List<Transaction> failed=undelivered.get(participant);
+			
+			if (!failed.isEmpty()) {
+				
+				try {
 					
-					transaction_id=trans.getTran_id();	
+					outbox.addDecisions(participant, failed);
 					
-					System.out.println("\ntid "+trans.getTran_id());
-					System.out.println("operation "+trans.getOperation_name());
-					System.out.println("clientid "+trans.getClient_id());
-					System.out.println("filename "+trans.getFile_name());
-					System.out.println("status "+trans.getTran_status());
+					System.out.println(failed.size()+" decisions for "+participant.getName()+" handed to the outbox");
+					
+				} catch (IOException e) {
+					
+					e.printStackTrace();
+					
+					// Without a record in the outbox, only the transaction log keeps these decisions for the next start.
+					for (Transaction decision : failed)
+						decisions_in_flight.putIfAbsent(decision.getTran_id(), new AtomicInteger(1));
 				}
+			}
+		}
 		
-		} catch(FileNotFoundException fe) {
-			
-			System.out.println("Transaction Log File Not Found at Coordinator");
+		System.out.println("Unfinished transactions resolved in "+(System.currentTimeMillis()-start)+" ms");
+	}
+	
+	/**
+	 * Starts a background thread which takes a checkpoint every
+	 * checkpoint_interval milliseconds.
+	 */
+	private void startCheckpointing() {
+		
+		Thread checkpoint_thread=new Thread(new Runnable() {
 			
-		} catch (Exception e) {
-		    
-			e.printStackTrace();
-		} 	
+			@Override
+			public void run() {
+				
+				while (true) {
+					
+					try {
+						
+						Thread.sleep(Constants.checkpoint_interval);
+						
+					} catch (InterruptedException e) {
+						
+						return;
+					}
+					
+					checkpoint();
+				}
+			}
+		}, "checkpoint");
 		
-		finally {
+		checkpoint_thread.setDaemon(true);
+		
+		checkpoint_thread.start();
+	}
+	
+	/**
+	 * Writes a checkpoint of the transactions which are still needed and
+	 * removes all others from memory and from the log. A transaction is
+	 * needed while it is pending, or while its decision has not reached every
+	 * Participant yet, since a Participant may still ask for its status.
+	 */
+	private void checkpoint() {
+		
+		try {
+			
+			long segment;
+			
+			List<Transaction> retained=new ArrayList<Transaction>();
+			
+			List<Transaction> resolved=new ArrayList<Transaction>();
+			
+			// A decision logged before the roll is seen in the list, one logged after it is kept by the new segment.
+			decision_lock.writeLock().lock();
+			
+			try {
+				
+				segment=transaction_log.rollSegment();
+				
+				if (segment == checkpoint_segment)
+					return;
+				
+				for (Transaction trans : transactions.values()) {
+					
+					if (trans.getTran_status() == T_Status.PENDING || decisions_in_flight.containsKey(trans.getTran_id()) || outbox.contains(trans.getTran_id()))
+						retained.add(trans);
+					else
+						resolved.add(trans);
+				}
+				
+			} finally {
+				
+				decision_lock.writeLock().unlock();
+			}
+			
+			long last_tran_id=id_generator.last();
+			
+			transaction_log.writeCheckpoint(segment, last_tran_id, retained);
+			
+			checkpoint_segment=segment;
+			
+			for (Transaction trans : resolved)
+				transactions.remove(trans.getTran_id());
+			
+			System.out.println("Checkpoint kept "+retained.size()+" transactions, dropped "+resolved.size());
 			
-			if(transactions==null)
-				transactions=new ArrayList<Transaction>();
+			if (Constants.audit_reads)
+				System.out.println("Reads served "+reads_served.get()+", failed "+reads_failed.get());
+			
+		} catch (IOException e) {
+			
+			e.printStackTrace();
 		}
 	}
 	
@@ -260,11 +619,7 @@ public class Coordinator {
 	 */
 	private void addTransactionToList(Transaction transaction) {
 		
-		synchronized (transaction_lock) {
-			
-			if(transactions!=null)
-				transactions.add(transaction);
-		}
+		transactions.put(transaction);
 	}
 	
 	
@@ -278,22 +633,7 @@ public class Coordinator {
 	 */
 	private Transaction getTransaction(long tran_id) {
 		
-		synchronized (transaction_lock) {
-			
-			Transaction transaction=null;
-			
-			for(Transaction trans:transactions) {
-				
-				if(trans.getTran_id()==tran_id) {
-					
-					transaction=trans;
-					
-					break;
-				}
-			}
-			
-			return transaction;
-		}
+		return transactions.get(tran_id);
 	}
 	
 	
@@ -308,21 +648,10 @@ public class Coordinator {
 	 */
 	private void updateTransactionInList(Transaction transaction,boolean isCommit) {
 		
-		synchronized (transaction_lock) {
-			
-			for(Transaction trans:transactions) {
-				
-				if(trans.getTran_id()==transaction.getTran_id()) {
-					
-					if(isCommit)
-						trans.setTran_status(T_Status.COMMIT);
-					else 
-						trans.setTran_status(T_Status.ABORT);
-					
-					break;
-				}
-			}
-		}
+		if(isCommit)
+			transactions.setStatus(transaction.getTran_id(), T_Status.COMMIT);
+		else 
+			transactions.setStatus(transaction.getTran_id(), T_Status.ABORT);
 	}
 	
 	
@@ -337,90 +666,279 @@ public class Coordinator {
 	 * @return True if write at all Participants was successful, false
 	 *         otherwise.
 	 */
-	@SuppressWarnings("finally")
 	public boolean manageWrite(RFile rFile) {
 		
-		int num_votes=0;
-		
-		boolean flag=false;
+		if(!toBinaryContent(rFile))
+			return false;
 		
 		Transaction writeTransaction=initTransactionData(rFile);
 		
-		addTransactionToList(writeTransaction);
+		// Only metadata is kept until the transaction is checkpointed, the content is needed for the first phase only.
+		addTransactionToList(Transaction_Log.metadataOf(writeTransaction));
 		
-		serializeTransactions();
+		// A transaction which is not logged as pending is not prepared anywhere.
+		boolean flag=logTransaction(writeTransaction) && firstphase(Collections.singletonList(writeTransaction));
 		
-		try {
-				
-				for (int i = 0; i < participant_list.size(); i++) {
-
-					Participant participant = participant_list.get(i);
-
-					TTransport clientTransport = new TSocket(participant.getIp(), participant.getPort(), 12000);
-
-					clientTransport.open();
-
-					TProtocol protocol = new TBinaryProtocol(clientTransport);
-
-					Participant_Interface.Client client = new Participant_Interface.Client(protocol);
-
-					StatusReport writeStatus = client.canCommit(writeTransaction);
-
-					if (writeStatus.getStatus() == Status.SUCCESSFUL)
-						num_votes++;
-
-					if (clientTransport != null)
-						clientTransport.close();
-
-			}
-				
-		} catch (TException e) {
-
-			// TODO Auto-generated catch block
-			System.out.println("Coordinator timeout");
-			num_votes = 0;
-			// e.printStackTrace();
-		}
-
-		finally 
-		{
-			
-			if (num_votes == participant_list.size()) {
-				
-				flag = true;
-
-				// Initiate second phase of Protocol with Commit.
-				secondphase(writeTransaction, true);
-
-			}
-
-			else {
-				
-				flag = false;
-
-				// Initiate second phase of Protocol with Abort.
-				secondphase(writeTransaction, false);
-			}
-
-			return flag;
-		}
+		// Initiate second phase of Protocol with Commit or Abort.
+		flag=secondphase(writeTransaction, flag);
+		
+		return flag;
 	}
 	
 	
 	/**
-	 * Creates and Initializes Transaction Object with necessary parameters.
+	 * Converts content sent as string by a v1 client into binary data once,
+	 * so that Participants only ever handle bytes, and sets size and digest of
+	 * the file. Participants check the content against the digest, and logs
+	 * record the digest instead of the content. Size or digest sent by the
+	 * client have to match the data.
 	 * 
 	 * @param rFile
-	 *            Object of RFile.
-	 * @return Object of newly created Transaction.
+	 *            Object of RFile to write.
+	 * @return False if the file has no content or its size or digest does not
+	 *         match.
 	 */
-	private Transaction initTransactionData(RFile rFile) {
+	private boolean toBinaryContent(RFile rFile) {
 		
-		Transaction transaction=new Transaction();
-		
-		transaction.setTran_id(getTran_ID());
+		if(rFile == null)
+			return false;
 		
-		transaction.setOperation_name("write");
+		if(!rFile.isSetData()) {
+			
+			if(!rFile.isSetContent())
+				return false;
+			
+			rFile.data=ByteBuffer.wrap(rFile.getContent().getBytes(StandardCharsets.UTF_8));
+			
+			rFile.unsetContent();
+		}
+		
+		if(rFile.isSetSize() && rFile.getSize() != rFile.data.remaining()) {
+			
+			System.out.println("Rejected "+rFile.getFilename()+" of "+rFile.data.remaining()+" bytes, client announced "+rFile.getSize());
+			
+			return false;
+		}
+		
+		rFile.setSize(rFile.data.remaining());
+		
+		String digest=Content_Digest.of(rFile.data);
+		
+		if(rFile.isSetDigest() && !rFile.getDigest().equals(digest)) {
+			
+			System.out.println("Rejected "+rFile.getFilename()+" not matching digest sent by client");
+			
+			return false;
+		}
+		
+		rFile.setDigest(digest);
+		
+		return true;
+	}
+	
+	
+	/**
+	 * The method firstphase() sends canCommit() request to all Participants at
+	 * once and collects the votes as they arrive. A single deadline covers the
+	 * whole phase, so a slow Participant costs at most the prepare timeout
+	 * instead of adding to every other Participant's round trip.
+	 * 
+	 * Connections to all Participants are borrowed before any request is
+	 * sent, always in the order of the participant list. A prepare may wait
+	 * for a lock at a Participant, and a Transaction prepared at one
+	 * Participant while still waiting for a connection to another could
+	 * otherwise hold up the very prepares occupying those connections.
+	 * 
+	 * @param operations
+	 *            File operations of the Transaction, all sharing its
+	 *            Transaction ID.
+	 * @return True if every Participant voted to commit before the deadline,
+	 *         false otherwise.
+	 */
+	private boolean firstphase(final List<Transaction> operations) {
+		
+		int num_votes=0;
+		
+		final List<Participant_Pool.Connection> connections=new ArrayList<Participant_Pool.Connection>();
+		
+		for (Participant participant : participant_list) {
+			
+			try {
+				
+				connections.add(participant_pool.borrowForPrepare(participant.getIp(), participant.getPort()));
+				
+			} catch (TTransportException e) {
+				
+				System.out.println("Participant "+participant.getName()+" failed to vote : "+e.getMessage());
+				
+				for (Participant_Pool.Connection connection : connections)
+					participant_pool.release(connection);
+				
+				return false;
+			}
+		}
+		
+		CompletionService<Boolean> votes=new ExecutorCompletionService<Boolean>(rpc_executor);
+		
+		List<Future<Boolean>> requests=new ArrayList<Future<Boolean>>();
+		
+		for (int i = 0; i < participant_list.size(); i++) {
+			
+			final Participant participant=participant_list.get(i);
+			
+			final Participant_Pool.Connection connection=connections.get(i);
+			
+			requests.add(votes.submit(new Callable<Boolean>() {
+
+				@Override
+				public Boolean call() throws Exception {
+					
+					return requestVote(participant, connection, operations);
+				}
+			}));
+		}
+		
+		long deadline=System.nanoTime()+TimeUnit.MILLISECONDS.toNanos(Constants.prepare_timeout);
+		
+		try {
+			
+			for (int i = 0; i < requests.size(); i++) {
+				
+				Future<Boolean> vote=nextVote(votes, requests, deadline);
+				
+				if (vote == null) {
+					
+					System.out.println("Coordinator timeout");
+					
+					break;
+				}
+				
+				// A single negative vote decides the outcome, no need to wait for the rest.
+				if (!vote.get())
+					break;
+				
+				num_votes++;
+			}
+			
+		} catch (InterruptedException e) {
+			
+			Thread.currentThread().interrupt();
+			
+		} catch (ExecutionException e) {
+			
+			System.out.println("Coordinator failed to collect vote : "+e.getCause());
+		}
+		
+		// Requests still outstanding are not cancelled, each of them has to give its connection back.
+		return num_votes == participant_list.size();
+	}
+	
+	
+	/**
+	 * Waits for the next vote in slices of a heartbeat interval, so that a
+	 * Participant found down meanwhile ends the wait instead of the deadline.
+	 * 
+	 * @return Next vote, or null if the deadline passed or a Participant whose
+	 *         vote is outstanding is down.
+	 */
+	private Future<Boolean> nextVote(CompletionService<Boolean> votes, List<Future<Boolean>> requests, long deadline) throws InterruptedException {
+		
+		while (true) {
+			
+			long remaining=deadline-System.nanoTime();
+			
+			if (remaining <= 0 || isVoterDown(requests))
+				return null;
+			
+			Future<Boolean> vote=votes.poll(Math.min(remaining, TimeUnit.MILLISECONDS.toNanos(Constants.heartbeat_interval)), TimeUnit.NANOSECONDS);
+			
+			if (vote != null)
+				return vote;
+		}
+	}
+	
+	/**
+	 * Returns true if a Participant whose vote is still outstanding has been
+	 * found down.
+	 * 
+	 * @param requests
+	 *            Vote requests, in the order of the participant list.
+	 */
+	private boolean isVoterDown(List<Future<Boolean>> requests) {
+		
+		for (int i = 0; i < requests.size(); i++) {
+			
+			Participant participant=participant_list.get(i);
+			
+			if (!requests.get(i).isDone() && !participant_health.isUp(participant.getIp(), participant.getPort())) {
+				
+				System.out.println("Participant "+participant.getName()+" is down, transaction aborted");
+				
+				return true;
+			}
+		}
+		
+		return false;
+	}
+	
+	
+	/**
+	 * Sends canCommit() request for given Transaction to a single Participant.
+	 * A Transaction with several file operations is prepared with a single
+	 * canCommitBatch() request.
+	 * 
+	 * @param participant
+	 *            Participant to ask for vote.
+	 * @param connection
+	 *            Connection to the Participant, given back when done.
+	 * @param operations
+	 *            File operations of the Transaction.
+	 * @return True if Participant voted to commit, false otherwise.
+	 */
+	private boolean requestVote(Participant participant, Participant_Pool.Connection connection, List<Transaction> operations) {
+		
+		boolean vote=false;
+		
+		try {
+			
+			StatusReport status;
+			
+			if (operations.size() == 1)
+				status = connection.client.canCommit(operations.get(0));
+			else
+				status = connection.client.canCommitBatch(operations);
+
+			participant_pool.release(connection);
+
+			vote = status.getStatus() == Status.SUCCESSFUL;
+			
+		} catch (TException e) {
+			
+			participant_pool.invalidatePrepare(connection, e);
+			
+			System.out.println("Participant "+participant.getName()+" failed to vote : "+e.getMessage());
+		}
+		
+		return vote;
+	}
+	
+	
+	/**
+	 * Creates and Initializes Transaction Object with necessary parameters.
+	 * 
+	 * @param rFile
+	 *            Object of RFile.
+	 * @return Object of newly created Transaction.
+	 */
+	private Transaction initTransactionData(RFile rFile) {
+		
+		Transaction transaction=new Transaction();
+		
+		transaction.setTran_id(getTran_ID());
+		
+		transaction.setOperation_name("write");
+		
+		transaction.setOp_type(OpType.WRITE);
 		
 		transaction.setClient_id(rFile.getClientID());
 		
@@ -439,52 +957,121 @@ public class Coordinator {
 	 * The method secondphase() includes functionality of second phase of Two
 	 * Phase Commit. It updates the transaction status based on boolean
 	 * parameter and sends corresponding decision of Commit or Abort to all
-	 * Participants.
+	 * Participants. The decision is sent to all Participants in parallel and
+	 * the method returns as soon as the decision is logged. A Participant which
+	 * cannot be reached is handed over to the outbox, which keeps retrying it
+	 * in background.
+	 * 
+	 * A Commit is only sent once it is logged. If it cannot be logged, the
+	 * Transaction is aborted instead, which is also what a restarted
+	 * Coordinator presumes for a Transaction without a logged decision.
 	 * 
 	 * @param transaction
 	 *            Object of Transaction representing file operation.
-	 * @param isCommit
+	 * @param commit
 	 *            Status of Transaction.
+	 * @return True if the Transaction was committed.
 	 */
-	private void secondphase(Transaction transaction, boolean isCommit) {
+	private boolean secondphase(Transaction transaction, boolean commit) {
 
-		updateTransactionInList(transaction, isCommit);
+		final long tran_id=transaction.getTran_id();
 		
-		serializeTransactions();
+		// Keeps the transaction in checkpoints until every Participant received the decision or it is in the outbox.
+		final AtomicInteger undelivered=new AtomicInteger(participant_list.size());
+		
+		decisions_in_flight.put(tran_id, undelivered);
+		
+		decision_lock.readLock().lock();
 		
 		try {
 			
-			for (int i = 0; i < participant_list.size(); i++) {
-
-				Participant participant = participant_list.get(i);
+			if (!logDecision(tran_id, commit) && commit) {
 				
-				TTransport clientTransport = new TSocket(participant.getIp(), participant.getPort(),12000);
-
-				clientTransport.open();
-
-				TProtocol protocol = new TBinaryProtocol(clientTransport);
-
-				Participant_Interface.Client client = new Participant_Interface.Client(protocol);
+				System.out.println("Aborting transaction "+tran_id+", its commit could not be logged");
 				
-				if (isCommit)
-					client.doCommit(transaction.getTran_id());
-				else
-					client.doAbort(transaction.getTran_id());
-
-				if (clientTransport != null)
-					clientTransport.close();
-
+				commit=false;
 			}
 			
-		} catch(TTransportException tte) {
+			updateTransactionInList(transaction, commit);
+			
+		} finally {
 			
-			System.out.println(tte.getMessage());
+			decision_lock.readLock().unlock();
+		}
 		
-		}catch (TException e) {
-
-			// TODO Auto-generated catch block
-			e.printStackTrace();
+		final boolean isCommit=commit;
+		
+		for (final Participant participant : participant_list) {
+			
+			rpc_executor.execute(new Runnable() {
+				
+				@Override
+				public void run() {
+					
+					if (!sendDecision(participant, tran_id, isCommit)) {
+						
+						try {
+							
+							outbox.addDecision(participant, tran_id, isCommit);
+							
+						} catch (IOException e) {
+							
+							e.printStackTrace();
+							
+							// Without a record in the outbox, only the transaction log keeps the decision for the next start.
+							return;
+						}
+					}
+					
+					if (undelivered.decrementAndGet() == 0)
+						decisions_in_flight.remove(tran_id);
+				}
+			});
+		}
+		
+		return isCommit;
+	}
+	
+	
+	/**
+	 * Sends decision of Commit or Abort for given Transaction to a single
+	 * Participant.
+	 * 
+	 * @param participant
+	 *            Participant to inform.
+	 * @param tran_id
+	 *            Transaction ID.
+	 * @param isCommit
+	 *            Status of Transaction. True for Commit, False for Abort.
+	 * @return True if Participant acknowledged the decision, false otherwise.
+	 */
+	public boolean sendDecision(Participant participant, long tran_id, boolean isCommit) {
+		
+		boolean delivered=false;
+		
+		Participant_Pool.Connection connection=null;
+		
+		try {
+			
+			connection = participant_pool.borrowForDecision(participant.getIp(), participant.getPort());
+			
+			if (isCommit)
+				connection.client.doCommit(tran_id);
+			else
+				connection.client.doAbort(tran_id);
+			
+			participant_pool.release(connection);
+			
+			delivered=true;
+			
+		} catch (TException e) {
+			
+			participant_pool.invalidate(connection);
+			
+			System.out.println("Decision of transaction "+tran_id+" not delivered to "+participant.getName()+" : "+e.getMessage());
 		}
+		
+		return delivered;
 	}
 	
 	/**
@@ -502,16 +1089,14 @@ public class Coordinator {
 	 */
 	public boolean manageDelete(String filename,String clientID) {
 		
-		boolean deleteFlag=false;
-		
-		int num_votes=0;
-		
 		Transaction deleteTransaction=new Transaction();
 		
 		deleteTransaction.setTran_id(getTran_ID());
 		
 		deleteTransaction.setOperation_name("delete");
 		
+		deleteTransaction.setOp_type(OpType.DELETE);
+		
 		deleteTransaction.setClient_id(clientID);
 		
 		deleteTransaction.setFile_name(filename);
@@ -520,60 +1105,104 @@ public class Coordinator {
 			
 		addTransactionToList(deleteTransaction);
 		
-		serializeTransactions();
+		boolean deleteFlag=logTransaction(deleteTransaction) && firstphase(Collections.singletonList(deleteTransaction));
+		
+		deleteFlag=secondphase(deleteTransaction, deleteFlag);
+	
+		return deleteFlag;
+	}
+	
+	
+	/**
+	 * The method manageBatch() runs a single Two Phase Commit for several file
+	 * operations, so that either all of them take effect or none. Every
+	 * operation is sent to Participants as its own Transaction, all of them
+	 * sharing one Transaction ID, and a single decision covers all of them.
+	 * 
+	 * @param operations
+	 *            Write and delete operations to perform atomically.
+	 * @param clientID
+	 *            Client ID representing owner of Files.
+	 * @return True if all operations were committed at all Participants,
+	 *         false otherwise.
+	 */
+	public boolean manageBatch(List<Operation> operations,String clientID) {
+		
+		if (operations == null || operations.isEmpty())
+			return false;
+		
+		Set<String> file_names=new HashSet<String>();
 		
-		for(int i=0;i<participant_list.size();i++) {
+		for (Operation operation : operations) {
 			
-			Participant participant=participant_list.get(i);
+			OpType op_type=Operation_Type.of(operation);
 			
-			try {
-
-					TTransport clientTransport = new TSocket(participant.getIp(),participant.getPort());
-
-					clientTransport.open();
-
-					TProtocol protocol = new TBinaryProtocol(clientTransport);
-
-					Participant_Interface.Client client=new Participant_Interface.Client(protocol);
-					
-					StatusReport writeStatus=client.canCommit(deleteTransaction);
-					
-					if(writeStatus.getStatus()==Status.SUCCESSFUL)
-						num_votes++;
-
-					if(clientTransport!=null)
-						clientTransport.close();
-					
-			} catch (TException e) {
-					
-				// TODO Auto-generated catch block
-				e.printStackTrace();
+			boolean known=operation.getFile_name() != null && (op_type == OpType.WRITE ? toBinaryContent(operation.getRFile()) : op_type == OpType.DELETE);
+			
+			// A file may appear only once, it can be locked only once per Transaction.
+			if (!known || !file_names.add(operation.getFile_name())) {
+				
+				System.out.println("Rejected batch of client "+clientID+" with invalid operation on "+operation.getFile_name());
+				
+				return false;
 			}
 		}
 		
+		Transaction batchTransaction=new Transaction();
+		
+		batchTransaction.setTran_id(getTran_ID());
 		
-		if(num_votes==participant_list.size()) {
+		batchTransaction.setOperation_name("batch");
+		
+		batchTransaction.setOp_type(OpType.BATCH);
+		
+		batchTransaction.setClient_id(clientID);
+		
+		batchTransaction.setTran_status(T_Status.PENDING);
+		
+		List<Transaction> batch=new ArrayList<Transaction>();
+		
+		for (Operation operation : operations) {
 			
-			deleteFlag=true;
+			Transaction transaction=new Transaction();
 			
-			secondphase(deleteTransaction,true);
+			transaction.setTran_id(batchTransaction.getTran_id());
 			
-		}
-		
-		else {
+			transaction.setOp_type(Operation_Type.of(operation));
 			
-			deleteFlag=false;
+			transaction.setOperation_name(Operation_Type.name(transaction.getOp_type()));
 			
-			secondphase(deleteTransaction, false);
+			transaction.setClient_id(clientID);
+			
+			transaction.setFile_name(operation.getFile_name());
+			
+			if (operation.isSetRFile()) {
+				
+				operation.getRFile().setFilename(operation.getFile_name());
+				
+				transaction.setRFile(operation.getRFile());
+			}
+			
+			transaction.setTran_status(T_Status.PENDING);
+			
+			batch.add(transaction);
 		}
-	
-		return deleteFlag;
+		
+		addTransactionToList(batchTransaction);
+		
+		boolean batchFlag=logTransaction(batchTransaction) && firstphase(batch);
+		
+		batchFlag=secondphase(batchTransaction, batchFlag);
+		
+		return batchFlag;
 	}
 	
 	
 	/**
-	 * The method manageRead() initiates first phase of Protocol for read
-	 * operation. It reads a file from a random Participant.
+	 * The method manageRead() reads a file from the Participant chosen by the
+	 * read routing policy. A Participant which fails to answer is left out and
+	 * the read is tried on another one. Reads are not logged, they are only
+	 * counted when audit_reads is set.
 	 * 
 	 * @param filename
 	 *            File name to read.
@@ -585,66 +1214,100 @@ public class Coordinator {
 	 */
 	public RFile manageRead(String filename,String clientId) {
 		
-		boolean isCommit=false;
+		boolean isServed=false;
 		
+		// A read changes nothing at Participants, so it gets neither a Transaction ID nor a log record.
 		Transaction readTransaction=new Transaction();
 		
-		readTransaction.setTran_id(getTran_ID());
-		
 		readTransaction.setOperation_name("read");
 		
+		readTransaction.setOp_type(OpType.READ);
+		
 		readTransaction.setClient_id(clientId);
 		
 		readTransaction.setFile_name(filename);
 		
 		readTransaction.setTran_status(T_Status.PENDING);
 		
-		addTransactionToList(readTransaction);
-		
-		serializeTransactions();
-		
 		RFile rFile=new RFile();
 		
-		int index=new Random().nextInt(participant_list.size());
+		Set<Participant> tried=new HashSet<Participant>();
+		
+		Participant participant;
 		
-		Participant participant=participant_list.get(index);
-
 		try {
 			
-				TTransport clientTransport = new TSocket(participant.getIp(),participant.getPort());
-			
-				clientTransport.open();
-			
-				TProtocol protocol = new TBinaryProtocol(clientTransport);
-
-				Participant_Interface.Client client=new Participant_Interface.Client(protocol);
-			
-				rFile=client.readFile(readTransaction);
-			
-				if(rFile.getContent()!=null)
-					isCommit=true;
+			while ((participant=read_router.choose(participant_list, tried)) != null) {
 				
-				if(clientTransport!=null)
-					clientTransport.close();
-		} catch (TTransportException e) {
-			// TODO Auto-generated catch block
-			e.printStackTrace();
-			
-		} catch (SystemException e) {
-			// TODO Auto-generated catch block
-			//e.printStackTrace();
-			
-		} catch (TException e) {
-			// TODO Auto-generated catch block
-			//e.printStackTrace();
-			
+				Participant_Pool.Connection connection=null;
+				
+				long start=read_router.started(participant);
+				
+				try {
+					
+					connection=participant_pool.borrow(participant.getIp(),participant.getPort());
+					
+					rFile=connection.client.readFile(readTransaction);
+					
+					// With fastframed the content points into the read buffer of the connection, which the next borrower reuses.
+					if(rFile.isSetData())
+						rFile.setData(TBaseHelper.copyBinary(rFile.data));
+					
+					participant_pool.release(connection);
+					
+					read_router.finished(participant, start, true);
+					
+					if(rFile.isSetData())
+						isServed=true;
+					
+					break;
+					
+				} catch (SystemException e) {
+					
+					// Participant answered, the connection can be reused and other copies are in the same state.
+					participant_pool.release(connection);
+					
+					read_router.finished(participant, start, true);
+					
+					break;
+					
+				} catch (TApplicationException e) {
+					
+					// Participant answered, so the connection can be reused.
+					participant_pool.release(connection);
+					
+					read_router.finished(participant, start, true);
+					
+					// No result is the answer for a file the Participant does not have.
+					if (e.getType() == TApplicationException.MISSING_RESULT)
+						break;
+					
+					tried.add(participant);
+					
+					System.out.println("Participant "+participant.getName()+" failed to serve "+filename+" : "+e.getMessage());
+					
+				} catch (TException e) {
+					
+					participant_pool.invalidate(connection);
+					
+					read_router.finished(participant, start, false);
+					
+					tried.add(participant);
+					
+					System.out.println("Participant "+participant.getName()+" failed to serve "+filename+" : "+e.getMessage());
+				}
+			}
 		}
 		
 		finally {
 			
-			updateTransactionInList(readTransaction, isCommit);
-			
-			serializeTransactions();
+			if (Constants.audit_reads) {
+				
+				if (isServed)
+					reads_served.incrementAndGet();
+				else
+					reads_failed.incrementAndGet();
+			}
 			
 			return rFile;
 		}
@@ -669,38 +1332,503 @@ public class Coordinator {
 		
 		Transaction transaction=getTransaction(transaction_id);
 		
-		if(transaction.getTran_status()==T_Status.COMMIT)
+		// A transaction dropped by a checkpoint had its decision delivered everywhere, unknown ones never committed.
+		if(transaction==null)
+			isCommit=false;
+		else if(transaction.getTran_status()==T_Status.COMMIT)
 			isCommit=true;
 		else if(transaction.getTran_status()==T_Status.ABORT)
 			isCommit=false;
 		
+		Participant_Pool.Connection connection=null;
+		
 		try {
 			
-			TTransport clientTransport = new TSocket(p_ip,p_port);
-		
-			clientTransport.open();
-		
-			TProtocol protocol = new TBinaryProtocol(clientTransport);
-
-			Participant_Interface.Client client=new Participant_Interface.Client(protocol);
+			connection=participant_pool.borrowForDecision(p_ip,p_port);
 		
 			if (isCommit)
-				client.doCommit(transaction.getTran_id());
+				connection.client.doCommit(transaction_id);
 			else
-				client.doAbort(transaction.getTran_id());
+				connection.client.doAbort(transaction_id);
 		
-			if(clientTransport!=null)
-				clientTransport.close();
+			participant_pool.release(connection);
+			
 		} catch (TTransportException e) {
-			// TODO Auto-generated catch block
+			
+			participant_pool.invalidate(connection);
+			
 			e.printStackTrace();
 		} catch (SystemException e) {
-			// TODO Auto-generated catch block
+			
+			participant_pool.release(connection);
+			
 			e.printStackTrace();
 		} catch (TException e) {
-			// TODO Auto-generated catch block
+			
+			participant_pool.invalidate(connection);
+			
 			e.printStackTrace();
 		}
 		
 	}
+	
+	/**
+	 * The method getTransactionStatuses() tells a Participant which comes back
+	 * after failure the decisions of its in-doubt Transactions, all in a single
+	 * reply. The Participant applies them itself, so the Coordinator does not
+	 * have to call back for every Transaction.
+	 * 
+	 * @param tran_ids
+	 *            Transaction IDs of in-doubt Transactions.
+	 * @return Decision of each Transaction, carrying only Transaction ID and
+	 *         status. Transactions still in their first phase are Pending, the
+	 *         Coordinator delivers their decision once taken.
+	 */
+	public List<Transaction> getTransactionStatuses(List<Long> tran_ids) {
+		
+		List<Transaction> decisions=new ArrayList<Transaction>(tran_ids.size());
+		
+		for(long tran_id:tran_ids) {
+			
+			Transaction transaction=getTransaction(tran_id);
+			
+			Transaction decision=new Transaction();
+			
+			decision.setTran_id(tran_id);
+			
+			// A transaction dropped by a checkpoint had its decision delivered everywhere, unknown ones never committed.
+			if(transaction==null)
+				decision.setTran_status(T_Status.ABORT);
+			else
+				decision.setTran_status(transaction.getTran_status());
+			
+			decisions.add(decision);
+		}
+		
+		return decisions;
+	}
+	
+	/**
+	 * The method openUpload() starts a streamed upload of a file. The upload
+	 * gets its Transaction ID right away, its chunks are staged at
+	 * Participants under that ID until the upload is committed or aborted.
+	 * Size and digest of the whole file are given up front and checked
+	 * before the upload is prepared.
+	 * 
+	 * @param filename
+	 *            File name to write.
+	 * @param clientID
+	 *            Client ID representing owner of File.
+	 * @param size
+	 *            Size of the file in bytes.
+	 * @param digest
+	 *            SHA-256 digest of the file as hex string.
+	 * @return Upload ID, which is the Transaction ID of the upload.
+	 * @throws SystemException
+	 *             If size or digest are missing.
+	 */
+	public long openUpload(String filename,String clientID,long size,String digest) throws SystemException {
+		
+		if(size<0 || digest==null)
+			throw new SystemException().setMessage("Upload of "+filename+" needs its size and digest");
+		
+		RFile rFile=new RFile();
+		
+		rFile.setFilename(filename);
+		
+		rFile.setClientID(clientID);
+		
+		rFile.setSize(size);
+		
+		rFile.setDigest(digest.toLowerCase());
+		
+		Transaction uploadTransaction=new Transaction();
+		
+		uploadTransaction.setTran_id(getTran_ID());
+		
+		uploadTransaction.setOperation_name("upload");
+		
+		uploadTransaction.setOp_type(OpType.UPLOAD);
+		
+		uploadTransaction.setClient_id(clientID);
+		
+		uploadTransaction.setFile_name(filename);
+		
+		// Content is never part of the Transaction, it stays in the staging area of each Participant.
+		uploadTransaction.setRFile(rFile);
+		
+		uploadTransaction.setTran_status(T_Status.PENDING);
+		
+		uploads.put(uploadTransaction.getTran_id(), new Upload(uploadTransaction));
+		
+		return uploadTransaction.getTran_id();
+	}
+	
+	
+	/**
+	 * The method uploadChunk() streams a chunk of an open upload to all
+	 * Participants in parallel. Only the chunk itself is held in memory. If a
+	 * Participant fails to stage the chunk, the upload can only be aborted.
+	 * Chunks are sent in order, one at a time, so that the Coordinator can
+	 * compute size and digest of the upload as they pass.
+	 * 
+	 * @param upload_id
+	 *            ID returned by openUpload().
+	 * @param offset
+	 *            Offset of the chunk in the file.
+	 * @param data
+	 *            Content of the chunk.
+	 * @throws SystemException
+	 *             If the upload is unknown or failed, the chunk does not
+	 *             follow the last one or could not be staged at every
+	 *             Participant.
+	 */
+	public void uploadChunk(long upload_id, long offset, ByteBuffer data) throws SystemException {
+		
+		if(offset<0)
+			throw new SystemException().setMessage("Negative offset "+offset+" for upload "+upload_id);
+		
+		Upload upload=uploads.get(upload_id);
+		
+		if(upload==null)
+			throw new SystemException().setMessage("Unknown upload "+upload_id);
+		
+		synchronized (upload) {
+			
+			if(upload.closed)
+				throw new SystemException().setMessage("Unknown upload "+upload_id);
+			
+			if(upload.failed)
+				throw new SystemException().setMessage("Upload "+upload_id+" failed and can only be aborted");
+			
+			if(offset!=upload.received)
+				throw new SystemException().setMessage("Chunk at offset "+offset+" of upload "+upload_id+" does not follow offset "+upload.received);
+			
+			upload.last_activity=System.currentTimeMillis();
+			
+			// With fastframed the data points into the read buffer of the connection, and forwards may outlive this call.
+			ByteBuffer chunk=TBaseHelper.copyBinary(data);
+			
+			if(!forwardChunks(upload_id, offset, chunk)) {
+				
+				upload.failed=true;
+				
+				throw new SystemException().setMessage("Chunk at offset "+offset+" of upload "+upload_id+" could not be staged");
+			}
+			
+			upload.digest.update(chunk.duplicate());
+			
+			upload.received+=chunk.remaining();
+		}
+	}
+	
+	
+	/**
+	 * Sends a chunk of an upload to all Participants in parallel.
+	 * 
+	 * @return True if every Participant staged the chunk in time, false
+	 *         otherwise.
+	 */
+	private boolean forwardChunks(final long upload_id, final long offset, final ByteBuffer data) {
+		
+		CompletionService<Boolean> acks=new ExecutorCompletionService<Boolean>(rpc_executor);
+		
+		List<Future<Boolean>> requests=new ArrayList<Future<Boolean>>();
+		
+		for (final Participant participant : participant_list) {
+			
+			requests.add(acks.submit(new Callable<Boolean>() {
+
+				@Override
+				public Boolean call() throws Exception {
+					
+					return forwardChunk(participant, upload_id, offset, data.duplicate());
+				}
+			}));
+		}
+		
+		int num_acks=0;
+		
+		long deadline=System.nanoTime()+TimeUnit.MILLISECONDS.toNanos(Constants.prepare_timeout);
+		
+		try {
+			
+			for (int i = 0; i < requests.size(); i++) {
+				
+				Future<Boolean> ack=acks.poll(deadline-System.nanoTime(), TimeUnit.NANOSECONDS);
+				
+				if (ack == null || !ack.get())
+					break;
+				
+				num_acks++;
+			}
+			
+		} catch (InterruptedException e) {
+			
+			Thread.currentThread().interrupt();
+			
+		} catch (ExecutionException e) {
+			
+			System.out.println("Coordinator failed to stage chunk : "+e.getCause());
+		}
+		
+		// Requests still outstanding are not cancelled, each of them has to give its connection back.
+		return num_acks == participant_list.size();
+	}
+	
+	
+	/**
+	 * Sends a chunk of an upload to a single Participant.
+	 * 
+	 * @return True if Participant staged the chunk, false otherwise.
+	 */
+	private boolean forwardChunk(Participant participant, long upload_id, long offset, ByteBuffer data) {
+		
+		Participant_Pool.Connection connection=null;
+		
+		try {
+			
+			connection = participant_pool.borrow(participant.getIp(), participant.getPort());
+			
+			connection.client.writeChunk(upload_id, offset, data);
+			
+			participant_pool.release(connection);
+			
+			return true;
+			
+		} catch (SystemException e) {
+			
+			participant_pool.release(connection);
+			
+			System.out.println("Participant "+participant.getName()+" failed to stage chunk : "+e.getMessage());
+			
+		} catch (TException e) {
+			
+			participant_pool.invalidate(connection);
+			
+			System.out.println("Participant "+participant.getName()+" failed to stage chunk : "+e.getMessage());
+		}
+		
+		return false;
+	}
+	
+	
+	/**
+	 * The method commitUpload() runs the Two Phase Commit of an upload whose
+	 * chunks have all been staged. The upload is aborted unless size and
+	 * digest of the chunks match those given to openUpload(). Participants
+	 * vote on the staged content and move it in place on commit.
+	 * 
+	 * @param upload_id
+	 *            ID returned by openUpload().
+	 * @return True if the upload was committed at all Participants, false
+	 *         otherwise.
+	 */
+	public boolean commitUpload(long upload_id) {
+		
+		Upload upload=uploads.remove(upload_id);
+		
+		if(upload==null)
+			return false;
+		
+		Transaction uploadTransaction=upload.transaction;
+		
+		boolean verified;
+		
+		// Waits for a chunk still being staged.
+		synchronized (upload) {
+			
+			upload.closed=true;
+			
+			verified=!upload.failed && verifyUpload(upload);
+		}
+		
+		addTransactionToList(uploadTransaction);
+		
+		boolean uploadFlag=verified && logTransaction(uploadTransaction) && firstphase(Collections.singletonList(uploadTransaction));
+		
+		uploadFlag=secondphase(uploadTransaction, uploadFlag);
+		
+		return uploadFlag;
+	}
+	
+	
+	/**
+	 * Checks that the chunks staged for an upload add up to the size and
+	 * digest given to openUpload(). Called with the upload locked.
+	 * 
+	 * @return True if both match, false otherwise.
+	 */
+	private boolean verifyUpload(Upload upload) {
+		
+		RFile rFile=upload.transaction.getRFile();
+		
+		String digest=Content_Digest.toHex(upload.digest.digest());
+		
+		if(upload.received==rFile.getSize() && digest.equals(rFile.getDigest()))
+			return true;
+		
+		System.out.println("Upload "+upload.transaction.getTran_id()+" of "+rFile.getFilename()+" has "+upload.received+" bytes with digest "+digest
+				+", expected "+rFile.getSize()+" bytes with digest "+rFile.getDigest());
+		
+		return false;
+	}
+	
+	
+	/**
+	 * The method abortUpload() drops an open upload. The abort is logged and
+	 * sent to Participants like any other decision, so their staged chunks
+	 * are deleted even if one of them is unreachable right now.
+	 * 
+	 * @param upload_id
+	 *            ID returned by openUpload().
+	 */
+	public void abortUpload(long upload_id) {
+		
+		Upload upload=uploads.remove(upload_id);
+		
+		if(upload==null)
+			return;
+		
+		// Waits for a chunk still being staged, so none is staged after the abort.
+		synchronized (upload) {
+			
+			upload.closed=true;
+		}
+		
+		addTransactionToList(upload.transaction);
+		
+		logTransaction(upload.transaction);
+		
+		secondphase(upload.transaction, false);
+	}
+	
+	
+	/**
+	 * Starts a thread aborting uploads which did not receive a chunk for
+	 * longer than the upload timeout, e.g. because their client died.
+	 */
+	private void startUploadReaper() {
+		
+		Thread reaper=new Thread(new Runnable() {
+			
+			@Override
+			public void run() {
+				
+				while (true) {
+					
+					try {
+						
+						Thread.sleep(Math.max(1, Constants.upload_timeout/2));
+						
+					} catch (InterruptedException e) {
+						
+						return;
+					}
+					
+					long now=System.currentTimeMillis();
+					
+					for (Upload upload : uploads.values()) {
+						
+						if (now-upload.last_activity > Constants.upload_timeout) {
+							
+							System.out.println("Aborting idle upload "+upload.transaction.getTran_id()+" of "+upload.transaction.getFile_name());
+							
+							abortUpload(upload.transaction.getTran_id());
+						}
+					}
+				}
+			}
+		}, "upload-reaper");
+		
+		reaper.setDaemon(true);
+		
+		reaper.start();
+	}
+	
+	
+	/**
+	 * The method downloadChunk() reads a chunk of a file. Chunks of a file
+	 * are read from the same Participant as long as it is reachable, so a
+	 * reader sees a single copy. No state is kept between chunks, every chunk
+	 * carries size and modification time of the file instead.
+	 * 
+	 * @param filename
+	 *            File name to read.
+	 * @param clientID
+	 *            Client ID representing owner of File.
+	 * @param offset
+	 *            Offset of the chunk in the file.
+	 * @param length
+	 *            Requested length, limited to the configured chunk size.
+	 * @return Chunk of the file, shorter than requested at the end of file.
+	 * @throws SystemException
+	 *             If the chunk is invalid or the file cannot be read at any
+	 *             Participant.
+	 */
+	public FileChunk downloadChunk(String filename,String clientID,long offset,int length) throws SystemException {
+		
+		if(offset<0 || length<0)
+			throw new SystemException().setMessage("Invalid chunk of "+filename+" at offset "+offset+" with length "+length);
+		
+		int first=(filename.hashCode() & 0x7fffffff) % participant_list.size();
+		
+		SystemException failure=null;
+		
+		for (int i = 0; i < participant_list.size(); i++) {
+			
+			Participant participant=participant_list.get((first+i) % participant_list.size());
+			
+			Participant_Pool.Connection connection=null;
+			
+			try {
+				
+				connection=participant_pool.borrow(participant.getIp(), participant.getPort());
+				
+				FileChunk chunk=connection.client.readChunk(filename, offset, Math.min(length, Constants.chunk_size));
+				
+				// With fastframed the data points into the read buffer of the connection, which the next borrower reuses.
+				if(chunk.isSetData())
+					chunk.setData(TBaseHelper.copyBinary(chunk.data));
+				
+				participant_pool.release(connection);
+				
+				return chunk;
+				
+			} catch (SystemException e) {
+				
+				participant_pool.release(connection);
+				
+				// Participant answered, other copies are in the same state.
+				throw e;
+				
+			} catch (TException e) {
+				
+				participant_pool.invalidate(connection);
+				
+				failure=new SystemException().setMessage("No Participant could serve "+filename+" : "+e.getMessage());
+			}
+		}
+		
+		throw failure;
+	}
+	
+	
+	/**
+	 * Upload which has been opened but not yet committed or aborted.
+	 */
+	private static class Upload {
+		
+		private final Transaction transaction;
+		private volatile long last_activity=System.currentTimeMillis();
+		private volatile boolean failed=false;
+		private boolean closed=false;
+		private long received=0;
+		private final MessageDigest digest=Content_Digest.create();
+		
+		public Upload(Transaction transaction) {
+			
+			this.transaction=transaction;
+		}
+	}
 }
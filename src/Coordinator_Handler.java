@@ -1,3 +1,5 @@
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import org.apache.thrift.TException;
@@ -60,6 +62,25 @@ public class Coordinator_Handler implements FileStore.Iface{
 	}
 
 
+	/**
+	 * Handles incoming RPC request from client to perform several write and
+	 * delete operations atomically.
+	 */
+	@Override
+	public StatusReport commitBatch(List<Operation> operations, String clientID) throws SystemException, TException {
+		
+		StatusReport status_report=new StatusReport();
+		
+		if(coordinator.manageBatch(operations, clientID))
+			status_report.status=Status.SUCCESSFUL;
+		
+		else
+			status_report.status=Status.FAILED;
+		
+		return status_report;
+	}
+
+
 	/**
 	 * Handles incoming RPC read file request from client.
 	 */
@@ -69,9 +90,27 @@ public class Coordinator_Handler implements FileStore.Iface{
 		
 		RFile rFile=coordinator.manageRead(filename,clientID);
 		
+		// v1 clients expect the content as string.
+		if(rFile.isSetData()) {
+			
+			rFile.setContent(new String(rFile.data.array(), rFile.data.arrayOffset()+rFile.data.position(), rFile.data.remaining(), StandardCharsets.UTF_8));
+			
+			rFile.unsetData();
+		}
+		
 		return rFile;
 	}
 	
+	/**
+	 * Handles incoming RPC read file request from a v2 client, which gets the
+	 * content as binary data together with size and version of the file.
+	 */
+	@Override
+	public RFile readFileData(String filename, String clientID) throws SystemException, TException {
+		
+		return coordinator.manageRead(filename,clientID);
+	}
+	
 	/**
 	 * The method getTransactionStatus is called by any of the Participant which
 	 * comes back after failure.
@@ -83,4 +122,72 @@ public class Coordinator_Handler implements FileStore.Iface{
 		
 		coordinator.manageParticipantRequest(tran_id,participant_ip,participant_port);
 	}	
+
+	/**
+	 * Handles incoming RPC request from a Participant which comes back after
+	 * failure for the decisions of its in-doubt Transactions.
+	 */
+	@Override
+	public List<Transaction> getTransactionStatuses(List<Long> tran_ids) throws SystemException, TException {
+		
+		return coordinator.getTransactionStatuses(tran_ids);
+	}
+
+
+	/**
+	 * Handles incoming RPC request from client to start a streamed upload.
+	 */
+	@Override
+	public long openUpload(String filename, String clientID, long size, String digest) throws SystemException, TException {
+		
+		return coordinator.openUpload(filename, clientID, size, digest);
+	}
+
+
+	/**
+	 * Handles incoming RPC request from client carrying a chunk of an upload.
+	 */
+	@Override
+	public void uploadChunk(long upload_id, long offset, ByteBuffer data) throws SystemException, TException {
+		
+		coordinator.uploadChunk(upload_id, offset, data);
+	}
+
+
+	/**
+	 * Handles incoming RPC request from client to commit an upload.
+	 */
+	@Override
+	public StatusReport commitUpload(long upload_id) throws SystemException, TException {
+		
+		StatusReport status_report=new StatusReport();
+		
+		if(coordinator.commitUpload(upload_id))
+			status_report.status=Status.SUCCESSFUL;
+		
+		else
+			status_report.status=Status.FAILED;
+		
+		return status_report;
+	}
+
+
+	/**
+	 * Handles incoming RPC request from client to abort an upload.
+	 */
+	@Override
+	public void abortUpload(long upload_id) throws SystemException, TException {
+		
+		coordinator.abortUpload(upload_id);
+	}
+
+
+	/**
+	 * Handles incoming RPC request from client to read a chunk of a file.
+	 */
+	@Override
+	public FileChunk downloadChunk(String filename, String clientID, long offset, int length) throws SystemException, TException {
+		
+		return coordinator.downloadChunk(filename, clientID, offset, length);
+	}
 }
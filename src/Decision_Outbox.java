@@ -0,0 +1,539 @@
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * The class Decision_Outbox keeps second phase decisions which could not be
+ * delivered to a Participant. Pending decisions are logged to disk so that they
+ * survive a Coordinator restart, and a background thread keeps retrying each of
+ * them with exponential backoff until the Participant acknowledges it.
+ *
+ * The outbox file is an append-only log with one record per decision added and
+ * one per decision delivered, so adding or delivering a decision costs the same
+ * no matter how many are waiting. Once most records belong to delivered
+ * decisions, the waiting ones are written to a new file which replaces the log
+ * by a rename. Decisions are indexed by Participant and Transaction ID, and
+ * retries are ordered by their due time.
+ *
+ * @author chetan
+ *
+ */
+public class Decision_Outbox implements Runnable {
+
+	private static final byte ADDED=1;
+	private static final byte DELIVERED=2;
+
+	/** Records appended beyond twice the waiting decisions before the log is compacted. */
+	private static final int COMPACT_SLACK=1024;
+
+	private Coordinator coordinator;
+	private String outbox_file;
+	private FileChannel log_channel;
+	private long logged_records=0;
+	private long sequence=0;
+	private final Map<String, Pending_Decision> pending_decisions=new LinkedHashMap<String, Pending_Decision>();
+	private final Map<Long, Integer> pending_transactions=new HashMap<Long, Integer>();
+	private final TreeSet<Pending_Decision> schedule=new TreeSet<Pending_Decision>(new Comparator<Pending_Decision>() {
+
+		@Override
+		public int compare(Pending_Decision d1, Pending_Decision d2) {
+
+			if (d1.next_attempt != d2.next_attempt)
+				return Long.compare(d1.next_attempt, d2.next_attempt);
+
+			return Long.compare(d1.sequence, d2.sequence);
+		}
+	});
+	private final Object outbox_lock=new Object();
+
+	public Decision_Outbox(Coordinator coordinator, String outbox_file) {
+
+		this.coordinator=coordinator;
+
+		this.outbox_file=outbox_file;
+
+		initOutbox();
+	}
+
+	/**
+	 * Starts the background thread which retries pending decisions.
+	 */
+	public void start() {
+
+		Thread retry_thread=new Thread(this, "decision-outbox");
+
+		retry_thread.setDaemon(true);
+
+		retry_thread.start();
+	}
+
+	/**
+	 * Adds a decision which could not be delivered to the outbox.
+	 *
+	 * @param participant
+	 *            Participant which has to receive the decision.
+	 * @param tran_id
+	 *            Transaction ID.
+	 * @param isCommit
+	 *            Decision of Transaction. True for Commit, False for Abort.
+	 * @throws IOException
+	 *             If the decision could not be written to the outbox file. It
+	 *             is retried anyway while the Coordinator runs, but does not
+	 *             survive a restart.
+	 */
+	public void addDecision(Participant participant, long tran_id, boolean isCommit) throws IOException {
+
+		synchronized (outbox_lock) {
+
+			List<Pending_Decision> added=new ArrayList<Pending_Decision>(1);
+
+			addPending(new Pending_Decision(participant, tran_id, isCommit), added);
+
+			logAdded(added);
+		}
+	}
+
+	/**
+	 * Adds several decisions which could not be delivered to a Participant,
+	 * forcing the outbox file once.
+	 *
+	 * @param participant
+	 *            Participant which has to receive the decisions.
+	 * @param decisions
+	 *            Decisions, each carrying Transaction ID and status.
+	 * @throws IOException
+	 *             If the decisions could not be written to the outbox file.
+	 *             They are retried anyway while the Coordinator runs, but do
+	 *             not survive a restart.
+	 */
+	public void addDecisions(Participant participant, List<Transaction> decisions) throws IOException {
+
+		synchronized (outbox_lock) {
+
+			List<Pending_Decision> added=new ArrayList<Pending_Decision>(decisions.size());
+
+			for (Transaction decision : decisions)
+				addPending(new Pending_Decision(participant, decision.getTran_id(), decision.getTran_status() == T_Status.COMMIT), added);
+
+			logAdded(added);
+		}
+	}
+
+	/**
+	 * Returns true if some decision for given Transaction is waiting for
+	 * delivery.
+	 */
+	public boolean contains(long tran_id) {
+
+		synchronized (outbox_lock) {
+
+			return pending_transactions.containsKey(tran_id);
+		}
+	}
+
+	@Override
+	public void run() {
+
+		while (true) {
+
+			Pending_Decision decision=null;
+
+			try {
+
+				decision=nextDueDecision();
+
+			} catch (InterruptedException e) {
+
+				return;
+			}
+
+			boolean delivered=coordinator.sendDecision(decision.participant, decision.tran_id, decision.isCommit);
+
+			synchronized (outbox_lock) {
+
+				schedule.remove(decision);
+
+				if (delivered) {
+
+					removePending(decision);
+
+					try {
+
+						appendRecords(Collections.singletonList(decision), DELIVERED);
+
+					} catch (IOException e) {
+
+						// The decision is delivered again after a restart, which Participants ignore.
+						e.printStackTrace();
+					}
+
+					System.out.println("Delivered decision of transaction "+decision.tran_id+" to "+decision.participant.getName());
+
+					if (logged_records > 2*pending_decisions.size()+COMPACT_SLACK)
+						compact();
+				}
+
+				else {
+
+					decision.attempts++;
+
+					long backoff=Constants.outbox_initial_backoff << Math.min(decision.attempts, 16);
+
+					decision.next_attempt=System.currentTimeMillis()+Math.min(backoff, Constants.outbox_max_backoff);
+
+					schedule.add(decision);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Blocks until the earliest pending decision is due for another attempt.
+	 *
+	 * @return Pending decision to deliver.
+	 * @throws InterruptedException
+	 *             If the retry thread is interrupted while waiting.
+	 */
+	private Pending_Decision nextDueDecision() throws InterruptedException {
+
+		synchronized (outbox_lock) {
+
+			while (true) {
+
+				if (schedule.isEmpty()) {
+
+					outbox_lock.wait();
+
+					continue;
+				}
+
+				Pending_Decision earliest=schedule.first();
+
+				long delay=earliest.next_attempt-System.currentTimeMillis();
+
+				if (delay <= 0)
+					return earliest;
+
+				outbox_lock.wait(delay);
+			}
+		}
+	}
+
+	/**
+	 * Adds a decision to memory unless the same decision is already waiting.
+	 * Called with outbox_lock held.
+	 *
+	 * @param added
+	 *            Receives the decision if it was added.
+	 */
+	private void addPending(Pending_Decision decision, List<Pending_Decision> added) {
+
+		String key=decision.key();
+
+		if (pending_decisions.containsKey(key))
+			return;
+
+		decision.sequence=sequence++;
+
+		pending_decisions.put(key, decision);
+
+		Integer count=pending_transactions.get(decision.tran_id);
+
+		pending_transactions.put(decision.tran_id, count == null ? 1 : count+1);
+
+		schedule.add(decision);
+
+		added.add(decision);
+	}
+
+	/**
+	 * Removes a decision from memory. Called with outbox_lock held.
+	 */
+	private void removePending(Pending_Decision decision) {
+
+		if (pending_decisions.remove(decision.key()) == null)
+			return;
+
+		Integer count=pending_transactions.get(decision.tran_id);
+
+		if (count == null || count <= 1)
+			pending_transactions.remove(decision.tran_id);
+		else
+			pending_transactions.put(decision.tran_id, count-1);
+	}
+
+	/**
+	 * Wakes up the retry thread for decisions added to memory and logs them.
+	 * Called with outbox_lock held.
+	 */
+	private void logAdded(List<Pending_Decision> added) throws IOException {
+
+		if (added.isEmpty())
+			return;
+
+		outbox_lock.notifyAll();
+
+		appendRecords(added, ADDED);
+	}
+
+	/**
+	 * Appends one record of given type per decision to the outbox file and
+	 * forces it to disk. If that fails, the file is cut back to where it
+	 * ended before, so that records appended later can still be read. Called
+	 * with outbox_lock held.
+	 *
+	 * @throws IOException
+	 *             If the records could not be written.
+	 */
+	private void appendRecords(List<Pending_Decision> decisions, byte type) throws IOException {
+
+		if (log_channel == null)
+			throw new IOException("Outbox "+outbox_file+" could not be opened");
+
+		ByteArrayOutputStream bytes=new ByteArrayOutputStream();
+
+		DataOutputStream out=new DataOutputStream(bytes);
+
+		for (Pending_Decision decision : decisions)
+			writeRecord(out, decision, type);
+
+		out.flush();
+
+		ByteBuffer buffer=ByteBuffer.wrap(bytes.toByteArray());
+
+		long start=log_channel.position();
+
+		try {
+
+			while (buffer.hasRemaining())
+				log_channel.write(buffer);
+
+			log_channel.force(false);
+
+		} catch (IOException e) {
+
+			try {
+
+				log_channel.truncate(start);
+
+				log_channel.position(start);
+
+			} catch (IOException truncate_error) {
+
+				truncate_error.printStackTrace();
+			}
+
+			throw e;
+		}
+
+		logged_records+=decisions.size();
+	}
+
+	private static void writeRecord(DataOutputStream out, Pending_Decision decision, byte type) throws IOException {
+
+		out.writeByte(type);
+
+		out.writeUTF(decision.participant.getName() == null ? "" : decision.participant.getName());
+
+		out.writeUTF(decision.participant.getIp());
+
+		out.writeInt(decision.participant.getPort());
+
+		out.writeLong(decision.tran_id);
+
+		out.writeBoolean(decision.isCommit);
+	}
+
+	/**
+	 * Replaces the outbox file by one holding only the waiting decisions. The
+	 * new file is forced to disk before it replaces the old one. Called with
+	 * outbox_lock held.
+	 */
+	private void compact() {
+
+		File temp=new File(outbox_file+".tmp");
+
+		try {
+
+			ByteArrayOutputStream bytes=new ByteArrayOutputStream();
+
+			DataOutputStream out=new DataOutputStream(bytes);
+
+			for (Pending_Decision decision : pending_decisions.values())
+				writeRecord(out, decision, ADDED);
+
+			out.flush();
+
+			FileChannel temp_channel=FileChannel.open(temp.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+
+			ByteBuffer buffer=ByteBuffer.wrap(bytes.toByteArray());
+
+			while (buffer.hasRemaining())
+				temp_channel.write(buffer);
+
+			temp_channel.force(true);
+
+			temp_channel.close();
+
+			Files.move(temp.toPath(), new File(outbox_file).toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+			if (log_channel != null)
+				log_channel.close();
+
+			openLog();
+
+			logged_records=pending_decisions.size();
+
+		} catch (IOException e) {
+
+			temp.delete();
+
+			e.printStackTrace();
+		}
+	}
+
+	private void openLog() throws IOException {
+
+		log_channel=FileChannel.open(new File(outbox_file).toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+
+		log_channel.position(log_channel.size());
+	}
+
+	/**
+	 * Loads decisions left undelivered by a previous run of the Coordinator.
+	 * A record torn by a crash is cut off.
+	 */
+	private void initOutbox() {
+
+		File file=new File(outbox_file);
+
+		try {
+
+			byte[] content=file.exists() ? Files.readAllBytes(file.toPath()) : new byte[0];
+
+			List<Pending_Decision> added=new ArrayList<Pending_Decision>();
+
+			replayLog(content, added);
+
+			for (Pending_Decision decision : pending_decisions.values())
+				decision.next_attempt=System.currentTimeMillis();
+
+			openLog();
+
+			logged_records=added.size();
+
+			if (!pending_decisions.isEmpty())
+				System.out.println(pending_decisions.size()+" undelivered decisions found in outbox");
+
+		} catch (IOException e) {
+
+			e.printStackTrace();
+		}
+	}
+
+	private void replayLog(byte[] content, List<Pending_Decision> added) throws IOException {
+
+		ByteArrayInputStream bytes=new ByteArrayInputStream(content);
+
+		DataInputStream in=new DataInputStream(bytes);
+
+		long valid_length=0;
+
+		try {
+
+			while (bytes.available() > 0) {
+
+				byte type=in.readByte();
+
+				Participant participant=new Participant();
+
+				participant.setName(in.readUTF());
+
+				participant.setIp(in.readUTF());
+
+				participant.setPort(in.readInt());
+
+				Pending_Decision decision=new Pending_Decision(participant, in.readLong(), in.readBoolean());
+
+				if (type == ADDED)
+					addPending(decision, added);
+
+				else if (type == DELIVERED) {
+
+					Pending_Decision pending=pending_decisions.get(decision.key());
+
+					if (pending != null) {
+
+						removePending(pending);
+
+						schedule.remove(pending);
+					}
+				}
+
+				else
+					break;
+
+				valid_length=content.length-bytes.available();
+			}
+
+		} catch (EOFException e) {
+
+			// Record torn by a crash, it was never acknowledged.
+		}
+
+		if (valid_length < content.length) {
+
+			FileChannel channel=FileChannel.open(new File(outbox_file).toPath(), StandardOpenOption.WRITE);
+
+			channel.truncate(valid_length);
+
+			channel.force(true);
+
+			channel.close();
+		}
+	}
+
+
+	public static class Pending_Decision {
+
+		private Participant participant;
+		private long tran_id;
+		private boolean isCommit;
+		private int attempts=0;
+		private long next_attempt;
+		private long sequence;
+
+		public Pending_Decision(Participant participant, long tran_id, boolean isCommit) {
+
+			this.participant=participant;
+
+			this.tran_id=tran_id;
+
+			this.isCommit=isCommit;
+
+			this.next_attempt=System.currentTimeMillis()+Constants.outbox_initial_backoff;
+		}
+
+		private String key() {
+
+			return participant.getIp()+":"+participant.getPort()+"/"+tran_id;
+		}
+	}
+}
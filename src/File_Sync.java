@@ -0,0 +1,42 @@
+import java.io.File;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * The class File_Sync forces directories to disk for the logs and staging
+ * areas of Coordinator and Participants.
+ *
+ * @author chetan
+ *
+ */
+public class File_Sync {
+
+	/**
+	 * Forces a directory to disk, so that files created or renamed in it
+	 * survive a crash.
+	 *
+	 * @param dir
+	 *            Directory to force.
+	 */
+	public static void syncDirectory(File dir) {
+
+		try {
+
+			FileChannel dir_channel=FileChannel.open(dir.toPath(), StandardOpenOption.READ);
+
+			try {
+
+				dir_channel.force(true);
+
+			} finally {
+
+				dir_channel.close();
+			}
+
+		} catch (IOException e) {
+
+			// Not every platform allows syncing a directory.
+		}
+	}
+}
@@ -0,0 +1,170 @@
+import java.io.File;
+import java.io.FileNotFoundException;
+import java.io.RandomAccessFile;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * The class File_Versions keeps the last committed version of every file of a
+ * Participant readable while a newer version is prepared. Prepared content
+ * waits in the staging area and replaces the file by a rename on commit, so
+ * the file on disk always is the last committed version. A read opens it and
+ * keeps reading the version it opened, even if a commit replaces or deletes the
+ * file meanwhile, so reads never wait for prepared Transactions.
+ *
+ * Commits, deletes and the creation of a file by a prepared write change the
+ * table under a short exclusive latch, and reads open their snapshot under the
+ * shared latch, so a read always gets content and version number of the same
+ * commit. The latch is never held while a file is read.
+ *
+ * The version of a file is the Transaction ID of the write which committed it,
+ * which is the same on every Participant. Files committed before versions were
+ * kept, or put in place by hand, have version 0.
+ *
+ * @author chetan
+ *
+ */
+public class File_Versions {
+
+	private final ReentrantReadWriteLock latch=new ReentrantReadWriteLock();
+	private final Map<String, Long> versions;
+	private final Set<String> uncommitted=new HashSet<String>();
+
+	/**
+	 * @param versions
+	 *            Committed version of each file, as found in the transaction
+	 *            log.
+	 */
+	public File_Versions(Map<String, Long> versions) {
+
+		this.versions=new HashMap<String, Long>(versions);
+	}
+
+	/**
+	 * Opens the last committed version of a file.
+	 *
+	 * @param filename
+	 *            File to read.
+	 * @return Snapshot to read from, which has to be closed, or null if the
+	 *         file has no committed version.
+	 */
+	public Snapshot open(String filename) {
+
+		latch.readLock().lock();
+
+		try {
+
+			if (uncommitted.contains(filename))
+				return null;
+
+			File file=new File(filename);
+
+			Long version=versions.get(filename);
+
+			return new Snapshot(file, new RandomAccessFile(file, "r"), version == null ? 0 : version);
+
+		} catch (FileNotFoundException e) {
+
+			return null;
+
+		} finally {
+
+			latch.readLock().unlock();
+		}
+	}
+
+	/**
+	 * Starts a change of files or versions. Reads opening a snapshot wait
+	 * until endUpdate() is called, so the change has to be short.
+	 */
+	public void beginUpdate() {
+
+		latch.writeLock().lock();
+	}
+
+	public void endUpdate() {
+
+		latch.writeLock().unlock();
+	}
+
+	/**
+	 * Records that a prepared write created an empty file to lock. Reads treat
+	 * it as missing until the write commits. Called between beginUpdate() and
+	 * endUpdate().
+	 */
+	public void created(String filename) {
+
+		uncommitted.add(filename);
+	}
+
+	/**
+	 * Returns true if given file has a committed version. Called between
+	 * beginUpdate() and endUpdate().
+	 */
+	public boolean isVersioned(String filename) {
+
+		return versions.containsKey(filename);
+	}
+
+	/**
+	 * Records the version of a committed write. Called between beginUpdate()
+	 * and endUpdate().
+	 */
+	public void committed(String filename, long version) {
+
+		uncommitted.remove(filename);
+
+		versions.put(filename, version);
+	}
+
+	/**
+	 * Records a committed delete. Called between beginUpdate() and
+	 * endUpdate().
+	 */
+	public void deleted(String filename) {
+
+		versions.remove(filename);
+	}
+
+	/**
+	 * Deletes the empty file a prepared write created, if the write did not
+	 * commit.
+	 */
+	public void discardCreated(String filename) {
+
+		beginUpdate();
+
+		try {
+
+			if (uncommitted.remove(filename))
+				new File(filename).delete();
+
+		} finally {
+
+			endUpdate();
+		}
+	}
+
+
+	/**
+	 * Committed version of a file opened for reading.
+	 */
+	public static class Snapshot {
+
+		public final File file;
+		public final RandomAccessFile randomFile;
+		public final long version;
+
+		public Snapshot(File file, RandomAccessFile randomFile, long version) {
+
+			this.file=file;
+
+			this.randomFile=randomFile;
+
+			this.version=version;
+		}
+	}
+}
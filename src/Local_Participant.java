@@ -1,20 +1,28 @@
-import java.io.BufferedReader;
+import java.io.File;
 import java.io.FileInputStream;
-import java.io.FileNotFoundException;
-import java.io.FileOutputStream;
 import java.io.IOException;
-import java.io.InputStreamReader;
 import java.io.ObjectInputStream;
-import java.io.ObjectOutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 
 import org.apache.thrift.TException;
-import org.apache.thrift.protocol.TBinaryProtocol;
 import org.apache.thrift.protocol.TProtocol;
 import org.apache.thrift.server.TServer;
-import org.apache.thrift.server.TThreadPoolServer;
-import org.apache.thrift.transport.TServerSocket;
 import org.apache.thrift.transport.TSocket;
 import org.apache.thrift.transport.TTransport;
 import org.apache.thrift.transport.TTransportException;
@@ -23,6 +31,13 @@ import org.apache.thrift.transport.TTransportException;
  * The class LocalParticipant serves incoming RPC requests from Coordinator. It
  * also includes logging mechanism for failure handling and recovery.
  * 
+ * Votes and decisions are appended to a write-ahead log, one record per file
+ * operation voted for and one per decision, so logging costs the same no matter
+ * how long the Participant has been running. In memory it only keeps the
+ * pending file operations and the last committed operation of every file.
+ * Checkpoints hold exactly these, so starting up replays a checkpoint and the
+ * records appended after it.
+ * 
  * @author chetan
  *
  */
@@ -32,10 +47,14 @@ public class Local_Participant {
 	public int my_port;
 	private Participant_Handler my_handler;
 	private final Object transaction_lock=new Object();
-	private List<Transaction> transactions;
+	private final ReentrantReadWriteLock checkpoint_lock=new ReentrantReadWriteLock();
+	private final Transaction_Log transaction_log=new Transaction_Log("participant_log");
+	private final Staging_Area staging_area=new Staging_Area(Participant_Handler.STAGING_DIR);
+	private long checkpoint_segment=0;
 	private List<Transaction> pendingTransactions;
-	public String coordinator_ip;
-	public int coordinator_port;
+	private Map<Long, List<Transaction>> pendingOperations=new HashMap<Long, List<Transaction>>();
+	private Map<Long, List<Transaction>> decidingOperations=new HashMap<Long, List<Transaction>>();
+	private Map<String, Transaction> committedOperations=new HashMap<String, Transaction>();
 	
 	public Local_Participant() {
 		
@@ -49,7 +68,19 @@ public class Local_Participant {
 		
 		if(participant.parseArguments(args)) {
 			
-			participant.initTransactionList();
+			if (!participant.initTransactionList()) {
+				
+				System.out.println(Constants.log_replay_error);
+				
+				System.exit(1);
+			}
+			
+			participant.startCheckpointing();
+			
+			participant.my_handler=new Participant_Handler(participant);
+			
+			// Files of in-doubt transactions are locked again before new transactions can prepare.
+			participant.lockPendingFiles();
 			
 			participant.startServer();
 			
@@ -99,15 +130,11 @@ public class Local_Participant {
 			public void run() {
 				// TODO Auto-generated method stub
 				try {
-
-					TServerSocket serverTransport = new TServerSocket(my_port);
-
-					my_handler=new Participant_Handler(Local_Participant.this);
 				
 					Participant_Interface.Processor<Participant_Handler> processor = new Participant_Interface.Processor<Participant_Handler>(my_handler);
 					
-					// Creates a multi-threaded thrift server to serve multiple requests.
-					TServer server = new TThreadPoolServer(new TThreadPoolServer.Args(serverTransport).processor(processor));
+					// Creates a multi-threaded thrift server of the configured engine to serve multiple requests.
+					TServer server = Thrift_Config.createServer(processor, my_port);
 
 					System.out.println("Participant started and running on port "+my_port);
 
@@ -123,218 +150,715 @@ public class Local_Participant {
 		
 	}
 	
+	/**
+	 * Prepares the pending file operations from log again, so that their
+	 * files stay locked until their Transaction is resolved.
+	 */
+	private void lockPendingFiles() {
+		
+		getPendingTransactions();
+		
+		for (Transaction trans : pendingTransactions) {
+			
+			OpType op_type=Operation_Type.of(trans);
+			
+			try {
+				
+				if(op_type==OpType.WRITE || op_type==OpType.UPLOAD)
+					my_handler.canWriteCommit(trans.getTran_id(),trans.getRFile());
+				
+				else if(op_type==OpType.DELETE)
+					my_handler.canDeleteCommit(trans.getTran_id(),trans.getFile_name());
+				
+			} catch (IOException e) {
+				
+				e.printStackTrace();
+			}
+		}
+	}
+	
 	/**
 	 * The method runRecovery() includes implementation for recovery purpose
-	 * when Participant comes back after failure. It first verifies the pending
-	 * transactions from log and calls Coordinator to retrieve the status of
-	 * each pending transaction.
+	 * when Participant comes back after failure. It asks the configured
+	 * Coordinator for the decisions of all pending transactions, a batch of
+	 * them per request over a single connection, and applies the decisions
+	 * in parallel. Transactions the Coordinator has not decided yet are asked
+	 * for again later, unless their decision arrives in the meantime.
 	 */
 	private void runRecovery() {
 		
 		System.out.println("Inside run recovery");
 		
-		getPendingTransactions();
+		Set<Long> in_doubt=new TreeSet<Long>();
 		
-		if (pendingTransactions.size() > 0) {
-
-			try {
+		for (Transaction trans : pendingTransactions)
+			in_doubt.add(trans.getTran_id());
+		
+		if (in_doubt.isEmpty())
+			return;
+		
+		System.out.println("Resolving "+in_doubt.size()+" in-doubt transactions with Coordinator at "+Constants.coordinator_host+":"+Constants.coordinator_port);
+		
+		long start=System.currentTimeMillis();
+		
+		ExecutorService appliers=Executors.newFixedThreadPool(Constants.recovery_threads);
+		
+		try {
+			
+			while (true) {
 				
-				System.out.println("Enter the host name of the coordinator : ");
-
-				BufferedReader buffer = new BufferedReader(new InputStreamReader(System.in));
-
-				coordinator_ip = buffer.readLine();
-
-				System.out.println("Enter the port number of the coordinator : ");
-
-				coordinator_port = Integer.parseInt(buffer.readLine());
+				// Decisions delivered by the Coordinator meanwhile are not asked for.
+				in_doubt.retainAll(getPendingTransactionIDs());
 				
-				for (Transaction trans : pendingTransactions) {
-
-					if(trans.getOperation_name().equals("write")){
-						
-						my_handler.canWriteCommit(trans.getRFile());
+				if (in_doubt.isEmpty())
+					break;
+				
+				try {
+					
+					resolveTransactions(new ArrayList<Long>(in_doubt), appliers);
+					
+				} catch (TException e) {
+					
+					System.out.println("Coordinator could not resolve in-doubt transactions : "+e);
+				}
+				
+				in_doubt.retainAll(getPendingTransactionIDs());
+				
+				if (in_doubt.isEmpty())
+					break;
+				
+				Thread.sleep(Constants.recovery_retry_interval);
+			}
+			
+			System.out.println("Recovery finished in "+(System.currentTimeMillis()-start)+" ms");
+			
+		} catch (InterruptedException e) {
+			
+			Thread.currentThread().interrupt();
+			
+		} finally {
+			
+			appliers.shutdown();
+		}
+	}
+	
+	/**
+	 * Requests the decisions of given transactions from Coordinator and
+	 * applies them. Decisions of a batch are applied while the next batch is
+	 * requested. Returns once all received decisions are applied.
+	 * 
+	 * @param tran_ids
+	 *            Transaction IDs of in-doubt Transactions.
+	 * @param appliers
+	 *            Threads applying decisions.
+	 * @throws TException
+	 *             If Coordinator could not be reached. Decisions received
+	 *             before are applied anyway.
+	 */
+	private void resolveTransactions(List<Long> tran_ids, ExecutorService appliers) throws TException, InterruptedException {
+		
+		List<Future<Void>> applied=new ArrayList<Future<Void>>();
+		
+		TTransport clientTransport = Thrift_Config.wrapTransport(new TSocket(Constants.coordinator_host, Constants.coordinator_port));
+		
+		try {
+			
+			clientTransport.open();
+			
+			TProtocol protocol = Thrift_Config.createProtocol(clientTransport);
+			
+			FileStore.Client client = new FileStore.Client(protocol);
+			
+			for (int i=0; i < tran_ids.size(); i+=Constants.recovery_batch_size) {
+				
+				List<Long> batch=tran_ids.subList(i, Math.min(i+Constants.recovery_batch_size, tran_ids.size()));
+				
+				for (final Transaction decision : client.getTransactionStatuses(batch)) {
+					
+					if (decision.getTran_status()==T_Status.PENDING)
+						continue;
+					
+					applied.add(appliers.submit(new Callable<Void>() {
 						
-					} else if(trans.getOperation_name().equals("delete")) {
+						@Override
+						public Void call() throws Exception {
+							
+							if (decision.getTran_status()==T_Status.COMMIT)
+								my_handler.doCommit(decision.getTran_id());
+							else
+								my_handler.doAbort(decision.getTran_id());
+							
+							return null;
+						}
+					}));
+				}
+			}
+			
+		} finally {
+			
+			clientTransport.close();
+			
+			for (Future<Void> decision : applied) {
+				
+				try {
 					
-						my_handler.canDeleteCommit(trans.getFile_name());
-					}
+					decision.get();
 					
-					TTransport clientTransport = new TSocket(coordinator_ip, coordinator_port);
-
-					clientTransport.open();
-
-					TProtocol protocol = new TBinaryProtocol(clientTransport);
-
-					FileStore.Client client = new FileStore.Client(protocol);
-
-					client.getTransactionStatus(trans.getTran_id(), my_id, my_port);
-
-					if (clientTransport != null)
-						clientTransport.close();
+				} catch (ExecutionException e) {
+					
+					e.getCause().printStackTrace();
 				}
-			} catch (NumberFormatException | IOException e) {
-				// TODO Auto-generated catch block
-				e.printStackTrace();
-			} catch (TTransportException e) {
-				// TODO Auto-generated catch block
-				e.printStackTrace();
-			} catch (SystemException e) {
-				// TODO Auto-generated catch block
-				e.printStackTrace();
-			} catch (TException e) {
-				// TODO Auto-generated catch block
-				e.printStackTrace();
 			}
 		}
+	}
+	
+	/**
+	 * Returns Transaction IDs of all pending file operations.
+	 */
+	private Set<Long> getPendingTransactionIDs() {
 		
+		synchronized (transaction_lock) {
+			
+			return new HashSet<Long>(pendingOperations.keySet());
+		}
 	}
 	
 	/**
 	 * Verifies status of each Transaction from Log and creates a list of
-	 * Pending Transactions.
+	 * Pending Transactions. Staged uploads which do not belong to a Pending
+	 * Transaction can never be committed and are deleted.
 	 */
 	private void getPendingTransactions() {
 		
+		Set<String> staged=new HashSet<String>();
+		
 		synchronized (transaction_lock) {
 			
-			for(Transaction trans:transactions) {
+			for(List<Transaction> operations:pendingOperations.values()) {
 				
-				if(trans.getTran_status()==T_Status.PENDING) {
+				for(Transaction trans:operations) {
 					
 					pendingTransactions.add(trans);
+					
+					staged.add(String.valueOf(trans.getTran_id()));
 				}
 			}
 		}
+		
+		Collections.sort(pendingTransactions, new Comparator<Transaction>() {
+			
+			@Override
+			public int compare(Transaction t1, Transaction t2) {
+				
+				return Long.compare(t1.getTran_id(), t2.getTran_id());
+			}
+		});
+		
+		File[] staging_files=new File(Participant_Handler.STAGING_DIR).listFiles();
+		
+		if(staging_files!=null) {
+			
+			for(File staging_file:staging_files) {
+				
+				// Staged writes are named after their digest, staged uploads after Transaction ID.
+				if(!staged.contains(staging_file.getName()) && !staging_area.isReferenced(staging_file.getName()))
+					staging_file.delete();
+			}
+		}
 	}
 	
 	
-	public void addTransactionToList(Transaction transaction) {
+	/**
+	 * Appends the votes for given file operations to the log and adds them
+	 * to the pending file operations. Returns once they are on disk, so a
+	 * Participant never forgets a yes vote it sent. Votes of concurrent
+	 * prepares share a single fsync. Content of the operations is staged, so
+	 * only their metadata is kept.
+	 * 
+	 * A checkpoint waits until the votes are both logged and pending, so it
+	 * never drops a segment holding votes it does not contain.
+	 * 
+	 * @param operations
+	 *            File operations voted for, all of the same Transaction.
+	 * @return False if the votes could not be logged.
+	 */
+	public boolean logVote(List<Transaction> operations) {
 		
-		synchronized (transaction_lock) {
+		checkpoint_lock.readLock().lock();
+		
+		try {
+			
+			transaction_log.append(operations);
+			
+			synchronized (transaction_lock) {
+				
+				for(Transaction transaction:operations) {
+					
+					if(transaction.getTran_status()==T_Status.PENDING)
+						addPendingOperation(Transaction_Log.metadataOf(transaction));
+				}
+			}
+			
+			return true;
+			
+		} catch (IOException e) {
+			
+			e.printStackTrace();
+			
+			return false;
 			
-			if(transactions!=null){
+		} finally {
+			
+			checkpoint_lock.readLock().unlock();
+		}
+	}
+	
+	/**
+	 * Indexes a pending file operation by its Transaction ID, so a decision
+	 * finds its operations without scanning the whole log. An operation on
+	 * the same file replaces the one found before, as a vote may be replayed
+	 * from both checkpoint and log. Called with transaction_lock held.
+	 */
+	private void addPendingOperation(Transaction transaction) {
+		
+		List<Transaction> operations=pendingOperations.get(transaction.getTran_id());
+		
+		if(operations==null) {
+			
+			operations=new ArrayList<Transaction>(1);
+			
+			pendingOperations.put(transaction.getTran_id(), operations);
+		}
+		
+		for(int i=0;i<operations.size();i++) {
+			
+			if(operations.get(i).getFile_name().equals(transaction.getFile_name())) {
 				
-				transactions.add(transaction);
+				operations.set(i, transaction);
+				
+				return;
 			}
 		}
+		
+		operations.add(transaction);
 	}
 	
 	/**
-	 * Updates the Transaction Status of corresponding Transaction.
-	 * @param tran_id Transaction ID.
-	 * @param isCommit Status of Transaction, True to Commit, false otherwise.
+	 * Takes the pending file operations of a Transaction so that a decision
+	 * can be applied to them. The decision is logged by finishDecision() only
+	 * after it has been applied, and until then the operations stay pending
+	 * in checkpoints, so a crash in between applies the decision again after
+	 * restart. Operations are returned only to a single call, so a decision
+	 * delivered twice is applied and logged once. A call for a Transaction
+	 * whose decision is being applied waits until it is logged, so a
+	 * decision is never acknowledged before it is on disk.
+	 * 
+	 * @param tran_id
+	 *            Transaction ID.
+	 * @return File operations to apply the decision to, empty if the
+	 *         Transaction is not pending.
 	 */
-	public void updateTransactionInList(long tran_id,boolean isCommit) {
+	public List<Transaction> beginDecision(long tran_id) {
+		
+		boolean interrupted=false;
 		
 		synchronized (transaction_lock) {
 			
-			for(Transaction trans:transactions) {
+			while(decidingOperations.containsKey(tran_id)) {
 				
-				if(trans.getTran_id()==tran_id) {
+				try {
 					
-					if(isCommit)
-						trans.setTran_status(T_Status.COMMIT);
-					else 
-						trans.setTran_status(T_Status.ABORT);
+					transaction_lock.wait();
 					
-					break;
+				} catch (InterruptedException e) {
 					
+					interrupted=true;
 				}
 			}
+			
+			if(interrupted)
+				Thread.currentThread().interrupt();
+			
+			List<Transaction> operations=pendingOperations.remove(tran_id);
+			
+			if(operations==null)
+				return new ArrayList<Transaction>();
+			
+			decidingOperations.put(tran_id, operations);
+			
+			return operations;
+		}
+	}
+	
+	/**
+	 * Appends the decision on operations taken by beginDecision() to the log
+	 * and updates their Transaction Status. If the decision cannot be logged,
+	 * the operations become pending again, so that the decision is applied
+	 * again when it is delivered again.
+	 * 
+	 * @param tran_id
+	 *            Transaction ID.
+	 * @param operations
+	 *            File operations returned by beginDecision().
+	 * @param isCommit
+	 *            Status of Transaction, True to Commit, false otherwise.
+	 * @return False if the decision could not be logged.
+	 */
+	public boolean finishDecision(long tran_id,List<Transaction> operations,boolean isCommit) {
+		
+		if(operations.isEmpty())
+			return true;
+		
+		Transaction decision=new Transaction();
+		
+		decision.setTran_id(tran_id);
+		
+		decision.setTran_status(isCommit ? T_Status.COMMIT : T_Status.ABORT);
+		
+		boolean logged=false;
+		
+		checkpoint_lock.readLock().lock();
+		
+		try {
+			
+			transaction_log.append(decision);
+			
+			logged=true;
+			
+		} catch (IOException e) {
+			
+			e.printStackTrace();
+			
+		} finally {
+			
+			synchronized (transaction_lock) {
+				
+				decidingOperations.remove(tran_id);
+				
+				if(logged)
+					setDecision(operations, isCommit);
+				else
+					pendingOperations.put(tran_id, operations);
+				
+				transaction_lock.notifyAll();
+			}
+			
+			checkpoint_lock.readLock().unlock();
 		}
+		
+		return logged;
 	}
 	
+	/**
+	 * Changes status of the pending file operations of a Transaction found
+	 * while replaying the log. Called with transaction_lock held.
+	 */
+	private void applyDecision(long tran_id,boolean isCommit) {
+		
+		List<Transaction> operations=pendingOperations.remove(tran_id);
+		
+		if(operations!=null)
+			setDecision(operations, isCommit);
+	}
 	
-	public Transaction getTransactionInfo(long tran_id) {
+	/**
+	 * Changes status of file operations and remembers committed ones as last
+	 * operation of their file. Called with transaction_lock held.
+	 */
+	private void setDecision(List<Transaction> operations,boolean isCommit) {
 		
-		synchronized (transaction_lock) {
+		for(Transaction trans:operations) {
 			
-			for(Transaction trans:transactions) {
+			if(isCommit) {
 				
-				if(trans.getTran_id()==tran_id) 
-					return trans;
+				trans.setTran_status(T_Status.COMMIT);
 				
+				committedOperations.put(trans.getFile_name(), Transaction_Log.metadataOf(trans));
 			}
-			return null;
+			else 
+				trans.setTran_status(T_Status.ABORT);
 		}
 	}
 	
 	/**
-	 * This method maintains a permanent log of each transaction which can be
-	 * used during recovery.
+	 * Returns the committed version of each file, which is the Transaction ID
+	 * of the last committed write or upload of the file. Files whose last
+	 * committed operation is a delete have no version.
 	 */
-	public void serializeTransactions() {
+	public Map<String, Long> getCommittedVersions() {
+		
+		Map<String, Long> versions=new HashMap<String, Long>();
 		
 		synchronized (transaction_lock) {
 			
-			try {
-
-				FileOutputStream fout = new FileOutputStream("transactions");
-
-				ObjectOutputStream oos = new ObjectOutputStream(fout);
-
-				oos.writeObject(transactions);
-
-				if (oos != null)
-					oos.close();
-
-				if (fout != null)
-					fout.close();
-
-			} catch (Exception ex) {
-
-				ex.printStackTrace();
+			for(Transaction trans:committedOperations.values()) {
+				
+				OpType op_type=Operation_Type.of(trans);
+				
+				if(op_type==OpType.WRITE || op_type==OpType.UPLOAD)
+					versions.put(trans.getFile_name(), trans.getTran_id());
 			}
 		}
+		
+		return versions;
 	}
 	
+	
 	/**
-	 * The method initTransactionList initializes the Transaction List using
-	 * logs.
+	 * Starts a background thread which takes a checkpoint every
+	 * checkpoint_interval milliseconds.
 	 */
-	private void initTransactionList() {
+	private void startCheckpointing() {
+		
+		Thread checkpoint_thread=new Thread(new Runnable() {
+			
+			@Override
+			public void run() {
+				
+				while (true) {
+					
+					try {
+						
+						Thread.sleep(Constants.checkpoint_interval);
+						
+					} catch (InterruptedException e) {
+						
+						return;
+					}
+					
+					checkpoint();
+				}
+			}
+		}, "checkpoint");
+		
+		checkpoint_thread.setDaemon(true);
+		
+		checkpoint_thread.start();
+	}
+	
+	/**
+	 * Writes a checkpoint of the pending file operations and the last
+	 * committed operation of every file, and deletes the log segments it
+	 * covers. Records appended while the checkpoint is taken may be replayed
+	 * on top of it, which changes nothing. Operations whose decision is being
+	 * applied are kept as pending.
+	 * 
+	 * Votes and decisions are logged and applied in memory under the shared
+	 * checkpoint_lock, and the segment is rolled and the operations collected
+	 * under the exclusive one. So every record either ends up in a segment
+	 * after the checkpoint or is reflected by it.
+	 */
+	private synchronized void checkpoint() {
 		
 		try {
-		    
-				FileInputStream fileInputStream = new FileInputStream("transactions");
-		    
-				ObjectInputStream objectinputstream = new ObjectInputStream(fileInputStream);
-		    
-				transactions=(List<Transaction>) objectinputstream.readObject();
+			
+			long segment;
+			
+			List<Transaction> retained=new ArrayList<Transaction>();
+			
+			checkpoint_lock.writeLock().lock();
+			
+			try {
 				
-				if(objectinputstream!=null)
-					objectinputstream.close();
+				segment=transaction_log.rollSegment();
 				
-				if(fileInputStream!=null)
-					fileInputStream.close();
+				if (segment == checkpoint_segment)
+					return;
 				
-				System.out.println("\n --- Transaction Log ---");
+				synchronized (transaction_lock) {
+					
+					retained.addAll(committedOperations.values());
+					
+					// Copies, as a decision may change the status of an operation while the checkpoint is written.
+					for(List<Transaction> operations:pendingOperations.values()) {
+						
+						for(Transaction trans:operations)
+							retained.add(trans.deepCopy());
+					}
+					
+					for(List<Transaction> operations:decidingOperations.values()) {
+						
+						for(Transaction trans:operations)
+							retained.add(trans.deepCopy());
+					}
+				}
 				
-				for(Transaction trans:transactions) {
+			} finally {
+				
+				checkpoint_lock.writeLock().unlock();
+			}
+			
+			transaction_log.writeCheckpoint(segment, 0, retained);
+			
+			checkpoint_segment=segment;
+			
+		} catch (IOException e) {
+			
+			e.printStackTrace();
+		}
+	}
+	
+	
+	/**
+	 * The method initTransactionList initializes the pending file operations
+	 * and the last committed operation of every file by replaying the
+	 * write-ahead log. A log kept by older versions in a single serialized
+	 * file is imported once.
+	 * 
+	 * @return False if the log could not be replayed.
+	 */
+	private boolean initTransactionList() {
 		
+		try {
+			
+			transaction_log.replay(new Transaction_Log.Replay_Handler() {
+				
+				@Override
+				public void replay(Transaction record) {
+					
+					synchronized (transaction_lock) {
+						
+						replayRecord(record);
+					}
+				}
+			});
+			
+			retainStagedContent();
+			
+			importTransactionFile();
+			
+		} catch (IOException e) {
+			
+			e.printStackTrace();
+			
+			return false;
+		}
+		
+		synchronized (transaction_lock) {
+			
+			System.out.println("\n --- Transaction Log ---");
+			
+			System.out.println("\nfiles committed "+committedOperations.size());
+			
+			for(List<Transaction> operations:pendingOperations.values()) {
+				
+				for(Transaction trans:operations) {
+					
 					System.out.println("\ntid "+trans.getTran_id());
 					System.out.println("operation "+trans.getOperation_name());
 					System.out.println("clientid "+trans.getClient_id());
 					System.out.println("filename "+trans.getFile_name());
 					System.out.println("status "+trans.getTran_status());
 				}
-		
-		} catch(FileNotFoundException fe) {
+			}
 			
-			System.out.println("Transaction Log File Not Found at Participant");
+			pendingTransactions=new ArrayList<Transaction>();
+		}
+		
+		return true;
+	}
+	
+	/**
+	 * Applies a single record of checkpoint or log. Decisions carry only
+	 * Transaction ID and status. Called with transaction_lock held.
+	 */
+	private void replayRecord(Transaction record) {
+		
+		if(!record.isSetFile_name())
+			applyDecision(record.getTran_id(), record.getTran_status()==T_Status.COMMIT);
+		
+		else if(record.getTran_status()==T_Status.PENDING)
+			addPendingOperation(record);
+		
+		else if(record.getTran_status()==T_Status.COMMIT)
+			committedOperations.put(record.getFile_name(), record);
+	}
+	
+	/**
+	 * Counts the references of replayed pending writes to their staged
+	 * content. Content claimed by a commit which a crash interrupted before
+	 * the rename is staged again first.
+	 */
+	private void retainStagedContent() {
+		
+		staging_area.recoverClaims();
+		
+		synchronized (transaction_lock) {
 			
-		} catch (Exception e) {
-		    
-			e.printStackTrace();
-		} 	
+			for(List<Transaction> operations:pendingOperations.values()) {
+				
+				for(Transaction trans:operations) {
+					
+					if(trans.isSetRFile() && trans.getRFile().isSetDigest() && !staging_area.retain(trans.getRFile().getDigest()))
+						System.out.println("Staged content of transaction "+trans.getTran_id()+" on "+trans.getFile_name()+" is missing, unless it was renamed into place already");
+				}
+			}
+		}
+	}
+	
+	public Staging_Area getStagingArea() {
 		
-		finally {
+		return staging_area;
+	}
+	
+	/**
+	 * Imports the serialized transaction list written by older versions,
+	 * checkpoints it into the write-ahead log and renames it, so it is
+	 * imported only once.
+	 */
+	@SuppressWarnings("unchecked")
+	private void importTransactionFile() {
+		
+		File file=new File("transactions");
+		
+		if(!file.exists())
+			return;
+		
+		try {
 			
-			if(transactions==null)
-				transactions=new ArrayList<Transaction>();
+			FileInputStream fileInputStream = new FileInputStream(file);
 			
-			pendingTransactions=new ArrayList<Transaction>();
+			ObjectInputStream objectinputstream = new ObjectInputStream(fileInputStream);
+			
+			List<Transaction> transactions;
+			
+			try {
+				
+				transactions=(List<Transaction>) objectinputstream.readObject();
+				
+			} finally {
+				
+				objectinputstream.close();
+			}
+			
+			synchronized (transaction_lock) {
+				
+				for(Transaction trans:transactions) {
+					
+					if(trans.getTran_status()==T_Status.PENDING) {
+						
+						RFile rFile=trans.getRFile();
+						
+						// The list holds the content of pending writes, which is staged under its digest like for a prepare.
+						if(Operation_Type.of(trans)==OpType.WRITE && rFile!=null && rFile.isSetContent())
+							rFile.setDigest(staging_area.stage(ByteBuffer.wrap(rFile.getContent().getBytes(StandardCharsets.UTF_8)), null));
+						
+						addPendingOperation(Transaction_Log.metadataOf(trans));
+					}
+					
+					else if(trans.getTran_status()==T_Status.COMMIT)
+						committedOperations.put(trans.getFile_name(), Transaction_Log.metadataOf(trans));
+				}
+			}
+			
+			checkpoint();
+			
+			if(checkpoint_segment>0 && file.renameTo(new File("transactions.imported")))
+				System.out.println("Imported "+transactions.size()+" transactions into the write-ahead log");
+			
+		} catch (Exception e) {
+			
+			e.printStackTrace();
 		}
 	}
 }
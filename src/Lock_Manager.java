@@ -0,0 +1,328 @@
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The class Lock_Manager keeps the exclusive locks Transactions hold on files
+ * of a Participant. A Transaction asking for a file which is locked waits in
+ * a FIFO queue of that file instead of failing right away, and the lock is
+ * handed to the first waiter when it is released. A waiter gives up after the
+ * lock wait timeout, or when its Transaction is aborted meanwhile.
+ *
+ * Participants receive prepares of concurrent Transactions in different
+ * orders, so two Transactions may each hold a file the other one waits for at
+ * another Participant. Transaction IDs grow with time, and such a cycle always
+ * contains a Transaction waiting behind a younger one. Only these waits are
+ * bounded by the shorter lock_wait_younger_timeout, which breaks any cycle,
+ * while waiting behind older Transactions, the usual case for a hot file, may
+ * take up to lock_wait_timeout.
+ *
+ * Lock waits are counted, and reported every lock_stats_interval once
+ * reporting is started.
+ *
+ * @author chetan
+ *
+ */
+public class Lock_Manager {
+
+	private final ReentrantLock table_lock=new ReentrantLock();
+	private final HashMap<String, File_Lock> locks=new HashMap<String, File_Lock>();
+	private final HashMap<Long, Waiter> waiting=new HashMap<Long, Waiter>();
+
+	// Metrics, guarded by table_lock.
+	private long granted=0;
+	private long contended=0;
+	private long behind_younger=0;
+	private long timed_out=0;
+	private long cancelled=0;
+	private long wait_nanos=0;
+	private long max_wait_nanos=0;
+
+	/**
+	 * Locks a file for given Transaction, waiting for Transactions ahead of it
+	 * if it is locked. A Transaction which already holds the lock is refused,
+	 * it would otherwise wait for itself.
+	 *
+	 * @param filename
+	 *            File to lock.
+	 * @param tran_id
+	 *            Transaction ID of the owner.
+	 * @return True if the lock was granted, false otherwise.
+	 */
+	public boolean acquire(String filename, long tran_id) {
+
+		table_lock.lock();
+
+		try {
+
+			File_Lock file_lock=locks.get(filename);
+
+			if (file_lock == null) {
+
+				locks.put(filename, new File_Lock(tran_id));
+
+				granted++;
+
+				return true;
+			}
+
+			if (file_lock.owner == tran_id)
+				return false;
+
+			long timeout=Constants.lock_wait_timeout;
+
+			if (isAheadYounger(file_lock, tran_id)) {
+
+				timeout=Math.min(timeout, Constants.lock_wait_younger_timeout);
+
+				behind_younger++;
+			}
+
+			if (timeout <= 0)
+				return false;
+
+			Waiter waiter=new Waiter(tran_id, table_lock.newCondition());
+
+			file_lock.waiters.add(waiter);
+
+			waiting.put(tran_id, waiter);
+
+			contended++;
+
+			long start=System.nanoTime();
+
+			long remaining=TimeUnit.MILLISECONDS.toNanos(timeout);
+
+			try {
+
+				while (!waiter.granted && !waiter.cancelled && remaining > 0)
+					remaining=waiter.condition.awaitNanos(remaining);
+
+			} catch (InterruptedException e) {
+
+				Thread.currentThread().interrupt();
+			}
+
+			waiting.remove(tran_id);
+
+			long waited=System.nanoTime()-start;
+
+			wait_nanos+=waited;
+
+			max_wait_nanos=Math.max(max_wait_nanos, waited);
+
+			if (waiter.cancelled) {
+
+				cancelled++;
+
+				// The lock may have been handed over before the cancel was noticed.
+				if (waiter.granted)
+					handOver(filename, file_lock);
+				else
+					file_lock.waiters.remove(waiter);
+
+				return false;
+			}
+
+			if (waiter.granted) {
+
+				granted++;
+
+				return true;
+			}
+
+			file_lock.waiters.remove(waiter);
+
+			timed_out++;
+
+			return false;
+
+		} finally {
+
+			table_lock.unlock();
+		}
+	}
+
+	/**
+	 * Releases the lock given Transaction holds on a file and hands it to the
+	 * first waiter, if any.
+	 */
+	public void release(String filename, long tran_id) {
+
+		table_lock.lock();
+
+		try {
+
+			File_Lock file_lock=locks.get(filename);
+
+			if (file_lock == null || file_lock.owner != tran_id)
+				return;
+
+			handOver(filename, file_lock);
+
+		} finally {
+
+			table_lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns true if the owner or a waiter of the lock is younger than given
+	 * Transaction. Waiters are served in order, so these are exactly the
+	 * Transactions it will wait for.
+	 */
+	private boolean isAheadYounger(File_Lock file_lock, long tran_id) {
+
+		if (file_lock.owner > tran_id)
+			return true;
+
+		for (Waiter waiter : file_lock.waiters) {
+
+			if (waiter.tran_id > tran_id)
+				return true;
+		}
+
+		return false;
+	}
+
+	/**
+	 * Gives the lock to the first waiter, or drops it if nobody waits. Called
+	 * with table_lock held.
+	 */
+	private void handOver(String filename, File_Lock file_lock) {
+
+		Waiter next=file_lock.waiters.poll();
+
+		if (next == null) {
+
+			locks.remove(filename);
+
+			return;
+		}
+
+		file_lock.owner=next.tran_id;
+
+		next.granted=true;
+
+		next.condition.signal();
+	}
+
+	/**
+	 * Stops given Transaction from waiting for a lock, e.g. because it was
+	 * aborted while waiting.
+	 */
+	public void cancel(long tran_id) {
+
+		table_lock.lock();
+
+		try {
+
+			Waiter waiter=waiting.get(tran_id);
+
+			if (waiter != null) {
+
+				waiter.cancelled=true;
+
+				waiter.condition.signal();
+			}
+
+		} finally {
+
+			table_lock.unlock();
+		}
+	}
+
+	/**
+	 * Returns lock wait metrics as a single line.
+	 */
+	public String stats() {
+
+		table_lock.lock();
+
+		try {
+
+			return "locks granted "+granted+", waited "+contended+" ("+behind_younger+" behind younger), timed out "+timed_out+", cancelled "+cancelled
+					+", avg wait "+(contended == 0 ? 0 : TimeUnit.NANOSECONDS.toMillis(wait_nanos/contended))+" ms, max wait "
+					+TimeUnit.NANOSECONDS.toMillis(max_wait_nanos)+" ms, held "+locks.size()+", waiting "+waiting.size();
+
+		} finally {
+
+			table_lock.unlock();
+		}
+	}
+
+	/**
+	 * Starts a thread printing lock wait metrics every lock_stats_interval,
+	 * skipping intervals without any locking.
+	 */
+	public void startReporting() {
+
+		if (Constants.lock_stats_interval <= 0)
+			return;
+
+		Thread reporter=new Thread(new Runnable() {
+
+			@Override
+			public void run() {
+
+				String last_stats=null;
+
+				while (true) {
+
+					try {
+
+						Thread.sleep(Constants.lock_stats_interval);
+
+					} catch (InterruptedException e) {
+
+						return;
+					}
+
+					String stats=stats();
+
+					if (!stats.equals(last_stats))
+						System.out.println(stats);
+
+					last_stats=stats;
+				}
+			}
+		}, "lock-stats");
+
+		reporter.setDaemon(true);
+
+		reporter.start();
+	}
+
+
+	/**
+	 * Owner and waiters of the lock on a single file.
+	 */
+	private static class File_Lock {
+
+		private long owner;
+		private final ArrayDeque<Waiter> waiters=new ArrayDeque<Waiter>();
+
+		public File_Lock(long owner) {
+
+			this.owner=owner;
+		}
+	}
+
+
+	private static class Waiter {
+
+		private final long tran_id;
+		private final Condition condition;
+		private boolean granted=false;
+		private boolean cancelled=false;
+
+		public Waiter(long tran_id, Condition condition) {
+
+			this.tran_id=tran_id;
+
+			this.condition=condition;
+		}
+	}
+}
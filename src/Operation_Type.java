@@ -0,0 +1,69 @@
+import java.util.Locale;
+
+/**
+ * The class Operation_Type tells the OpType of a Transaction or Operation.
+ * Requests of v1 clients and Transactions logged before OpType existed only
+ * carry the operation name, which is then parsed once instead of compared on
+ * every call.
+ *
+ * @author chetan
+ *
+ */
+public class Operation_Type {
+
+	/**
+	 * Returns OpType of given Transaction, or null if it names no known
+	 * operation.
+	 */
+	public static OpType of(Transaction transaction) {
+
+		if (transaction.isSetOp_type())
+			return transaction.getOp_type();
+
+		OpType op_type=parse(transaction.getOperation_name());
+
+		if (op_type != null)
+			transaction.setOp_type(op_type);
+
+		return op_type;
+	}
+
+	/**
+	 * Returns OpType of given Operation, or null if it names no known
+	 * operation.
+	 */
+	public static OpType of(Operation operation) {
+
+		if (operation.isSetOp_type())
+			return operation.getOp_type();
+
+		return parse(operation.getOperation_name());
+	}
+
+	/**
+	 * Returns OpType with given operation name, e.g. write, or null if there
+	 * is none.
+	 */
+	public static OpType parse(String operation_name) {
+
+		if (operation_name == null)
+			return null;
+
+		try {
+
+			return OpType.valueOf(operation_name.toUpperCase(Locale.ROOT));
+
+		} catch (IllegalArgumentException e) {
+
+			return null;
+		}
+	}
+
+	/**
+	 * Returns operation name of given OpType as used by v1 clients.
+	 */
+	public static String name(OpType op_type) {
+
+		return op_type.name().toLowerCase(Locale.ROOT);
+	}
+}
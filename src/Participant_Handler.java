@@ -1,14 +1,21 @@
-import java.io.BufferedReader;
 import java.io.File;
 import java.io.FileNotFoundException;
-import java.io.FileReader;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.channels.FileLock;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import org.apache.thrift.TException;
 
 /**
@@ -21,26 +28,52 @@ import org.apache.thrift.TException;
  */
 public class Participant_Handler implements Participant_Interface.Iface{
 
+	public static final String STAGING_DIR="staging";
+
 	private Local_Participant local_participant;
 	private List<String> fileList=new ArrayList<String>();
-	private List<PendingFile> filesToDelete,filesToWrite;
-	private final Object delete_lock_object=new Object();
-	private final Object write_lock_object=new Object();
+	private final Pending_Files pending_files=new Pending_Files();
+	private final Lock_Manager lock_manager=new Lock_Manager();
+	private final File_Versions file_versions;
+	private final Staging_Area staging_area;
+	private final Set<Long> aborted=recentIds();
+	private final Set<Long> prepared_uploads=recentIds();
+	private final ReentrantReadWriteLock upload_lock=new ReentrantReadWriteLock();
+	
+	/** Number of recent Transaction IDs remembered for prepares and chunks arriving late. */
+	private static final int RECENT_MEMORY=100000;
 	
 	public Participant_Handler(Local_Participant local_participant) {
 		// TODO Auto-generated constructor stub
 		
 		this.local_participant=local_participant;
 		
-		filesToDelete=new ArrayList<PendingFile>();
+		file_versions=new File_Versions(local_participant.getCommittedVersions());
+		
+		staging_area=local_participant.getStagingArea();
+		
+		lock_manager.startReporting();
+	}
+	
+	/**
+	 * Returns a set remembering the last RECENT_MEMORY Transaction IDs added.
+	 */
+	private static Set<Long> recentIds() {
 		
-		filesToWrite=new ArrayList<PendingFile>();
+		return Collections.synchronizedSet(Collections.newSetFromMap(new LinkedHashMap<Long, Boolean>() {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Long, Boolean> eldest) {
+				
+				return size()>RECENT_MEMORY;
+			}
+		}));
 	}
 	
 	/**
 	 * Handles first phase of Protocol. It Participant is alive and meets
 	 * necessary conditions to perform desired operation, Transaction Status is
-	 * updated to Pending, else it Aborts. 
+	 * updated to Pending and the vote is logged, else it Aborts. 
 	 */
 	@Override
 	public StatusReport canCommit(Transaction tran_info) throws SystemException, TException {
@@ -48,159 +81,694 @@ public class Participant_Handler implements Participant_Interface.Iface{
 		
 		StatusReport status_report=new StatusReport();
 		
-		String operationName=tran_info.getOperation_name();
+		status_report.status=Status.FAILED;
+		
+		tran_info.setTran_status(T_Status.ABORT);
 		
-		if(operationName.equals("write")) {
+		if(prepareOperation(tran_info)) {
 			
-			try {
-				
-				RFile rFile=tran_info.getRFile();
-				
-				if(canWriteCommit(rFile)) {
+			tran_info.setTran_status(T_Status.PENDING);
 			
-					status_report.status=Status.SUCCESSFUL;
+			if(local_participant.logVote(Collections.singletonList(tran_info))) {
 				
-					tran_info.setTran_status(T_Status.PENDING);
-				}
-				else {
-			
-					status_report.status=Status.FAILED;
+				status_report.status=Status.SUCCESSFUL;
 				
-					tran_info.setTran_status(T_Status.ABORT);
-				}
+				if(abortIfAborted(tran_info.getTran_id()))
+					status_report.status=Status.FAILED;
+			}
+			else {
 				
-			} catch(Exception e) {
+				tran_info.setTran_status(T_Status.ABORT);
 				
-				status_report.status=Status.FAILED;
+				abortOperation(tran_info);
+			}
+		}
+		
+		return status_report;
+	}
+	
+	/**
+	 * Handles first phase of Protocol for a Transaction with several file
+	 * operations sharing one Transaction ID. Participant votes to commit only
+	 * if it can perform every operation, otherwise locks acquired for the
+	 * other operations are released and all of them are Aborted.
+	 */
+	@Override
+	public StatusReport canCommitBatch(List<Transaction> tran_infos) throws SystemException, TException {
+		
+		StatusReport status_report=new StatusReport();
+		
+		status_report.status=Status.SUCCESSFUL;
+		
+		List<Transaction> prepared=new ArrayList<Transaction>();
+		
+		// Files are locked in the same order by every batch, so two batches never wait for each other.
+		List<Transaction> ordered=new ArrayList<Transaction>(tran_infos);
+		
+		Collections.sort(ordered, new Comparator<Transaction>() {
+
+			@Override
+			public int compare(Transaction t1, Transaction t2) {
 				
-				tran_info.setTran_status(T_Status.ABORT);
+				return t1.getFile_name().compareTo(t2.getFile_name());
 			}
+		});
+		
+		for(Transaction tran_info:ordered) {
 			
-			finally{
+			if(!prepareOperation(tran_info)) {
 				
-				local_participant.addTransactionToList(tran_info);
-				
-				local_participant.serializeTransactions();
+				status_report.status=Status.FAILED;
 				
+				break;
 			}
+			
+			prepared.add(tran_info);
+		}
+		
+		for(Transaction tran_info:tran_infos) {
+			
+			if(status_report.status==Status.SUCCESSFUL)
+				tran_info.setTran_status(T_Status.PENDING);
+			else
+				tran_info.setTran_status(T_Status.ABORT);
 		}
 		
-		else if(operationName.equals("delete")) {
+		// All operations of the batch are logged with a single fsync.
+		if(status_report.status==Status.SUCCESSFUL && !local_participant.logVote(tran_infos)) {
 			
-			String filename=tran_info.getFile_name();
+			status_report.status=Status.FAILED;
 			
-			try {
-				
-				if (canDeleteCommit(filename)) {
-
-					status_report.status = Status.SUCCESSFUL;
+			for(Transaction tran_info:tran_infos)
+				tran_info.setTran_status(T_Status.ABORT);
+		}
+		
+		if(status_report.status==Status.FAILED) {
+			
+			for(Transaction tran_info:prepared)
+				abortOperation(tran_info);
+			
+			return status_report;
+		}
+		
+		if(abortIfAborted(tran_infos.get(0).getTran_id()))
+			status_report.status=Status.FAILED;
+		
+		return status_report;
+	}
+	
+	/**
+	 * A prepare may wait for a lock long enough for the Coordinator to give
+	 * up and send its abort first. Such a prepare is aborted again right
+	 * away, instead of holding its locks forever.
+	 * 
+	 * @param tran_id
+	 *            Transaction ID of the prepared Transaction.
+	 * @return True if the Transaction had already been aborted.
+	 */
+	private boolean abortIfAborted(long tran_id) {
+		
+		if(!aborted.contains(tran_id))
+			return false;
+		
+		List<Transaction> operations=local_participant.beginDecision(tran_id);
+		
+		for(Transaction transaction:operations)
+			abortOperation(transaction);
+		
+		local_participant.finishDecision(tran_id, operations, false);
+		
+		return true;
+	}
+	
+	/**
+	 * Acquires the lock needed by a single file operation.
+	 * 
+	 * @param tran_info
+	 *            Object of Transaction representing file operation.
+	 * @return True if the operation can be performed, false otherwise.
+	 */
+	private boolean prepareOperation(Transaction tran_info) {
+		
+		OpType op_type=Operation_Type.of(tran_info);
+		
+		if(op_type==null)
+			return false;
+		
+		try {
+			
+			switch(op_type) {
+			
+				case WRITE:
 					
-					tran_info.setTran_status(T_Status.PENDING);
-				}
-
-				else {
-
-					status_report.status = Status.FAILED;
+					if(!canWriteCommit(tran_info.getTran_id(),tran_info.getRFile()))
+						return false;
 					
-					tran_info.setTran_status(T_Status.ABORT);
-				}
-				
-			} catch (Exception e) {
-				
-				System.out.println("Exception for delete at can commit is "+e.getMessage());
+					if(stageWrite(tran_info))
+						return true;
+					
+					// Content which was not staged holds no reference in the staging area.
+					tran_info.getRFile().unsetDigest();
+					
+					abortOperation(tran_info);
+					
+					return false;
+					
+				case DELETE:
+					return canDeleteCommit(tran_info.getTran_id(),tran_info.getFile_name());
+					
+				case UPLOAD:
+					return canUploadCommit(tran_info);
+					
+				default:
+					return false;
 			}
 			
-			finally {
-				
-				local_participant.addTransactionToList(tran_info);
-				
-				local_participant.serializeTransactions();
-			}
+		} catch(Exception e) {
+			
+			System.out.println("Exception for "+op_type+" at can commit is "+e.getMessage());
 		}
 		
-		return status_report;
-	}	
+		return false;
+	}
 
 	
 	/**
-	 * Commits the transaction with given transaction ID.
+	 * Commits the transaction with given transaction ID. Files are renamed
+	 * into place before the commit is logged, so the staged content is never
+	 * given up for a commit which is not on disk, and their locks are held
+	 * until it is. The commit is acknowledged only once it is logged.
 	 */
 	@Override
 	public void doCommit(long tran_id) throws SystemException, TException {
 		// TODO Auto-generated method stub
 		
-		Transaction transaction=local_participant.getTransactionInfo(tran_id);
+		List<Transaction> operations=local_participant.beginDecision(tran_id);
+		
+		for(Transaction transaction:operations)
+			commitOperation(transaction);
+		
+		if(!local_participant.finishDecision(tran_id, operations, true))
+			throw new SystemException().setMessage("Could not log commit of transaction "+tran_id);
+		
+		// No other Transaction sees the files before the commit is on disk.
+		for(Transaction transaction:operations)
+			lock_manager.release(transaction.getFile_name(), transaction.getTran_id());
+	}
+
+	/**
+	 * Aborts the Transaction with Transaction ID. The abort is acknowledged
+	 * only once it is logged.
+	 */
+	@Override
+	public void doAbort(long tran_id) throws SystemException, TException {
+		// TODO Auto-generated method stub
 		
-		if(transaction!=null) {
+		// Remembered before looking for the prepare, see abortIfAborted().
+		// Taken with the upload lock, so no chunk is staged after the abort.
+		upload_lock.writeLock().lock();
 		
-			local_participant.updateTransactionInList(tran_id, true);
+		try {
 			
-			local_participant.serializeTransactions();
+			aborted.add(tran_id);
 			
-			if(transaction.operation_name.equals("delete")) {
+		} finally {
 			
-				PendingFile d_file=getFileToDelete(transaction.getFile_name());
+			upload_lock.writeLock().unlock();
+		}
+		
+		// A prepare still waiting for a lock gives up and votes no.
+		lock_manager.cancel(tran_id);
+		
+		List<Transaction> operations=local_participant.beginDecision(tran_id);
+		
+		for(Transaction transaction:operations)
+			abortOperation(transaction);
 		
-				if(d_file!=null) {
+		// An upload aborted before its first phase left only chunks behind.
+		deleteStagingFile(tran_id);
+		
+		if(!local_participant.finishDecision(tran_id, operations, false))
+			throw new SystemException().setMessage("Could not log abort of transaction "+tran_id);
+	}
+	
+	/**
+	 * Performs a single prepared file operation. Its lock is released by
+	 * doCommit() once the commit is logged.
+	 */
+	private void commitOperation(Transaction transaction) {
+		
+		OpType op_type=Operation_Type.of(transaction);
+		
+		if(op_type==OpType.DELETE) {
+		
+			PendingFile d_file=pending_files.remove(transaction.getTran_id(), transaction.getFile_name());
+	
+			if(d_file!=null) {
+				
+				file_versions.beginUpdate();
+				
+				try {
 					
 					deleteFile(d_file);
 					
-					removeDeleteFileFromList(d_file);
+					file_versions.deleted(d_file.filename);
+					
+				} finally {
+					
+					file_versions.endUpdate();
 				}
 			}
+		}
+		
+		else if(op_type==OpType.WRITE) {
 			
-			else if(transaction.operation_name.equals("write")) {
+			PendingFile w_file=pending_files.remove(transaction.getTran_id(), transaction.getFile_name());
+			
+			if(w_file!=null) {
+				
+				File staging=claimStagedWrite(transaction);
 				
-				PendingFile w_file=getFileToWrite(transaction.getFile_name());
+				if(staging!=null)
+					renameStagedFile(w_file,staging,transaction.getTran_id());
 				
-				if(w_file!=null) {
+				// The rename happened before a crash which kept the commit from being logged.
+				else if(isInPlace(w_file,transaction))
+					commitInPlace(w_file,transaction.getTran_id());
+				
+				else {
 					
-					writeFile(w_file,transaction.getRFile());
+					System.out.println("Staged content of transaction "+transaction.getTran_id()+" on "+transaction.getFile_name()+" is missing");
 					
-					removeWriteFileFromList(w_file);
+					clearPendingFileData(w_file);
 				}
 			}
 		}
+		
+		else if(op_type==OpType.UPLOAD) {
+			
+			PendingFile w_file=pending_files.remove(transaction.getTran_id(), transaction.getFile_name());
+			
+			if(w_file!=null) {
+				
+				File staging=getStagingFile(transaction.getTran_id());
+				
+				// Without a staged file the rename already happened before a crash.
+				if(staging.exists())
+					renameStagedFile(w_file,staging,transaction.getTran_id());
+				else
+					commitInPlace(w_file,transaction.getTran_id());
+			}
+		}
 	}
-
+	
+	/**
+	 * Releases the lock of a single prepared file operation without
+	 * performing it.
+	 */
+	private void abortOperation(Transaction transaction) {
+		
+		OpType op_type=Operation_Type.of(transaction);
+		
+		if(op_type==OpType.DELETE) {
+		
+			PendingFile d_file=pending_files.remove(transaction.getTran_id(), transaction.getFile_name());
+	
+			if(d_file!=null)
+				clearPendingFileData(d_file);
+		}
+		
+		else if(op_type==OpType.WRITE || op_type==OpType.UPLOAD) {
+			
+			PendingFile w_file=pending_files.remove(transaction.getTran_id(), transaction.getFile_name());
+			
+			if(w_file!=null)
+				clearPendingFileData(w_file);
+			
+			if(op_type==OpType.WRITE) {
+				
+				if(transaction.isSetRFile() && transaction.getRFile().isSetDigest())
+					staging_area.release(transaction.getRFile().getDigest());
+			}
+			
+			file_versions.discardCreated(transaction.getFile_name());
+		}
+		
+		lock_manager.release(transaction.getFile_name(), transaction.getTran_id());
+	}
+	
+	
 	/**
-	 * Aborts the Transaction with Transaction ID.
+	 * Writes a chunk of an upload to the staging area. Chunks are kept in a
+	 * staging file named after the Transaction ID until the upload is
+	 * committed or aborted. Chunks of an upload which has already been
+	 * prepared or aborted are rejected, so a late chunk neither changes
+	 * content voted for nor leaves a staging file behind.
 	 */
 	@Override
-	public void doAbort(long tran_id) throws SystemException, TException {
-		// TODO Auto-generated method stub
+	public void writeChunk(long tran_id, long offset, ByteBuffer data) throws SystemException, TException {
+		
+		if(offset<0)
+			throw new SystemException().setMessage("Negative offset "+offset+" for chunk of transaction "+tran_id);
 		
-		Transaction transaction=local_participant.getTransactionInfo(tran_id);
+		RandomAccessFile stagingFile=null;
 		
-		if(transaction!=null) {
+		upload_lock.readLock().lock();
 		
-			local_participant.updateTransactionInList(tran_id, false);
+		try {
+			
+			if(prepared_uploads.contains(tran_id) || aborted.contains(tran_id))
+				throw new SystemException().setMessage("Transaction "+tran_id+" is not an open upload");
+			
+			stagingFile=new RandomAccessFile(getStagingFile(tran_id), "rw");
+			
+			FileChannel stagingChannel=stagingFile.getChannel();
 			
-			local_participant.serializeTransactions();
+			while(data.hasRemaining())
+				offset+=stagingChannel.write(data, offset);
 			
-			if(transaction.operation_name.equals("delete")) {
+		} catch (IOException e) {
 			
-				PendingFile d_file=getFileToDelete(transaction.getFile_name());
+			throw new SystemException().setMessage("Could not stage chunk of transaction "+tran_id+" : "+e.getMessage());
+		}
 		
-				if(d_file!=null)
-				{
-					clearPendingFileData(d_file);
-					
-					removeDeleteFileFromList(d_file);
-				}
+		finally {
+			
+			closeQuietly(stagingFile);
+			
+			upload_lock.readLock().unlock();
+		}
+	}
+	
+	
+	/**
+	 * Reads a chunk of the last committed version of a file, like readFile().
+	 * Size, modification time and version of the file are returned with every
+	 * chunk, so a reader can tell if the file changed between two chunks.
+	 */
+	@Override
+	public FileChunk readChunk(String filename, long offset, int length) throws SystemException, TException {
+		
+		if(offset<0 || length<0)
+			throw new SystemException().setMessage("Invalid chunk of "+filename+" at offset "+offset+" with length "+length);
+		
+		File_Versions.Snapshot snapshot=file_versions.open(filename);
+		
+		if(snapshot==null)
+			throw new SystemException().setMessage("File "+filename+" not found");
+		
+		RandomAccessFile readFile=snapshot.randomFile;
+		
+		try {
+			
+			FileChunk chunk=new FileChunk();
+			
+			chunk.setFile_size(readFile.length());
+			
+			chunk.setModified(snapshot.file.lastModified());
+			
+			chunk.setVersion(snapshot.version);
+			
+			ByteBuffer data=ByteBuffer.allocate((int) Math.max(0, Math.min(length, readFile.length()-offset)));
+			
+			while(data.hasRemaining()) {
+				
+				if(readFile.getChannel().read(data, offset+data.position())<0)
+					break;
 			}
 			
-			else if(transaction.operation_name.equals("write")) {
+			data.flip();
+			
+			chunk.data=data;
+			
+			return chunk;
+			
+		} catch (IOException e) {
+			
+			throw new SystemException().setMessage("Could not read "+filename+" : "+e.getMessage());
+		}
+		
+		finally {
+			
+			closeQuietly(readFile);
+		}
+	}
+	
+	/**
+	 * Answers heartbeats of Coordinator, which tracks whether the Participant
+	 * is alive and how fast it responds.
+	 */
+	@Override
+	public void ping() throws TException {
+		
+	}
+	
+	
+	/**
+	 * Prepares an upload whose content has been staged by writeChunk(). No
+	 * more chunks are taken for it, and the staged content must have the size
+	 * the upload was opened with. It is forced to disk before voting, then the
+	 * target file is locked like for a write.
+	 */
+	private boolean canUploadCommit(Transaction tran_info) throws IOException {
+		
+		// Waits for chunks being staged and rejects any chunk arriving later.
+		upload_lock.writeLock().lock();
+		
+		try {
+			
+			prepared_uploads.add(tran_info.getTran_id());
+			
+		} finally {
+			
+			upload_lock.writeLock().unlock();
+		}
+		
+		File staging=getStagingFile(tran_info.getTran_id());
+		
+		RFile rFile=tran_info.getRFile();
+		
+		if(!staging.exists() || (rFile.isSetSize() && staging.length()!=rFile.getSize()))
+			return false;
+		
+		RandomAccessFile stagingFile=new RandomAccessFile(staging, "rw");
+		
+		try {
+			
+			stagingFile.getChannel().force(true);
+			
+		} finally {
+			
+			stagingFile.close();
+		}
+		
+		File_Sync.syncDirectory(staging.getParentFile());
+		
+		return canWriteCommit(tran_info.getTran_id(),tran_info.getRFile());
+	}
+	
+	
+	/**
+	 * Writes the content of a prepared write to the staging area and forces
+	 * it to disk, so that all data I/O is done before voting and commit only
+	 * has to rename the staged file. The content is checked against the digest
+	 * sent by the Coordinator, and the digest is kept in the RFile, so that
+	 * only the digest has to be logged.
+	 * 
+	 * @param tran_info
+	 *            Object of Transaction representing the write.
+	 * @return True if the content is staged durably, false otherwise.
+	 */
+	private boolean stageWrite(Transaction tran_info) {
+		
+		RFile rFile=tran_info.getRFile();
+		
+		if(!rFile.isSetData())
+			return false;
+		
+		try {
+			
+			rFile.setDigest(staging_area.stage(rFile.data, rFile.getDigest()));
+			
+			return true;
+			
+		} catch (IOException e) {
+			
+			System.out.println("Could not stage "+tran_info.getFile_name()+" of transaction "+tran_info.getTran_id()+" : "+e.getMessage());
+			
+			return false;
+		}
+	}
+	
+	
+	/**
+	 * Returns the staged content of a committing write, which is renamed into
+	 * place afterwards.
+	 * 
+	 * @param transaction
+	 *            Object of Transaction representing the write.
+	 * @return Staged file owned by the write, or null if its content is lost.
+	 */
+	private File claimStagedWrite(Transaction transaction) {
+		
+		RFile rFile=transaction.getRFile();
+		
+		if(rFile==null || !rFile.isSetDigest())
+			return null;
+		
+		try {
+			
+			return staging_area.claim(rFile.getDigest());
+			
+		} catch (IOException e) {
+			
+			e.printStackTrace();
+		}
+		
+		return null;
+	}
+	
+	
+	/**
+	 * Returns true if the locked file already holds the content of a
+	 * committing write, i.e. its staged content was renamed into place.
+	 */
+	private boolean isInPlace(PendingFile w_file,Transaction transaction) {
+		
+		RFile rFile=transaction.getRFile();
+		
+		if(rFile==null || !rFile.isSetDigest() || w_file.fileChannel==null)
+			return false;
+		
+		try {
+			
+			MessageDigest digest=Content_Digest.create();
+			
+			ByteBuffer buffer=ByteBuffer.allocate(64*1024);
+			
+			long position=0;
+			
+			int read;
+			
+			while((read=w_file.fileChannel.read(buffer, position))>0) {
 				
-				PendingFile w_file=getFileToWrite(transaction.getFile_name());
+				buffer.flip();
 				
-				if(w_file!=null) {
-					
-					clearPendingFileData(w_file);
-					
-					removeWriteFileFromList(w_file);
-				}
+				digest.update(buffer);
+				
+				buffer.clear();
+				
+				position+=read;
 			}
+			
+			return rFile.getDigest().equals(Content_Digest.toHex(digest.digest()));
+			
+		} catch (IOException e) {
+			
+			e.printStackTrace();
+			
+			return false;
+		}
+	}
+	
+	
+	/**
+	 * Records the version of a file whose content was renamed into place
+	 * before a crash, and releases the file.
+	 */
+	private void commitInPlace(PendingFile w_file,long version) {
+		
+		file_versions.beginUpdate();
+		
+		try {
+			
+			file_versions.committed(w_file.filename, version);
+			
+		} finally {
+			
+			file_versions.endUpdate();
+		}
+		
+		clearPendingFileData(w_file);
+	}
+	
+	
+	/**
+	 * Replaces the locked file with its staged content by an atomic rename,
+	 * so commit costs the same whatever the size of the file. Reads which
+	 * opened the previous version keep reading it. The directory is forced to
+	 * disk to make the rename durable before the lock is released. Staging
+	 * area and files have to be on the same file system.
+	 * 
+	 * @param w_file
+	 *            Object of Pending File which includes File Name, File Lock,
+	 *            File Channel.
+	 * @param staging
+	 *            Staged content of the file.
+	 * @param version
+	 *            Version of the new content.
+	 */
+	private void renameStagedFile(PendingFile w_file,File staging,long version) {
+		
+		try {
+			
+			file_versions.beginUpdate();
+			
+			try {
+				
+				Files.move(staging.toPath(), w_file.file.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+				
+				file_versions.committed(w_file.filename, version);
+				
+			} finally {
+				
+				file_versions.endUpdate();
+			}
+			
+			File_Sync.syncDirectory(w_file.file.getAbsoluteFile().getParentFile());
+			
+		} catch (IOException e) {
+			
+			e.printStackTrace();
+		}
+		
+		finally {
+			
+			// Closing the file releases its lock.
+			closeQuietly(w_file.randomFile);
+		}
+	}
+	
+	
+	private File getStagingFile(long tran_id) {
+		
+		File staging_dir=new File(STAGING_DIR);
+		
+		staging_dir.mkdirs();
+		
+		return new File(staging_dir, String.valueOf(tran_id));
+	}
+	
+	
+	private void deleteStagingFile(long tran_id) {
+		
+		File staging=new File(STAGING_DIR, String.valueOf(tran_id));
+		
+		if(staging.exists())
+			staging.delete();
+	}
+	
+	
+	private void closeQuietly(RandomAccessFile file) {
+		
+		try {
+			
+			if(file!=null)
+				file.close();
+			
+		} catch (IOException e) {
+			
+			e.printStackTrace();
 		}
 	}
 
@@ -219,7 +787,7 @@ public class Participant_Handler implements Participant_Interface.Iface{
 		
 		try {
 			
-			rFile = tryReadLock(filename);
+			rFile = readCommittedFile(filename);
 		
 		} catch (IOException e) {
 			// TODO Auto-generated catch block
@@ -237,10 +805,11 @@ public class Participant_Handler implements Participant_Interface.Iface{
 	
 	
 	/**
-	 * This method first tries to acquire lock on file with given file name. If
-	 * lock is acquired, it creates the object of RFile and includes it with
-	 * File Content, Owner and Name of File. If lock was failed to acquire, null
-	 * value is returned.
+	 * This method reads the last committed version of file with given file
+	 * name. It takes no lock, so neither other reads nor a pending write or
+	 * delete of the file make it wait. It creates the object of RFile and
+	 * includes it with File Content, Version, Owner and Name of File. If file
+	 * has no committed version, null value is returned.
 	 * 
 	 * @param filename
 	 *            Name of file to read.
@@ -249,63 +818,37 @@ public class Participant_Handler implements Participant_Interface.Iface{
 	 *             If any error occurs while reading a file, this exception is
 	 *             thrown.
 	 */
-	private RFile tryReadLock(String filename) throws IOException {
+	private RFile readCommittedFile(String filename) throws IOException {
 		
-		RFile rFile=null;
+		File_Versions.Snapshot snapshot=file_versions.open(filename);
 		
-		boolean ready=true;
-		
-		RandomAccessFile readFile = null;
-
-		FileChannel readChannel = null;
-
-		FileLock readLock = null;
+		if(snapshot==null)
+			return null;
 		
 		try {
 			
-			File lockFile = new File(filename);
+			RFile rFile=getFileFromDisk(snapshot.file, snapshot.randomFile.getChannel());
 			
-			if(lockFile.exists()) {
-				
-					readFile = new RandomAccessFile(lockFile, "rw");
-
-					readChannel = readFile.getChannel();
-
-					readLock = readChannel.tryLock();
-
-					if (readLock != null) {
-					
-						//lockFile.deleteOnExit();
-						
-						rFile=getFileFromDisk(filename);
-					}
-			}
-
-		} catch (FileNotFoundException e) {
-			// TODO Auto-generated catch block
-			e.printStackTrace();
-		} catch (IOException e) {
-			// TODO Auto-generated catch block
-			e.printStackTrace();
+			rFile.setVersion(snapshot.version);
+			
+			return rFile;
 		}
 		
 		finally {
 			
-			if (readLock != null && readLock.isValid())
-		        readLock.release();
-		    
-			if (readFile != null)
-		        readFile.close();
+			snapshot.randomFile.close();
 		}
-		
-		return rFile;
 	}
 	
 	
 	/**
 	 * This method manages write request from Coordinator. It acquires a lock on
 	 * file to write and holds it until it receives final decision from Coordinator.
+	 * If another Transaction holds the lock, it waits in line for at most the
+	 * lock wait timeout.
 	 * 
+	 * @param tran_id
+	 *            Transaction ID of the write.
 	 * @param file
 	 *            Object of RFile.
 	 * @return True, if lock is acquired, false otherwise.
@@ -313,10 +856,13 @@ public class Participant_Handler implements Participant_Interface.Iface{
 	 *             If any error occurs while accessing file, this exception is
 	 *             thrown.
 	 */
-	public boolean canWriteCommit(RFile file) throws IOException {
+	public boolean canWriteCommit(long tran_id, RFile file) throws IOException {
 		
 		boolean writeFlag=false;
 		
+		if(!lock_manager.acquire(file.getFilename(), tran_id))
+			return false;
+		
 		RandomAccessFile writeFile=null;
 		
 		FileChannel writeChannel=null;
@@ -326,8 +872,21 @@ public class Participant_Handler implements Participant_Interface.Iface{
 		try {
 		
 				File lockFile=new File(file.getFilename());
+				
+				file_versions.beginUpdate();
+				
+				try {
+					
+					// The file is created to be locked, reads ignore it until the write commits. An empty file without version was created by a prepare before a restart.
+					if(!lockFile.exists() || (lockFile.length()==0 && !file_versions.isVersioned(file.getFilename())))
+						file_versions.created(file.getFilename());
 		
-				writeFile=new RandomAccessFile(lockFile, "rw");
+					writeFile=new RandomAccessFile(lockFile, "rw");
+					
+				} finally {
+					
+					file_versions.endUpdate();
+				}
 		
 				writeChannel=writeFile.getChannel();
 			
@@ -337,11 +896,9 @@ public class Participant_Handler implements Participant_Interface.Iface{
 						
 					//lockFile.deleteOnExit();
 					
-					PendingFile fileToWrite=new PendingFile(file.getFilename(),lockFile,writeLock,writeChannel,writeFile);
+					PendingFile fileToWrite=new PendingFile(tran_id,file.getFilename(),lockFile,writeLock,writeChannel,writeFile);
 					
-					addWriteFileToList(fileToWrite);
-					
-					writeFlag=true;
+					writeFlag=pending_files.add(fileToWrite);
 				} 
 				
 		} catch (FileNotFoundException e) {
@@ -354,33 +911,50 @@ public class Participant_Handler implements Participant_Interface.Iface{
 		
 		finally {  
 			
+			if(!writeFlag) {
+				
+				closeQuietly(writeFile);
+				
+				file_versions.discardCreated(file.getFilename());
+				
+				lock_manager.release(file.getFilename(), tran_id);
+			}
+			
 		      return writeFlag;
 		}
 	}
 	
 	
-	private RFile getFileFromDisk(String filename) {
+	/**
+	 * Reads the whole file through given channel into binary content.
+	 * Bytes are returned as they are on disk, without any charset decoding.
+	 */
+	private RFile getFileFromDisk(File file, FileChannel channel) {
 		
 		RFile rFile=new RFile();
 		
 		try {
 			
-				BufferedReader bufferReader=new BufferedReader(new FileReader(filename));
-			
-				StringBuilder stringBuilder= new StringBuilder();
-	
-				String readLine="";
-	
-				while((readLine=bufferReader.readLine())!=null) {
-		
-					stringBuilder.append(readLine+"\n");
+				long size=channel.size();
+				
+				if(size>Integer.MAX_VALUE)
+					throw new IOException("File "+file.getName()+" of "+size+" bytes has to be downloaded in chunks");
+				
+				ByteBuffer data=ByteBuffer.allocate((int) size);
+				
+				while(data.hasRemaining()) {
+					
+					if(channel.read(data, data.position())<0)
+						break;
 				}
-	
-				String fileContent=stringBuilder.toString();
-		
-				rFile.setContent(fileContent);
+				
+				data.flip();
+				
+				rFile.data=data;
+				
+				rFile.setSize(data.remaining());
 		
-				rFile.setFilename(filename);
+				rFile.setFilename(file.getPath());
 				
 		}catch(Exception e) {
 		
@@ -393,8 +967,11 @@ public class Participant_Handler implements Participant_Interface.Iface{
 	/**
 	 * This method manages delete request from Coordinator. It acquires a lock
 	 * on file to delete and holds it until it receives final decision from
-	 * Coordinator.
+	 * Coordinator. If another Transaction holds the lock, it waits in line for
+	 * at most the lock wait timeout.
 	 * 
+	 * @param tran_id
+	 *            Transaction ID of the delete.
 	 * @param filename
 	 *            File Name to Delete.
 	 * @return True if lock is acquired, false otherwise.
@@ -403,10 +980,13 @@ public class Participant_Handler implements Participant_Interface.Iface{
 	 *             thrown.
 	 */
 	@SuppressWarnings("finally")
-	public boolean canDeleteCommit(String filename) throws IOException {
+	public boolean canDeleteCommit(long tran_id, String filename) throws IOException {
 		
 		boolean deleteFlag=false;
 		
+		if(!lock_manager.acquire(filename, tran_id))
+			return false;
+		
 		RandomAccessFile deleteFile=null;
 		
 		FileChannel deleteChannel=null;
@@ -427,13 +1007,12 @@ public class Participant_Handler implements Participant_Interface.Iface{
 			
 					if(deleteLock!=null) {
 				
-						PendingFile fileToDelete=new PendingFile(filename,lockFile,deleteLock,deleteChannel,deleteFile);
-					
-						addDeleteFileToList(fileToDelete);
-					
-						lockFile.deleteOnExit();
+						PendingFile fileToDelete=new PendingFile(tran_id,filename,lockFile,deleteLock,deleteChannel,deleteFile);
 					
-						deleteFlag=true;
+						deleteFlag=pending_files.add(fileToDelete);
+						
+						if(deleteFlag)
+							lockFile.deleteOnExit();
 					} 
 				}
 				
@@ -447,6 +1026,13 @@ public class Participant_Handler implements Participant_Interface.Iface{
 		
 		finally {
 		       
+			if(!deleteFlag) {
+				
+				closeQuietly(deleteFile);
+				
+				lock_manager.release(filename, tran_id);
+			}
+			
 		    return deleteFlag;
 		}	
 	}
@@ -478,83 +1064,6 @@ public class Participant_Handler implements Participant_Interface.Iface{
 		}
 	}
 	
-	/**
-	 * Writes the file to local disk of Participant. After write operation is
-	 * done, it releases the lock acquired.
-	 * 
-	 * @param w_file
-	 *            Object of Pending File which includes File Name, File Lock,
-	 *            File Channel.
-	 * @param rFile
-	 *            Object of RFile.
-	 */
-	private void writeFile(PendingFile w_file,RFile rFile) {
-		
-		if(w_file.filelock!=null && w_file.filelock.isValid() && w_file.file!=null) {
-			
-			try {
-				
-				w_file.fileChannel.write(ByteBuffer.wrap(rFile.getContent().getBytes()));	
-			
-				w_file.fileChannel.force(false);
-				
-				w_file.filelock.release();
-				
-				w_file.randomFile.close();
-				
-			} catch (IOException e) {
-				// TODO Auto-generated catch block
-				e.printStackTrace();
-			}
-		}
-	}
-	
-	
-	public PendingFile getFileToWrite(String filename) {
-		
-		synchronized (write_lock_object) {
-			
-			for(PendingFile w_fileElement:filesToWrite) {
-				
-				if(w_fileElement.filename.equals(filename))
-					return w_fileElement;
-				
-			}
-			
-			return null;
-		}
-	}
-	
-	
-	
-	public void addWriteFileToList(PendingFile w_file) {
-		
-		synchronized (write_lock_object) {
-			
-			if(filesToWrite!=null){
-				
-				filesToWrite.add(w_file);
-				
-			}
-		}
-	}
-	
-	
-	public void removeWriteFileFromList(PendingFile w_file) {
-		
-		synchronized (write_lock_object) {
-			
-			for(PendingFile w_fileElement:filesToWrite) {
-				
-				if(w_fileElement.filename.equals(w_file.filename))
-				{
-					filesToWrite.remove(w_fileElement);
-					
-					break;
-				}
-			}
-		}
-	}
 	
 	/**
 	 * This method includes functionality to release lock acquired for file and
@@ -570,74 +1079,36 @@ public class Participant_Handler implements Participant_Interface.Iface{
 			
 			if (p_file.filelock != null && p_file.filelock.isValid())
 				p_file.filelock.release();
-	     
-			//if (p_file.randomFile!= null)
-				//p_file.randomFile.close();
 			
 			System.out.println("Clear pending data");
 			
 		} catch (IOException e) {
 			// TODO Auto-generated catch block
 			e.printStackTrace();
-		}
-	}
-
-	public void addDeleteFileToList(PendingFile d_file) {
-		
-		synchronized (delete_lock_object) {
 			
-			if(filesToDelete!=null){
-				
-				filesToDelete.add(d_file);
-				
-			}
-		}
-	}
-	
-	public void removeDeleteFileFromList(PendingFile d_file) {
-		
-		synchronized (delete_lock_object) {
+		} finally {
 			
-			for(PendingFile d_fileElement:filesToDelete) {
-				
-				if(d_fileElement.filename.equals(d_file.filename)) {
-					
-					filesToDelete.remove(d_fileElement);
-					
-					break;
-					
-				}
-			}
+			closeQuietly(p_file.randomFile);
 		}
 	}
 	
 	
-	public PendingFile getFileToDelete(String filename) {
-		
-		synchronized (delete_lock_object) {
-			
-			for(PendingFile d_fileElement:filesToDelete) {
-				
-				if(d_fileElement.filename.equals(filename))
-					return d_fileElement;
-				
-			}
-			
-			return null;
-		}
-	}
-	
-	
-	public class PendingFile {
+	/**
+	 * File locked by a prepared write or delete, see Pending_Files.
+	 */
+	public static class PendingFile {
 		
-		private String filename=null;
+		final long tran_id;
+		final String filename;
 		private File file=null;
 		private FileLock filelock=null;
 		private FileChannel fileChannel=null;
 		private RandomAccessFile randomFile=null;
 		
 		
-		public PendingFile(String filename,File file,FileLock filelock,FileChannel fileChannel, RandomAccessFile randomFile) {
+		public PendingFile(long tran_id,String filename,File file,FileLock filelock,FileChannel fileChannel, RandomAccessFile randomFile) {
+			
+			this.tran_id=tran_id;
 			
 			this.filename=filename;
 			
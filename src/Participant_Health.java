@@ -0,0 +1,290 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.thrift.TException;
+import org.apache.thrift.transport.TSocket;
+
+/**
+ * The class Participant_Health tracks for Coordinator which Participants are
+ * alive and how fast they respond. A background thread per Participant sends
+ * a heartbeat every heartbeat_interval milliseconds. After
+ * breaker_failure_threshold consecutive failed heartbeats or calls a
+ * Participant is considered down, and calls to it fail at once instead of
+ * waiting for a socket timeout. The first heartbeat it answers makes it
+ * available again.
+ *
+ * Timeouts adapt to each Participant. The timeout of heartbeats and of calls
+ * other than prepares is a multiple of the 99th percentile of the latencies
+ * recently observed for the same Participant, within configured bounds.
+ * Prepares may wait for locks at a Participant, so they keep prepare_timeout
+ * and are not counted.
+ *
+ * @author chetan
+ *
+ */
+public class Participant_Health {
+
+	private final ConcurrentHashMap<String, Node> nodes=new ConcurrentHashMap<String, Node>();
+
+	/**
+	 * Starts sending heartbeats to given Participants.
+	 */
+	public void start(List<Participant> participants) {
+
+		for (final Participant participant : participants) {
+
+			final Node node=node(participant.getIp(), participant.getPort());
+
+			node.name=participant.getName();
+
+			Thread heartbeat=new Thread(new Runnable() {
+
+				@Override
+				public void run() {
+
+					sendHeartbeats(participant, node);
+				}
+			}, "heartbeat-"+participant.getName());
+
+			heartbeat.setDaemon(true);
+
+			heartbeat.start();
+		}
+	}
+
+	/**
+	 * Returns false if the Participant at given address is known to be down.
+	 */
+	public boolean isUp(String ip, int port) {
+
+		return node(ip, port).up;
+	}
+
+	/**
+	 * Returns the Participants of given list which are not known to be down.
+	 */
+	public List<Participant> available(List<Participant> participants) {
+
+		List<Participant> available=new ArrayList<Participant>(participants.size());
+
+		for (Participant participant : participants) {
+
+			if (isUp(participant.getIp(), participant.getPort()))
+				available.add(participant);
+		}
+
+		return available;
+	}
+
+	/**
+	 * Returns the timeout in milliseconds for a call other than a prepare to
+	 * the Participant at given address.
+	 */
+	public int callTimeout(String ip, int port) {
+
+		return node(ip, port).calls.timeout();
+	}
+
+	/**
+	 * Records a call the Participant at given address answered.
+	 *
+	 * @param latency
+	 *            Duration of the call in milliseconds, or a negative value if
+	 *            it is not to be counted.
+	 */
+	public void callSucceeded(String ip, int port, long latency) {
+
+		Node node=node(ip, port);
+
+		if (latency >= 0)
+			node.calls.record(latency);
+
+		succeeded(node);
+	}
+
+	/**
+	 * Records a call to the Participant at given address which failed or timed
+	 * out.
+	 */
+	public void callFailed(String ip, int port) {
+
+		failed(node(ip, port));
+	}
+
+	private void sendHeartbeats(Participant participant, Node node) {
+
+		TSocket socket=null;
+
+		Participant_Interface.Client client=null;
+
+		while (true) {
+
+			try {
+
+				Thread.sleep(Constants.heartbeat_interval);
+
+			} catch (InterruptedException e) {
+
+				return;
+			}
+
+			long start=System.nanoTime();
+
+			try {
+
+				if (socket == null) {
+
+					socket=new TSocket(participant.getIp(), participant.getPort(), node.heartbeats.timeout());
+
+					socket.open();
+
+					client=new Participant_Interface.Client(Thrift_Config.createProtocol(Thrift_Config.wrapTransport(socket)));
+				}
+
+				else
+					socket.setTimeout(node.heartbeats.timeout());
+
+				client.ping();
+
+				node.heartbeats.record((System.nanoTime()-start)/1000000);
+
+				succeeded(node);
+
+			} catch (TException e) {
+
+				if (socket != null)
+					socket.close();
+
+				socket=null;
+
+				failed(node);
+			}
+		}
+	}
+
+	private void succeeded(Node node) {
+
+		synchronized (node) {
+
+			node.failures=0;
+
+			if (!node.up) {
+
+				node.up=true;
+
+				System.out.println("Participant "+node.name+" is up again");
+			}
+		}
+	}
+
+	private void failed(Node node) {
+
+		synchronized (node) {
+
+			node.failures++;
+
+			if (node.up && node.failures >= Constants.breaker_failure_threshold) {
+
+				node.up=false;
+
+				System.out.println("Participant "+node.name+" is down, calls to it fail until it answers a heartbeat");
+			}
+		}
+	}
+
+	private Node node(String ip, int port) {
+
+		String key=ip+":"+port;
+
+		Node node=nodes.get(key);
+
+		if (node == null) {
+
+			node=new Node(key);
+
+			Node existing=nodes.putIfAbsent(key, node);
+
+			if (existing != null)
+				node=existing;
+		}
+
+		return node;
+	}
+
+
+	/**
+	 * Health of a single Participant.
+	 */
+	private static class Node {
+
+		private volatile String name;
+		private volatile boolean up=true;
+		private int failures=0;
+		private final Latencies heartbeats=new Latencies(Constants.heartbeat_timeout_min, Constants.heartbeat_timeout_max);
+		private final Latencies calls=new Latencies(Constants.call_timeout_min, Constants.call_timeout_max);
+
+		public Node(String name) {
+
+			this.name=name;
+		}
+	}
+
+
+	/**
+	 * Recent latencies of one kind of calls to a Participant, and the timeout
+	 * derived from them. The timeout is the maximum until latencies have been
+	 * observed.
+	 */
+	private static class Latencies {
+
+		private static final int WINDOW=256;
+		private static final int UPDATE_EVERY=16;
+
+		private final long[] samples=new long[WINDOW];
+		private final int min_timeout;
+		private final int max_timeout;
+		private int count=0;
+		private int next=0;
+		private int since_update=0;
+		private volatile int timeout;
+
+		public Latencies(int min_timeout, int max_timeout) {
+
+			this.min_timeout=min_timeout;
+
+			this.max_timeout=Math.max(min_timeout, max_timeout);
+
+			this.timeout=this.max_timeout;
+		}
+
+		public int timeout() {
+
+			return timeout;
+		}
+
+		public synchronized void record(long latency) {
+
+			samples[next]=latency;
+
+			next=(next+1) % WINDOW;
+
+			count=Math.min(count+1, WINDOW);
+
+			// The percentile is computed again only every few samples, except while there are few of them.
+			if (++since_update >= UPDATE_EVERY || count < UPDATE_EVERY) {
+
+				since_update=0;
+
+				long[] sorted=Arrays.copyOf(samples, count);
+
+				Arrays.sort(sorted);
+
+				long p99=sorted[(int) Math.ceil(0.99*count)-1];
+
+				timeout=(int) Math.max(min_timeout, Math.min(max_timeout, p99*Constants.timeout_latency_factor));
+			}
+		}
+	}
+}
@@ -0,0 +1,409 @@
+import java.io.IOException;
+import java.net.Socket;
+import java.net.SocketException;
+import java.net.SocketTimeoutException;
+import java.util.Iterator;
+import java.util.LinkedList;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.thrift.TException;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.transport.TSocket;
+import org.apache.thrift.transport.TTransportException;
+
+/**
+ * The class Participant_Pool keeps long lived connections from Coordinator to
+ * each Participant, so that an RPC does not have to pay for a TCP handshake and
+ * leave a socket in TIME_WAIT behind. Every Participant has its own pool of at
+ * most pool_size connections. Connections idle for longer than pool_max_idle
+ * are closed by a background thread, and a connection which has been idle for a
+ * while is checked before it is handed out again.
+ *
+ * No connection is handed out for a Participant which Participant_Health
+ * considers down, so calls to it fail at once. Calls other than prepares get
+ * the adaptive timeout of their Participant, and every call reports its
+ * outcome back to Participant_Health.
+ *
+ * @author chetan
+ *
+ */
+public class Participant_Pool {
+
+	private final ConcurrentHashMap<String, Node_Pool> node_pools=new ConcurrentHashMap<String, Node_Pool>();
+	private final Participant_Health health;
+
+	public Participant_Pool(Participant_Health health) {
+
+		this.health=health;
+
+		Thread evictor=new Thread(new Runnable() {
+
+			@Override
+			public void run() {
+
+				while (true) {
+
+					try {
+
+						Thread.sleep(Math.max(Constants.pool_max_idle / 2, 1000));
+
+					} catch (InterruptedException e) {
+
+						return;
+					}
+
+					for (Node_Pool node_pool : node_pools.values())
+						node_pool.evictIdle();
+				}
+			}
+		}, "participant-pool-evictor");
+
+		evictor.setDaemon(true);
+
+		evictor.start();
+	}
+
+	/**
+	 * Returns a connection to the Participant at given address, reusing an
+	 * idle one when possible. Blocks while all connections to the Participant
+	 * are in use.
+	 *
+	 * @param ip
+	 *            IP address of Participant.
+	 * @param port
+	 *            Port Number of Participant.
+	 * @return Open connection. It must be given back with release() or
+	 *         invalidate().
+	 * @throws TTransportException
+	 *             If connection could not be opened, or the Participant is
+	 *             down.
+	 */
+	public Connection borrow(String ip, int port) throws TTransportException {
+
+		return start(nodePool(ip, port).borrow(false), health.callTimeout(ip, port), true);
+	}
+
+	/**
+	 * Returns a connection for a prepare. A prepare may wait for a lock at
+	 * the Participant, so it gets prepare_timeout and its latency is not
+	 * counted.
+	 *
+	 * @see #borrow(String, int)
+	 */
+	public Connection borrowForPrepare(String ip, int port) throws TTransportException {
+
+		return start(nodePool(ip, port).borrow(false), Constants.prepare_timeout, false);
+	}
+
+	/**
+	 * Returns a connection for sending a decision. Decisions release the locks
+	 * prepares may be waiting for at the Participant, so they never wait for
+	 * a connection held by such a prepare. If all connections are in use, an
+	 * extra one is opened and closed again once released.
+	 *
+	 * @see #borrow(String, int)
+	 */
+	public Connection borrowForDecision(String ip, int port) throws TTransportException {
+
+		return start(nodePool(ip, port).borrow(true), health.callTimeout(ip, port), true);
+	}
+
+	private Connection start(Connection connection, int timeout, boolean timed) {
+
+		connection.socket.setTimeout(timeout);
+
+		connection.timed=timed;
+
+		connection.started=System.currentTimeMillis();
+
+		return connection;
+	}
+
+	private Node_Pool nodePool(String ip, int port) {
+
+		String key=ip+":"+port;
+
+		Node_Pool node_pool=node_pools.get(key);
+
+		if (node_pool == null) {
+
+			node_pool=new Node_Pool(ip, port, health);
+
+			Node_Pool existing=node_pools.putIfAbsent(key, node_pool);
+
+			if (existing != null)
+				node_pool=existing;
+		}
+
+		return node_pool;
+	}
+
+	/**
+	 * Gives a healthy connection back to its pool after a successful call.
+	 */
+	public void release(Connection connection) {
+
+		if (connection != null) {
+
+			health.callSucceeded(connection.node_pool.ip, connection.node_pool.port, connection.timed ? System.currentTimeMillis()-connection.started : -1);
+
+			connection.node_pool.release(connection);
+		}
+	}
+
+	/**
+	 * Closes a connection which failed during a call, so it is never reused.
+	 */
+	public void invalidate(Connection connection) {
+
+		if (connection != null) {
+
+			health.callFailed(connection.node_pool.ip, connection.node_pool.port);
+
+			connection.node_pool.invalidate(connection);
+		}
+	}
+
+	/**
+	 * Closes a connection whose prepare failed. A prepare which timed out may
+	 * just have waited for a lock held by another Transaction, so only other
+	 * failures count against the health of the Participant.
+	 *
+	 * @param connection
+	 *            Connection returned by borrowForPrepare().
+	 * @param failure
+	 *            Exception thrown by the prepare.
+	 */
+	public void invalidatePrepare(Connection connection, TException failure) {
+
+		if (connection == null)
+			return;
+
+		if (failure.getCause() instanceof SocketTimeoutException)
+			connection.node_pool.invalidate(connection);
+		else
+			invalidate(connection);
+	}
+
+
+	/**
+	 * Pool of connections to a single Participant.
+	 */
+	private static class Node_Pool {
+
+		private String ip;
+		private int port;
+		private final Participant_Health health;
+		private int open_connections=0;
+		private final LinkedList<Connection> idle_connections=new LinkedList<Connection>();
+
+		public Node_Pool(String ip, int port, Participant_Health health) {
+
+			this.ip=ip;
+
+			this.port=port;
+
+			this.health=health;
+		}
+
+		public Connection borrow(boolean decision) throws TTransportException {
+
+			if (!health.isUp(ip, port))
+				throw new TTransportException(TTransportException.NOT_OPEN, "Participant "+ip+":"+port+" is down");
+
+			long deadline=System.currentTimeMillis()+Constants.prepare_timeout;
+
+			synchronized (this) {
+
+				while (true) {
+
+					Connection connection=idle_connections.pollFirst();
+
+					if (connection != null) {
+
+						if (isHealthy(connection))
+							return connection;
+
+						close(connection);
+
+						continue;
+					}
+
+					if (open_connections < Constants.pool_size || decision) {
+
+						open_connections++;
+
+						break;
+					}
+
+					long remaining=deadline-System.currentTimeMillis();
+
+					if (remaining <= 0)
+						throw new TTransportException(TTransportException.TIMED_OUT, "No free connection to "+ip+":"+port);
+
+					try {
+
+						wait(remaining);
+
+					} catch (InterruptedException e) {
+
+						Thread.currentThread().interrupt();
+
+						throw new TTransportException(TTransportException.TIMED_OUT, "Interrupted waiting for connection to "+ip+":"+port);
+					}
+				}
+			}
+
+			// Opening the socket happens outside the lock, a slow handshake must not block other borrowers.
+			try {
+
+				return open();
+
+			} catch (TTransportException e) {
+
+				synchronized (this) {
+
+					open_connections--;
+
+					notifyAll();
+				}
+
+				throw e;
+			}
+		}
+
+		public synchronized void release(Connection connection) {
+
+			if (open_connections > Constants.pool_size) {
+
+				close(connection);
+
+				notifyAll();
+
+				return;
+			}
+
+			connection.last_used=System.currentTimeMillis();
+
+			idle_connections.addFirst(connection);
+
+			notifyAll();
+		}
+
+		public synchronized void invalidate(Connection connection) {
+
+			close(connection);
+
+			notifyAll();
+		}
+
+		/**
+		 * Closes connections which have not been used for pool_max_idle.
+		 */
+		public synchronized void evictIdle() {
+
+			long now=System.currentTimeMillis();
+
+			Iterator<Connection> iterator=idle_connections.iterator();
+
+			while (iterator.hasNext()) {
+
+				Connection connection=iterator.next();
+
+				if (now-connection.last_used >= Constants.pool_max_idle) {
+
+					iterator.remove();
+
+					close(connection);
+				}
+			}
+
+			notifyAll();
+		}
+
+		private Connection open() throws TTransportException {
+
+			TSocket socket=new TSocket(ip, port, health.callTimeout(ip, port));
+
+			socket.open();
+
+			TProtocol protocol=Thrift_Config.createProtocol(Thrift_Config.wrapTransport(socket));
+
+			return new Connection(this, socket, new Participant_Interface.Client(protocol));
+		}
+
+		private void close(Connection connection) {
+
+			open_connections--;
+
+			connection.socket.close();
+		}
+
+		/**
+		 * A connection which stayed idle for a while may have been closed by
+		 * the Participant in the meantime, e.g. because it restarted. Such a
+		 * connection reads end of stream immediately, while a live one times
+		 * out since Participant never sends anything unless asked.
+		 */
+		private boolean isHealthy(Connection connection) {
+
+			if (!connection.socket.isOpen())
+				return false;
+
+			if (System.currentTimeMillis()-connection.last_used < Constants.pool_validate_idle)
+				return true;
+
+			Socket socket=connection.socket.getSocket();
+
+			try {
+
+				socket.setSoTimeout(1);
+
+				socket.getInputStream().read();
+
+				return false;
+
+			} catch (SocketTimeoutException e) {
+
+				return true;
+
+			} catch (IOException e) {
+
+				return false;
+
+			} finally {
+
+				try {
+
+					socket.setSoTimeout(Constants.prepare_timeout);
+
+				} catch (SocketException e) {
+
+					// Socket is already closed, it will be discarded.
+				}
+			}
+		}
+	}
+
+
+	public static class Connection {
+
+		public final Participant_Interface.Client client;
+		private final Node_Pool node_pool;
+		private final TSocket socket;
+		private long last_used;
+		private long started;
+		private boolean timed;
+
+		private Connection(Node_Pool node_pool, TSocket socket, Participant_Interface.Client client) {
+
+			this.node_pool=node_pool;
+
+			this.socket=socket;
+
+			this.client=client;
+
+			this.last_used=System.currentTimeMillis();
+		}
+	}
+}
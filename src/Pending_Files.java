@@ -0,0 +1,78 @@
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * The class Pending_Files keeps the files locked by prepared writes and
+ * deletes of a Participant until their Transaction is decided. Pending files
+ * are indexed by Transaction ID in a concurrent map, so a decision finds its
+ * files without scanning every pending operation and without a global
+ * monitor. A secondary index by file name tells which Transaction a file is
+ * pending for, and refuses a second pending operation on the same file.
+ *
+ * @author chetan
+ *
+ */
+public class Pending_Files {
+
+	private final ConcurrentHashMap<Long, List<Participant_Handler.PendingFile>> by_transaction=new ConcurrentHashMap<Long, List<Participant_Handler.PendingFile>>();
+	private final ConcurrentHashMap<String, Participant_Handler.PendingFile> by_filename=new ConcurrentHashMap<String, Participant_Handler.PendingFile>();
+
+	/**
+	 * Adds a pending file.
+	 *
+	 * @return False if the file is already pending for another operation.
+	 */
+	public boolean add(Participant_Handler.PendingFile p_file) {
+
+		if (by_filename.putIfAbsent(p_file.filename, p_file) != null)
+			return false;
+
+		List<Participant_Handler.PendingFile> files=by_transaction.get(p_file.tran_id);
+
+		if (files == null) {
+
+			List<Participant_Handler.PendingFile> created=new CopyOnWriteArrayList<Participant_Handler.PendingFile>();
+
+			files=by_transaction.putIfAbsent(p_file.tran_id, created);
+
+			if (files == null)
+				files=created;
+		}
+
+		files.add(p_file);
+
+		return true;
+	}
+
+	/**
+	 * Removes the file given Transaction has pending.
+	 *
+	 * @return Removed file, or null if the Transaction has no such file
+	 *         pending.
+	 */
+	public Participant_Handler.PendingFile remove(long tran_id, String filename) {
+
+		List<Participant_Handler.PendingFile> files=by_transaction.get(tran_id);
+
+		if (files == null)
+			return null;
+
+		for (Participant_Handler.PendingFile p_file : files) {
+
+			if (p_file.filename.equals(filename)) {
+
+				files.remove(p_file);
+
+				if (files.isEmpty())
+					by_transaction.remove(tran_id, files);
+
+				by_filename.remove(filename, p_file);
+
+				return p_file;
+			}
+		}
+
+		return null;
+	}
+}
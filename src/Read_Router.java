@@ -0,0 +1,297 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The class Read_Router chooses the Participant which serves a read. Every
+ * Participant keeps a copy of every file, so any of them can serve it. The
+ * policy is chosen with the read_routing property:
+ *
+ * <ul>
+ * <li>random - a Participant chosen uniformly at random.</li>
+ * <li>least-outstanding - the Participant with the fewest reads in flight.</li>
+ * <li>ewma - the Participant with the lowest average read latency, weighted
+ * by its reads in flight.</li>
+ * <li>p2c - the better of two Participants chosen at random, compared like
+ * with ewma.</li>
+ * </ul>
+ *
+ * Ties are broken at random. Participants known to be down are skipped, the
+ * pool would refuse to connect to them anyway. The average latency is an
+ * exponentially weighted moving average, and it decays while a Participant
+ * serves no reads, so a Participant which was slow once gets tried again
+ * later. A read which fails counts as
+ * taking at least call_timeout_min, even if it failed at once.
+ *
+ * @author chetan
+ *
+ */
+public class Read_Router {
+
+	public static final String RANDOM="random";
+	public static final String LEAST_OUTSTANDING="least-outstanding";
+	public static final String EWMA="ewma";
+	public static final String P2C="p2c";
+
+	private final Participant_Health health;
+	private final Policy policy;
+	private final ConcurrentHashMap<String, Replica> replicas=new ConcurrentHashMap<String, Replica>();
+
+	public Read_Router(Participant_Health health) {
+
+		this.health=health;
+
+		this.policy=createPolicy(Constants.read_routing);
+	}
+
+	/**
+	 * Chooses the Participant to serve the next attempt of a read.
+	 *
+	 * @param participants
+	 *            All Participants.
+	 * @param tried
+	 *            Participants which failed to serve the read already.
+	 * @return Participant to ask, or null if every Participant has been tried
+	 *         or is down.
+	 */
+	public Participant choose(List<Participant> participants, Set<Participant> tried) {
+
+		List<Participant> untried=new ArrayList<Participant>(participants.size());
+
+		for (Participant participant : participants) {
+
+			if (!tried.contains(participant))
+				untried.add(participant);
+		}
+
+		List<Participant> candidates=health.available(untried);
+
+		if (candidates.isEmpty())
+			return null;
+
+		if (candidates.size() == 1)
+			return candidates.get(0);
+
+		List<Replica> states=new ArrayList<Replica>(candidates.size());
+
+		for (Participant participant : candidates)
+			states.add(replica(participant));
+
+		return candidates.get(policy.choose(states));
+	}
+
+	/**
+	 * Records the start of a read at given Participant.
+	 *
+	 * @return Start time, to be passed to finished().
+	 */
+	public long started(Participant participant) {
+
+		replica(participant).outstanding.incrementAndGet();
+
+		return System.nanoTime();
+	}
+
+	/**
+	 * Records the end of a read at given Participant.
+	 *
+	 * @param start
+	 *            Time returned by started().
+	 * @param served
+	 *            False if the Participant failed to answer.
+	 */
+	public void finished(Participant participant, long start, boolean served) {
+
+		Replica replica=replica(participant);
+
+		replica.outstanding.decrementAndGet();
+
+		replica.record((System.nanoTime()-start)/1000000.0, served);
+	}
+
+	private Replica replica(Participant participant) {
+
+		String key=participant.getIp()+":"+participant.getPort();
+
+		Replica replica=replicas.get(key);
+
+		if (replica == null) {
+
+			replica=new Replica();
+
+			Replica existing=replicas.putIfAbsent(key, replica);
+
+			if (existing != null)
+				replica=existing;
+		}
+
+		return replica;
+	}
+
+	private static Policy createPolicy(String name) {
+
+		if (name.equals(RANDOM)) {
+
+			return new Policy() {
+
+				@Override
+				public int choose(List<Replica> replicas) {
+
+					return ThreadLocalRandom.current().nextInt(replicas.size());
+				}
+			};
+		}
+
+		else if (name.equals(LEAST_OUTSTANDING)) {
+
+			return new Policy() {
+
+				@Override
+				public int choose(List<Replica> replicas) {
+
+					return lowest(replicas, false);
+				}
+			};
+		}
+
+		else if (name.equals(EWMA)) {
+
+			return new Policy() {
+
+				@Override
+				public int choose(List<Replica> replicas) {
+
+					return lowest(replicas, true);
+				}
+			};
+		}
+
+		else if (name.equals(P2C)) {
+
+			return new Policy() {
+
+				@Override
+				public int choose(List<Replica> replicas) {
+
+					ThreadLocalRandom random=ThreadLocalRandom.current();
+
+					int first=random.nextInt(replicas.size());
+
+					int second=random.nextInt(replicas.size()-1);
+
+					if (second >= first)
+						second++;
+
+					double first_cost=replicas.get(first).cost();
+
+					double second_cost=replicas.get(second).cost();
+
+					if (first_cost == second_cost)
+						return random.nextBoolean() ? first : second;
+
+					return first_cost < second_cost ? first : second;
+				}
+			};
+		}
+
+		throw new IllegalArgumentException("Unknown read_routing "+name);
+	}
+
+	/**
+	 * Returns index of the replica with the fewest reads in flight, or with
+	 * the lowest cost, choosing at random among equal ones.
+	 */
+	private static int lowest(List<Replica> replicas, boolean by_cost) {
+
+		ThreadLocalRandom random=ThreadLocalRandom.current();
+
+		int best=-1;
+
+		double best_value=0;
+
+		int ties=0;
+
+		for (int i=0; i < replicas.size(); i++) {
+
+			double value=by_cost ? replicas.get(i).cost() : replicas.get(i).outstanding();
+
+			if (best < 0 || value < best_value) {
+
+				best=i;
+
+				best_value=value;
+
+				ties=1;
+			}
+
+			// Reservoir sampling keeps each of the equal replicas with the same probability.
+			else if (value == best_value && random.nextInt(++ties) == 0)
+				best=i;
+		}
+
+		return best;
+	}
+
+
+	/**
+	 * Chooses one of several Participants which may serve a read.
+	 */
+	public interface Policy {
+
+		/**
+		 * @param replicas
+		 *            State of each candidate, at least two of them.
+		 * @return Index of the chosen candidate.
+		 */
+		int choose(List<Replica> replicas);
+	}
+
+
+	/**
+	 * Reads in flight and average read latency of a single Participant.
+	 */
+	public static class Replica {
+
+		private final AtomicInteger outstanding=new AtomicInteger();
+		private double average=0;
+		private long last_update=System.nanoTime();
+
+		/**
+		 * Returns the decayed average latency in milliseconds, multiplied by
+		 * reads in flight plus one.
+		 */
+		public double cost() {
+
+			return decayedAverage(System.nanoTime())*(outstanding.get()+1);
+		}
+
+		public int outstanding() {
+
+			return outstanding.get();
+		}
+
+		private synchronized double decayedAverage(long now) {
+
+			double idle=(now-last_update)/1000000.0;
+
+			return average*Math.pow(0.5, idle/Constants.read_ewma_half_life);
+		}
+
+		private synchronized void record(double latency, boolean served) {
+
+			long now=System.nanoTime();
+
+			if (!served)
+				latency=Math.max(latency, Constants.call_timeout_min);
+
+			double decayed=decayedAverage(now);
+
+			average=decayed == 0 ? latency : decayed+Constants.read_ewma_weight*(latency-decayed);
+
+			last_update=now;
+		}
+	}
+}
@@ -0,0 +1,271 @@
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * The class Staging_Area keeps the content of prepared writes of a Participant
+ * until their Transaction is decided. Content is stored under its digest, so
+ * the transaction log only records the digest, and prepared writes of the same
+ * content share one staged file. Staged files are counted by reference and
+ * deleted once no prepared write needs them anymore, i.e. the last commit
+ * renames the file into place and the last abort deletes it.
+ *
+ * @author chetan
+ *
+ */
+public class Staging_Area {
+
+	private static final String CLAIMED_SUFFIX=".claimed";
+
+	private final File dir;
+	private final Map<String, Integer> references=new HashMap<String, Integer>();
+
+	public Staging_Area(String dir) {
+
+		this.dir=new File(dir);
+	}
+
+	/**
+	 * Writes content to the staging area and forces it to disk.
+	 *
+	 * @param data
+	 *            Content to stage. Position of the buffer is not changed.
+	 * @param expected_digest
+	 *            Digest announced for the content, or null.
+	 * @return Digest of the content, under which it is staged.
+	 * @throws IOException
+	 *             If the content could not be written or does not match the
+	 *             announced digest.
+	 */
+	public String stage(ByteBuffer data, String expected_digest) throws IOException {
+
+		dir.mkdirs();
+
+		File temp=new File(dir, UUID.randomUUID()+".tmp");
+
+		MessageDigest digest=Content_Digest.create();
+
+		RandomAccessFile file=new RandomAccessFile(temp, "rw");
+
+		try {
+
+			FileChannel channel=file.getChannel();
+
+			ByteBuffer content=data.duplicate();
+
+			digest.update(data.duplicate());
+
+			while (content.hasRemaining())
+				channel.write(content);
+
+			channel.force(true);
+
+		} catch (IOException e) {
+
+			file.close();
+
+			temp.delete();
+
+			throw e;
+		}
+
+		file.close();
+
+		String name=Content_Digest.toHex(digest.digest());
+
+		if (expected_digest != null && !expected_digest.equals(name)) {
+
+			temp.delete();
+
+			throw new IOException("Content does not match digest "+expected_digest);
+		}
+
+		synchronized (references) {
+
+			Integer count=references.get(name);
+
+			if (count != null) {
+
+				temp.delete();
+
+				references.put(name, count+1);
+
+				return name;
+			}
+
+			Files.move(temp.toPath(), file(name).toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+			references.put(name, 1);
+		}
+
+		File_Sync.syncDirectory(dir);
+
+		return name;
+	}
+
+	/**
+	 * Gives staged files which were claimed by a commit but not renamed into
+	 * place before a restart their digest as name again, so the commit can
+	 * claim them once more. Must be called before retain().
+	 */
+	public void recoverClaims() {
+
+		String[] names=dir.list();
+
+		if (names == null)
+			return;
+
+		for (String name : names) {
+
+			if (!name.endsWith(CLAIMED_SUFFIX))
+				continue;
+
+			File claimed=new File(dir, name);
+
+			File staged=file(name.substring(0, name.indexOf('.')));
+
+			try {
+
+				if (staged.exists())
+					claimed.delete();
+				else
+					Files.move(claimed.toPath(), staged.toPath(), StandardCopyOption.ATOMIC_MOVE);
+
+			} catch (IOException e) {
+
+				e.printStackTrace();
+			}
+		}
+	}
+
+	/**
+	 * Counts a reference to content staged before a restart.
+	 *
+	 * @return False if the content is not staged.
+	 */
+	public boolean retain(String digest) {
+
+		synchronized (references) {
+
+			if (!file(digest).exists())
+				return false;
+
+			Integer count=references.get(digest);
+
+			references.put(digest, count == null ? 1 : count+1);
+
+			return true;
+		}
+	}
+
+	/**
+	 * Hands staged content over to a committing write, which renames the
+	 * returned file into place. The last reference gets the staged file
+	 * itself, others get a link to it, or a copy where links are not
+	 * supported. Either way the file gets a name of its own before the lock
+	 * is released, so content staged again meanwhile under the same digest
+	 * is never renamed away by this write. The staged file itself is renamed
+	 * to a name starting with its digest, so that recoverClaims() finds it
+	 * if a crash keeps it from being renamed into place.
+	 *
+	 * @return File owned by the caller, or null if the content is not staged.
+	 * @throws IOException
+	 *             If the content could not be linked or copied.
+	 */
+	public File claim(String digest) throws IOException {
+
+		synchronized (references) {
+
+			Integer count=references.get(digest);
+
+			File staged=file(digest);
+
+			if (count == null || !staged.exists())
+				return null;
+
+			if (count == 1) {
+
+				File claimed=new File(dir, digest+"."+UUID.randomUUID()+CLAIMED_SUFFIX);
+
+				Files.move(staged.toPath(), claimed.toPath(), StandardCopyOption.ATOMIC_MOVE);
+
+				references.remove(digest);
+
+				return claimed;
+			}
+
+			File copy=new File(dir, UUID.randomUUID()+".tmp");
+
+			try {
+
+				Files.createLink(copy.toPath(), staged.toPath());
+
+			} catch (UnsupportedOperationException | IOException e) {
+
+				Files.copy(staged.toPath(), copy.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+				FileChannel channel=FileChannel.open(copy.toPath(), StandardOpenOption.WRITE);
+
+				channel.force(true);
+
+				channel.close();
+			}
+
+			references.put(digest, count-1);
+
+			return copy;
+		}
+	}
+
+	/**
+	 * Drops a reference of an aborted write, deleting the content once no
+	 * prepared write needs it.
+	 */
+	public void release(String digest) {
+
+		synchronized (references) {
+
+			Integer count=references.get(digest);
+
+			if (count == null)
+				return;
+
+			if (count > 1) {
+
+				references.put(digest, count-1);
+
+				return;
+			}
+
+			references.remove(digest);
+
+			file(digest).delete();
+		}
+	}
+
+	/**
+	 * Returns true if some prepared write needs the staged file with given
+	 * name.
+	 */
+	public boolean isReferenced(String name) {
+
+		synchronized (references) {
+
+			return references.containsKey(name);
+		}
+	}
+
+	private File file(String digest) {
+
+		return new File(dir, digest);
+	}
+}
@@ -0,0 +1,274 @@
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import org.apache.thrift.TException;
+import org.apache.thrift.server.TServer;
+import org.apache.thrift.transport.TSocket;
+import org.apache.thrift.transport.TTransport;
+import org.apache.thrift.transport.TTransportException;
+
+/**
+ * The class Thrift_Benchmark compares the transport and protocol combinations
+ * offered by Thrift_Config. For each combination it starts a Participant
+ * server with a handler which votes yes without touching the disk, sends
+ * canCommit() requests for a small write from one client connection and prints
+ * calls per second together with bytes sent and received per call.
+ *
+ * Usage: Thrift_Benchmark [calls] [file size in bytes] [port]
+ *
+ * @author chetan
+ *
+ */
+public class Thrift_Benchmark {
+
+	private static final String[] TRANSPORTS={ Thrift_Config.SOCKET, Thrift_Config.FRAMED, Thrift_Config.FAST_FRAMED };
+	private static final String[] PROTOCOLS={ Thrift_Config.BINARY, Thrift_Config.COMPACT };
+
+	public static void main(String[] args) throws Exception {
+
+		int calls=args.length > 0 ? Integer.parseInt(args[0]) : 20000;
+
+		int file_size=args.length > 1 ? Integer.parseInt(args[1]) : 256;
+
+		int port=args.length > 2 ? Integer.parseInt(args[2]) : 9190;
+
+		Transaction transaction=sampleTransaction(file_size);
+
+		System.out.println("engine "+Constants.server_engine+", "+calls+" calls, "+file_size+" byte file");
+
+		System.out.println(String.format("%-12s %-10s %12s %12s %12s", "transport", "protocol", "calls/s", "sent/call", "recv/call"));
+
+		for (String transport : TRANSPORTS) {
+
+			for (String protocol : PROTOCOLS) {
+
+				Constants.transport=transport;
+
+				Constants.protocol=protocol;
+
+				run(transport, protocol, transaction, calls, port++);
+			}
+		}
+
+		System.exit(0);
+	}
+
+	private static void run(String transport, String protocol, Transaction transaction, int calls, int port) throws Exception {
+
+		final TServer server=Thrift_Config.createServer(new Participant_Interface.Processor<Participant_Interface.Iface>(new Voting_Handler()), port);
+
+		Thread server_thread=new Thread(new Runnable() {
+
+			@Override
+			public void run() {
+
+				server.serve();
+			}
+		});
+
+		server_thread.setDaemon(true);
+
+		server_thread.start();
+
+		Counting_Transport socket=new Counting_Transport(new TSocket("localhost", port));
+
+		TTransport client_transport=Thrift_Config.wrapTransport(socket);
+
+		openWhenListening(client_transport);
+
+		Participant_Interface.Client client=new Participant_Interface.Client(Thrift_Config.createProtocol(client_transport));
+
+		// Warm up the JIT before measuring.
+		for (int i=0; i < Math.min(calls, 2000); i++)
+			client.canCommit(transaction);
+
+		socket.reset();
+
+		long start=System.nanoTime();
+
+		for (int i=0; i < calls; i++)
+			client.canCommit(transaction);
+
+		long elapsed=System.nanoTime()-start;
+
+		client_transport.close();
+
+		server.stop();
+
+		System.out.println(String.format("%-12s %-10s %12.0f %12d %12d", transport, protocol, calls * 1e9 / elapsed, socket.written / calls, socket.read / calls));
+	}
+
+	private static void openWhenListening(TTransport transport) throws Exception {
+
+		for (int attempt=0; ; attempt++) {
+
+			try {
+
+				transport.open();
+
+				return;
+
+			} catch (TTransportException e) {
+
+				if (attempt == 50)
+					throw e;
+
+				Thread.sleep(100);
+			}
+		}
+	}
+
+	private static Transaction sampleTransaction(int file_size) {
+
+		byte[] content=new byte[file_size];
+
+		for (int i=0; i < file_size; i++)
+			content[i]=(byte) ('a'+i % 26);
+
+		RFile rFile=new RFile();
+
+		rFile.setFilename("benchmark.txt");
+
+		rFile.setData(content);
+
+		rFile.setSize(file_size);
+
+		rFile.setClientID("benchmark");
+
+		Transaction transaction=new Transaction();
+
+		transaction.setTran_id(10001);
+
+		transaction.setOperation_name("write");
+
+		transaction.setOp_type(OpType.WRITE);
+
+		transaction.setClient_id("benchmark");
+
+		transaction.setFile_name("benchmark.txt");
+
+		transaction.setRFile(rFile);
+
+		transaction.setTran_status(T_Status.PENDING);
+
+		return transaction;
+	}
+
+
+	/**
+	 * Participant which votes yes to everything without doing any work, so
+	 * only the RPC stack is measured.
+	 */
+	private static class Voting_Handler implements Participant_Interface.Iface {
+
+		@Override
+		public StatusReport canCommit(Transaction tran_info) throws SystemException, TException {
+
+			return new StatusReport(Status.SUCCESSFUL);
+		}
+
+		@Override
+		public StatusReport canCommitBatch(List<Transaction> tran_infos) throws SystemException, TException {
+
+			return new StatusReport(Status.SUCCESSFUL);
+		}
+
+		@Override
+		public void doCommit(long tran_id) throws SystemException, TException {
+
+		}
+
+		@Override
+		public void doAbort(long tran_id) throws SystemException, TException {
+
+		}
+
+		@Override
+		public RFile readFile(Transaction tran_info) throws SystemException, TException {
+
+			return tran_info.getRFile();
+		}
+
+		@Override
+		public void writeChunk(long tran_id, long offset, ByteBuffer data) throws SystemException, TException {
+
+		}
+
+		@Override
+		public FileChunk readChunk(String filename, long offset, int length) throws SystemException, TException {
+
+			return new FileChunk();
+		}
+
+		@Override
+		public void ping() throws TException {
+
+		}
+	}
+
+
+	/**
+	 * Passes everything through to the socket and counts the bytes, so the
+	 * numbers include framing overhead.
+	 */
+	private static class Counting_Transport extends TTransport {
+
+		private TTransport socket;
+		private long written=0;
+		private long read=0;
+
+		public Counting_Transport(TTransport socket) {
+
+			this.socket=socket;
+		}
+
+		public void reset() {
+
+			written=0;
+
+			read=0;
+		}
+
+		@Override
+		public boolean isOpen() {
+
+			return socket.isOpen();
+		}
+
+		@Override
+		public void open() throws TTransportException {
+
+			socket.open();
+		}
+
+		@Override
+		public void close() {
+
+			socket.close();
+		}
+
+		@Override
+		public int read(byte[] buf, int off, int len) throws TTransportException {
+
+			int count=socket.read(buf, off, len);
+
+			read+=count;
+
+			return count;
+		}
+
+		@Override
+		public void write(byte[] buf, int off, int len) throws TTransportException {
+
+			socket.write(buf, off, len);
+
+			written+=len;
+		}
+
+		@Override
+		public void flush() throws TTransportException {
+
+			socket.flush();
+		}
+	}
+}
@@ -0,0 +1,185 @@
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.thrift.TProcessor;
+import org.apache.thrift.protocol.TBinaryProtocol;
+import org.apache.thrift.protocol.TCompactProtocol;
+import org.apache.thrift.protocol.TProtocol;
+import org.apache.thrift.protocol.TProtocolFactory;
+import org.apache.thrift.server.THsHaServer;
+import org.apache.thrift.server.TServer;
+import org.apache.thrift.server.TThreadPoolServer;
+import org.apache.thrift.server.TThreadedSelectorServer;
+import org.apache.thrift.transport.TFastFramedTransport;
+import org.apache.thrift.transport.TFramedTransport;
+import org.apache.thrift.transport.TNonblockingServerSocket;
+import org.apache.thrift.transport.TServerSocket;
+import org.apache.thrift.transport.TTransport;
+import org.apache.thrift.transport.TTransportException;
+
+/**
+ * The class Thrift_Config builds Thrift servers and client transports the same
+ * way for Client, Coordinator and Participant. The server engine is chosen with
+ * the server_engine property:
+ *
+ * <ul>
+ * <li>threadpool - TThreadPoolServer, one thread per connection.</li>
+ * <li>hsha - THsHaServer, one selector thread and a pool of workers.</li>
+ * <li>threaded-selector - TThreadedSelectorServer, several selector threads
+ * and a pool of workers.</li>
+ * </ul>
+ *
+ * The transport property selects what is layered on top of the socket, one of
+ * socket, framed (TFramedTransport) or fastframed (TFastFramedTransport), and
+ * the protocol property selects binary or compact (TCompactProtocol). The
+ * non-blocking engines only understand frames, so with them plain socket is
+ * replaced by framed. Both framed transports put the same bytes on the wire.
+ * All nodes of a deployment must run with the same settings.
+ *
+ * @author chetan
+ *
+ */
+public class Thrift_Config {
+
+	public static final String THREADPOOL="threadpool";
+	public static final String HSHA="hsha";
+	public static final String THREADED_SELECTOR="threaded-selector";
+
+	public static final String SOCKET="socket";
+	public static final String FRAMED="framed";
+	public static final String FAST_FRAMED="fastframed";
+
+	public static final String BINARY="binary";
+	public static final String COMPACT="compact";
+
+	/**
+	 * Creates server of the configured engine listening on given port.
+	 *
+	 * @param processor
+	 *            Processor serving the requests.
+	 * @param port
+	 *            Port Number to listen on.
+	 * @return Server ready to serve().
+	 * @throws TTransportException
+	 *             If port could not be bound.
+	 */
+	public static TServer createServer(TProcessor processor, int port) throws TTransportException {
+
+		String engine=Constants.server_engine;
+
+		if (engine.equals(HSHA)) {
+
+			THsHaServer.Args args=new THsHaServer.Args(new TNonblockingServerSocket(port));
+
+			args.executorService(createWorkers());
+
+			args.processor(processor);
+
+			args.protocolFactory(protocolFactory());
+
+			return new THsHaServer(args);
+		}
+
+		else if (engine.equals(THREADED_SELECTOR)) {
+
+			TThreadedSelectorServer.Args args=new TThreadedSelectorServer.Args(new TNonblockingServerSocket(port));
+
+			args.selectorThreads(Constants.server_selector_threads);
+
+			args.acceptQueueSizePerThread(Constants.server_queue_size);
+
+			args.executorService(createWorkers());
+
+			args.processor(processor);
+
+			args.protocolFactory(protocolFactory());
+
+			return new TThreadedSelectorServer(args);
+		}
+
+		else if (engine.equals(THREADPOOL)) {
+
+			TThreadPoolServer.Args args=new TThreadPoolServer.Args(new TServerSocket(port));
+
+			args.processor(processor);
+
+			args.protocolFactory(protocolFactory());
+
+			if (transport().equals(FRAMED))
+				args.transportFactory(new TFramedTransport.Factory());
+
+			else if (transport().equals(FAST_FRAMED))
+				args.transportFactory(new TFastFramedTransport.Factory());
+
+			return new TThreadPoolServer(args);
+		}
+
+		throw new IllegalArgumentException("Unknown server_engine "+engine);
+	}
+
+	/**
+	 * Wraps a socket in the configured transport. The returned transport
+	 * opens the socket when opened itself.
+	 */
+	public static TTransport wrapTransport(TTransport socket) {
+
+		String transport=transport();
+
+		if (transport.equals(FRAMED))
+			return new TFramedTransport(socket);
+
+		else if (transport.equals(FAST_FRAMED))
+			return new TFastFramedTransport(socket);
+
+		return socket;
+	}
+
+	/**
+	 * Creates protocol used on top of a transport returned by
+	 * wrapTransport().
+	 */
+	public static TProtocol createProtocol(TTransport transport) {
+
+		return protocolFactory().getProtocol(transport);
+	}
+
+	private static TProtocolFactory protocolFactory() {
+
+		if (Constants.protocol.equals(COMPACT))
+			return new TCompactProtocol.Factory();
+
+		else if (Constants.protocol.equals(BINARY))
+			return new TBinaryProtocol.Factory();
+
+		throw new IllegalArgumentException("Unknown protocol "+Constants.protocol);
+	}
+
+	/**
+	 * Returns the configured transport, or framed where the server engine
+	 * needs frames but plain socket was configured.
+	 */
+	private static String transport() {
+
+		String transport=Constants.transport;
+
+		if (!transport.equals(SOCKET) && !transport.equals(FRAMED) && !transport.equals(FAST_FRAMED))
+			throw new IllegalArgumentException("Unknown transport "+transport);
+
+		if (transport.equals(SOCKET) && !Constants.server_engine.equals(THREADPOOL))
+			return FRAMED;
+
+		return transport;
+	}
+
+	/**
+	 * Worker pool of the non-blocking engines. Requests beyond the queue size
+	 * are rejected and their connection closed, instead of piling up.
+	 */
+	private static ExecutorService createWorkers() {
+
+		return new ThreadPoolExecutor(Constants.server_worker_threads, Constants.server_worker_threads, 0, TimeUnit.MILLISECONDS,
+				new ArrayBlockingQueue<Runnable>(Constants.server_queue_size));
+	}
+}
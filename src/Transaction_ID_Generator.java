@@ -0,0 +1,123 @@
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The class Transaction_ID_Generator hands out Transaction IDs with an atomic
+ * increment. IDs are reserved in blocks of tran_id_block_size, and the end of
+ * the reserved block is persisted before any ID of it is handed out. After a
+ * crash the generator continues after the persisted mark, so an ID is never
+ * handed out twice even if it never made it into the transaction log.
+ *
+ * @author chetan
+ *
+ */
+public class Transaction_ID_Generator {
+
+	private File mark_file;
+	private final AtomicLong last_id;
+	private volatile long reserved_until;
+
+	/**
+	 * @param mark_file
+	 *            File holding the end of the reserved block.
+	 * @param last_logged_id
+	 *            Highest Transaction ID found in the transaction log.
+	 */
+	public Transaction_ID_Generator(String mark_file, long last_logged_id) {
+
+		this.mark_file=new File(mark_file);
+
+		long mark=readMark();
+
+		last_id=new AtomicLong(Math.max(mark, last_logged_id));
+
+		reserved_until=last_id.get();
+	}
+
+	/**
+	 * Returns next Transaction ID. Only the first ID of each block waits
+	 * for the new mark to be persisted.
+	 */
+	public long next() {
+
+		long id=last_id.incrementAndGet();
+
+		if (id > reserved_until)
+			reserve(id);
+
+		return id;
+	}
+
+	/**
+	 * Returns the highest Transaction ID handed out so far.
+	 */
+	public long last() {
+
+		return last_id.get();
+	}
+
+	private synchronized void reserve(long id) {
+
+		if (id <= reserved_until)
+			return;
+
+		long mark=id+Constants.tran_id_block_size-1;
+
+		try {
+
+			writeMark(mark);
+
+		} catch (IOException e) {
+
+			throw new IllegalStateException("Could not reserve Transaction IDs after "+id, e);
+		}
+
+		reserved_until=mark;
+	}
+
+	private long readMark() {
+
+		try {
+
+			if (mark_file.exists())
+				return Long.parseLong(new String(Files.readAllBytes(mark_file.toPath()), StandardCharsets.US_ASCII).trim());
+
+		} catch (Exception e) {
+
+			e.printStackTrace();
+		}
+
+		return 0;
+	}
+
+	/**
+	 * Replaces the mark file atomically, so a crash leaves either the old or
+	 * the new mark behind.
+	 */
+	private void writeMark(long mark) throws IOException {
+
+		File temp=new File(mark_file.getPath()+".tmp");
+
+		FileOutputStream fout=new FileOutputStream(temp);
+
+		try {
+
+			fout.write((mark+"\n").getBytes(StandardCharsets.US_ASCII));
+
+			fout.getFD().sync();
+
+		} finally {
+
+			fout.close();
+		}
+
+		if (!temp.renameTo(mark_file))
+			throw new IOException("Could not replace "+mark_file);
+
+		File_Sync.syncDirectory(mark_file.getAbsoluteFile().getParentFile());
+	}
+}
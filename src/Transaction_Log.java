@@ -0,0 +1,794 @@
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import org.apache.thrift.TDeserializer;
+import org.apache.thrift.TException;
+import org.apache.thrift.TSerializer;
+import org.apache.thrift.protocol.TBinaryProtocol;
+
+/**
+ * The class Transaction_Log is an append-only write-ahead log of Transaction
+ * state changes. Each state change is a single record, so logging costs the
+ * same no matter how many transactions were logged before.
+ *
+ * The log is split into segment files which are preallocated with zeroes. A
+ * record is laid out as
+ *
+ * <pre>
+ * | length (4) | crc32 (4) | type (1) | payload (length) |
+ * </pre>
+ *
+ * where type is the value of T_Status of the Transaction and payload is the
+ * Transaction in Thrift binary encoding. File content is never logged, only
+ * its size and digest, so records stay small whatever the size of the files.
+ * Checksum covers type and payload. A record torn by a crash fails its
+ * checksum while replaying and is cut off from the tail of the log.
+ *
+ * Records are forced to disk with group commit. Threads appending records
+ * queue them and wait, while a single flusher thread writes everything queued
+ * so far and forces it with one fsync before releasing all waiters of that
+ * batch.
+ *
+ * A checkpoint holds the Transactions still needed at the time it was taken,
+ * together with the first segment which is not covered by it. Replaying the
+ * log starts from the checkpoint and reads only the segments after it, and
+ * segments covered by a checkpoint are deleted.
+ *
+ * @author chetan
+ *
+ */
+public class Transaction_Log {
+
+	private static final int HEADER_SIZE=9;
+	private static final String SEGMENT_PREFIX="segment-";
+	private static final String SEGMENT_SUFFIX=".log";
+	private static final String CHECKPOINT_FILE="checkpoint";
+
+	private File log_dir;
+	private long segment_size;
+	private long segment_number=0;
+	private long position=0;
+	private FileChannel channel;
+	private volatile boolean replayed=false;
+	private volatile IOException failure;
+	private final Object log_lock=new Object();
+	private final LinkedList<Pending_Record> flush_queue=new LinkedList<Pending_Record>();
+
+	/**
+	 * Handler called for every record found while replaying the log.
+	 */
+	public interface Replay_Handler {
+
+		void replay(Transaction transaction);
+	}
+
+	public Transaction_Log(String log_dir) {
+
+		this.log_dir=new File(log_dir);
+
+		this.segment_size=Constants.log_segment_size;
+
+		this.log_dir.mkdirs();
+	}
+
+	/**
+	 * Replays the latest checkpoint and then all records appended after it, in
+	 * the order they were appended, and prepares the log for appending after
+	 * the last valid record. Must be called once before append().
+	 *
+	 * @param handler
+	 *            Handler receiving each logged Transaction.
+	 * @return Highest Transaction ID recorded by the checkpoint, 0 if there is
+	 *         no checkpoint.
+	 * @throws IOException
+	 *             If log segments could not be read.
+	 */
+	public long replay(Replay_Handler handler) throws IOException {
+
+		long last_tran_id=0;
+
+		synchronized (log_lock) {
+
+			long first_segment=1;
+
+			File checkpoint=new File(log_dir, CHECKPOINT_FILE);
+
+			if (checkpoint.exists()) {
+
+				ByteBuffer data=ByteBuffer.wrap(Files.readAllBytes(checkpoint.toPath()));
+
+				CRC32 crc=new CRC32();
+
+				if (data.limit() >= 24)
+					crc.update(data.array(), 0, data.limit()-4);
+
+				if (data.limit() < 24 || (int) crc.getValue() != data.getInt(data.limit()-4))
+					throw new IOException("Checkpoint "+checkpoint+" is corrupt");
+
+				first_segment=data.getLong();
+
+				last_tran_id=data.getLong();
+
+				int count=data.getInt();
+
+				for (int i=0; i < count; i++) {
+
+					byte[] payload=new byte[data.getInt()];
+
+					data.get(payload);
+
+					handler.replay(deserialize(payload));
+				}
+			}
+
+			long[] segments=listSegments(first_segment);
+
+			for (int i=0; i < segments.length; i++) {
+
+				boolean last=i == segments.length-1;
+
+				File segment=segmentFile(segments[i]);
+
+				RandomAccessFile file=new RandomAccessFile(segment, "rw");
+
+				FileChannel segment_channel=file.getChannel();
+
+				long end=replaySegment(segment, segment_channel, handler, last);
+
+				if (last) {
+
+					segment_number=segments[i];
+
+					position=end;
+
+					channel=segment_channel;
+				}
+
+				else
+					file.close();
+			}
+
+			if (channel == null)
+				openSegment(first_segment);
+		}
+
+		Thread flusher=new Thread(new Runnable() {
+
+			@Override
+			public void run() {
+
+				flushLoop();
+			}
+		}, "log-flusher-"+log_dir.getName());
+
+		flusher.setDaemon(true);
+
+		flusher.start();
+
+		replayed=true;
+
+		return last_tran_id;
+	}
+
+	/**
+	 * Closes the current segment and starts a new one, so that a checkpoint
+	 * taken afterwards covers every record appended so far.
+	 *
+	 * @return Number of the segment which receives all following records.
+	 * @throws IOException
+	 *             If the new segment could not be created.
+	 */
+	public long rollSegment() throws IOException {
+
+		synchronized (log_lock) {
+
+			if (position > 0) {
+
+				channel.force(false);
+
+				channel.close();
+
+				openSegment(segment_number+1);
+			}
+
+			return segment_number;
+		}
+	}
+
+	/**
+	 * Atomically replaces the checkpoint and deletes the segments it covers.
+	 *
+	 * @param first_segment
+	 *            Segment returned by rollSegment() before the Transactions
+	 *            were collected.
+	 * @param last_tran_id
+	 *            Highest Transaction ID handed out so far.
+	 * @param transactions
+	 *            Transactions which are still needed.
+	 * @throws IOException
+	 *             If the checkpoint could not be written.
+	 */
+	public void writeCheckpoint(long first_segment, long last_tran_id, Collection<Transaction> transactions) throws IOException {
+
+		ByteArrayOutputStream bytes=new ByteArrayOutputStream();
+
+		DataOutputStream out=new DataOutputStream(bytes);
+
+		out.writeLong(first_segment);
+
+		out.writeLong(last_tran_id);
+
+		out.writeInt(transactions.size());
+
+		for (Transaction transaction : transactions) {
+
+			byte[] payload=serialize(transaction);
+
+			out.writeInt(payload.length);
+
+			out.write(payload);
+		}
+
+		CRC32 crc=new CRC32();
+
+		crc.update(bytes.toByteArray());
+
+		out.writeInt((int) crc.getValue());
+
+		File temp=new File(log_dir, CHECKPOINT_FILE+".tmp");
+
+		FileOutputStream fout=new FileOutputStream(temp);
+
+		try {
+
+			bytes.writeTo(fout);
+
+			fout.getFD().sync();
+
+		} finally {
+
+			fout.close();
+		}
+
+		if (!temp.renameTo(new File(log_dir, CHECKPOINT_FILE)))
+			throw new IOException("Could not replace checkpoint in "+log_dir);
+
+		File_Sync.syncDirectory(log_dir);
+
+		synchronized (log_lock) {
+
+			for (long segment : listSegments(0)) {
+
+				if (segment < first_segment)
+					segmentFile(segment).delete();
+			}
+		}
+	}
+
+	/**
+	 * Appends state of given Transaction to the log. Returns once the record
+	 * has been forced to disk as part of a group commit.
+	 *
+	 * @param transaction
+	 *            Object of Transaction representing file operation.
+	 * @throws IOException
+	 *             If the record could not be written.
+	 */
+	public void append(Transaction transaction) throws IOException {
+
+		append(Collections.singletonList(transaction));
+	}
+
+	/**
+	 * Appends states of several Transactions to the log as consecutive
+	 * records, e.g. all file operations of a batch. Returns once all of them
+	 * have been forced to disk as part of the same group commit.
+	 *
+	 * @param transactions
+	 *            Objects of Transaction to log.
+	 * @throws IOException
+	 *             If the records could not be written.
+	 */
+	public void append(List<Transaction> transactions) throws IOException {
+
+		// Nobody would flush the records of a log which failed to replay.
+		if (!replayed)
+			throw new IOException("Log in "+log_dir+" has not been replayed");
+
+		if (failure != null)
+			throw new IOException("Log in "+log_dir+" failed earlier", failure);
+
+		List<byte[]> payloads=new ArrayList<byte[]>(transactions.size());
+
+		int size=0;
+
+		for (Transaction transaction : transactions) {
+
+			byte[] payload=serialize(transaction);
+
+			payloads.add(payload);
+
+			size+=HEADER_SIZE+payload.length;
+		}
+
+		ByteBuffer record=ByteBuffer.allocate(size);
+
+		for (int i=0; i < payloads.size(); i++) {
+
+			byte[] payload=payloads.get(i);
+
+			byte type=(byte) transactions.get(i).getTran_status().getValue();
+
+			record.putInt(payload.length);
+
+			record.putInt(checksum(type, payload));
+
+			record.put(type);
+
+			record.put(payload);
+		}
+
+		record.flip();
+
+		Pending_Record pending=new Pending_Record(record);
+
+		synchronized (flush_queue) {
+
+			flush_queue.add(pending);
+
+			flush_queue.notifyAll();
+
+			try {
+
+				while (!pending.done)
+					flush_queue.wait();
+
+			} catch (InterruptedException e) {
+
+				Thread.currentThread().interrupt();
+
+				throw new InterruptedIOException("Interrupted waiting for log flush");
+			}
+		}
+
+		if (pending.error != null)
+			throw pending.error;
+	}
+
+	/**
+	 * Body of the flusher thread. Takes up to group_commit_batch_size queued
+	 * records, giving late records up to group_commit_max_wait to join the
+	 * batch, writes them and forces the log once for the whole batch.
+	 */
+	private void flushLoop() {
+
+		List<Pending_Record> batch=new ArrayList<Pending_Record>();
+
+		while (true) {
+
+			batch.clear();
+
+			synchronized (flush_queue) {
+
+				try {
+
+					while (flush_queue.isEmpty())
+						flush_queue.wait();
+
+					long deadline=System.currentTimeMillis()+Constants.group_commit_max_wait;
+
+					long remaining=Constants.group_commit_max_wait;
+
+					while (flush_queue.size() < Constants.group_commit_batch_size && remaining > 0) {
+
+						flush_queue.wait(remaining);
+
+						remaining=deadline-System.currentTimeMillis();
+					}
+
+				} catch (InterruptedException e) {
+
+					return;
+				}
+
+				while (!flush_queue.isEmpty() && batch.size() < Constants.group_commit_batch_size)
+					batch.add(flush_queue.removeFirst());
+			}
+
+			IOException error=null;
+
+			try {
+
+				writeBatch(batch);
+
+			} catch (IOException e) {
+
+				error=e;
+			}
+
+			synchronized (flush_queue) {
+
+				for (Pending_Record pending : batch) {
+
+					pending.error=error;
+
+					pending.done=true;
+				}
+
+				flush_queue.notifyAll();
+			}
+		}
+	}
+
+	/**
+	 * Writes and forces a batch of records. If that fails, whatever part of
+	 * the batch reached the log is zeroed again, so that records whose
+	 * writers were told they failed are never replayed, and the batch after
+	 * it starts where this one started. If even that fails the log refuses
+	 * all further records.
+	 */
+	private void writeBatch(List<Pending_Record> batch) throws IOException {
+
+		if (failure != null)
+			throw new IOException("Log in "+log_dir+" failed earlier", failure);
+
+		synchronized (log_lock) {
+
+			long start_segment=segment_number;
+
+			long start_position=position;
+
+			try {
+
+				for (Pending_Record pending : batch) {
+
+					ByteBuffer record=pending.record;
+
+					if (position+record.remaining() > segment_size && position > 0) {
+
+						channel.force(false);
+
+						channel.close();
+
+						openSegment(segment_number+1);
+					}
+
+					while (record.hasRemaining())
+						position+=channel.write(record, position);
+				}
+
+				channel.force(false);
+
+			} catch (IOException e) {
+
+				discardBatch(start_segment, start_position);
+
+				throw e;
+			}
+		}
+	}
+
+	/**
+	 * Zeroes everything written since given position and makes the log
+	 * continue from there. Called with log_lock held.
+	 */
+	private void discardBatch(long start_segment, long start_position) {
+
+		try {
+
+			for (long segment=start_segment; segment < segment_number; segment++) {
+
+				RandomAccessFile file=new RandomAccessFile(segmentFile(segment), "rw");
+
+				try {
+
+					fillZeroes(file.getChannel(), segment == start_segment ? start_position : 0, file.length());
+
+					file.getChannel().force(false);
+
+				} finally {
+
+					file.close();
+				}
+			}
+
+			long from=start_segment == segment_number ? start_position : 0;
+
+			fillZeroes(channel, from, position);
+
+			channel.force(false);
+
+			position=from;
+
+		} catch (IOException e) {
+
+			System.out.println("Could not discard failed batch of log in "+log_dir+", no more records are accepted");
+
+			e.printStackTrace();
+
+			failure=e;
+		}
+	}
+
+	/**
+	 * Reads records of a single segment. In the last segment, anything after
+	 * the last valid record is zeroed, so a torn record is never read back
+	 * once new records are appended after it.
+	 *
+	 * @return Position right after the last valid record.
+	 */
+	private long replaySegment(File segment, FileChannel segment_channel, Replay_Handler handler, boolean last) throws IOException {
+
+		long size=segment_channel.size();
+
+		long offset=0;
+
+		ByteBuffer header=ByteBuffer.allocate(HEADER_SIZE);
+
+		boolean torn=false;
+
+		while (offset+HEADER_SIZE <= size) {
+
+			header.clear();
+
+			readFully(segment_channel, header, offset);
+
+			header.flip();
+
+			int length=header.getInt();
+
+			int crc=header.getInt();
+
+			byte type=header.get();
+
+			if (length == 0 && crc == 0)
+				break;
+
+			if (length < 0 || offset+HEADER_SIZE+length > size) {
+
+				torn=true;
+
+				break;
+			}
+
+			ByteBuffer payload=ByteBuffer.allocate(length);
+
+			readFully(segment_channel, payload, offset+HEADER_SIZE);
+
+			if (checksum(type, payload.array()) != crc) {
+
+				torn=true;
+
+				break;
+			}
+
+			handler.replay(deserialize(payload.array()));
+
+			offset+=HEADER_SIZE+length;
+		}
+
+		if (torn) {
+
+			System.out.println("Discarding torn record at offset "+offset+" of log segment "+segment.getName());
+
+			if (last) {
+
+				fillZeroes(segment_channel, offset, size);
+
+				segment_channel.force(true);
+			}
+		}
+
+		return offset;
+	}
+
+	/**
+	 * Creates a new preallocated segment and makes it the current one.
+	 */
+	private void openSegment(long number) throws IOException {
+
+		File file=segmentFile(number);
+
+		File temp=new File(log_dir, file.getName()+".tmp");
+
+		RandomAccessFile raf=new RandomAccessFile(temp, "rw");
+
+		fillZeroes(raf.getChannel(), 0, segment_size);
+
+		raf.getChannel().force(true);
+
+		raf.close();
+
+		// The segment only shows up under its final name once fully allocated.
+		if (!temp.renameTo(file))
+			throw new IOException("Could not create log segment "+file);
+
+		File_Sync.syncDirectory(log_dir);
+
+		channel=new RandomAccessFile(file, "rw").getChannel();
+
+		segment_number=number;
+
+		position=0;
+	}
+
+	private void fillZeroes(FileChannel file_channel, long from, long to) throws IOException {
+
+		ByteBuffer zeroes=ByteBuffer.allocate(64*1024);
+
+		long offset=from;
+
+		while (offset < to) {
+
+			zeroes.clear();
+
+			zeroes.limit((int) Math.min(zeroes.capacity(), to-offset));
+
+			offset+=file_channel.write(zeroes, offset);
+		}
+	}
+
+	private void readFully(FileChannel file_channel, ByteBuffer buffer, long offset) throws IOException {
+
+		while (buffer.hasRemaining()) {
+
+			int read=file_channel.read(buffer, offset);
+
+			if (read < 0)
+				throw new IOException("Unexpected end of log segment");
+
+			offset+=read;
+		}
+	}
+
+	/**
+	 * Lists numbers of all segments from given segment on, in ascending order,
+	 * and deletes segments whose allocation a crash interrupted.
+	 */
+	private long[] listSegments(long first_segment) {
+
+		String[] names=log_dir.list();
+
+		int count=0;
+
+		long[] segments=new long[names == null ? 0 : names.length];
+
+		for (int i=0; i < segments.length; i++) {
+
+			if (names[i].startsWith(SEGMENT_PREFIX) && names[i].endsWith(SEGMENT_SUFFIX)) {
+
+				long segment=Long.parseLong(names[i].substring(SEGMENT_PREFIX.length(), names[i].length()-SEGMENT_SUFFIX.length()));
+
+				if (segment >= first_segment)
+					segments[count++]=segment;
+			}
+
+			// Only segments left half allocated by a crash, other files of the directory are not ours.
+			else if (names[i].startsWith(SEGMENT_PREFIX) && names[i].endsWith(SEGMENT_SUFFIX+".tmp"))
+				new File(log_dir, names[i]).delete();
+		}
+
+		segments=Arrays.copyOf(segments, count);
+
+		Arrays.sort(segments);
+
+		return segments;
+	}
+
+	private File segmentFile(long number) {
+
+		return new File(log_dir, SEGMENT_PREFIX+String.format("%012d", number)+SEGMENT_SUFFIX);
+	}
+
+	private static int checksum(byte type, byte[] payload) {
+
+		CRC32 crc=new CRC32();
+
+		crc.update(type);
+
+		crc.update(payload);
+
+		return (int) crc.getValue();
+	}
+
+	/**
+	 * Returns Transaction as it is logged, i.e. a copy without file content
+	 * if it carries any.
+	 */
+	public static Transaction metadataOf(Transaction transaction) {
+
+		RFile rFile=transaction.getRFile();
+
+		if (rFile == null || (!rFile.isSetData() && !rFile.isSetContent()))
+			return transaction;
+
+		RFile metadata=new RFile();
+
+		metadata.setFilename(rFile.getFilename());
+
+		metadata.setClientID(rFile.getClientID());
+
+		if (rFile.isSetSize())
+			metadata.setSize(rFile.getSize());
+
+		if (rFile.isSetVersion())
+			metadata.setVersion(rFile.getVersion());
+
+		metadata.setDigest(rFile.getDigest());
+
+		Transaction copy=new Transaction();
+
+		copy.setTran_id(transaction.getTran_id());
+
+		copy.setOperation_name(transaction.getOperation_name());
+
+		copy.setClient_id(transaction.getClient_id());
+
+		copy.setFile_name(transaction.getFile_name());
+
+		copy.setTran_status(transaction.getTran_status());
+
+		if (transaction.isSetOp_type())
+			copy.setOp_type(transaction.getOp_type());
+
+		copy.setRFile(metadata);
+
+		return copy;
+	}
+
+	private static byte[] serialize(Transaction transaction) throws IOException {
+
+		try {
+
+			return new TSerializer(new TBinaryProtocol.Factory()).serialize(metadataOf(transaction));
+
+		} catch (TException e) {
+
+			throw new IOException(e);
+		}
+	}
+
+	private static Transaction deserialize(byte[] payload) throws IOException {
+
+		Transaction transaction=new Transaction();
+
+		try {
+
+			new TDeserializer(new TBinaryProtocol.Factory()).deserialize(transaction, payload);
+
+		} catch (TException e) {
+
+			throw new IOException(e);
+		}
+
+		return transaction;
+	}
+
+
+	private static class Pending_Record {
+
+		private ByteBuffer record;
+		private boolean done=false;
+		private IOException error;
+
+		public Pending_Record(ByteBuffer record) {
+
+			this.record=record;
+		}
+	}
+}
@@ -0,0 +1,238 @@
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * The class Transaction_Map maps Transaction IDs to Transactions. Keys are kept
+ * as primitive longs in open addressing tables, so a lookup neither boxes the
+ * ID nor walks through the history of transactions. The map is split into
+ * stripes with a lock each, so that threads working on different transactions
+ * rarely wait for each other.
+ *
+ * @author chetan
+ *
+ */
+public class Transaction_Map {
+
+	private static final int STRIPES=64;
+
+	private final Stripe[] stripes=new Stripe[STRIPES];
+
+	public Transaction_Map() {
+
+		for (int i=0; i < STRIPES; i++)
+			stripes[i]=new Stripe();
+	}
+
+	/**
+	 * Returns Transaction with given ID, or null if there is none.
+	 */
+	public Transaction get(long tran_id) {
+
+		long hash=hash(tran_id);
+
+		return stripeOf(hash).get(tran_id, hash);
+	}
+
+	/**
+	 * Adds given Transaction, replacing any Transaction with the same ID.
+	 */
+	public void put(Transaction transaction) {
+
+		long hash=hash(transaction.getTran_id());
+
+		stripeOf(hash).put(transaction.getTran_id(), hash, transaction);
+	}
+
+	/**
+	 * Changes status of Transaction with given ID while holding the lock of
+	 * its stripe, so a later get() of the same ID sees the new status.
+	 *
+	 * @return False if there is no Transaction with given ID.
+	 */
+	public boolean setStatus(long tran_id, T_Status status) {
+
+		long hash=hash(tran_id);
+
+		Stripe stripe=stripeOf(hash);
+
+		synchronized (stripe) {
+
+			Transaction transaction=stripe.get(tran_id, hash);
+
+			if (transaction == null)
+				return false;
+
+			transaction.setTran_status(status);
+
+			return true;
+		}
+	}
+
+	/**
+	 * Removes Transaction with given ID.
+	 *
+	 * @return Removed Transaction, or null if there was none.
+	 */
+	public Transaction remove(long tran_id) {
+
+		long hash=hash(tran_id);
+
+		return stripeOf(hash).remove(tran_id, hash);
+	}
+
+	/**
+	 * Returns a snapshot of all Transactions in no particular order.
+	 */
+	public List<Transaction> values() {
+
+		List<Transaction> values=new ArrayList<Transaction>();
+
+		for (Stripe stripe : stripes) {
+
+			synchronized (stripe) {
+
+				for (Transaction transaction : stripe.values) {
+
+					if (transaction != null)
+						values.add(transaction);
+				}
+			}
+		}
+
+		return values;
+	}
+
+	private Stripe stripeOf(long hash) {
+
+		return stripes[(int) (hash >>> 58)];
+	}
+
+	/**
+	 * Transaction IDs are sequential, so they are spread with a multiplicative
+	 * hash. The top bits pick the stripe and the low bits the slot.
+	 */
+	private static long hash(long tran_id) {
+
+		return tran_id * 0x9E3779B97F4A7C15L;
+	}
+
+
+	/**
+	 * Linear probing table, a slot is empty when its value is null.
+	 */
+	private static class Stripe {
+
+		private long[] keys=new long[16];
+		private Transaction[] values=new Transaction[16];
+		private int size=0;
+
+		public synchronized Transaction get(long key, long hash) {
+
+			int mask=keys.length-1;
+
+			for (int slot=(int) hash & mask; values[slot] != null; slot=(slot+1) & mask) {
+
+				if (keys[slot] == key)
+					return values[slot];
+			}
+
+			return null;
+		}
+
+		public synchronized void put(long key, long hash, Transaction value) {
+
+			int mask=keys.length-1;
+
+			int slot=(int) hash & mask;
+
+			for (; values[slot] != null; slot=(slot+1) & mask) {
+
+				if (keys[slot] == key) {
+
+					values[slot]=value;
+
+					return;
+				}
+			}
+
+			keys[slot]=key;
+
+			values[slot]=value;
+
+			size++;
+
+			if (size * 4 > keys.length * 3)
+				resize();
+		}
+
+		public synchronized Transaction remove(long key, long hash) {
+
+			int mask=keys.length-1;
+
+			int slot=(int) hash & mask;
+
+			while (values[slot] != null && keys[slot] != key)
+				slot=(slot+1) & mask;
+
+			Transaction removed=values[slot];
+
+			if (removed == null)
+				return null;
+
+			values[slot]=null;
+
+			size--;
+
+			// Shift later entries of the probe sequence back, so no lookup stops early at the freed slot.
+			int next=(slot+1) & mask;
+
+			while (values[next] != null) {
+
+				int home=(int) hash(keys[next]) & mask;
+
+				if (((next-home) & mask) >= ((next-slot) & mask)) {
+
+					keys[slot]=keys[next];
+
+					values[slot]=values[next];
+
+					values[next]=null;
+
+					slot=next;
+				}
+
+				next=(next+1) & mask;
+			}
+
+			return removed;
+		}
+
+		private void resize() {
+
+			long[] old_keys=keys;
+
+			Transaction[] old_values=values;
+
+			keys=new long[old_keys.length*2];
+
+			values=new Transaction[old_values.length*2];
+
+			int mask=keys.length-1;
+
+			for (int i=0; i < old_keys.length; i++) {
+
+				if (old_values[i] == null)
+					continue;
+
+				int slot=(int) hash(old_keys[i]) & mask;
+
+				while (values[slot] != null)
+					slot=(slot+1) & mask;
+
+				keys[slot]=old_keys[i];
+
+				values[slot]=old_values[i];
+			}
+		}
+	}
+}